@@ -0,0 +1,432 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Certificate manager which generates the keys, certificate signing requests, certificates and PKCS12 stores inside
+ * the JVM using the Bouncy Castle library. Unlike the {@link OpenSslCertManager}, it does not fork any processes and
+ * it does not use any temporary files. The only files it works with are the input and output files passed to it.
+ *
+ * The generated certificates follow the same profile as the ones generated by the {@link OpenSslCertManager}:
+ *     - CA certificates use 4096-bit RSA keys and are marked as critical CA certificates with the keyCertSign and
+ *       cRLSign key usages.
+ *     - End-entity certificates use 2048-bit RSA keys, the digitalSignature and keyEncipherment key usages and carry
+ *       the subject alternative names from the subject.
+ *     - All certificates are signed with SHA512withRSA, have a random serial number and a subject key identifier.
+ *     - Private keys are stored in the unencrypted PKCS#8 PEM format.
+ */
+public class BouncyCastleCertManager implements CertManager {
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final String SIGNATURE_ALGORITHM = "SHA512withRSA";
+    private static final int CA_KEY_SIZE = 4096;
+    private static final int KEY_SIZE = 2048;
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Constructs the BouncyCastleCertManager with the system time
+     */
+    public BouncyCastleCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Configures the BouncyCastleCertManager with time passed as a parameter
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public BouncyCastleCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generate a root or intermediate CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile The issuing CA key (or null for a root CA).
+     * @param issuerCaCertFile The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file.
+     *                       If this file is empty then a new CA key will be generated and populated by this call.
+     *                       Otherwise it is assumed to contain the existing CA key.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        try {
+            KeyPair keyPair;
+            boolean newKey = subjectKeyFile.length() == 0;
+            if (newKey) {
+                keyPair = generateKeyPair(CA_KEY_SIZE);
+            } else {
+                keyPair = PemUtils.readKeyPair(Files.readAllBytes(subjectKeyFile.toPath()));
+            }
+
+            X500Name subjectName = x500Name(subject);
+            X500Name issuerName;
+            PrivateKey signingKey;
+            if (issuerCaCertFile == null) {
+                issuerName = subjectName;
+                signingKey = keyPair.getPrivate();
+            } else {
+                issuerName = X500Name.getInstance(PemUtils.readCertificate(Files.readAllBytes(issuerCaCertFile.toPath())).getSubjectX500Principal().getEncoded());
+                signingKey = PemUtils.readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+            }
+
+            ExtensionsGenerator extensions = new ExtensionsGenerator();
+            extensions.addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(keyPair.getPublic()));
+            extensions.addExtension(Extension.basicConstraints, true, new BasicConstraints(pathLength));
+            extensions.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+
+            X509Certificate cert = sign(issuerName, signingKey, subjectName, keyPair.getPublic(), notBefore, notAfter, extensions.generate());
+
+            PemUtils.writePem(subjectCertFile, "CERTIFICATE", cert.getEncoded());
+            if (newKey) {
+                PemUtils.writePem(subjectKeyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+            }
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the CA certificate for " + subject, e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        X509Certificate certificate = PemUtils.readCertificate(Files.readAllBytes(certFile.toPath()));
+
+        // The truststore is created when the file is empty
+        KeyStore trustStore = loadKeyStore(trustStoreFile, trustStorePassword);
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        storeKeyStore(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(keyStoreFile);
+        Objects.requireNonNull(keyStorePassword);
+
+        try {
+            PrivateKey key = PemUtils.readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            Certificate[] chain = PemUtils.readCertificates(Files.readAllBytes(certFile.toPath()));
+
+            // The keystore is always created from scratch in the same way as with openssl pkcs12 -export
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, null);
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), chain);
+            storeKeyStore(keyStore, keyStoreFile, keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to create the keystore " + keyStoreFile, e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = loadKeyStore(trustStoreFile, trustStorePassword);
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        storeKeyStore(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        try {
+            KeyPair keyPair = generateKeyPair(KEY_SIZE);
+            JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(subject), keyPair.getPublic());
+
+            if (subject.hasSubjectAltNames()) {
+                ExtensionsGenerator extensions = new ExtensionsGenerator();
+                extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(subject));
+                builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+            }
+
+            PKCS10CertificationRequest csr = builder.build(signer(keyPair.getPrivate()));
+
+            PemUtils.writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+            PemUtils.writePem(csrFile, "CERTIFICATE REQUEST", csr.getEncoded());
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the certificate signing request for " + subject, e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    /**
+     * Generates a certificate
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key of the CA which should sign this certificate
+     * @param caCert        Certificate of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate (used for the subject alternative names)
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        try {
+            JcaPKCS10CertificationRequest csr = PemUtils.readCsr(Files.readAllBytes(csrFile.toPath()));
+            if (!csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IllegalArgumentException("The signature of the certificate signing request " + csrFile + " is not valid");
+            }
+
+            X509Certificate issuer = PemUtils.readCertificate(caCert);
+            PublicKey publicKey = csr.getPublicKey();
+
+            ExtensionsGenerator extensions = new ExtensionsGenerator();
+            extensions.addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(publicKey));
+            extensions.addExtension(Extension.basicConstraints, true, new BasicConstraints(false));
+            extensions.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+            if (sbj.hasSubjectAltNames()) {
+                extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+            }
+
+            X509Certificate cert = sign(X500Name.getInstance(issuer.getSubjectX500Principal().getEncoded()), PemUtils.readPrivateKey(caKey),
+                    csr.getSubject(), publicKey, notBefore, notAfter, extensions.generate());
+
+            PemUtils.writePem(crtFile, "CERTIFICATE", cert.getEncoded());
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new RuntimeException("Failed to generate the certificate for " + sbj, e);
+        }
+    }
+
+    void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    /**
+     * Creates and signs the certificate
+     *
+     * @param issuer        Name of the issuer
+     * @param signingKey    Private key of the issuer
+     * @param subject       Name of the subject
+     * @param publicKey     Public key of the subject
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     * @param extensions    Extensions of the certificate
+     *
+     * @return  The signed certificate
+     */
+    private X509Certificate sign(X500Name issuer, PrivateKey signingKey, X500Name subject, PublicKey publicKey,
+                                 ZonedDateTime notBefore, ZonedDateTime notAfter, Extensions extensions) throws GeneralSecurityException, OperatorCreationException, IOException {
+        X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuer, serialNumber(),
+                Date.from(notBefore.toInstant().truncatedTo(ChronoUnit.SECONDS)), Date.from(notAfter.toInstant().truncatedTo(ChronoUnit.SECONDS)),
+                subject, publicKey);
+
+        for (ASN1ObjectIdentifier oid : extensions.getExtensionOIDs()) {
+            builder.addExtension(extensions.getExtension(oid));
+        }
+
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer(signingKey)));
+    }
+
+    private ContentSigner signer(PrivateKey key) throws OperatorCreationException {
+        return new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).setSecureRandom(random).build(key);
+    }
+
+    /**
+     * @return  Random positive serial number (in the same way as the rand_serial option of openssl ca)
+     */
+    private BigInteger serialNumber() {
+        BigInteger serial;
+        do {
+            serial = new BigInteger(SERIAL_NUMBER_BITS, random);
+        } while (serial.signum() == 0);
+
+        return serial;
+    }
+
+    private KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+        generator.initialize(keySize, random);
+        return generator.generateKeyPair();
+    }
+
+    private static X500Name x500Name(Subject subject) {
+        return subject.principal() != null ? X500Name.getInstance(subject.principal().getEncoded()) : new X500Name(new RDN[0]);
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        GeneralName[] names = new GeneralName[subject.dnsNames().size() + subject.ipAddresses().size()];
+        int i = 0;
+        for (String dnsName : subject.dnsNames()) {
+            names[i++] = new GeneralName(GeneralName.dNSName, dnsName);
+        }
+        for (String ip : subject.ipAddresses()) {
+            names[i++] = new GeneralName(GeneralName.iPAddress, ip);
+        }
+        return new GeneralNames(names);
+    }
+
+    private static KeyStore loadKeyStore(File file, String password) throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+
+        if (file.length() > 0) {
+            try (InputStream is = Files.newInputStream(file.toPath())) {
+                store.load(is, password.toCharArray());
+            }
+        } else {
+            store.load(null, password.toCharArray());
+        }
+
+        return store;
+    }
+
+    private static void storeKeyStore(KeyStore store, File file, String password) throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        try (OutputStream os = Files.newOutputStream(file.toPath())) {
+            store.store(os, password.toCharArray());
+        }
+    }
+}
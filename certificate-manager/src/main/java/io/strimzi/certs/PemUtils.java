@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequest;
+import org.bouncycastle.util.io.pem.PemObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+
+/**
+ * Utility methods for reading and writing the PEM encoded keys, certificate signing requests and certificates used by
+ * the {@link BouncyCastleCertManager}.
+ */
+final class PemUtils {
+    private PemUtils() { }
+
+    /**
+     * Reads the private key in the PKCS#8 or PKCS#1 PEM format
+     *
+     * @param pem   PEM encoded private key
+     *
+     * @return  The private key
+     *
+     * @throws IOException  When the PEM cannot be parsed
+     */
+    static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+        if (object instanceof PrivateKeyInfo keyInfo) {
+            return converter.getPrivateKey(keyInfo);
+        } else if (object instanceof PEMKeyPair keyPair) {
+            return converter.getPrivateKey(keyPair.getPrivateKeyInfo());
+        } else {
+            throw new IllegalArgumentException("Unsupported private key format " + (object != null ? object.getClass().getSimpleName() : "<empty>"));
+        }
+    }
+
+    /**
+     * Reads the RSA private key in the PKCS#8 or PKCS#1 PEM format and derives the public key from it
+     *
+     * @param pem   PEM encoded private key
+     *
+     * @return  The key pair
+     *
+     * @throws IOException  When the PEM cannot be parsed
+     * @throws GeneralSecurityException When the public key cannot be derived
+     */
+    static KeyPair readKeyPair(byte[] pem) throws IOException, GeneralSecurityException {
+        PrivateKey privateKey = readPrivateKey(pem);
+
+        if (privateKey instanceof RSAPrivateCrtKey rsaKey) {
+            PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            return new KeyPair(publicKey, privateKey);
+        } else {
+            throw new IllegalArgumentException("Unsupported private key type " + privateKey.getAlgorithm());
+        }
+    }
+
+    /**
+     * Reads the PEM encoded certificate signing request
+     *
+     * @param pem   PEM encoded certificate signing request
+     *
+     * @return  The certificate signing request
+     *
+     * @throws IOException  When the PEM cannot be parsed
+     */
+    static JcaPKCS10CertificationRequest readCsr(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+
+        if (object instanceof PKCS10CertificationRequest csr) {
+            return new JcaPKCS10CertificationRequest(csr);
+        } else {
+            throw new IllegalArgumentException("Unsupported certificate signing request format " + (object != null ? object.getClass().getSimpleName() : "<empty>"));
+        }
+    }
+
+    /**
+     * Reads the first certificate from PEM or DER encoded data
+     *
+     * @param data  Encoded certificate
+     *
+     * @return  The certificate
+     *
+     * @throws CertificateException When the certificate cannot be parsed
+     */
+    static X509Certificate readCertificate(byte[] data) throws CertificateException {
+        return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Reads all certificates from PEM or DER encoded data
+     *
+     * @param data  Encoded certificates
+     *
+     * @return  Array with the certificates in the same order as in the data
+     *
+     * @throws CertificateException When the certificates cannot be parsed
+     */
+    static Certificate[] readCertificates(byte[] data) throws CertificateException {
+        return CertificateFactory.getInstance("X.509").generateCertificates(new ByteArrayInputStream(data)).toArray(new Certificate[0]);
+    }
+
+    /**
+     * Writes the PEM object into a file. The existing content of the file is replaced.
+     *
+     * @param file      File into which the PEM should be written
+     * @param type      Type of the PEM object (e.g. CERTIFICATE)
+     * @param content   DER encoded content
+     *
+     * @throws IOException  When writing the file fails
+     */
+    static void writePem(File file, String type, byte[] content) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.US_ASCII);
+             JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(new PemObject(type, content));
+        }
+    }
+
+    private static Object readPem(byte[] pem) throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.US_ASCII);
+             PEMParser parser = new PEMParser(reader)) {
+            return parser.readObject();
+        }
+    }
+}
@@ -6,16 +6,17 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
-import io.strimzi.operator.cluster.operator.assembly.AbstractConnectOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaConnectorController;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.operator.resource.AbstractNamespacedResourceOperator;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
@@ -62,6 +63,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final ResourceOperatorSupplier resourceOperatorSupplier;
 
     private StrimziPodSetController strimziPodSetController;
+    private KafkaConnectorController kafkaConnectorController;
 
     // this field is required to keep the underlying shared worker pool alive
     @SuppressWarnings("unused")
@@ -127,8 +129,12 @@ public class ClusterOperator extends AbstractVerticle {
                 }));
             }
 
-            startFutures.add(AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, namespace, config.getCustomResourceSelector()));
+            startFutures.add(startKafkaConnectorController());
             startFutures.add(kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespace));
+
+            if (config.isResourceCacheEnabled()) {
+                startFutures.add(startResourceCaches());
+            }
         }
 
         CompositeFuture.join(startFutures)
@@ -159,7 +165,8 @@ public class ClusterOperator extends AbstractVerticle {
                         resourceOperatorSupplier.strimziPodSetOperator,
                         resourceOperatorSupplier.podOperations,
                         resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerWorkers()
                 );
                 strimziPodSetController.start();
                 future.complete();
@@ -171,6 +178,61 @@ public class ClusterOperator extends AbstractVerticle {
         return handler.future();
     }
 
+    private Future<Void> startKafkaConnectorController() {
+        Promise<Void> handler = Promise.promise();
+        vertx.executeBlocking(future -> {
+            try {
+                kafkaConnectorController = new KafkaConnectorController(
+                        namespace,
+                        config.getCustomResourceSelector(),
+                        kafkaConnectAssemblyOperator,
+                        resourceOperatorSupplier.connectOperator,
+                        resourceOperatorSupplier.metricsProvider,
+                        config.getConnectorControllerWorkers(),
+                        config.getReconciliationIntervalMs(),
+                        config.getOperationTimeoutMs()
+                );
+                kafkaConnectorController.start();
+                future.complete();
+            } catch (Throwable e) {
+                LOGGER.error("KafkaConnectorController start failed");
+                future.fail(e);
+            }
+        }, handler);
+        return handler.future();
+    }
+
+    /**
+     * @return  Resource operators which read the managed resources from the informer-backed cache when it is enabled
+     */
+    private List<AbstractNamespacedResourceOperator<?, ?, ?, ?>> cachedResourceOperators() {
+        return List.of(
+                resourceOperatorSupplier.secretOperations,
+                resourceOperatorSupplier.configMapOperations,
+                resourceOperatorSupplier.serviceOperations,
+                resourceOperatorSupplier.podDisruptionBudgetOperator,
+                resourceOperatorSupplier.networkPolicyOperator
+        );
+    }
+
+    private Future<Void> startResourceCaches() {
+        Promise<Void> handler = Promise.promise();
+        vertx.executeBlocking(future -> {
+            try {
+                for (AbstractNamespacedResourceOperator<?, ?, ?, ?> operator : cachedResourceOperators()) {
+                    operator.startCache(namespace);
+                }
+
+                LOGGER.info("Started resource caches for namespace {}", namespace);
+                future.complete();
+            } catch (Throwable e) {
+                LOGGER.error("Resource caches start failed");
+                future.fail(e);
+            }
+        }, handler);
+        return handler.future();
+    }
+
     @Override
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
@@ -182,6 +244,15 @@ public class ClusterOperator extends AbstractVerticle {
         }
 
         strimziPodSetController.stop();
+
+        if (kafkaConnectorController != null) {
+            kafkaConnectorController.stop();
+        }
+
+        if (config.isResourceCacheEnabled() && !config.isPodSetReconciliationOnly()) {
+            cachedResourceOperators().forEach(operator -> operator.stopCache(namespace));
+        }
+
         client.close();
         stop.complete();
     }
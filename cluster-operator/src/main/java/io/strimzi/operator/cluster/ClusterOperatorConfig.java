@@ -55,6 +55,12 @@ public class ClusterOperatorConfig {
     /* test */ static final String STRIMZI_DNS_CACHE_TTL = "STRIMZI_DNS_CACHE_TTL";
     /* test */ static final String STRIMZI_POD_SET_RECONCILIATION_ONLY = "STRIMZI_POD_SET_RECONCILIATION_ONLY";
     private static final String STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE = "STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE";
+    /* test */ static final String STRIMZI_POD_SET_CONTROLLER_WORKERS = "STRIMZI_POD_SET_CONTROLLER_WORKERS";
+    /* test */ static final String STRIMZI_KAFKA_ROLLER_MAX_BATCH_SIZE = "STRIMZI_KAFKA_ROLLER_MAX_BATCH_SIZE";
+    /* test */ static final String STRIMZI_CONNECTOR_CONTROLLER_WORKERS = "STRIMZI_CONNECTOR_CONTROLLER_WORKERS";
+    /* test */ static final String STRIMZI_CRUISE_CONTROL_CACHE_TTL_MS = "STRIMZI_CRUISE_CONTROL_CACHE_TTL_MS";
+    /* test */ static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    /* test */ static final String STRIMZI_IN_JVM_CERT_MANAGER_ENABLED = "STRIMZI_IN_JVM_CERT_MANAGER_ENABLED";
     /* test */ static final String STRIMZI_POD_SECURITY_PROVIDER_CLASS = "STRIMZI_POD_SECURITY_PROVIDER_CLASS";
     /* test */ static final String STRIMZI_LEADER_ELECTION_ENABLED = "STRIMZI_LEADER_ELECTION_ENABLED";
 
@@ -162,6 +168,40 @@ public class ClusterOperatorConfig {
      */
     public static final int DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE = 1024;
 
+    /**
+     * Default number of worker threads of the Pod Set controller
+     */
+    public static final int DEFAULT_POD_SET_CONTROLLER_WORKERS = 4;
+
+    /**
+     * Default maximal number of Kafka brokers rolled at the same time. 1 means that the brokers are rolled one by one.
+     */
+    public static final int DEFAULT_KAFKA_ROLLER_MAX_BATCH_SIZE = 1;
+
+    /**
+     * Default number of worker threads of the KafkaConnector controller
+     */
+    public static final int DEFAULT_CONNECTOR_CONTROLLER_WORKERS = 4;
+
+    /**
+     * Default time for which the Cruise Control user task statuses are cached and shared between the KafkaRebalance
+     * resources of the same Kafka cluster. It is slightly shorter than the interval in which the rebalances are polled,
+     * so that each rebalance sees a status which is at most one polling interval old.
+     */
+    public static final long DEFAULT_CRUISE_CONTROL_CACHE_TTL_MS = 4_000;
+
+    /**
+     * Default value indicating whether the Secrets, ConfigMaps, Services, PodDisruptionBudgets and NetworkPolicies
+     * managed by the operator should be read from the informer-backed cache
+     */
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+
+    /**
+     * Default value indicating whether the keys, certificates and PKCS12 stores should be generated in-JVM instead of
+     * using OpenSSL
+     */
+    public static final boolean DEFAULT_IN_JVM_CERT_MANAGER_ENABLED = false;
+
     /**
      * Default operations timeout
      */
@@ -205,6 +245,12 @@ public class ClusterOperatorConfig {
     private final int dnsCacheTtlSec;
     private final boolean podSetReconciliationOnly;
     private final int podSetControllerWorkQueueSize;
+    private final int podSetControllerWorkers;
+    private final int kafkaRollerMaxBatchSize;
+    private final int connectorControllerWorkers;
+    private final long cruiseControlCacheTtlMs;
+    private final boolean resourceCacheEnabled;
+    private final boolean inJvmCertManagerEnabled;
     private final String operatorName;
     private final String podSecurityProviderClass;
     private final LeaderElectionManagerConfig leaderElectionConfig;
@@ -231,6 +277,12 @@ public class ClusterOperatorConfig {
      * @param podSetReconciliationOnly      Indicates whether this Cluster Operator instance should reconcile only the
      *                                      StrimziPodSet resources or not
      * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param podSetControllerWorkers       Number of worker threads reconciling the StrimziPodSets in parallel
+     * @param kafkaRollerMaxBatchSize       Maximal number of Kafka brokers which might be rolled at the same time
+     * @param connectorControllerWorkers    Number of worker threads reconciling the KafkaConnectors in parallel
+     * @param cruiseControlCacheTtlMs       Time in milliseconds for which the Cruise Control user task statuses are cached
+     * @param resourceCacheEnabled          Indicates whether the managed resources should be read from the informer-backed cache
+     * @param inJvmCertManagerEnabled       Indicates whether the certificates should be generated in-JVM instead of using OpenSSL
      * @param operatorName                  The Pod name of the cluster operator, used to identify source of K8s events the operator creates
      * @param podSecurityProviderClass      The PodSecurityProvider class which the operator should use
      * @param leaderElectionConfig          Configuration of the Cluster Operator leader election
@@ -255,6 +307,12 @@ public class ClusterOperatorConfig {
             int dnsCacheTtlSec,
             boolean podSetReconciliationOnly,
             int podSetControllerWorkQueueSize,
+            int podSetControllerWorkers,
+            int kafkaRollerMaxBatchSize,
+            int connectorControllerWorkers,
+            long cruiseControlCacheTtlMs,
+            boolean resourceCacheEnabled,
+            boolean inJvmCertManagerEnabled,
             String operatorName,
             String podSecurityProviderClass,
             LeaderElectionManagerConfig leaderElectionConfig
@@ -277,6 +335,12 @@ public class ClusterOperatorConfig {
         this.dnsCacheTtlSec = dnsCacheTtlSec;
         this.podSetReconciliationOnly = podSetReconciliationOnly;
         this.podSetControllerWorkQueueSize = podSetControllerWorkQueueSize;
+        this.podSetControllerWorkers = podSetControllerWorkers;
+        this.kafkaRollerMaxBatchSize = kafkaRollerMaxBatchSize;
+        this.connectorControllerWorkers = connectorControllerWorkers;
+        this.cruiseControlCacheTtlMs = cruiseControlCacheTtlMs;
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        this.inJvmCertManagerEnabled = inJvmCertManagerEnabled;
         this.operatorName = operatorName;
         this.podSecurityProviderClass = podSecurityProviderClass;
         this.leaderElectionConfig = leaderElectionConfig;
@@ -336,6 +400,12 @@ public class ClusterOperatorConfig {
         int dnsCacheTtlSec = parseInt(map.get(STRIMZI_DNS_CACHE_TTL), DEFAULT_DNS_CACHE_TTL);
         boolean podSetReconciliationOnly = parseBoolean(map.get(STRIMZI_POD_SET_RECONCILIATION_ONLY), DEFAULT_POD_SET_RECONCILIATION_ONLY);
         int podSetControllerWorkQueueSize = parseInt(map.get(STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE), DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
+        int podSetControllerWorkers = parseInt(map.get(STRIMZI_POD_SET_CONTROLLER_WORKERS), DEFAULT_POD_SET_CONTROLLER_WORKERS);
+        int kafkaRollerMaxBatchSize = parseInt(map.get(STRIMZI_KAFKA_ROLLER_MAX_BATCH_SIZE), DEFAULT_KAFKA_ROLLER_MAX_BATCH_SIZE);
+        int connectorControllerWorkers = parseInt(map.get(STRIMZI_CONNECTOR_CONTROLLER_WORKERS), DEFAULT_CONNECTOR_CONTROLLER_WORKERS);
+        long cruiseControlCacheTtlMs = parseTimeout(map.get(STRIMZI_CRUISE_CONTROL_CACHE_TTL_MS), DEFAULT_CRUISE_CONTROL_CACHE_TTL_MS);
+        boolean resourceCacheEnabled = parseBoolean(map.get(STRIMZI_RESOURCE_CACHE_ENABLED), DEFAULT_RESOURCE_CACHE_ENABLED);
+        boolean inJvmCertManagerEnabled = parseBoolean(map.get(STRIMZI_IN_JVM_CERT_MANAGER_ENABLED), DEFAULT_IN_JVM_CERT_MANAGER_ENABLED);
         String podSecurityProviderClass = parsePodSecurityProviderClass(map.get(STRIMZI_POD_SECURITY_PROVIDER_CLASS));
         LeaderElectionManagerConfig leaderElectionConfig = parseLeaderElectionConfig(map);
 
@@ -361,6 +431,12 @@ public class ClusterOperatorConfig {
                 dnsCacheTtlSec,
                 podSetReconciliationOnly,
                 podSetControllerWorkQueueSize,
+                podSetControllerWorkers,
+                kafkaRollerMaxBatchSize,
+                connectorControllerWorkers,
+                cruiseControlCacheTtlMs,
+                resourceCacheEnabled,
+                inJvmCertManagerEnabled,
                 operatorName,
                 podSecurityProviderClass,
                 leaderElectionConfig);
@@ -673,6 +749,49 @@ public class ClusterOperatorConfig {
         return podSetControllerWorkQueueSize;
     }
 
+    /**
+     * @return Returns the number of worker threads of the StrimziPodSetController
+     */
+    public int getPodSetControllerWorkers() {
+        return podSetControllerWorkers;
+    }
+
+    /**
+     * @return Returns the maximal number of Kafka brokers which might be rolled at the same time
+     */
+    public int getKafkaRollerMaxBatchSize() {
+        return kafkaRollerMaxBatchSize;
+    }
+
+    /**
+     * @return Returns the number of worker threads of the KafkaConnector controller
+     */
+    public int getConnectorControllerWorkers() {
+        return connectorControllerWorkers;
+    }
+
+    /**
+     * @return Returns the time in milliseconds for which the Cruise Control user task statuses are cached
+     */
+    public long getCruiseControlCacheTtlMs() {
+        return cruiseControlCacheTtlMs;
+    }
+
+    /**
+     * @return Indicates whether the managed resources should be read from the informer-backed cache
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return Indicates whether the keys, certificates and PKCS12 stores should be generated in-JVM instead of using
+     * OpenSSL
+     */
+    public boolean isInJvmCertManagerEnabled() {
+        return inJvmCertManagerEnabled;
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -714,6 +833,12 @@ public class ClusterOperatorConfig {
                 ",dnsCacheTtlSec=" + dnsCacheTtlSec +
                 ",podSetReconciliationOnly=" + podSetReconciliationOnly +
                 ",podSetControllerWorkQueueSize=" + podSetControllerWorkQueueSize +
+                ",podSetControllerWorkers=" + podSetControllerWorkers +
+                ",kafkaRollerMaxBatchSize=" + kafkaRollerMaxBatchSize +
+                ",connectorControllerWorkers=" + connectorControllerWorkers +
+                ",cruiseControlCacheTtlMs=" + cruiseControlCacheTtlMs +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",inJvmCertManagerEnabled=" + inJvmCertManagerEnabled +
                 ",operatorName=" + operatorName +
                 ",podSecurityProviderClass=" + podSecurityProviderClass +
                 ",leaderElectionConfig=" + leaderElectionConfig +
@@ -15,10 +15,12 @@ import io.strimzi.operator.common.Reconciliation;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -49,6 +51,12 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    /**
+     * Config models parsed from the classpath, keyed by the Kafka version. The models do not change at runtime, so
+     * they are parsed only once and shared by all reconciliations.
+     */
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -103,12 +111,22 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The model is parsed from the classpath the
+     * first time it is requested and cached afterwards.
      * @param kafkaVersion The broker version.
-     * @return The config model for that broker version.
+     * @return The unmodifiable config model for that broker version.
      */
-    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> loadConfigModel(kafkaVersion));
+    }
+
+    /**
+     * Parses the config model for the given version of the Kafka broker from the classpath.
+     * @param kafkaVersion The broker version.
+     * @return The unmodifiable config model for that broker version.
+     */
+    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
+    private static Map<String, ConfigModel> loadConfigModel(KafkaVersion kafkaVersion) {
         String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
@@ -117,7 +135,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
                     if (!kafkaVersion.version().equals(configModels.getVersion())) {
                         throw new RuntimeException("Incorrect version");
                     }
-                    return configModels.getConfigs();
+                    return Collections.unmodifiableMap(configModels.getConfigs());
                 } else {
                     // The configuration model does not exist
                     throw new RuntimeException("Configuration model " + name + " was not found");
@@ -66,6 +66,22 @@ public class PodSetUtils {
         return MAPPER.convertValue(map, Pod.class);
     }
 
+    /**
+     * Gets the name of the Pod stored as Map in the StrimziPodSet without decoding the whole Pod
+     *
+     * @param map   Pod represented as Map
+     *
+     * @return      Name of the Pod or null if the Pod has no name
+     */
+    public static String podName(Map<String, Object> map) {
+        if (map.get("metadata") instanceof Map<?, ?> metadata
+                && metadata.get("name") instanceof String name) {
+            return name;
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Converts List of Maps to List of Pods which can be used in StrimziPodSets
      *
@@ -0,0 +1,162 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of the Pods decoded from the StrimziPodSets. Decoding the Pods stored as Maps inside the StrimziPodSet
+ * is expensive. This cache makes sure that each Pod is decoded at most once for every revision of the StrimziPodSet.
+ * The revisions are identified by the UID and resource version of the StrimziPodSet. When the StrimziPodSet changes,
+ * the Pods decoded from the previous revision are dropped.
+ *
+ * StrimziPodSets without UID or resource version (for example the desired StrimziPodSets which were not created
+ * yet) are not cached, but the lookup of a single Pod still decodes only the Pod which was requested.
+ *
+ * The Pods returned by this cache are shared. They must not be modified. Callers which need to change them have to
+ * copy them first.
+ */
+public class StrimziPodSetPodCache {
+    /**
+     * Maximal number of StrimziPodSet revisions kept in the cache. The entries are normally removed when the
+     * StrimziPodSet is deleted. This limit only protects from leaking entries when the deletion is missed.
+     */
+    /*test*/ static final int MAX_POD_SETS = 10_000;
+
+    private static final Map<String, PodSetRevision> CACHE = new ConcurrentHashMap<>();
+
+    private StrimziPodSetPodCache() { }
+
+    /**
+     * Finds the Pod with given name in the StrimziPodSet
+     *
+     * @param podSet    StrimziPodSet
+     * @param podName   Name of the Pod
+     *
+     * @return  The decoded Pod or null if the StrimziPodSet does not contain Pod with this name
+     */
+    public static Pod pod(StrimziPodSet podSet, String podName) {
+        PodSetRevision revision = revision(podSet);
+
+        if (revision != null) {
+            return revision.pod(podName);
+        } else {
+            return podSet.getSpec().getPods()
+                    .stream()
+                    .filter(pod -> podName.equals(PodSetUtils.podName(pod)))
+                    .findFirst()
+                    .map(PodSetUtils::mapToPod)
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * Decodes all Pods from the StrimziPodSet
+     *
+     * @param podSet    StrimziPodSet
+     *
+     * @return  List with the decoded Pods in the same order as in the StrimziPodSet
+     */
+    public static List<Pod> pods(StrimziPodSet podSet) {
+        PodSetRevision revision = revision(podSet);
+
+        if (revision != null) {
+            List<Pod> pods = new ArrayList<>(podSet.getSpec().getPods().size());
+            for (Map<String, Object> pod : podSet.getSpec().getPods()) {
+                String podName = PodSetUtils.podName(pod);
+                pods.add(podName != null ? revision.pod(podName) : PodSetUtils.mapToPod(pod));
+            }
+            return pods;
+        } else {
+            return PodSetUtils.mapsToPods(podSet.getSpec().getPods());
+        }
+    }
+
+    /**
+     * Removes the StrimziPodSet from the cache. This should be called when the StrimziPodSet is deleted.
+     *
+     * @param podSet    StrimziPodSet which should be removed
+     */
+    public static void invalidate(StrimziPodSet podSet) {
+        if (podSet.getMetadata() != null && podSet.getMetadata().getUid() != null) {
+            CACHE.remove(podSet.getMetadata().getUid());
+        }
+    }
+
+    /**
+     * @return  Number of StrimziPodSet revisions in the cache
+     */
+    /*test*/ static int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Finds the cached revision of the StrimziPodSet. If it is not cached yet or if the StrimziPodSet changed, a new
+     * revision is created.
+     *
+     * @param podSet    StrimziPodSet
+     *
+     * @return  The cached revision or null if this StrimziPodSet cannot be cached
+     */
+    private static PodSetRevision revision(StrimziPodSet podSet) {
+        if (podSet.getMetadata() == null
+                || podSet.getMetadata().getUid() == null
+                || podSet.getMetadata().getResourceVersion() == null) {
+            return null;
+        }
+
+        String uid = podSet.getMetadata().getUid();
+        String resourceVersion = podSet.getMetadata().getResourceVersion();
+        PodSetRevision revision = CACHE.get(uid);
+
+        if (revision == null || !revision.resourceVersion.equals(resourceVersion)) {
+            if (revision == null && CACHE.size() >= MAX_POD_SETS) {
+                CACHE.clear();
+            }
+
+            revision = new PodSetRevision(resourceVersion, podSet.getSpec().getPods());
+            CACHE.put(uid, revision);
+        }
+
+        return revision;
+    }
+
+    /**
+     * Pods of a single revision of a StrimziPodSet. The Pods are decoded lazily when they are requested for the first
+     * time.
+     */
+    private static class PodSetRevision {
+        private final String resourceVersion;
+        private final Map<String, Map<String, Object>> encodedPods;
+        private final Map<String, Pod> decodedPods = new ConcurrentHashMap<>();
+
+        PodSetRevision(String resourceVersion, List<Map<String, Object>> pods) {
+            this.resourceVersion = Objects.requireNonNull(resourceVersion);
+            this.encodedPods = new HashMap<>(pods.size());
+
+            for (Map<String, Object> pod : pods) {
+                encodedPods.put(PodSetUtils.podName(pod), pod);
+            }
+        }
+
+        Pod pod(String podName) {
+            Map<String, Object> encodedPod = podName != null ? encodedPods.get(podName) : null;
+
+            if (encodedPod == null) {
+                return null;
+            } else {
+                return decodedPods.computeIfAbsent(podName, name -> PodSetUtils.mapToPod(encodedPod));
+            }
+        }
+    }
+}
@@ -7,7 +7,6 @@ package io.strimzi.operator.cluster.operator.assembly;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.DefaultKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
@@ -15,19 +14,14 @@ import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientException;
-import io.fabric8.kubernetes.client.Watch;
-import io.fabric8.kubernetes.client.Watcher;
-import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
 import io.micrometer.core.instrument.Timer;
 import io.netty.channel.ConnectTimeoutException;
-import io.strimzi.api.kafka.KafkaConnectList;
 import io.strimzi.api.kafka.KafkaConnectorList;
 import io.strimzi.api.kafka.model.AbstractKafkaConnectSpec;
-import io.strimzi.api.kafka.model.KafkaConnect;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
-import io.strimzi.api.kafka.model.KafkaConnectSpec;
 import io.strimzi.api.kafka.model.KafkaConnector;
 import io.strimzi.api.kafka.model.KafkaConnectorBuilder;
 import io.strimzi.api.kafka.model.KafkaConnectorSpec;
@@ -54,11 +48,11 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
-import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.model.ResourceVisitor;
 import io.strimzi.operator.common.model.ValidationVisitor;
+import io.strimzi.operator.common.operator.resource.AbstractNamespacedResourceOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -79,13 +73,16 @@ import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -112,6 +109,13 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractConnectOperator.class.getName());
 
+    /**
+     * Time for which the topics used by a connector are cached. The topics are fetched again right after the connector
+     * is created or reconfigured. Otherwise, they change only rarely, so they do not need to be fetched in every
+     * reconciliation.
+     */
+    /*test*/ static final long CONNECTOR_TOPICS_CACHE_TTL_MS = 300_000L;
+
     private final boolean isNetworkPolicyGeneration;
     private final Function<Vertx, KafkaConnectApi> connectClientProvider;
     protected final CrdOperator<KubernetesClient, KafkaConnector, KafkaConnectorList> connectorOperator;
@@ -130,6 +134,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final PlatformFeaturesAvailability pfa;
     protected final ServiceAccountOperator serviceAccountOperations;
     private final int port;
+    private final Map<String, SharedIndexInformer<KafkaConnector>> connectorInformers = new ConcurrentHashMap<>();
+    private final Map<String, CachedConnectorTopics> connectorTopics = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -195,103 +201,82 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     /**
-     * Create a watch on {@code KafkaConnector} in the given {@code namespace}.
-     * The watcher will:
-     * <ul>
-     * <li>{@linkplain #reconcileConnectors(Reconciliation, CustomResource, KafkaConnectStatus, boolean, String, OrderedProperties)} on the KafkaConnect
-     * identified by {@code KafkaConnector.metadata.labels[strimzi.io/cluster]}.</li>
-     * <li>The {@code KafkaConnector} status is updated with the result.</li>
-     * </ul>
-     * @param connectOperator The operator for {@code KafkaConnect}.
-     * @param watchNamespaceOrWildcard The namespace to watch.
-     * @param selectorLabels Selector labels for filtering the custom resources
+     * Registers the KafkaConnector informer run by the KafkaConnector controller. Once it is synced, the connectors are
+     * listed and read from it instead of from the Kubernetes API server.
      *
-     * @return A future which completes when the watch has been set up.
+     * @param watchedNamespace  Namespace watched by the informer or * for all namespaces
+     * @param informer          The KafkaConnector informer
      */
-    public static Future<Watch> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, Resource<KafkaConnect>, KafkaConnectSpec, KafkaConnectStatus> connectOperator,
-                                                     String watchNamespaceOrWildcard, Labels selectorLabels) {
-        Optional<LabelSelector> selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
-
-        return Util.async(connectOperator.vertx, () -> {
-            Watch watch = connectOperator.connectorOperator.watch(watchNamespaceOrWildcard, new Watcher<>() {
-                @Override
-                public void eventReceived(Action action, KafkaConnector kafkaConnector) {
-                    String connectorName = kafkaConnector.getMetadata().getName();
-                    String connectorNamespace = kafkaConnector.getMetadata().getNamespace();
-                    String connectorKind = kafkaConnector.getKind();
-                    String connectName = kafkaConnector.getMetadata().getLabels() == null ? null : kafkaConnector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
-                    String connectNamespace = connectorNamespace;
-
-                    switch (action) {
-                        case ADDED:
-                        case DELETED:
-                        case MODIFIED:
-                            if (connectName != null) {
-                                // Check whether a KafkaConnect exists
-                                connectOperator.resourceOperator.getAsync(connectNamespace, connectName)
-                                        .compose(connect -> {
-                                            KafkaConnectApi apiClient = connectOperator.connectClientProvider.apply(connectOperator.vertx);
-                                            if (connect == null) {
-                                                Reconciliation r = new Reconciliation("connector-watch", connectOperator.kind(),
-                                                        kafkaConnector.getMetadata().getNamespace(), connectName);
-                                                updateStatus(r, noConnectCluster(connectNamespace, connectName), kafkaConnector, connectOperator.connectorOperator);
-                                                LOGGER.infoCr(r, "{} {} in namespace {} was {}, but Connect cluster {} does not exist", connectorKind, connectorName, connectorNamespace, action, connectName);
-                                                return Future.succeededFuture();
-                                            } else {
-                                                // grab the lock and call reconcileConnectors()
-                                                // (i.e. short circuit doing a whole KafkaConnect reconciliation).
-                                                Reconciliation reconciliation = new Reconciliation("connector-watch", connectOperator.kind(),
-                                                        kafkaConnector.getMetadata().getNamespace(), connectName);
-
-                                                if (!Util.matchesSelector(selector, connect))   {
-                                                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} was {}, but Connect cluster {} does not match label selector {} and will be ignored", connectorKind, connectorName, connectorNamespace, action, connectName, selectorLabels);
-                                                    return Future.succeededFuture();
-                                                } else if (connect.getSpec() != null && connect.getSpec().getReplicas() == 0)  {
-                                                    LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}, but Connect cluster {} has 0 replicas", connectorKind, connectorName, connectorNamespace, action, connectName);
-                                                    updateStatus(reconciliation, zeroReplicas(connectNamespace, connectName), kafkaConnector, connectOperator.connectorOperator);
-                                                    return Future.succeededFuture();
-                                                } else {
-                                                    LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", connectorKind, connectorName, connectorNamespace, action);
-
-                                                    return connectOperator.withLock(reconciliation, LOCK_TIMEOUT_MS,
-                                                        () -> connectOperator.reconcileConnectorAndHandleResult(reconciliation,
-                                                                    KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
-                                                                    isUseResources(connect),
-                                                                    kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector)
-                                                                    .compose(reconcileResult -> {
-                                                                        LOGGER.infoCr(reconciliation, "reconciled");
-                                                                        return Future.succeededFuture(reconcileResult);
-                                                                    }));
-                                                }
-                                            }
-                                        });
-                            } else {
-                                updateStatus(new Reconciliation("connector-watch", connectOperator.kind(),
-                                        kafkaConnector.getMetadata().getNamespace(), null),
-                                        new InvalidResourceException("Resource lacks label '"
-                                                + Labels.STRIMZI_CLUSTER_LABEL
-                                                + "': No connect cluster in which to create this connector."),
-                                        kafkaConnector, connectOperator.connectorOperator);
-                            }
+    public void addConnectorInformer(String watchedNamespace, SharedIndexInformer<KafkaConnector> informer) {
+        connectorInformers.put(watchedNamespace, informer);
+    }
 
-                            break;
-                        case ERROR:
-                            LOGGER.errorCr(new Reconciliation("connector-watch", connectorKind, connectName, connectorNamespace), "Failed {} {} in namespace {} ", connectorKind, connectorName, connectorNamespace);
-                            break;
-                        default:
-                            LOGGER.errorCr(new Reconciliation("connector-watch", connectorKind, connectName, connectorNamespace), "Unknown action: {} {} in namespace {}", connectorKind, connectorName, connectorNamespace);
-                    }
-                }
+    /**
+     * Unregisters the KafkaConnector informer of given namespace
+     *
+     * @param watchedNamespace  Namespace watched by the informer or * for all namespaces
+     */
+    public void removeConnectorInformer(String watchedNamespace) {
+        connectorInformers.remove(watchedNamespace);
+    }
 
-                @Override
-                public void onClose(WatcherException e) {
-                    if (e != null) {
-                        throw new KubernetesClientException(e.getMessage());
-                    }
-                }
-            });
-            return watch;
-        });
+    /**
+     * Returns the lister for the KafkaConnectors in given namespace when a synced informer is registered for it.
+     *
+     * @param namespace     Namespace of the connectors
+     *
+     * @return  The lister or null if there is no synced informer for this namespace
+     */
+    private Lister<KafkaConnector> connectorLister(String namespace) {
+        SharedIndexInformer<KafkaConnector> informer = connectorInformers.get(namespace);
+
+        if (informer == null) {
+            informer = connectorInformers.get(AbstractNamespacedResourceOperator.ANY_NAMESPACE);
+        }
+
+        return informer != null && informer.hasSynced() ? new Lister<>(informer.getIndexer(), namespace) : null;
+    }
+
+    /**
+     * Lists the KafkaConnector resources of a Connect cluster. They are taken from the informer of the KafkaConnector
+     * controller when it is available. The informer only moves forward, so the connectors listed here and the
+     * connectors read again under the connector lock in {@link #getConnector(String, String)} are consistent.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param connectName   Name of the Connect cluster
+     *
+     * @return  Future with the list of KafkaConnector resources
+     */
+    /*test*/ Future<List<KafkaConnector>> listConnectors(String namespace, String connectName) {
+        Lister<KafkaConnector> lister = connectorLister(namespace);
+
+        if (lister != null) {
+            return Future.succeededFuture(lister.list().stream()
+                    .filter(connector -> connector.getMetadata().getLabels() != null
+                            && connectName.equals(connector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL)))
+                    .collect(Collectors.toList()));
+        } else {
+            return connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build()));
+        }
+    }
+
+    /**
+     * Gets the KafkaConnector resource. It is taken from the informer of the KafkaConnector controller when it is
+     * available.
+     *
+     * @param namespace     Namespace of the connector
+     * @param name          Name of the connector
+     *
+     * @return  Future with the KafkaConnector resource or null if it does not exist
+     */
+    private Future<KafkaConnector> getConnector(String namespace, String name) {
+        Lister<KafkaConnector> lister = connectorLister(namespace);
+
+        if (lister != null) {
+            return Future.succeededFuture(lister.get(name));
+        } else {
+            return connectorOperator.getAsync(namespace, name);
+        }
     }
 
     /**
@@ -305,12 +290,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         return Annotations.booleanAnnotation(connect, Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, false);
     }
 
-    private static NoSuchResourceException noConnectCluster(String connectNamespace, String connectName) {
+    static NoSuchResourceException noConnectCluster(String connectNamespace, String connectName) {
         return new NoSuchResourceException(
                 "KafkaConnect resource '" + connectName + "' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace " + connectNamespace + ".");
     }
 
-    private static RuntimeException zeroReplicas(String connectNamespace, String connectName) {
+    static RuntimeException zeroReplicas(String connectNamespace, String connectName) {
         return new RuntimeException(
                 "Kafka Connect cluster '" + connectName + "' in namespace " + connectNamespace + " has 0 replicas.");
     }
@@ -376,7 +361,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
 
         if (scaledToZero)   {
-            return connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build()))
+            return listConnectors(namespace, connectName)
                     .compose(connectors -> CompositeFuture.join(
                             connectors.stream().map(connector -> maybeUpdateConnectorStatus(reconciliation, connector, null, zeroReplicas(namespace, connectName)))
                                     .collect(Collectors.toList())
@@ -387,28 +372,29 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(reconciliation, host, port),
-                connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
+                apiClient.listWithStatusAndInfo(reconciliation, host, port),
+                listConnectors(namespace, connectName),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
                 apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
             LOGGER.debugCr(reconciliation, "Setting list of connector plugins in Kafka Connect status");
             connectStatus.setConnectorPlugins(connectorPlugins);
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, null, true)
             );
 
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector,
+                            ConnectorSnapshot.fromExpandedList(runningConnectors.get(connector.getMetadata().getName())), true));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -416,7 +402,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 Promise<Void> connectorStatuses = Promise.promise();
                 LOGGER.warnCr(reconciliation, "Failed to connect to the REST API => trying to update the connector status");
 
-                connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build()))
+                listConnectors(namespace, connectName)
                         .compose(connectors -> CompositeFuture.join(
                                 connectors.stream().map(connector -> maybeUpdateConnectorStatus(reconciliation, connector, null, error))
                                         .collect(Collectors.toList())
@@ -434,55 +420,225 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         return connectClientProvider.apply(vertx);
     }
 
+    /**
+     * Lists the connectors running in the Connect cluster together with their configuration and status using a single
+     * call to the Connect REST API. This is used by the periodic status refresh of the KafkaConnector controller.
+     *
+     * @param reconciliation    Reconciliation marker of the Connect cluster
+     * @param host              Kafka Connect host
+     * @param apiClient         Kafka Connect REST API client
+     *
+     * @return  Future with the snapshots of the running connectors indexed by their names
+     */
+    /*test*/ Future<Map<String, ConnectorSnapshot>> listConnectorSnapshots(Reconciliation reconciliation, String host, KafkaConnectApi apiClient) {
+        return apiClient.listWithStatusAndInfo(reconciliation, host, port)
+                .map(runningConnectors -> runningConnectors.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> ConnectorSnapshot.fromExpandedList(entry.getValue()))));
+    }
+
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
-        Promise<Void> reconciliationResult = Promise.promise();
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null, false);
+    }
 
+    /**
+     * Reconciles the connector and updates its status with the result
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param host              Kafka Connect host
+     * @param apiClient         Kafka Connect REST API client
+     * @param useResources      Whether the connector resources are enabled
+     * @param connectorName     Name of the connector
+     * @param connector         The KafkaConnector resource or null if the connector should be deleted
+     * @param current           Current configuration and status of the connector from the bulk list of connectors or
+     *                          null if they are not known and should be fetched from the Connect REST API
+     * @param revalidate        Whether the connector and current arguments come from snapshots taken before the connector
+     *                          lock was acquired and should be revalidated under the lock
+     *
+     * @return  Future which completes when the connector is reconciled
+     */
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorSnapshot current,
+                                             boolean revalidate) {
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample connectorsReconciliationsTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
 
-        if (connector != null && Annotations.isReconciliationPausedWithAnnotation(connector)) {
-            return maybeUpdateConnectorStatus(reconciliation, connector, null, null).compose(
-                i -> {
+        return reconcileConnectorAndUpdateStatus(reconciliation, host, apiClient, useResources, connectorName, connector, current, revalidate)
+                .compose(successful -> {
                     connectorsReconciliationsTimerSample.stop(metrics().connectorsReconciliationsTimer(reconciliation.namespace()));
-                    metrics().connectorsSuccessfulReconciliationsCounter(reconciliation.namespace()).increment();
+
+                    if (successful) {
+                        metrics().connectorsSuccessfulReconciliationsCounter(reconciliation.namespace()).increment();
+                    } else {
+                        metrics().connectorsFailedReconciliationsCounter(reconciliation.namespace()).increment();
+                    }
+
+                    // We suppress the error to not fail Connect reconciliation just because of a failing connector
                     return Future.succeededFuture();
-                }
-            );
+                });
+    }
+
+    /**
+     * Reconciles the connector and updates its status with the result. This method does not record the reconciliation
+     * metrics. That is left to the caller.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param host              Kafka Connect host
+     * @param apiClient         Kafka Connect REST API client
+     * @param useResources      Whether the connector resources are enabled
+     * @param connectorName     Name of the connector
+     * @param connector         The KafkaConnector resource or null if the connector should be deleted
+     * @param current           Current configuration and status of the connector or null if they should be fetched
+     * @param revalidate        Whether the connector and current arguments come from snapshots taken before the connector
+     *                          lock was acquired and should be revalidated under the lock
+     *
+     * @return  Future which completes with true when the reconciliation and the status update succeeded (or when the
+     *          revalidation decided to skip the connector) and with false when any of them failed or when the
+     *          connector lock could not be acquired. The future fails only when the status of a paused connector
+     *          cannot be updated.
+     */
+    /*test*/ Future<Boolean> reconcileConnectorAndUpdateStatus(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorSnapshot current,
+                                             boolean revalidate) {
+        // The connector is reconciled both by the KafkaConnector controller and by the reconciliation of the Connect
+        // cluster. The lock is per connector, so the connectors do not wait for the reconciliation of the whole cluster.
+        String lockName = connectorLockName(reconciliation.namespace(), reconciliation.name(), connectorName);
+
+        return vertx.sharedData().getLockWithTimeout(lockName, LOCK_TIMEOUT_MS)
+                .compose(lock -> {
+                    LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
+
+                    Future<Boolean> result;
+                    if (revalidate) {
+                        result = revalidateConnector(reconciliation, connectorName, connector, current)
+                                .compose(revalidated -> revalidated != null
+                                        ? reconcileConnectorAndUpdateStatusWithLock(reconciliation, host, apiClient, useResources, connectorName, revalidated.connector(), revalidated.current())
+                                        : Future.succeededFuture(true));
+                    } else {
+                        result = reconcileConnectorAndUpdateStatusWithLock(reconciliation, host, apiClient, useResources, connectorName, connector, current);
+                    }
+
+                    return result
+                            .eventually(ignored -> {
+                                lock.release();
+                                LOGGER.debugCr(reconciliation, "Lock {} released", lockName);
+                                return Future.succeededFuture();
+                            });
+                }, error -> {
+                    LOGGER.warnCr(reconciliation, "Failed to acquire lock {} within {}ms.", lockName, LOCK_TIMEOUT_MS);
+                    return Future.succeededFuture(false);
+                });
+    }
+
+    /**
+     * Reconciles the connector based on the KafkaConnector resource read by the caller and updates its status with the
+     * result. This is used by the KafkaConnector controller which reads the resource right before the reconciliation.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param host              Kafka Connect host
+     * @param apiClient         Kafka Connect REST API client
+     * @param useResources      Whether the connector resources are enabled
+     * @param connectorName     Name of the connector
+     * @param connector         The KafkaConnector resource or null if the connector should be deleted
+     * @param current           Current configuration and status of the connector or null if they should be fetched
+     *
+     * @return  Future which completes with true when the reconciliation and the status update succeeded and with false
+     *          otherwise
+     */
+    /*test*/ Future<Boolean> reconcileConnectorAndUpdateStatus(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorSnapshot current) {
+        return reconcileConnectorAndUpdateStatus(reconciliation, host, apiClient, useResources, connectorName, connector, current, false);
+    }
+
+    /**
+     * The reconciliation of the Connect cluster decides which connectors to create, update or delete based on the
+     * KafkaConnector resources and the running connectors listed before it acquires the connector locks. The
+     * KafkaConnector controller might reconcile the connector in the meantime. So under the connector lock, the
+     * KafkaConnector resource is read again (from the informer of the KafkaConnector controller when it is available)
+     * and the decision is revalidated:
+     *   - The connector is not deleted when the KafkaConnector resource for this Connect cluster exists now.
+     *   - The connector is not created or updated when its KafkaConnector resource does not exist anymore or belongs to
+     *     a different Connect cluster now.
+     *   - The connector is updated according to the current KafkaConnector resource. When the resource changed since
+     *     it was listed, the listed state of the running connector is not used and the current state is fetched from
+     *     the Connect REST API instead.
+     *
+     * @param reconciliation    Reconciliation marker of the Connect cluster
+     * @param connectorName     Name of the connector
+     * @param connector         The listed KafkaConnector resource or null if the connector should be deleted
+     * @param current           Listed configuration and status of the running connector or null
+     *
+     * @return  Future with the revalidated connector and its state or with null if the connector should be skipped
+     */
+    private Future<RevalidatedConnector> revalidateConnector(Reconciliation reconciliation, String connectorName, KafkaConnector connector, ConnectorSnapshot current) {
+        return getConnector(reconciliation.namespace(), connectorName)
+                .map(latest -> {
+                    boolean belongsToCluster = latest != null
+                            && latest.getMetadata().getLabels() != null
+                            && reconciliation.name().equals(latest.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL));
+
+                    if (connector == null) {
+                        if (belongsToCluster) {
+                            LOGGER.debugCr(reconciliation, "Connector {} was created in the meantime and will not be deleted", connectorName);
+                            return null;
+                        } else {
+                            return new RevalidatedConnector(null, null);
+                        }
+                    } else if (!belongsToCluster) {
+                        LOGGER.debugCr(reconciliation, "Connector {} was deleted or moved in the meantime and will not be created or updated", connectorName);
+                        return null;
+                    } else if (Objects.equals(connector.getMetadata().getResourceVersion(), latest.getMetadata().getResourceVersion())) {
+                        return new RevalidatedConnector(latest, current);
+                    } else {
+                        LOGGER.debugCr(reconciliation, "Connector {} was changed in the meantime and its current state will be fetched again", connectorName);
+                        return new RevalidatedConnector(latest, null);
+                    }
+                });
+    }
+
+    /**
+     * Connector and the state of the running connector revalidated under the connector lock
+     *
+     * @param connector     The KafkaConnector resource or null if the connector should be deleted
+     * @param current       Configuration and status of the running connector or null if they should be fetched
+     */
+    private record RevalidatedConnector(KafkaConnector connector, ConnectorSnapshot current) { }
+
+    /**
+     * Name of the lock used for the reconciliation of a single connector
+     *
+     * @param namespace         Namespace of the Connect cluster
+     * @param connectName       Name of the Connect cluster
+     * @param connectorName     Name of the connector
+     *
+     * @return  Name of the lock
+     */
+    /*test*/ static String connectorLockName(String namespace, String connectName, String connectorName) {
+        return "lock::" + namespace + "::" + KafkaConnector.RESOURCE_KIND + "::" + connectName + "::" + connectorName;
+    }
+
+    private Future<Boolean> reconcileConnectorAndUpdateStatusWithLock(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorSnapshot current) {
+        if (connector != null && Annotations.isReconciliationPausedWithAnnotation(connector)) {
+            return maybeUpdateConnectorStatus(reconciliation, connector, null, null).map(true);
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        Promise<Boolean> reconciliationResult = Promise.promise();
+
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, current)
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
                         // This normally means that the connector was deleted and there is no status to be set
-                        metrics().connectorsSuccessfulReconciliationsCounter(reconciliation.namespace()).increment();
-                        connectorsReconciliationsTimerSample.stop(metrics().connectorsReconciliationsTimer(reconciliation.namespace()));
-                        reconciliationResult.complete();
+                        reconciliationResult.complete(true);
                     } else if (result.failed() && connector == null) {
                         // The reconciliation failed on connector deletion, so there is nowhere for status to be set => we complete the reconciliation and return
                         LOGGER.warnCr(reconciliation, "Error reconciling connector {}", connectorName, result.cause());
-                        metrics().connectorsFailedReconciliationsCounter(reconciliation.namespace()).increment();
-                        connectorsReconciliationsTimerSample.stop(metrics().connectorsReconciliationsTimer(reconciliation.namespace()));
-
-                        // We suppress the error to not fail Connect reconciliation just because of a failing connector
-                        reconciliationResult.complete();
+                        reconciliationResult.complete(false);
                     } else {
+                        // Reconciliation failed if either reconciliation or status update failed
                         maybeUpdateConnectorStatus(reconciliation, connector, result.result(), result.cause())
-                                .onComplete(statusResult -> {
-                                    connectorsReconciliationsTimerSample.stop(metrics().connectorsReconciliationsTimer(reconciliation.namespace()));
-
-                                    if (result.succeeded() && statusResult.succeeded()) {
-                                        metrics().connectorsSuccessfulReconciliationsCounter(reconciliation.namespace()).increment();
-                                        reconciliationResult.complete();
-                                    } else {
-                                        // Reconciliation failed if either reconciliation or status update failed
-                                        metrics().connectorsFailedReconciliationsCounter(reconciliation.namespace()).increment();
-
-                                        // We suppress the error to not fail Connect reconciliation just because of a failing connector
-                                        reconciliationResult.complete();
-                                    }
-                                });
+                                .onComplete(statusResult -> reconciliationResult.complete(result.succeeded() && statusResult.succeeded()));
                     }
                 });
 
@@ -490,11 +646,23 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorSnapshot current) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
-                return apiClient.delete(reconciliation, host, port, connectorName).mapEmpty();
+                connectorTopics.remove(connectorTopicsKey(reconciliation, connectorName));
+                return apiClient.delete(reconciliation, host, port, connectorName)
+                        .recover(error -> {
+                            if (error instanceof ConnectRestException
+                                    && ((ConnectRestException) error).getStatusCode() == 404) {
+                                // The connector was deleted already (for example by the KafkaConnector controller)
+                                LOGGER.debugCr(reconciliation, "Connector {} does not exist anymore", connectorName);
+                                return Future.succeededFuture();
+                            } else {
+                                return Future.failedFuture(error);
+                            }
+                        })
+                        .mapEmpty();
             } else {
                 return Future.succeededFuture();
             }
@@ -507,6 +675,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
+            } else if (current != null) {
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, current);
             } else {
                 return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
             }
@@ -529,42 +699,73 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     @SuppressWarnings({ "rawtypes" })
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
-        KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
-
         return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
-            currentConfig -> {
-                if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
-                    LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return apiClient.status(reconciliation, host, port, connectorName)
-                        .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
-                        .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
-                } else {
-                    LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
-                }
-            },
+            currentConfig -> maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, new ConnectorSnapshot(currentConfig, null)),
             error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
-                    LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, ConnectorSnapshot.MISSING);
                 } else {
                     return Future.failedFuture(error);
                 }
             });
     }
 
+    /**
+     * Compares the current connector config with the {@code connectorSpec}'s and creates or updates the connector when
+     * they differ. The current status of the connector is fetched from the Connect REST API only when it is not known
+     * yet. It is fetched again only after the connector was paused, resumed or restarted.
+     *
+     * @param reconciliation    The reconciliation.
+     * @param host              The REST API host.
+     * @param apiClient         The client instance.
+     * @param connectorName     The connector name.
+     * @param connectorSpec     The desired connector spec.
+     * @param resource          The resource that defines the connector.
+     * @param current           The current configuration and status of the connector
+     *
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    private Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                              String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                              ConnectorSnapshot current) {
+        KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+
+        if (current.config() == null) {
+            LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+                .compose(createConnectorStatusAndConditions())
+                .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
+                .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status, true));
+        } else if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), current.config())) {
+            LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), current.config());
+            boolean restartRequested = hasRestartAnnotation(resource, connectorName) || getRestartTaskAnnotationTaskID(resource, connectorName) >= 0;
+            Future<Map<String, Object>> currentStatus = current.status() != null ? Future.succeededFuture(current.status()) : apiClient.status(reconciliation, host, port, connectorName);
+
+            return currentStatus
+                .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status)
+                    .compose(pausedOrResumed -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>())
+                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                        .compose(conditions -> {
+                            if (pausedOrResumed || restartRequested) {
+                                // The state of the connector changed => we need its new status
+                                return apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                                    .compose(createConnectorStatusAndConditions(conditions));
+                            } else {
+                                return createConnectorStatusAndConditions(conditions).apply(status);
+                            }
+                        })))
+                .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
+                .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status, false));
+        } else {
+            LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), current.config());
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+                .compose(createConnectorStatusAndConditions())
+                .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status, true));
+        }
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
@@ -594,7 +795,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
-    private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+    private Future<Boolean> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         @SuppressWarnings({ "rawtypes" })
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
         if (!(path instanceof String)) {
@@ -604,12 +805,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
             if ("RUNNING".equals(state) && shouldPause) {
                 LOGGER.debugCr(reconciliation, "Pausing connector {}", connectorName);
-                return apiClient.pause(reconciliation, host, port, connectorName);
+                return apiClient.pause(reconciliation, host, port, connectorName).map(true);
             } else if ("PAUSED".equals(state) && !shouldPause) {
                 LOGGER.debugCr(reconciliation, "Resuming connector {}", connectorName);
-                return apiClient.resume(reconciliation, host, port, connectorName);
+                return apiClient.resume(reconciliation, host, port, connectorName).map(true);
             } else {
-                return Future.succeededFuture();
+                return Future.succeededFuture(false);
             }
         }
     }
@@ -804,11 +1005,56 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
     }
 
-    private Future<ConnectorStatusAndConditions> updateConnectorTopics(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, ConnectorStatusAndConditions status) {
-        return apiClient.getConnectorTopics(reconciliation, host, port, connectorName)
-            .compose(updateConnectorStatusAndConditions(status));
+    /**
+     * Adds the topics used by the connector to its status. The topics are cached per connector. They are fetched from
+     * the Connect REST API only when the connector was created or reconfigured, when they are not cached yet or when
+     * the cached topics expired.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param host              Kafka Connect host
+     * @param apiClient         Kafka Connect REST API client
+     * @param connectorName     Name of the connector
+     * @param status            Status of the connector
+     * @param refresh           Whether the connector was created or reconfigured and the topics should be fetched
+     *
+     * @return  Future with the status of the connector including its topics
+     */
+    private Future<ConnectorStatusAndConditions> updateConnectorTopics(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, ConnectorStatusAndConditions status, boolean refresh) {
+        String key = connectorTopicsKey(reconciliation, connectorName);
+        CachedConnectorTopics cached = connectorTopics.get(key);
+        long now = System.currentTimeMillis();
+
+        if (!refresh && cached != null && now - cached.timestamp() < CONNECTOR_TOPICS_CACHE_TTL_MS) {
+            return updateConnectorStatusAndConditions(status).apply(cached.topics());
+        } else {
+            return apiClient.getConnectorTopics(reconciliation, host, port, connectorName)
+                    .compose(topics -> {
+                        connectorTopics.put(key, new CachedConnectorTopics(topics, now));
+                        return updateConnectorStatusAndConditions(status).apply(topics);
+                    });
+        }
     }
 
+    /**
+     * Key under which the topics of a connector are cached
+     *
+     * @param reconciliation    Reconciliation marker of the Connect cluster
+     * @param connectorName     Name of the connector
+     *
+     * @return  The cache key
+     */
+    private static String connectorTopicsKey(Reconciliation reconciliation, String connectorName) {
+        return reconciliation.namespace() + "/" + reconciliation.name() + "/" + connectorName;
+    }
+
+    /**
+     * Topics used by a connector and the time when they were fetched
+     *
+     * @param topics        Topics used by the connector
+     * @param timestamp     Time when the topics were fetched
+     */
+    private record CachedConnectorTopics(List<String> topics, long timestamp) { }
+
     /**
      * Whether the provided resource instance is a KafkaConnector and has the strimzi.io/restart annotation
      *
@@ -884,6 +1130,46 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
     }
 
+    /**
+     * Current configuration and status of a connector as known before its reconciliation
+     *
+     * @param config    Current configuration of the connector or null if the connector does not exist
+     * @param status    Current status of the connector or null if it is not known and has to be fetched
+     */
+    /*test*/ record ConnectorSnapshot(Map<String, String> config, Map<String, Object> status) {
+        /**
+         * Snapshot of a connector which does not exist
+         */
+        static final ConnectorSnapshot MISSING = new ConnectorSnapshot(null, null);
+
+        /**
+         * Creates the snapshot from the entry of the {@code /connectors?expand=status&expand=info} response
+         *
+         * @param expanded  The entry of the connector with its info and status or null if the connector is not running
+         *
+         * @return  Snapshot of the connector
+         */
+        @SuppressWarnings({ "unchecked" })
+        static ConnectorSnapshot fromExpandedList(Map<String, Object> expanded) {
+            if (expanded == null || !(expanded.get("info") instanceof Map)) {
+                return MISSING;
+            }
+
+            Map<String, Object> info = (Map<String, Object>) expanded.get("info");
+            Map<String, String> config = new HashMap<>();
+            if (info.get("config") instanceof Map) {
+                ((Map<String, Object>) info.get("config")).forEach((key, value) -> {
+                    if (value != null) {
+                        config.put(key, value.toString());
+                    }
+                });
+            }
+
+            Object status = expanded.get("status");
+            return new ConnectorSnapshot(config, status instanceof Map ? (Map<String, Object>) status : null);
+        }
+    }
+
     static protected class ConnectorStatusAndConditions {
         Map<String, Object> statusResult;
         List<String> topics;
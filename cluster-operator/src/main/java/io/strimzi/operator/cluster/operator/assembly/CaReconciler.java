@@ -34,6 +34,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -75,6 +76,8 @@ public class CaReconciler {
     private final CertManager certManager;
     private final PasswordGenerator passwordGenerator;
     private final KubernetesRestartEventPublisher eventPublisher;
+    private final MetricsProvider metricsProvider;
+    private final int kafkaRollerMaxBatchSize;
 
     // Fields based on the Kafka CR required for the reconciliation
     private final List<String> maintenanceWindows;
@@ -126,6 +129,8 @@ public class CaReconciler {
         this.passwordGenerator = passwordGenerator;
 
         this.eventPublisher = supplier.restartEventsPublisher;
+        this.metricsProvider = supplier.metricsProvider;
+        this.kafkaRollerMaxBatchSize = config.getKafkaRollerMaxBatchSize();
 
         // Extract required information from the Kafka CR
         this.maintenanceWindows = kafkaCr.getSpec().getMaintenanceTimeWindows();
@@ -418,7 +423,9 @@ public class CaReconciler {
                 null,
                 null,
                 false,
-                eventPublisher
+                eventPublisher,
+                kafkaRollerMaxBatchSize,
+                metricsProvider
         ).rollingRestart(pod -> {
             LOGGER.debugCr(reconciliation, "Rolling Pod {} due to {}", pod.getMetadata().getName(), podRollReasons.getReasons());
             return podRollReasons;
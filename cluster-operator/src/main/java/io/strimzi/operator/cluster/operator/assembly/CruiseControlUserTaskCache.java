@@ -0,0 +1,273 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the statuses of the Cruise Control user tasks. The cache is shared by all KafkaRebalance resources of the same
+ * Kafka cluster (i.e. the same Cruise Control host). Instead of polling the user tasks endpoint separately for every
+ * rebalance in progress, the cache fetches the statuses of all tracked user tasks of the Cruise Control instance in a
+ * single request. The fetched statuses are reused until they are older than the configured TTL. The statuses of the
+ * completed tasks never change, so they are never fetched again. The optimization proposal of the tasks is kept in its
+ * parsed form and it is parsed again only when the status of the task changes.
+ */
+public class CruiseControlUserTaskCache {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlUserTaskCache.class);
+
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final Map<String, HostEntry> hosts = new HashMap<>();
+
+    /**
+     * Constructs the Cruise Control user task cache
+     *
+     * @param ttlMs     Time in milliseconds for which the fetched user task statuses are reused
+     */
+    public CruiseControlUserTaskCache(long ttlMs) {
+        this(ttlMs, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs the Cruise Control user task cache with custom clock. This is used for testing.
+     *
+     * @param ttlMs     Time in milliseconds for which the fetched user task statuses are reused
+     * @param clock     Supplier of the current time in milliseconds
+     */
+    /*test*/ CruiseControlUserTaskCache(long ttlMs, LongSupplier clock) {
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the status of the user task. The cached status is returned when it is final or not older than the TTL. If
+     * there is a request in progress which fetches the status of this task, its result is used. Otherwise, the
+     * statuses of all tracked unfinished user tasks of the same Cruise Control instance are fetched at once.
+     *
+     * @param apiClient     Cruise Control API client used when the status needs to be fetched
+     * @param host          Cruise Control host
+     * @param port          Cruise Control port
+     * @param userTaskId    ID of the user task
+     *
+     * @return  Future with the status of the user task
+     */
+    public synchronized Future<UserTask> getUserTask(CruiseControlApi apiClient, String host, int port, String userTaskId) {
+        HostEntry entry = hosts.computeIfAbsent(host, h -> new HostEntry());
+        CachedUserTask cached = entry.tasks.computeIfAbsent(userTaskId, id -> new CachedUserTask());
+
+        if (cached.value != null
+                && (cached.value.isFinal() || clock.getAsLong() - cached.fetchedAt < ttlMs)) {
+            return Future.succeededFuture(cached.value);
+        }
+
+        Future<Map<String, UserTask>> poll;
+        if (entry.inFlight != null && entry.inFlightTaskIds.contains(userTaskId)) {
+            poll = entry.inFlight;
+        } else {
+            poll = poll(apiClient, host, port, entry);
+        }
+
+        return poll.compose(userTasks -> {
+            UserTask userTask = userTasks.get(userTaskId);
+
+            if (userTask != null) {
+                return Future.succeededFuture(userTask);
+            } else {
+                return Future.failedFuture(new CruiseControlRestException("User task " + userTaskId + " was not found in Cruise Control " + host));
+            }
+        });
+    }
+
+    /**
+     * Stops tracking the user task. It should be called once the rebalance using this user task is not watched anymore.
+     *
+     * @param host          Cruise Control host
+     * @param userTaskId    ID of the user task
+     */
+    public synchronized void remove(String host, String userTaskId) {
+        HostEntry entry = hosts.get(host);
+
+        if (entry != null) {
+            entry.tasks.remove(userTaskId);
+
+            if (entry.tasks.isEmpty() && entry.inFlight == null) {
+                hosts.remove(host);
+            }
+        }
+    }
+
+    /**
+     * @return  Number of Cruise Control hosts with tracked user tasks
+     */
+    /*test*/ synchronized int size() {
+        return hosts.size();
+    }
+
+    /**
+     * Fetches the statuses of all unfinished user tasks tracked for given Cruise Control host. Must be called while
+     * holding the lock of the cache.
+     *
+     * @param apiClient     Cruise Control API client
+     * @param host          Cruise Control host
+     * @param port          Cruise Control port
+     * @param entry         Cache entry of the host
+     *
+     * @return  Future with the map of the fetched user tasks
+     */
+    private Future<Map<String, UserTask>> poll(CruiseControlApi apiClient, String host, int port, HostEntry entry) {
+        List<String> taskIds = entry.tasks.entrySet().stream()
+                .filter(task -> task.getValue().value == null || !task.getValue().value.isFinal())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+        long fetchStarted = clock.getAsLong();
+
+        LOGGER.debugOp("Fetching status of user tasks {} from Cruise Control {}", taskIds, host);
+
+        Future<Map<String, UserTask>> poll = apiClient.getUserTasksStatus(host, port, taskIds)
+                .map(responses -> update(entry, responses, fetchStarted));
+
+        entry.inFlight = poll;
+        entry.inFlightTaskIds = Set.copyOf(taskIds);
+        poll.onComplete(ignore -> pollCompleted(host, entry, poll));
+
+        return poll;
+    }
+
+    /**
+     * Updates the cache with the fetched user tasks
+     *
+     * @param entry         Cache entry of the host
+     * @param responses     Responses from Cruise Control
+     * @param fetchedAt     Time when the fetching of the statuses started
+     *
+     * @return  Map with the user task statuses
+     */
+    private synchronized Map<String, UserTask> update(HostEntry entry, Map<String, CruiseControlResponse> responses, long fetchedAt) {
+        Map<String, UserTask> userTasks = new HashMap<>(responses.size());
+
+        for (Map.Entry<String, CruiseControlResponse> response : responses.entrySet()) {
+            CachedUserTask cached = entry.tasks.get(response.getKey());
+            UserTask userTask = UserTask.fromJson(response.getValue().getJson(), cached != null ? cached.value : null);
+
+            if (cached != null) {
+                cached.value = userTask;
+                cached.fetchedAt = fetchedAt;
+            }
+
+            userTasks.put(response.getKey(), userTask);
+        }
+
+        return userTasks;
+    }
+
+    private synchronized void pollCompleted(String host, HostEntry entry, Future<Map<String, UserTask>> poll) {
+        if (entry.inFlight == poll) {
+            entry.inFlight = null;
+            entry.inFlightTaskIds = Set.of();
+        }
+
+        if (entry.tasks.isEmpty() && entry.inFlight == null && hosts.get(host) == entry) {
+            hosts.remove(host);
+        }
+    }
+
+    /**
+     * Status of the user task with the parsed optimization proposal
+     */
+    static class UserTask {
+        private final CruiseControlUserTaskStatus status;
+        private JsonObject proposalJson;
+        private KafkaRebalanceAssemblyOperator.OptimizationProposal proposal;
+
+        UserTask(CruiseControlUserTaskStatus status, JsonObject proposalJson) {
+            this.status = status;
+            this.proposalJson = proposalJson;
+        }
+
+        /**
+         * Creates the user task from its JSON representation. When the status of the task did not change, the previous
+         * user task with its already parsed optimization proposal is reused.
+         *
+         * @param statusJson    JSON with the user task status as returned by the Cruise Control API client
+         * @param previous      Previous status of the same user task or null if not known
+         *
+         * @return  User task status
+         */
+        static UserTask fromJson(JsonObject statusJson, UserTask previous) {
+            CruiseControlUserTaskStatus status = CruiseControlUserTaskStatus.lookup(statusJson.getString("Status"));
+
+            if (previous != null && previous.status == status) {
+                return previous;
+            }
+
+            switch (status) {
+                case IN_EXECUTION:
+                case COMPLETED:
+                    return new UserTask(status, statusJson);
+                default:
+                    return new UserTask(status, null);
+            }
+        }
+
+        /**
+         * @return  Status of the user task
+         */
+        CruiseControlUserTaskStatus status() {
+            return status;
+        }
+
+        /**
+         * The optimization proposal is parsed on the first use only and the JSON it was parsed from is released.
+         *
+         * @return  Parsed optimization proposal or null if the user task has no proposal
+         */
+        synchronized KafkaRebalanceAssemblyOperator.OptimizationProposal proposal() {
+            if (proposal == null && proposalJson != null) {
+                proposal = KafkaRebalanceAssemblyOperator.OptimizationProposal.fromJson(proposalJson);
+                proposalJson = null;
+            }
+
+            return proposal;
+        }
+
+        /**
+         * @return  True if the user task is finished and its status will not change anymore
+         */
+        boolean isFinal() {
+            return status == CruiseControlUserTaskStatus.COMPLETED || status == CruiseControlUserTaskStatus.COMPLETED_WITH_ERROR;
+        }
+    }
+
+    /**
+     * Cached user task
+     */
+    private static class CachedUserTask {
+        private UserTask value;
+        private long fetchedAt;
+    }
+
+    /**
+     * Cached user tasks of a single Cruise Control host
+     */
+    private static class HostEntry {
+        private final Map<String, CachedUserTask> tasks = new HashMap<>();
+        private Future<Map<String, UserTask>> inFlight;
+        private Set<String> inFlightTaskIds = Set.of();
+    }
+}
@@ -39,6 +39,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.ResourceFingerprints;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.vertx.core.CompositeFuture;
@@ -47,6 +48,8 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Assembly operator for the Kafka custom resource. It manages the following components:
@@ -69,6 +72,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final StrimziPodSetOperator strimziPodSetOperator;
     protected Clock clock;
 
+    // Fingerprints of the resources reconciled for each Kafka cluster. They are used to skip the resources which did
+    // not change since the previous reconciliation.
+    private final Map<String, ResourceFingerprints> resourceFingerprints = new ConcurrentHashMap<>();
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -462,7 +469,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         KafkaReconciler kafkaReconciler(Storage oldStorage, int currentReplicas) {
             return new KafkaReconciler(
                     reconciliation,
-                    kafkaAssembly, oldStorage, currentReplicas, clusterCa, clientsCa, versionChange, config, supplier, pfa, vertx
+                    kafkaAssembly, oldStorage, currentReplicas, clusterCa, clientsCa, versionChange, config, supplier, pfa, vertx,
+                    resourceFingerprints.computeIfAbsent(fingerprintsKey(namespace, name), key -> new ResourceFingerprints())
             );
         }
 
@@ -642,6 +650,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return new KafkaStatus();
     }
 
+    private static String fingerprintsKey(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
     /**
      * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference
      *
@@ -650,6 +662,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        resourceFingerprints.remove(fingerprintsKey(reconciliation.namespace(), reconciliation.name()));
+        supplier.zookeeperLeaderFinder.forgetLeader(reconciliation);
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -141,6 +141,19 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(Reconciliation reconciliation, String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}. This returns the configuration and
+     * the status of all connectors in a single request instead of one request per connector.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map with the connector names as keys. The values are maps with the {@code status} and
+     * {@code info} of each connector in the same format as returned by {@code /connectors/{name}/status} and
+     * {@code /connectors/{name}}.
+     */
+    Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
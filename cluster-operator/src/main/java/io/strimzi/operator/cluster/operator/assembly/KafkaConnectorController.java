@@ -0,0 +1,411 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.strimzi.api.kafka.KafkaConnectList;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnectResources;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.AbstractControllerLoop;
+import io.strimzi.operator.common.controller.ShardedControllerQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KafkaConnector controller is responsible for queueing the reconciliations of the KafkaConnector resources. It
+ * reconciles the connectors independently of the reconciliation of their Kafka Connect clusters: a change to a
+ * connector does not wait for the Connect cluster reconciliation (which might be rolling or building the Connect
+ * cluster) and does not block it. The connectors are distributed between multiple controller loops using a sharded
+ * work queue. That way, different connectors are reconciled in parallel while a single connector is never reconciled
+ * twice at the same time. The status of all connectors is refreshed periodically. The periodic refresh lists the
+ * connectors of each Connect cluster with a single call to the Connect REST API and passes their configuration and
+ * status to the controller loops, so that the connectors do not need to be fetched one by one.
+ *
+ * The full reconciliation of the Kafka Connect cluster still reconciles its connectors as well. It is needed when the
+ * Connect cluster is created, scaled up from zero replicas or when the connector resources are enabled.
+ *
+ * The changes to the Kafka Connect clusters which affect their connectors (scaling to or from zero replicas, changes to
+ * the labels and annotations and deletion) enqueue all connectors of the Connect cluster. Both paths reconcile the
+ * connector under a per-connector lock. The reconciliation of the Connect cluster re-reads the KafkaConnector resource
+ * under this lock and skips the connector when it was changed in the meantime in a way which invalidates its decision.
+ */
+public class KafkaConnectorController {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaConnectorController.class);
+    private static final String RESOURCE_KIND = KafkaConnector.RESOURCE_KIND;
+
+    /**
+     * Capacity of the work queue shared by all controller loops
+     */
+    /*test*/ static final int WORK_QUEUE_SIZE = 1024;
+
+    private final String watchedNamespace;
+    private final long statusRefreshIntervalMs;
+    private final KafkaConnectAssemblyOperator connectOperator;
+    private final ControllerMetricsHolder metrics;
+    private final ShardedControllerQueue workQueue;
+    private final List<KafkaConnectorControllerLoop> threadPool;
+
+    private final SharedIndexInformer<KafkaConnector> connectorInformer;
+    private final SharedIndexInformer<KafkaConnect> connectInformer;
+    private final Lister<KafkaConnector> connectorLister;
+    private final Lister<KafkaConnect> connectLister;
+    private final Optional<LabelSelector> selector;
+
+    // Connect clusters of the deleted connectors which were not removed from Kafka Connect yet. The deleted
+    // connectors are not in the informer anymore, but the controller loop needs to know where to delete them from.
+    private final Map<String, String> deletedConnectors = new ConcurrentHashMap<>();
+
+    // Configuration and status of the connectors listed by the periodic refresh. They are consumed by the controller
+    // loop when it reconciles the connector.
+    private final Map<String, AbstractConnectOperator.ConnectorSnapshot> refreshedConnectors = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduledExecutor;
+
+    private volatile boolean stop = false;
+
+    /**
+     * Creates the KafkaConnector controller. The controller should normally exist once per operator for cluster-wide
+     * mode or once per namespace for namespaced mode.
+     *
+     * @param watchedNamespace          Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels          Selector labels for custom resource managed by this operator instance. This is
+     *                                  used to check that the connectors belong to a Connect cluster matching these labels.
+     * @param connectOperator           KafkaConnect assembly operator which has the logic for reconciling the connectors
+     * @param kafkaConnectOperator      KafkaConnect resource operator for getting the KafkaConnect custom resources
+     * @param metricsProvider           Metrics provider
+     * @param workers                   Number of controller loops reconciling the connectors in parallel
+     * @param statusRefreshIntervalMs   Interval in which the status of all connectors is refreshed
+     * @param operationTimeoutMs        Timeout for the reconciliation of a single connector
+     */
+    public KafkaConnectorController(
+            String watchedNamespace,
+            Labels crSelectorLabels,
+            KafkaConnectAssemblyOperator connectOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            MetricsProvider metricsProvider,
+            int workers,
+            long statusRefreshIntervalMs,
+            long operationTimeoutMs
+    ) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("The KafkaConnector controller needs at least 1 worker");
+        }
+
+        this.watchedNamespace = watchedNamespace;
+        this.statusRefreshIntervalMs = statusRefreshIntervalMs;
+        this.connectOperator = connectOperator;
+        this.selector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, crSelectorLabels.toMap()));
+
+        // Set up the metrics holder. The KafkaConnector reconciliation metrics are shared with the reconciliation of the
+        // Connect clusters (see ConnectOperatorMetricsHolder) which does not use the selector tag for them. Using the
+        // same tags here makes sure both paths record into the same meters.
+        this.metrics = new ControllerMetricsHolder(RESOURCE_KIND, null, metricsProvider);
+
+        // Set up the work queue. It is sharded with one shard per controller loop. That makes sure the same connector
+        // is never reconciled in parallel.
+        this.workQueue = new ShardedControllerQueue(workers, WORK_QUEUE_SIZE, metrics);
+
+        // KafkaConnector informer and lister is used to get events about connectors and get connectors quickly. The
+        // connectors are not filtered by the custom resource selector which applies to the Connect clusters.
+        this.connectorInformer = connectOperator.connectorOperator.informer(watchedNamespace);
+        this.connectorLister = new Lister<>(connectorInformer.getIndexer());
+
+        // KafkaConnect informer and lister is used to get the Connect clusters quickly. It is not filtered by the custom
+        // resource selector either to distinguish the missing Connect clusters from the ones which are not selected.
+        this.connectInformer = kafkaConnectOperator.informer(watchedNamespace);
+        this.connectLister = new Lister<>(connectInformer.getIndexer());
+
+        // Creates the scheduled executor service used for periodical status refresh and progress warnings
+        this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "KafkaConnectorControllerScheduledExecutor"));
+
+        this.threadPool = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            threadPool.add(new KafkaConnectorControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue.shard(i), scheduledExecutor,
+                    connectorLister, connectLister, deletedConnectors, refreshedConnectors, connectOperator, crSelectorLabels, metrics, operationTimeoutMs));
+        }
+    }
+
+    /**
+     * Key under which the deleted connector is tracked
+     *
+     * @param namespace     Namespace of the connector
+     * @param name          Name of the connector
+     *
+     * @return  Key of the connector
+     */
+    /*test*/ static String connectorKey(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Enqueues a connector based on an event from the KafkaConnector informer
+     *
+     * @param connector     Connector which triggered the event
+     * @param action        Type of the event
+     */
+    private void enqueueConnector(KafkaConnector connector, String action) {
+        LOGGER.infoOp("{} {} in namespace {} was {}", RESOURCE_KIND, connector.getMetadata().getName(), connector.getMetadata().getNamespace(), action);
+        // The state listed by the periodic refresh might be outdated by the change => it will be fetched again
+        refreshedConnectors.remove(connectorKey(connector.getMetadata().getNamespace(), connector.getMetadata().getName()));
+        workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, connector.getMetadata().getNamespace(), connector.getMetadata().getName()));
+    }
+
+    /**
+     * Enqueues all connectors of a Connect cluster based on an event from the KafkaConnect informer
+     *
+     * @param connect   Connect cluster which triggered the event
+     * @param action    Type of the event
+     */
+    private void enqueueConnectorsOfConnect(KafkaConnect connect, String action) {
+        String namespace = connect.getMetadata().getNamespace();
+        String connectName = connect.getMetadata().getName();
+
+        LOGGER.infoOp("{} {} in namespace {} was {} => its connectors will be reconciled", KafkaConnect.RESOURCE_KIND, connectName, namespace, action);
+
+        for (KafkaConnector connector : connectorLister.namespace(namespace).list()) {
+            Map<String, String> labels = connector.getMetadata().getLabels();
+
+            if (labels != null && connectName.equals(labels.get(Labels.STRIMZI_CLUSTER_LABEL))) {
+                refreshedConnectors.remove(connectorKey(namespace, connector.getMetadata().getName()));
+                workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, namespace, connector.getMetadata().getName()));
+            }
+        }
+    }
+
+    /**
+     * Checks whether the Connect cluster update should trigger the reconciliation of its connectors. That is needed
+     * when the cluster is scaled to or from zero replicas, when its labels change (the labels decide whether it matches
+     * the custom resource selector) or when its annotations change (for example the annotation which enables the
+     * connector resources).
+     *
+     * @param oldConnect    Connect cluster before the update
+     * @param newConnect    Connect cluster after the update
+     *
+     * @return  True if the connectors of the Connect cluster should be reconciled. False otherwise.
+     */
+    /*test*/ static boolean connectorsNeedReconciliation(KafkaConnect oldConnect, KafkaConnect newConnect) {
+        return !Objects.equals(replicas(oldConnect), replicas(newConnect))
+                || !Objects.equals(oldConnect.getMetadata().getLabels(), newConnect.getMetadata().getLabels())
+                || !Objects.equals(oldConnect.getMetadata().getAnnotations(), newConnect.getMetadata().getAnnotations());
+    }
+
+    private static Integer replicas(KafkaConnect connect) {
+        return connect.getSpec() != null ? connect.getSpec().getReplicas() : null;
+    }
+
+    /**
+     * Checks whether the connector update should trigger a reconciliation. The updates of the status only (for
+     * example the status updates done by the controller itself) do not need it. They are picked up by the periodic
+     * status refresh.
+     *
+     * @param oldConnector  Connector before the update
+     * @param newConnector  Connector after the update
+     *
+     * @return  True if the connector should be reconciled. False otherwise.
+     */
+    /*test*/ static boolean needsReconciliation(KafkaConnector oldConnector, KafkaConnector newConnector) {
+        return !Objects.equals(oldConnector.getSpec(), newConnector.getSpec())
+                || !Objects.equals(oldConnector.getMetadata().getLabels(), newConnector.getMetadata().getLabels())
+                || !Objects.equals(oldConnector.getMetadata().getAnnotations(), newConnector.getMetadata().getAnnotations())
+                || !Objects.equals(oldConnector.getMetadata().getDeletionTimestamp(), newConnector.getMetadata().getDeletionTimestamp());
+    }
+
+    /**
+     * Indicates that the informers have been synced and are up-to-date.
+     *
+     * @return  True when all informers are synced. False otherwise.
+     */
+    protected boolean isSynced() {
+        return connectorInformer.hasSynced() && connectInformer.hasSynced();
+    }
+
+    /**
+     * Starts the controller: it registers the event handlers and starts the loop threads and the periodic status
+     * refresh once the informers are synced. This method does not wait for the informers to sync.
+     */
+    public void start() {
+        this.connectorInformer.addEventHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(KafkaConnector connector) {
+                deletedConnectors.remove(connectorKey(connector.getMetadata().getNamespace(), connector.getMetadata().getName()));
+                enqueueConnector(connector, "ADDED");
+            }
+
+            @Override
+            public void onUpdate(KafkaConnector oldConnector, KafkaConnector newConnector) {
+                if (needsReconciliation(oldConnector, newConnector)) {
+                    enqueueConnector(newConnector, "MODIFIED");
+                }
+            }
+
+            @Override
+            public void onDelete(KafkaConnector connector, boolean deletedFinalStateUnknown) {
+                String connectName = connector.getMetadata().getLabels() == null ? null : connector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
+
+                if (connectName != null) {
+                    deletedConnectors.put(connectorKey(connector.getMetadata().getNamespace(), connector.getMetadata().getName()), connectName);
+                }
+
+                enqueueConnector(connector, "DELETED");
+            }
+        });
+
+        this.connectInformer.addEventHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(KafkaConnect connect) {
+                // New Connect clusters are created by their own reconciliation which reconciles their connectors as well
+            }
+
+            @Override
+            public void onUpdate(KafkaConnect oldConnect, KafkaConnect newConnect) {
+                if (connectorsNeedReconciliation(oldConnect, newConnect)) {
+                    enqueueConnectorsOfConnect(newConnect, "MODIFIED");
+                }
+            }
+
+            @Override
+            public void onDelete(KafkaConnect connect, boolean deletedFinalStateUnknown) {
+                enqueueConnectorsOfConnect(connect, "DELETED");
+            }
+        });
+
+        // The reconciliation of the Connect clusters reads the connectors from the same informer
+        connectOperator.addConnectorInformer(watchedNamespace, connectorInformer);
+
+        scheduledExecutor.execute(this::startLoops);
+    }
+
+    /**
+     * Waits for the informers to sync and starts the controller loop threads and the periodic status refresh
+     */
+    private void startLoops() {
+        while (!stop && !isSynced())   {
+            LOGGER.debugOp("Waiting for the informers to sync");
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                LOGGER.debugOp("Interrupted while waiting for informers to sync", e);
+            }
+        }
+
+        if (!stop) {
+            // Start the controller loop threads
+            LOGGER.infoOp("Starting KafkaConnector Controller loops");
+            threadPool.forEach(AbstractControllerLoop::start);
+
+            // Configure the periodic status refresh
+            scheduledExecutor.scheduleAtFixedRate(this::refreshAll, statusRefreshIntervalMs, statusRefreshIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the controller and all its controller loop threads
+     */
+    public void stop() {
+        stop = true;
+
+        LOGGER.infoOp("Stopping scheduled executor service");
+        scheduledExecutor.shutdownNow(); // We do not wait for termination
+
+        LOGGER.infoOp("Stopping informers");
+        connectOperator.removeConnectorInformer(watchedNamespace);
+        connectorInformer.stop();
+        connectInformer.stop();
+
+        LOGGER.infoOp("Stopping KafkaConnector Controller loops");
+        threadPool.forEach(t -> {
+            try {
+                t.stop();
+            } catch (InterruptedException e) {
+                LOGGER.debugOp("Interrupted while stopping controller loop", e);
+            }
+        });
+    }
+
+    /**
+     * Refreshes the status of all known connectors. The connectors running in a Connect cluster are listed with a single
+     * call to the Connect REST API per cluster and their listed configuration and status is passed to the controller
+     * loops. The other connectors (for example connectors without a Connect cluster or with a Connect cluster scaled to
+     * zero) are enqueued directly, their controller loop updates their status without calling the Connect REST API.
+     */
+    /*test*/ void refreshAll() {
+        LOGGER.infoOp("Triggering periodic reconciliation of {} resources for namespace {}", RESOURCE_KIND, watchedNamespace);
+        metrics.periodicReconciliationsCounter(watchedNamespace).increment();
+
+        // Connectors indexed by the namespace and the name of their Connect cluster
+        Map<String, Map<String, List<KafkaConnector>>> connectorsByConnect = new HashMap<>();
+
+        for (KafkaConnector connector : connectorLister.list()) {
+            String namespace = connector.getMetadata().getNamespace();
+            String connectName = connector.getMetadata().getLabels() == null ? null : connector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
+            KafkaConnect connect = connectName == null ? null : connectLister.namespace(namespace).get(connectName);
+
+            if (connect != null
+                    && Util.matchesSelector(selector, connect)
+                    && AbstractConnectOperator.isUseResources(connect)
+                    && (connect.getSpec() == null || connect.getSpec().getReplicas() != 0)) {
+                connectorsByConnect.computeIfAbsent(namespace, ignored -> new HashMap<>())
+                        .computeIfAbsent(connectName, ignored -> new ArrayList<>())
+                        .add(connector);
+            } else {
+                enqueueRefresh(connector);
+            }
+        }
+
+        connectorsByConnect.forEach((namespace, connects) -> connects.forEach((connectName, connectors) -> refreshConnectors(namespace, connectName, connectors)));
+    }
+
+    /**
+     * Lists the connectors running in the Connect cluster and enqueues the refresh of its connectors with their listed
+     * configuration and status. When the connectors cannot be listed, their status is not refreshed. The reconciliation
+     * of the Connect cluster updates their status when the Connect REST API is not reachable.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param connectName   Name of the Connect cluster
+     * @param connectors    KafkaConnector resources belonging to this Connect cluster
+     */
+    private void refreshConnectors(String namespace, String connectName, List<KafkaConnector> connectors) {
+        Reconciliation reconciliation = new Reconciliation("connector-refresh", connectOperator.kind(), namespace, connectName);
+
+        connectOperator.listConnectorSnapshots(reconciliation, KafkaConnectResources.qualifiedServiceName(connectName, namespace), connectOperator.getKafkaConnectApi())
+                .onComplete(result -> {
+                    if (result.succeeded()) {
+                        for (KafkaConnector connector : connectors) {
+                            String name = connector.getMetadata().getName();
+                            refreshedConnectors.put(connectorKey(namespace, name), result.result().getOrDefault(name, AbstractConnectOperator.ConnectorSnapshot.MISSING));
+                            enqueueRefresh(connector);
+                        }
+                    } else {
+                        LOGGER.warnCr(reconciliation, "Failed to list the connectors => their status will not be refreshed", result.cause());
+                    }
+                });
+    }
+
+    private void enqueueRefresh(KafkaConnector connector) {
+        workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, connector.getMetadata().getNamespace(), connector.getMetadata().getName(), "timer"));
+    }
+}
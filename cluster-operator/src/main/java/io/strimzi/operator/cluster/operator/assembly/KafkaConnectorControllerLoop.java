@@ -0,0 +1,210 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnectResources;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.AbstractControllerLoop;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * KafkaConnector controller loop is responsible for reconciling a single KafkaConnector resource against the Kafka
+ * Connect cluster in which it runs. It uses the connector reconciliation logic of the KafkaConnect assembly operator,
+ * but does not run the reconciliation of the Connect cluster itself.
+ */
+public class KafkaConnectorControllerLoop extends AbstractControllerLoop {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaConnectorControllerLoop.class);
+
+    private final Lister<KafkaConnector> connectorLister;
+    private final Lister<KafkaConnect> connectLister;
+    private final Map<String, String> deletedConnectors;
+    private final Map<String, AbstractConnectOperator.ConnectorSnapshot> refreshedConnectors;
+    private final KafkaConnectAssemblyOperator connectOperator;
+    private final Optional<LabelSelector> selector;
+    private final ControllerMetricsHolder metrics;
+    private final long operationTimeoutMs;
+
+    /**
+     * Constructor of the KafkaConnector controller reconciliation loop
+     *
+     * @param name                  Name of the reconciliation loop. It should identify the resource it reconciles and
+     *                              the number of the loop if more than one is running in parallel.
+     * @param workQueue             ControllerQueue from which the reconciliation events should be taken. This is
+     *                              the shard of the work queue which belongs to this loop.
+     * @param scheduledExecutor     Scheduled executor service which will be passed to the AbstractControllerLoop and
+     *                              used to run the progress warnings
+     * @param connectorLister       The KafkaConnector resource lister for getting the connectors
+     * @param connectLister         The KafkaConnect resource lister for getting the Connect clusters
+     * @param deletedConnectors     Map with the Connect clusters of the deleted connectors
+     * @param refreshedConnectors   Map with the configuration and status of the connectors listed by the periodic
+     *                              status refresh
+     * @param connectOperator       The KafkaConnect assembly operator which has the logic for reconciling the connectors
+     * @param crSelectorLabels      Selector labels for the Connect clusters managed by this operator instance
+     * @param metrics               The metrics holder for providing metrics about the work queue and the
+     *                              reconciliation. Its reconciliation meters are the same as the connector meters of
+     *                              the Connect operator metrics holder.
+     * @param operationTimeoutMs    Timeout for the reconciliation of a single connector
+     */
+    public KafkaConnectorControllerLoop(
+            String name,
+            ControllerQueue workQueue,
+            ScheduledExecutorService scheduledExecutor,
+            Lister<KafkaConnector> connectorLister,
+            Lister<KafkaConnect> connectLister,
+            Map<String, String> deletedConnectors,
+            Map<String, AbstractConnectOperator.ConnectorSnapshot> refreshedConnectors,
+            KafkaConnectAssemblyOperator connectOperator,
+            Labels crSelectorLabels,
+            ControllerMetricsHolder metrics,
+            long operationTimeoutMs
+    ) {
+        super(name, workQueue, scheduledExecutor);
+
+        this.connectorLister = connectorLister;
+        this.connectLister = connectLister;
+        this.deletedConnectors = deletedConnectors;
+        this.refreshedConnectors = refreshedConnectors;
+        this.connectOperator = connectOperator;
+        this.selector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, crSelectorLabels.toMap()));
+        this.metrics = metrics;
+        this.operationTimeoutMs = operationTimeoutMs;
+    }
+
+    /**
+     * The main reconciliation logic which handles the reconciliations.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  True if the reconciliation was successful. False otherwise.
+     */
+    @Override
+    protected boolean reconcile(Reconciliation reconciliation) {
+        String namespace = reconciliation.namespace();
+        String connectorName = reconciliation.name();
+        String connectorKey = KafkaConnectorController.connectorKey(namespace, connectorName);
+        KafkaConnector connector = connectorLister.namespace(namespace).get(connectorName);
+        String connectName;
+
+        // State of the connector listed by the periodic status refresh. It is removed right away, so it is used only
+        // by this reconciliation.
+        AbstractConnectOperator.ConnectorSnapshot refreshed = refreshedConnectors.remove(connectorKey);
+
+        if (connector != null) {
+            connectName = connector.getMetadata().getLabels() == null ? null : connector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
+
+            if (connectName == null) {
+                AbstractConnectOperator.updateStatus(reconciliation,
+                        new InvalidResourceException("Resource lacks label '"
+                                + Labels.STRIMZI_CLUSTER_LABEL
+                                + "': No connect cluster in which to create this connector."),
+                        connector, connectOperator.connectorOperator);
+                return true;
+            }
+        } else {
+            connectName = deletedConnectors.get(connectorKey);
+
+            if (connectName == null) {
+                LOGGER.debugCr(reconciliation, "{} {} in namespace {} does not exist and is not known to any Connect cluster", reconciliation.kind(), connectorName, namespace);
+                return true;
+            }
+        }
+
+        KafkaConnect connect = connectLister.namespace(namespace).get(connectName);
+
+        if (connect == null) {
+            LOGGER.infoCr(reconciliation, "{} {} in namespace {} will not be reconciled because Connect cluster {} does not exist", reconciliation.kind(), connectorName, namespace, connectName);
+
+            if (connector != null) {
+                AbstractConnectOperator.updateStatus(reconciliation, AbstractConnectOperator.noConnectCluster(namespace, connectName), connector, connectOperator.connectorOperator);
+            } else {
+                // There is no Connect cluster anymore from which the connector can be deleted
+                deletedConnectors.remove(connectorKey);
+            }
+
+            return true;
+        } else if (!Util.matchesSelector(selector, connect)) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} will be ignored because Connect cluster {} does not match label selector", reconciliation.kind(), connectorName, namespace, connectName);
+            deletedConnectors.remove(connectorKey);
+            return true;
+        } else if (connect.getSpec() != null && connect.getSpec().getReplicas() == 0) {
+            LOGGER.infoCr(reconciliation, "{} {} in namespace {} will not be reconciled because Connect cluster {} has 0 replicas", reconciliation.kind(), connectorName, namespace, connectName);
+
+            if (connector != null) {
+                AbstractConnectOperator.updateStatus(reconciliation, AbstractConnectOperator.zeroReplicas(namespace, connectName), connector, connectOperator.connectorOperator);
+            } else {
+                // The connector will be deleted by the reconciliation of the Connect cluster when it is scaled up
+                deletedConnectors.remove(connectorKey);
+            }
+
+            return true;
+        }
+
+        LOGGER.infoCr(reconciliation, "{} will be reconciled", reconciliation.kind());
+
+        // The connector reconciliation logic works with the reconciliation of the Connect cluster
+        Reconciliation connectReconciliation = new Reconciliation("connector-controller", connectOperator.kind(), namespace, connectName);
+
+        // The refreshed state was listed before the connector lock is acquired, so it needs to be revalidated under the
+        // lock. Without it, the current configuration and status of the connector are fetched from the Connect REST API.
+        AbstractConnectOperator.ConnectorSnapshot current = connector != null ? refreshed : null;
+
+        try {
+            boolean successful = connectOperator.reconcileConnectorAndUpdateStatus(connectReconciliation,
+                            KafkaConnectResources.qualifiedServiceName(connectName, namespace), connectOperator.getKafkaConnectApi(),
+                            AbstractConnectOperator.isUseResources(connect), connectorName, connector, current, current != null)
+                    .toCompletionStage()
+                    .toCompletableFuture()
+                    .get(operationTimeoutMs, TimeUnit.MILLISECONDS);
+
+            if (successful) {
+                LOGGER.infoCr(reconciliation, "reconciled");
+                connectOperator.metrics().connectorsSuccessfulReconciliationsCounter(namespace).increment();
+            } else {
+                connectOperator.metrics().connectorsFailedReconciliationsCounter(namespace).increment();
+            }
+
+            if (connector == null) {
+                // The deletion is not retried. Connectors which failed to be deleted are removed by the next
+                // reconciliation of the Connect cluster which deletes all connectors without a KafkaConnector resource.
+                deletedConnectors.remove(connectorKey);
+                return true;
+            } else {
+                return successful;
+            }
+        } catch (ExecutionException | InterruptedException | TimeoutException | CancellationException e) {
+            if (e instanceof InterruptedException) {
+                // Keep the interrupt so that the controller loop can stop
+                Thread.currentThread().interrupt();
+            }
+
+            LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), connectorName, namespace, e);
+            connectOperator.metrics().connectorsFailedReconciliationsCounter(namespace).increment();
+
+            return false;
+        }
+    }
+
+    @Override
+    protected ControllerMetricsHolder metrics() {
+        return metrics;
+    }
+}
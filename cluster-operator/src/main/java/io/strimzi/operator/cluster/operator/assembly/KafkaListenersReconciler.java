@@ -27,6 +27,7 @@ import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.IngressOperator;
+import io.strimzi.operator.common.operator.resource.ResourceFingerprints;
 import io.strimzi.operator.common.operator.resource.RouteOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
@@ -63,6 +64,7 @@ public class KafkaListenersReconciler {
     private final ServiceOperator serviceOperator;
     private final RouteOperator routeOperator;
     private final IngressOperator ingressOperator;
+    private final ResourceFingerprints fingerprints;
 
     /* test */ final ReconciliationResult result;
 
@@ -78,6 +80,8 @@ public class KafkaListenersReconciler {
      * @param serviceOperator           The Service operator for working with Kubernetes Services
      * @param routeOperator             The Route operator for working with Kubernetes Route
      * @param ingressOperator           The Ingress operator for working with Kubernetes Ingress
+     * @param fingerprints              Fingerprints of the previously reconciled resources used to skip the resources
+     *                                  which did not change
      */
     public KafkaListenersReconciler(
             Reconciliation reconciliation,
@@ -90,7 +94,8 @@ public class KafkaListenersReconciler {
             SecretOperator secretOperator,
             ServiceOperator serviceOperator,
             RouteOperator routeOperator,
-            IngressOperator ingressOperator
+            IngressOperator ingressOperator,
+            ResourceFingerprints fingerprints
     ) {
         this.reconciliation = reconciliation;
         this.kafka = kafka;
@@ -103,6 +108,7 @@ public class KafkaListenersReconciler {
         this.serviceOperator = serviceOperator;
         this.routeOperator = routeOperator;
         this.ingressOperator = ingressOperator;
+        this.fingerprints = fingerprints;
 
         // Initialize the result object
         this.result = new ReconciliationResult();
@@ -146,7 +152,7 @@ public class KafkaListenersReconciler {
         services.addAll(kafka.generateExternalBootstrapServices());
         services.addAll(kafka.generatePerPodServices());
 
-        return serviceOperator.batchReconcile(reconciliation, reconciliation.namespace(), services, kafka.getSelectorLabels());
+        return serviceOperator.batchReconcile(reconciliation, reconciliation.namespace(), services, kafka.getSelectorLabels(), fingerprints);
     }
 
     /**
@@ -160,7 +166,7 @@ public class KafkaListenersReconciler {
 
         if (routes.size() > 0) {
             if (pfa.hasRoutes()) {
-                return routeOperator.batchReconcile(reconciliation, reconciliation.namespace(), routes, kafka.getSelectorLabels());
+                return routeOperator.batchReconcile(reconciliation, reconciliation.namespace(), routes, kafka.getSelectorLabels(), fingerprints);
             } else {
                 LOGGER.warnCr(reconciliation, "The OpenShift route API is not available in this Kubernetes cluster. Exposing Kafka cluster {} using routes is not possible.", reconciliation.name());
                 return Future.failedFuture("The OpenShift route API is not available in this Kubernetes cluster. Exposing Kafka cluster " + reconciliation.name() + " using routes is not possible.");
@@ -179,7 +185,7 @@ public class KafkaListenersReconciler {
         List<Ingress> ingresses = new ArrayList<>(kafka.generateExternalBootstrapIngresses());
         ingresses.addAll(kafka.generateExternalIngresses());
 
-        return ingressOperator.batchReconcile(reconciliation, reconciliation.namespace(), ingresses, kafka.getSelectorLabels());
+        return ingressOperator.batchReconcile(reconciliation, reconciliation.namespace(), ingresses, kafka.getSelectorLabels(), fingerprints);
     }
 
     /**
@@ -148,7 +148,7 @@ import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_REBALANCE_A
  *    |-----------→|               |                   |
  * </code></pre>
  */
-@SuppressWarnings({"checkstyle:ClassFanOutComplexity"})
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
 public class KafkaRebalanceAssemblyOperator
        extends AbstractOperator<KafkaRebalance, KafkaRebalanceSpec, KafkaRebalanceStatus, AbstractWatchableStatusedNamespacedResourceOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList, Resource<KafkaRebalance>>> {
 
@@ -161,6 +161,7 @@ public class KafkaRebalanceAssemblyOperator
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final SecretOperator secretOperations;
     private final Optional<LabelSelector> kafkaSelector;
+    private final CruiseControlUserTaskCache userTaskCache;
     private boolean usingJbodStorage;
 
     private final ConfigMapOperator configMapOperator;
@@ -177,6 +178,7 @@ public class KafkaRebalanceAssemblyOperator
         this.kafkaOperator = supplier.kafkaOperator;
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
+        this.userTaskCache = new CruiseControlUserTaskCache(config.getCruiseControlCacheTtlMs());
     }
 
     /**
@@ -693,6 +695,51 @@ public class KafkaRebalanceAssemblyOperator
         }
     }
 
+    /**
+     * Optimization proposal parsed from the Cruise Control response. It keeps only the proposal summary and the
+     * already computed broker load so that the (potentially large) verbose response does not need to be kept around or
+     * parsed again when building the status.
+     */
+    static class OptimizationProposal {
+        private final Map<String, Object> summary;
+        private final String brokerLoad;
+
+        OptimizationProposal(Map<String, Object> summary, String brokerLoad) {
+            this.summary = summary;
+            this.brokerLoad = brokerLoad;
+        }
+
+        /**
+         * Parses the optimization proposal from the response of the {@link CruiseControlApi#rebalance} or
+         * {@link CruiseControlApi#getUserTaskStatus} methods.
+         *
+         * @param proposalJson The JSONObject representing the response from the Cruise Control rebalance endpoint.
+         * @return The parsed optimization proposal
+         */
+        static OptimizationProposal fromJson(JsonObject proposalJson) {
+            JsonArray brokerLoadBeforeOptimization;
+            JsonArray brokerLoadAfterOptimization;
+            if (proposalJson.containsKey(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()) &&
+                    proposalJson.containsKey(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey())) {
+                brokerLoadBeforeOptimization = proposalJson
+                        .getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey())
+                        .getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey());
+                brokerLoadAfterOptimization = proposalJson
+                        .getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey())
+                        .getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey());
+            } else {
+                throw new IllegalArgumentException("The rebalance optimization proposal returned by Cruise Control did not contain broker load information");
+            }
+
+            JsonObject beforeAndAfterBrokerLoad = parseLoadStats(
+                    brokerLoadBeforeOptimization, brokerLoadAfterOptimization);
+
+            return new OptimizationProposal(
+                    Collections.unmodifiableMap(proposalJson.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()).getMap()),
+                    beforeAndAfterBrokerLoad.encode());
+        }
+    }
+
     /**
      * Converts the supplied JSONObject containing the response from the {@link CruiseControlApi#rebalance} or
      * {@link CruiseControlApi#getUserTaskStatus} methods, into a map linking to a proposal summary map and a broker
@@ -702,24 +749,16 @@ public class KafkaRebalanceAssemblyOperator
      * @return A wrapper class containing the proposal summary map and a config map containing broker load.
      */
     protected static MapAndStatus<ConfigMap, Map<String, Object>> processOptimizationProposal(KafkaRebalance kafkaRebalance, JsonObject proposalJson) {
+        return processOptimizationProposal(kafkaRebalance, OptimizationProposal.fromJson(proposalJson));
+    }
 
-        JsonArray brokerLoadBeforeOptimization;
-        JsonArray brokerLoadAfterOptimization;
-        if (proposalJson.containsKey(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()) &&
-                proposalJson.containsKey(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey())) {
-            brokerLoadBeforeOptimization = proposalJson
-                    .getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey())
-                    .getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey());
-            brokerLoadAfterOptimization = proposalJson
-                    .getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey())
-                    .getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey());
-        } else {
-            throw new IllegalArgumentException("The rebalance optimization proposal returned by Cruise Control did not contain broker load information");
-        }
-
-        JsonObject beforeAndAfterBrokerLoad = parseLoadStats(
-                brokerLoadBeforeOptimization, brokerLoadAfterOptimization);
-
+    /**
+     * Converts the parsed optimization proposal into a map linking to a proposal summary map and a broker load map.
+     *
+     * @param  proposal The parsed optimization proposal
+     * @return A wrapper class containing the proposal summary map and a config map containing broker load.
+     */
+    /*test*/ static MapAndStatus<ConfigMap, Map<String, Object>> processOptimizationProposal(KafkaRebalance kafkaRebalance, OptimizationProposal proposal) {
         ConfigMap rebalanceMap = new ConfigMapBuilder()
                 .withNewMetadata()
                     .withNamespace(kafkaRebalance.getMetadata().getNamespace())
@@ -727,18 +766,24 @@ public class KafkaRebalanceAssemblyOperator
                     .withLabels(Collections.singletonMap("app", "strimzi"))
                     .withOwnerReferences(ModelUtils.createOwnerReference(kafkaRebalance, false))
                 .endMetadata()
-                .withData(Collections.singletonMap(BROKER_LOAD_KEY, beforeAndAfterBrokerLoad.encode()))
+                .withData(Collections.singletonMap(BROKER_LOAD_KEY, proposal.brokerLoad))
                 .build();
 
-        proposalJson.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()).getMap().put("afterBeforeLoadConfigMap", rebalanceMap.getMetadata().getName());
-        return new MapAndStatus<>(rebalanceMap, proposalJson.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()).getMap());
+        // The parsed proposal might be shared, so the summary is copied before adding the ConfigMap name to it
+        Map<String, Object> summary = new HashMap<>(proposal.summary);
+        summary.put("afterBeforeLoadConfigMap", rebalanceMap.getMetadata().getName());
+        return new MapAndStatus<>(rebalanceMap, summary);
     }
 
     private MapAndStatus<ConfigMap, KafkaRebalanceStatus> buildRebalanceStatus(KafkaRebalance kafkaRebalance, String sessionID, KafkaRebalanceState cruiseControlState, JsonObject proposalJson, Set<Condition> validation) {
+        return buildRebalanceStatus(kafkaRebalance, sessionID, cruiseControlState, OptimizationProposal.fromJson(proposalJson), validation);
+    }
+
+    private MapAndStatus<ConfigMap, KafkaRebalanceStatus> buildRebalanceStatus(KafkaRebalance kafkaRebalance, String sessionID, KafkaRebalanceState cruiseControlState, OptimizationProposal proposal, Set<Condition> validation) {
         List<Condition> conditions = new ArrayList<>();
         conditions.add(StatusUtils.buildRebalanceCondition(cruiseControlState.toString()));
         conditions.addAll(validation);
-        MapAndStatus<ConfigMap, Map<String, Object>> optimizationProposalMapAndStatus = processOptimizationProposal(kafkaRebalance, proposalJson);
+        MapAndStatus<ConfigMap, Map<String, Object>> optimizationProposalMapAndStatus = processOptimizationProposal(kafkaRebalance, proposal);
         return new MapAndStatus<>(optimizationProposalMapAndStatus.getLoadMap(), new KafkaRebalanceStatusBuilder()
                 .withSessionId(sessionID)
                 .withConditions(conditions)
@@ -953,6 +998,8 @@ public class KafkaRebalanceAssemblyOperator
      * This method handles the transition from {@code Rebalancing} state.
      * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
      * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
+     * The user task statuses are fetched through a cache shared by all {@code KafkaRebalance} resources of the same
+     * Kafka cluster, so that a single request fetches the statuses of all rebalances in progress.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
      * and then transitions to the {@code Stopped} state.
@@ -975,6 +1022,8 @@ public class KafkaRebalanceAssemblyOperator
             LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status timer");
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
+            // The user task status is not needed anymore once this rebalancing is not watched by the timer
+            p.future().onComplete(ignore -> userTaskCache.remove(host, sessionId));
             vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
                 // Check that we have not already failed to contact the API beyond the allowed number of times.
                 if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
@@ -1001,16 +1050,15 @@ public class KafkaRebalanceAssemblyOperator
                                     LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
                                     Set<Condition> conditions = StatusUtils.validate(reconciliation, kafkaRebalance);
                                     validateAnnotation(reconciliation, conditions, KafkaRebalanceState.Rebalancing, rebalanceAnnotation(currentKafkaRebalance), kafkaRebalance);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+                                    userTaskCache.getUserTask(apiClient, host, CruiseControl.REST_API_PORT, sessionId)
+                                        .onSuccess(userTask -> {
+                                            CruiseControlUserTaskStatus taskStatus = userTask.status();
                                             switch (taskStatus) {
                                                 case COMPLETED:
                                                     vertx.cancelTimer(t);
                                                     LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
                                                     p.complete(buildRebalanceStatus(
-                                                            kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
+                                                            kafkaRebalance, null, KafkaRebalanceState.Ready, userTask.proposal(), conditions));
                                                     break;
                                                 case COMPLETED_WITH_ERROR:
                                                     // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
@@ -1032,7 +1080,7 @@ public class KafkaRebalanceAssemblyOperator
                                                         // Cancel the timer so that the status is returned and updated.
                                                         vertx.cancelTimer(t);
                                                         p.complete(buildRebalanceStatus(
-                                                                kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
+                                                                kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, userTask.proposal(), conditions));
                                                     }
                                                     ccApiErrorCount.set(0);
                                                     // TODO: Find out if there is any way to check the progress of a rebalance.
@@ -47,6 +47,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -61,6 +62,7 @@ import io.strimzi.operator.common.operator.resource.PodDisruptionBudgetV1Beta1Op
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.common.operator.resource.ResourceFingerprints;
 import io.strimzi.operator.common.operator.resource.RouteOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
@@ -98,6 +100,7 @@ import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_SERVER_CERT_HA
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity"})
 public class KafkaReconciler {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaReconciler.class.getName());
+    private static final String CONFIG_MAP_KIND = "ConfigMap";
 
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
@@ -132,8 +135,11 @@ public class KafkaReconciler {
     private final NodeOperator nodeOperator;
 
     private final KubernetesRestartEventPublisher eventsPublisher;
+    private final MetricsProvider metricsProvider;
+    private final int kafkaRollerMaxBatchSize;
 
     private final AdminClientProvider adminClientProvider;
+    private final ResourceFingerprints fingerprints;
 
     private final int currentReplicas;
 
@@ -174,6 +180,41 @@ public class KafkaReconciler {
             ResourceOperatorSupplier supplier,
             PlatformFeaturesAvailability pfa,
             Vertx vertx
+    ) {
+        this(reconciliation, kafkaCr, oldStorage, currentReplicas, clusterCa, clientsCa, versionChange, config, supplier, pfa, vertx, new ResourceFingerprints());
+    }
+
+    /**
+     * Constructs the Kafka reconciler
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param kafkaCr                   The Kafka custom resource
+     * @param oldStorage                The storage configuration of the current cluster (null if it does not exist yet)
+     * @param currentReplicas           The current number of replicas
+     * @param clusterCa                 The Cluster CA instance
+     * @param clientsCa                 The Clients CA instance
+     * @param versionChange             Description of Kafka upgrade / downgrade state
+     * @param config                    Cluster Operator Configuration
+     * @param supplier                  Supplier with Kubernetes Resource Operators
+     * @param pfa                       PlatformFeaturesAvailability describing the environment we run in
+     * @param vertx                     Vert.x instance
+     * @param fingerprints              Fingerprints of the resources of this cluster from the previous reconciliations.
+     *                                  They are used to skip the reconciliation of the resources which did not change.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public KafkaReconciler(
+            Reconciliation reconciliation,
+            Kafka kafkaCr,
+            Storage oldStorage,
+            int currentReplicas,
+            ClusterCa clusterCa,
+            ClientsCa clientsCa,
+            KafkaVersionChange versionChange,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            PlatformFeaturesAvailability pfa,
+            Vertx vertx,
+            ResourceFingerprints fingerprints
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
@@ -219,8 +260,11 @@ public class KafkaReconciler {
         this.ingressOperator = supplier.ingressOperations;
         this.nodeOperator = supplier.nodeOperator;
         this.eventsPublisher = supplier.restartEventsPublisher;
+        this.metricsProvider = supplier.metricsProvider;
+        this.kafkaRollerMaxBatchSize = config.getKafkaRollerMaxBatchSize();
 
         this.adminClientProvider = supplier.adminClientProvider;
+        this.fingerprints = fingerprints;
     }
 
     /**
@@ -408,8 +452,9 @@ public class KafkaReconciler {
                                 logging,
                                 kafka.getKafkaVersion(),
                                 allowReconfiguration,
-                                eventsPublisher
-
+                                eventsPublisher,
+                                kafkaRollerMaxBatchSize,
+                                metricsProvider
                         ).rollingRestart(podNeedsRestart));
     }
 
@@ -485,7 +530,7 @@ public class KafkaReconciler {
                             return Future.succeededFuture();
                         } else {
                             List<Map<String, Object>> desiredPods = podSet.getSpec().getPods().stream()
-                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.mapToPod(pod).getMetadata().getName()))
+                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.podName(pod)))
                                     .collect(Collectors.toList());
 
                             StrimziPodSet scaledDownPodSet = new StrimziPodSetBuilder(podSet)
@@ -522,7 +567,8 @@ public class KafkaReconciler {
                 secretOperator,
                 serviceOperator,
                 routeOperator,
-                ingressOperator
+                ingressOperator,
+                fingerprints
         );
     }
 
@@ -552,6 +598,8 @@ public class KafkaReconciler {
     protected Future<Void> perBrokerKafkaConfiguration(MetricsAndLogging metricsAndLogging) {
         return configMapOperator.listAsync(reconciliation.namespace(), kafka.getSelectorLabels())
                 .compose(existingConfigMaps -> {
+                    Map<String, ConfigMap> existingConfigMapsByName = existingConfigMaps.stream().collect(Collectors.toMap(cm -> cm.getMetadata().getName(), cm -> cm));
+
                     // This is used during Kafka rolling updates -> we have to store it for later
                     this.logging = kafka.logging().loggingConfiguration(reconciliation, metricsAndLogging.loggingCm());
                     this.loggingHash = Util.hashStub(Util.getLoggingDynamicallyUnmodifiableEntries(logging));
@@ -568,6 +616,7 @@ public class KafkaReconciler {
                     for (ConfigMap cm : existingConfigMaps) {
                         // We delete the cms not on the desired names list
                         if (!desiredNames.contains(cm.getMetadata().getName())) {
+                            fingerprints.remove(CONFIG_MAP_KIND, reconciliation.namespace(), cm.getMetadata().getName());
                             ops.add(configMapOperator.deleteAsync(reconciliation, reconciliation.namespace(), cm.getMetadata().getName(), true));
                         }
                     }
@@ -604,7 +653,15 @@ public class KafkaReconciler {
                         // We store hash of the broker configurations for later use in Pod and in rolling updates
                         this.brokerConfigurationHash.put(brokerId, Util.hashStub(brokerConfiguration + kc.unknownConfigsWithValues(kafka.getKafkaVersion()).toString()));
 
-                        ops.add(configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cmName, cm));
+                        // The ConfigMaps which did not change since the last reconciliation do not need to be reconciled again
+                        String desiredHash = ResourceFingerprints.hash(cm);
+                        if (fingerprints.isUnchanged(CONFIG_MAP_KIND, reconciliation.namespace(), cmName, desiredHash, existingConfigMapsByName.get(cmName))) {
+                            LOGGER.debugCr(reconciliation, "ConfigMap {} did not change since the last reconciliation", cmName);
+                        } else {
+                            ops.add(configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cmName, cm)
+                                    .onSuccess(result -> fingerprints.record(CONFIG_MAP_KIND, reconciliation.namespace(), cmName, desiredHash, result != null ? result.resource() : null))
+                                    .onFailure(error -> fingerprints.remove(CONFIG_MAP_KIND, reconciliation.namespace(), cmName)));
+                        }
                     }
 
                     return CompositeFuture
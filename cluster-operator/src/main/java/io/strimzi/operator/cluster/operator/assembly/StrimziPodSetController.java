@@ -33,11 +33,14 @@ import io.strimzi.api.kafka.model.status.StrimziPodSetStatus;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.cluster.model.StrimziPodSetPodCache;
 import io.strimzi.operator.cluster.operator.resource.PodRevision;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -45,28 +48,41 @@ import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
- * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
+ * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them.
+ *
+ * The reconciliations are executed by a pool of worker threads which share a single work queue. The work queue never
+ * hands out the same StrimziPodSet to two workers at the same time, so the reconciliations of a single StrimziPodSet
+ * are still executed one after another in the order of the events while different StrimziPodSets are reconciled in
+ * parallel. That way, a slow Kubernetes API call in one cluster does not delay the pod recovery in other clusters.
  */
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
+    private static final String RESOURCE_KIND = "StrimziPodSet";
 
     private static final long DEFAULT_RESYNC_PERIOD = 5 * 60 * 1_000L; // 5 minutes by default
+    private static final long WORKER_STOP_TIMEOUT_MS = 30_000L; // How long to wait for the workers to finish their reconciliations when stopping
     private static final LabelSelector POD_LABEL_SELECTOR = new LabelSelectorBuilder()
             .withMatchExpressions(new LabelSelectorRequirement(Labels.STRIMZI_KIND_LABEL, "Exists", null))
             .build();
 
     private final Thread controllerThread;
+    private final List<Thread> workerThreads;
+    private final ExecutorService podCreationExecutor;
 
     private volatile boolean stop = false;
 
@@ -76,7 +92,7 @@ public class StrimziPodSetController implements Runnable {
     private final Optional<LabelSelector> crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final ControllerQueue workQueue;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -103,6 +119,7 @@ public class StrimziPodSetController implements Runnable {
      * @param podOperator                   Pod operator for managing pods
      * @param metricsProvider               Metrics provider
      * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param podSetControllerWorkers       Number of worker threads reconciling the StrimziPodSets in parallel
      */
     public StrimziPodSetController(
             String watchedNamespace,
@@ -113,16 +130,23 @@ public class StrimziPodSetController implements Runnable {
             StrimziPodSetOperator strimziPodSetOperator,
             PodOperator podOperator,
             MetricsProvider metricsProvider,
-            int podSetControllerWorkQueueSize
+            int podSetControllerWorkQueueSize,
+            int podSetControllerWorkers
     ) {
+        if (podSetControllerWorkers < 1) {
+            throw new IllegalArgumentException("The StrimziPodSet controller needs at least 1 worker");
+        }
+
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, crSelectorLabels.toMap()));
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
-        this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+        this.metrics = new ControllerMetricsHolder(RESOURCE_KIND, crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+
+        // Set up the work queue
+        this.workQueue = new ControllerQueue(podSetControllerWorkQueueSize, this.metrics);
 
         // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
         // This is needed for verification of the CR selector labels.
@@ -142,6 +166,20 @@ public class StrimziPodSetController implements Runnable {
         this.podLister = new Lister<>(podInformer.getIndexer());
 
         this.controllerThread = new Thread(this, "StrimziPodSetController");
+
+        // The controller thread is the first worker. The additional workers are started once the informers are synced.
+        this.workerThreads = new ArrayList<>(podSetControllerWorkers - 1);
+        for (int i = 1; i < podSetControllerWorkers; i++) {
+            workerThreads.add(new Thread(this::processWorkQueue, "StrimziPodSetController-" + i));
+        }
+
+        // Used to create multiple pods of the same StrimziPodSet in parallel
+        AtomicInteger podCreationThreadCounter = new AtomicInteger(0);
+        this.podCreationExecutor = Executors.newFixedThreadPool(podSetControllerWorkers, r -> {
+            Thread thread = new Thread(r, "StrimziPodSetController-pod-creation-" + podCreationThreadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     protected ControllerMetricsHolder metrics()   {
@@ -179,6 +217,7 @@ public class StrimziPodSetController implements Runnable {
                 }
 
                 LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), "DELETED");
+                StrimziPodSetPodCache.invalidate(podSet);
                 // Nothing to do => garbage collection should take care of things
             }
         }, DEFAULT_RESYNC_PERIOD);
@@ -202,6 +241,7 @@ public class StrimziPodSetController implements Runnable {
     }
 
     protected void stopController() {
+        podCreationExecutor.shutdownNow();
         podInformer.stop();
         strimziPodSetInformer.stop();
         kafkaInformer.stop();
@@ -220,7 +260,7 @@ public class StrimziPodSetController implements Runnable {
         LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
 
         if (matchesCrSelector(podSet)) {
-            enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
         } else {
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {} but does not belong to a Kafka cluster managed by this operator", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
         }
@@ -249,7 +289,7 @@ public class StrimziPodSetController implements Runnable {
 
         if (parentPodSet != null) {
             if (matchesCrSelector(parentPodSet)) {
-                enqueue(new SimplifiedReconciliation(parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
+                workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
             } else {
                 LOGGER.debugOp("Pod {} in namespace {} was {} but does not belong to a cluster managed by this operator", pod.getMetadata().getName(), pod.getMetadata().getNamespace(), action);
             }
@@ -356,13 +396,20 @@ public class StrimziPodSetController implements Runnable {
                     PodCounter podCounter = new PodCounter();
                     podCounter.pods = podSet.getSpec().getPods().size();
 
-                    for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                        Pod pod = PodSetUtils.mapToPod(desiredPod);
+                    OwnerReference owner = ModelUtils.createOwnerReference(podSet, true);
+                    List<Pod> podsToCreate = new ArrayList<>();
+
+                    for (Pod pod : StrimziPodSetPodCache.pods(podSet)) {
                         desiredPods.add(pod.getMetadata().getName());
 
-                        maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter);
+                        if (!maybePatchPod(reconciliation, pod, owner, podCounter)) {
+                            podsToCreate.add(pod);
+                        }
                     }
 
+                    // Create the missing pods (in parallel when more than one pod is missing)
+                    createPods(reconciliation, podsToCreate, owner);
+
                     // Check if any pods needs to be deleted
                     removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter);
 
@@ -417,22 +464,70 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Creates missing pod defined in the StrimziPodSet. If the pod already exists, it checks the owner reference and if
-     * needed adds it to the Pod.
+     * Creates the pods which are defined in the StrimziPodSet but do not exist. When more than one pod is missing, they
+     * are created in parallel. This method waits until all pods are created.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param pods              Pods which should be created
+     * @param owner             The OwnerReference which should be set to the pods
+     */
+    private void createPods(Reconciliation reconciliation, List<Pod> pods, OwnerReference owner) {
+        if (pods.size() == 1) {
+            createPod(reconciliation, pods.get(0), owner);
+        } else if (pods.size() > 1) {
+            List<CompletableFuture<Void>> creations = new ArrayList<>(pods.size());
+
+            for (Pod pod : pods) {
+                creations.add(CompletableFuture.runAsync(() -> createPod(reconciliation, pod, owner), podCreationExecutor));
+            }
+
+            try {
+                CompletableFuture.allOf(creations.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a pod defined in the StrimziPodSet.
      *
      * @param reconciliation    Reconciliation in which this is executed
-     * @param pod               Pod which should be checked and created if needed
+     * @param pod               Pod which should be created
+     * @param owner             The OwnerReference which should be set to the pod
+     */
+    private void createPod(Reconciliation reconciliation, Pod pod, OwnerReference owner) {
+        LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
+        // The desired pod is shared through the StrimziPodSetPodCache => we have to copy it before adding the owner reference
+        Pod podWithOwnerReference = new PodBuilder(pod)
+                .editMetadata()
+                    .withOwnerReferences(owner)
+                .endMetadata()
+                .build();
+        podOperator.client().inNamespace(reconciliation.namespace()).resource(podWithOwnerReference).create();
+    }
+
+    /**
+     * Checks the existing pod defined in the StrimziPodSet. It checks the owner reference and if needed adds it to the
+     * Pod. Pods which do not exist are not created by this method and need to be created by the caller.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param pod               Pod which should be checked
      * @param owner             The OwnerReference which should be set to the pod
      * @param podCounter        Pod Counter used to count pods for the status
+     *
+     * @return  True if the pod exists. False if it does not exist and needs to be created.
      */
-    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
+    private boolean maybePatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
         Pod currentPod = podLister.namespace(reconciliation.namespace()).get(pod.getMetadata().getName());
 
         if (currentPod == null) {
-            // Pod does not exist => we create it
-            LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
-            pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+            // Pod does not exist => it will be created by the caller
+            return false;
         } else {
             if (PodSetUtils.isInTerminalState(currentPod))  {
                 // The Pods might reach a terminal state of Succeeded or Failed in some situations such as node failures
@@ -465,6 +560,7 @@ public class StrimziPodSetController implements Runnable {
 
             // TODO: Add patching of exiting pods => to be done in the future to handle selected changes to the Pods
             //  which might not require rolling updates
+            return true;
         }
     }
 
@@ -494,23 +590,8 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
-     *
-     * @param reconciliation    Reconciliation identifier
-     */
-    private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
-        } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
-        }
-    }
-
-    /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run loop of the controller thread. It starts the informers, waits for them to sync and starts the additional
+     * workers. Afterwards, it acts as one of the workers and picks reconciliations from the work queue.
      */
     @Override
     public void run() {
@@ -524,21 +605,64 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Informers are in-sync");
 
+        for (Thread workerThread : workerThreads) {
+            workerThread.start();
+        }
+
+        processWorkQueue();
+
+        LOGGER.infoOp("Stopping StrimziPodSet controller");
+
+        // The workers use the informers and the pod creation executor => they are stopped only once the workers finish
+        awaitWorkers();
+        stopController();
+    }
+
+    /**
+     * Waits for the worker threads to finish their current reconciliations. Each worker is given at most
+     * WORKER_STOP_TIMEOUT_MS to finish.
+     */
+    private void awaitWorkers() {
+        // The interrupt from stop() might still be pending when it did not arrive while waiting for the work queue
+        Thread.interrupted();
+
+        for (Thread workerThread : workerThreads) {
+            try {
+                workerThread.join(WORKER_STOP_TIMEOUT_MS);
+
+                if (workerThread.isAlive()) {
+                    LOGGER.warnOp("Worker {} did not stop within {}ms", workerThread.getName(), WORKER_STOP_TIMEOUT_MS);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.debugOp("Interrupted while waiting for worker {} to stop", workerThread.getName(), e);
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * The run loop of the worker threads. It picks reconciliations from the work queue and executes them. The work
+     * queue makes sure that a StrimziPodSet is never reconciled by two workers in parallel.
+     */
+    private void processWorkQueue() {
         while (!stop) {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                SimplifiedReconciliation reconciliation = workQueue.take();
+
+                try {
+                    reconcile(reconciliation.toReconciliation());
+                } finally {
+                    // Events received during the reconciliation will be re-enqueued now
+                    workQueue.done(reconciliation);
+                }
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
                 LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
             }
         }
-
-        LOGGER.infoOp("Stopping StrimziPodSet controller");
-
-        stopController();
     }
 
     /**
@@ -556,6 +680,10 @@ public class StrimziPodSetController implements Runnable {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
         this.stop = true;
         controllerThread.interrupt();
+
+        for (Thread workerThread : workerThreads) {
+            workerThread.interrupt();
+        }
     }
 
     /**
@@ -567,65 +695,4 @@ public class StrimziPodSetController implements Runnable {
         int readyPods = 0;
         int currentPods = 0;
     }
-
-    /**
-     * Helper class to track the pod counts during reconciliation and to pass through different methods. This simplified
-     * class is used initially instead of the regular Reconciliation class. It also has a custom equals implementation
-     * to detect if the same resource is already enqueued or not. It doesn't yet request the reconciliation ID. Not
-     * issuing the reconciliation ID right away makes the IDs more linear and means they are not requested unless a
-     * reconciliation really starts.
-     */
-    static class SimplifiedReconciliation    {
-        private final String namespace;
-        private final String name;
-
-        public SimplifiedReconciliation(String namespace, String name) {
-            this.namespace = namespace;
-            this.name = name;
-        }
-
-        /**
-         * Converts the simplified reconciliation to a proper reconciliation
-         *
-         * @return  Reconciliation object
-         */
-        public Reconciliation toReconciliation()    {
-            return new Reconciliation("watch", "StrimziPodSet", namespace, name);
-        }
-
-        /**
-         * Compares two SimplifiedReconciliation objects. This is used to avoid having the same resource queued multiple
-         * times.
-         *
-         * @param o     SimplifiedReconciliation to be compared
-         *
-         * @return      True if the objects equal, false otherwise
-         */
-        @Override
-        public boolean equals(Object o) {
-            if (this == o)  {
-                return true;
-            } else if (o == null || getClass() != o.getClass())   {
-                return false;
-            } else {
-                SimplifiedReconciliation reconciliation = (SimplifiedReconciliation) o;
-
-                return this.name.equals(reconciliation.name)
-                        && this.namespace.equals(reconciliation.namespace);
-            }
-        }
-
-        /**
-         * Generates the hashcode based on the name and namespace hash codes.
-         *
-         * @return  The hashcode of this object
-         */
-        @Override
-        public int hashCode() {
-            int result = 17;
-            result = 31 * result + (name != null ? name.hashCode() : 0);
-            result = 31 * result + (namespace != null ? namespace.hashCode() : 0);
-            return result;
-        }
-    }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of pooled HTTP clients shared by the REST clients of the operator (Cruise Control and Kafka Connect).
+ * Creating a new HTTP client for every request means a new TCP connection and a new TLS handshake for every request.
+ * The clients in this registry keep their connections alive so that the connections are reused between the requests
+ * to the same host. The requests are not pipelined, so a slow request does not delay the requests queued behind it on
+ * the same connection. The clients are identified by the Vert.x instance, the host, the port and the client options
+ * (which include the TLS options such as the trusted certificates). When the certificates change, a new client is
+ * created and the old one is evicted once it is idle.
+ *
+ * The clients which were not used for {@link #IDLE_EVICTION_MS} are closed and removed from the registry. The
+ * eviction runs when a client is acquired and periodically on a Vert.x timer which exists only while the Vert.x
+ * instance has some pooled clients. The connections in the pool of each client are closed by Vert.x after
+ * {@link #KEEP_ALIVE_TIMEOUT_SECONDS} of inactivity.
+ *
+ * When a metrics provider is set, the number of pooled clients and of their in-flight requests are reported as gauges
+ * tagged with the metrics name of the client options (for example {@code strimzi-kafka-connect}).
+ */
+public class HttpClientPool {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(HttpClientPool.class.getName());
+
+    /**
+     * Time after which the unused clients are closed and removed from the registry
+     */
+    /*test*/ static final long IDLE_EVICTION_MS = 300_000L;
+
+    /**
+     * Time after which an unused connection in the pool of a client is closed
+     */
+    /*test*/ static final int KEEP_ALIVE_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Maximal number of connections to a single host
+     */
+    /*test*/ static final int MAX_POOL_SIZE = 5;
+
+    private static final Map<ClientKey, PooledHttpClient> CLIENTS = new HashMap<>();
+    private static final Map<Vertx, Long> EVICTION_TIMERS = new HashMap<>();
+    private static final Map<String, PoolMetrics> METRICS = new HashMap<>();
+
+    private static MetricsProvider metricsProvider;
+
+    private HttpClientPool() { }
+
+    /**
+     * Sets the metrics provider used to report the pool metrics. The metrics are not reported until it is set.
+     *
+     * @param provider  Metrics provider
+     */
+    public static synchronized void setMetricsProvider(MetricsProvider provider) {
+        metricsProvider = provider;
+        METRICS.clear();
+    }
+
+    /**
+     * Acquires a pooled client for given host and port. The client has to be released using
+     * {@link PooledHttpClient#release()} when the request is complete. The returned client must not be closed.
+     *
+     * @param vertx     Vert.x instance
+     * @param host      Host to which the client will connect
+     * @param port      Port to which the client will connect
+     * @param options   Options of the client. Keep-alive is enabled in a copy of these options.
+     *
+     * @return  Pooled HTTP client
+     */
+    public static synchronized PooledHttpClient acquire(Vertx vertx, String host, int port, HttpClientOptions options) {
+        long now = System.nanoTime();
+        evictIdleClients(now);
+
+        ClientKey key = new ClientKey(vertx, host, port, options.toJson().encode());
+        PooledHttpClient client = CLIENTS.computeIfAbsent(key, k -> {
+            LOGGER.debugOp("Creating pooled HTTP client for {}:{}", host, port);
+            PooledHttpClient created = new PooledHttpClient(vertx.createHttpClient(pooledOptions(options)), metrics(options.getMetricsName()));
+            created.metrics.clients().incrementAndGet();
+            return created;
+        });
+
+        EVICTION_TIMERS.computeIfAbsent(vertx, v -> v.setPeriodic(IDLE_EVICTION_MS, id -> evictIdleClients(System.nanoTime())));
+
+        client.inFlight++;
+        client.lastUsed = now;
+        client.metrics.inFlight().incrementAndGet();
+
+        return client;
+    }
+
+    /**
+     * Creates a copy of the client options with keep-alive enabled and pipelining disabled
+     *
+     * @param options   Original options
+     *
+     * @return  Options for the pooled client
+     */
+    /*test*/ static HttpClientOptions pooledOptions(HttpClientOptions options) {
+        return new HttpClientOptions(options)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setPipelining(false)
+                .setMaxPoolSize(MAX_POOL_SIZE);
+    }
+
+    /**
+     * Gets the metrics of the clients with given metrics name. When no metrics provider is set, the returned metrics
+     * are not registered anywhere.
+     *
+     * @param metricsName   Metrics name from the client options
+     *
+     * @return  Metrics of the clients
+     */
+    private static PoolMetrics metrics(String metricsName) {
+        return METRICS.computeIfAbsent(Objects.requireNonNullElse(metricsName, ""), name -> {
+            if (metricsProvider != null) {
+                Tags tags = Tags.of("client", name);
+                return new PoolMetrics(
+                        metricsProvider.gauge("strimzi.http.client.pool.clients", "Number of pooled HTTP clients", tags),
+                        metricsProvider.gauge("strimzi.http.client.pool.requests.in.flight", "Number of in-flight requests of the pooled HTTP clients", tags));
+            } else {
+                return new PoolMetrics(new AtomicInteger(0), new AtomicInteger(0));
+            }
+        });
+    }
+
+    /**
+     * Closes and removes the clients which have no requests in-flight and which were not used recently. The eviction
+     * timers of the Vert.x instances without any clients are cancelled.
+     *
+     * @param now   Current time in nanoseconds
+     */
+    /*test*/ static synchronized void evictIdleClients(long now) {
+        Iterator<Map.Entry<ClientKey, PooledHttpClient>> iterator = CLIENTS.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<ClientKey, PooledHttpClient> entry = iterator.next();
+            PooledHttpClient client = entry.getValue();
+
+            if (client.inFlight == 0 && now - client.lastUsed > IDLE_EVICTION_MS * 1_000_000L) {
+                LOGGER.debugOp("Closing idle pooled HTTP client for {}:{}", entry.getKey().host(), entry.getKey().port());
+                iterator.remove();
+                client.httpClient.close();
+                client.metrics.clients().decrementAndGet();
+            }
+        }
+
+        Iterator<Map.Entry<Vertx, Long>> timers = EVICTION_TIMERS.entrySet().iterator();
+
+        while (timers.hasNext()) {
+            Map.Entry<Vertx, Long> timer = timers.next();
+
+            if (CLIENTS.keySet().stream().noneMatch(key -> key.vertx() == timer.getKey())) {
+                timers.remove();
+                timer.getKey().cancelTimer(timer.getValue());
+            }
+        }
+    }
+
+    /**
+     * @return  Number of clients in the registry
+     */
+    /*test*/ static synchronized int size() {
+        return CLIENTS.size();
+    }
+
+    /**
+     * @param vertx     Vert.x instance
+     *
+     * @return  True if the eviction timer of the Vert.x instance is running. False otherwise.
+     */
+    /*test*/ static synchronized boolean hasEvictionTimer(Vertx vertx) {
+        return EVICTION_TIMERS.containsKey(vertx);
+    }
+
+    /**
+     * Closes all clients, cancels the eviction timers, clears the registry and resets the metrics
+     */
+    /*test*/ static synchronized void clear() {
+        CLIENTS.values().forEach(client -> client.httpClient.close());
+        CLIENTS.clear();
+        EVICTION_TIMERS.forEach(Vertx::cancelTimer);
+        EVICTION_TIMERS.clear();
+        setMetricsProvider(null);
+    }
+
+    /**
+     * Key identifying the pooled clients
+     *
+     * @param vertx     Vert.x instance which owns the client
+     * @param host      Host
+     * @param port      Port
+     * @param options   Encoded client options
+     */
+    private record ClientKey(Vertx vertx, String host, int port, String options) { }
+
+    /**
+     * Gauges of the pooled clients with the same metrics name
+     *
+     * @param clients   Number of pooled clients
+     * @param inFlight  Number of in-flight requests
+     */
+    private record PoolMetrics(AtomicInteger clients, AtomicInteger inFlight) { }
+
+    /**
+     * HTTP client from the pool
+     */
+    public static class PooledHttpClient {
+        private final HttpClient httpClient;
+        private final PoolMetrics metrics;
+        private int inFlight = 0;
+        private long lastUsed;
+
+        private PooledHttpClient(HttpClient httpClient, PoolMetrics metrics) {
+            this.httpClient = httpClient;
+            this.metrics = metrics;
+        }
+
+        /**
+         * @return  The HTTP client
+         */
+        public HttpClient httpClient() {
+            return httpClient;
+        }
+
+        /**
+         * Releases the client after the request is complete
+         */
+        public void release() {
+            synchronized (HttpClientPool.class) {
+                inFlight--;
+                lastUsed = System.nanoTime();
+                metrics.inFlight().decrementAndGet();
+            }
+        }
+    }
+}
@@ -39,4 +39,31 @@ public class HttpClientUtils {
                 return Future.failedFuture(error);
             });
     }
+
+    /**
+     * Perform the given operation, which completes the promise, using a pooled HTTP client instance from the
+     * {@link HttpClientPool}. Unlike {@link #withHttpClient(Vertx, HttpClientOptions, BiConsumer)}, the client is not
+     * closed after the operation completes, so that its connections can be reused by the next requests to the same
+     * host. The operation must not close the client.
+     *
+     * @param vertx The vertx instance.
+     * @param host The host to which the operation connects.
+     * @param port The port to which the operation connects.
+     * @param options Any client options that should be applied.
+     * @param operation The operation to perform.
+     * @param <T> The type of the result
+     * @return A future which is completed with the result performed by the operation
+     */
+    public static <T> Future<T> withPooledHttpClient(Vertx vertx, String host, int port, HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        HttpClientPool.PooledHttpClient client = HttpClientPool.acquire(vertx, host, port, options);
+        Promise<T> promise = Promise.promise();
+
+        try {
+            operation.accept(client.httpClient(), promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future().onComplete(ignored -> client.release());
+    }
 }
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.resource;
 
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.kafka.clients.admin.Admin;
@@ -18,11 +19,17 @@ import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,28 +37,37 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>A single instance is meant to be used for the whole rolling update. It keeps an index of the topic descriptions
+ * (with the replicas and ISRs of their partitions) grouped by the brokers hosting them. The index is built on the
+ * first use and then refreshed incrementally: newly created topics are described and deleted topics are removed on
+ * each check. The topics with a replica on the checked broker are always described again, so that the check uses the
+ * latest ISRs even when they changed for reasons unrelated to the rolling update. The topics of the other brokers are
+ * not described. When the batches are computed, only the topics marked as stale are described again. The topics of a
+ * broker are marked as stale when the broker is restarted (see {@link #brokerRestarted(int)}). The topic
+ * configurations are cached for the whole lifetime of the instance.</p>
  */
 class KafkaAvailability {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAvailability.class.getName());
 
+    /**
+     * Used with {@link #refreshIndex(int)} to refresh the stale topics of all brokers
+     */
+    private static final int ALL_BROKERS = -1;
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Map<String, TopicDescription> topics = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> brokerToTopics = new ConcurrentHashMap<>();
+    private final Set<String> staleTopics = ConcurrentHashMap.newKeySet();
+    private final Map<String, Config> topicConfigs = new ConcurrentHashMap<>();
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
     }
 
     /**
@@ -59,29 +75,188 @@ class KafkaAvailability {
      * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
      */
     Future<Boolean> canRoll(int podId) {
+        return canRoll(podId, Set.of());
+    }
+
+    /**
+     * Determine whether the given broker can be rolled while the other given brokers are being rolled as well. The
+     * brokers which are being rolled are not counted as in-sync replicas even when they are still part of the ISR.
+     *
+     * @param podId                 ID of the broker which should be rolled
+     * @param restartingBrokers     IDs of the other brokers which are being rolled at the same time
+     *
+     * @return  Future which completes with true if the broker can be rolled and with false otherwise
+     */
+    Future<Boolean> canRoll(int podId, Set<Integer> restartingBrokers) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId, restartingBrokers);
+    }
+
+    /**
+     * Marks the topics with a replica on the given broker as stale. Their descriptions will be refreshed before they
+     * are used next time. This should be called when the broker is restarted, because it changes the ISRs of its
+     * partitions.
+     *
+     * @param podId     ID of the broker which was restarted
+     */
+    void brokerRestarted(int podId) {
+        staleTopics.addAll(brokerToTopics.getOrDefault(podId, Set.of()));
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
+    /**
+     * Splits the brokers into batches of brokers which can be rolled at the same time without any partition going
+     * below its {@code min.insync.replicas}. The batches are calculated from the current replica assignment and ISRs.
+     * When the brokers have a rack configured, only brokers from the same rack are batched together. That way, the
+     * batches stay safe even for partitions created during the rolling update, as long as they are assigned in a
+     * rack-aware way. The controller is always placed in its own batch at the end.
+     *
+     * @param brokers       IDs of the brokers which should be split into batches
+     * @param maxBatchSize  Maximal number of brokers in a single batch
+     *
+     * @return  Future which completes with the list of batches in the order in which they should be rolled
+     */
+    Future<List<Set<Integer>>> restartBatches(List<Integer> brokers, int maxBatchSize) {
+        Future<Map<Integer, String>> racks = racks();
+        Future<Integer> controller = controller();
+
+        return CompositeFuture.join(refreshIndex(ALL_BROKERS), racks, controller)
+                .compose(ignored -> {
+                    Collection<TopicDescription> tds = List.copyOf(topics.values());
+
+                    return cachedTopicConfigs(tds.stream().map(TopicDescription::name).collect(Collectors.toSet()))
+                            .map(topicNameToConfig -> {
+                                List<PartitionReplicas> partitions = new ArrayList<>();
+
+                                for (TopicDescription td : tds) {
+                                    int minIsr = minIsr(topicNameToConfig.get(td.name()));
+
+                                    for (TopicPartitionInfo pi : td.partitions()) {
+                                        partitions.add(new PartitionReplicas(nodeIds(pi.replicas()), nodeIds(pi.isr()), minIsr));
+                                    }
+                                }
+
+                                List<Set<Integer>> batches = batches(brokers, racks.result(), controller.result(), partitions, maxBatchSize);
+                                LOGGER.debugCr(reconciliation, "Brokers {} will be rolled in batches {}", brokers, batches);
+                                return batches;
+                            });
                 }).recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining the batches of brokers which can be rolled together", error);
+                    return Future.failedFuture(error);
+                });
+    }
+
+    /**
+     * Calculates the batches of brokers which can be rolled together. The brokers are assigned to the first batch
+     * which has space, contains only brokers from the same rack and which stays safe for all partitions with a replica
+     * on the broker.
+     *
+     * @param brokers       IDs of the brokers which should be split into batches
+     * @param racks         Racks of the brokers. Brokers without a rack are not included in the map.
+     * @param controller    ID of the controller or -1 when there is no controller
+     * @param partitions    Replicas, ISRs and min.insync.replicas of all partitions
+     * @param maxBatchSize  Maximal number of brokers in a single batch
+     *
+     * @return  List of batches in the order in which they should be rolled
+     */
+    /*test*/ static List<Set<Integer>> batches(List<Integer> brokers, Map<Integer, String> racks, int controller,
+                                               Collection<PartitionReplicas> partitions, int maxBatchSize) {
+        Map<Integer, List<PartitionReplicas>> partitionsByBroker = new HashMap<>();
+        for (PartitionReplicas partition : partitions) {
+            for (Integer replica : partition.replicas()) {
+                partitionsByBroker.computeIfAbsent(replica, k -> new ArrayList<>()).add(partition);
+            }
+        }
+
+        // Brokers from the same rack are next to each other so that they end up in the same batches
+        List<Integer> ordered = new ArrayList<>(brokers);
+        ordered.remove(Integer.valueOf(controller));
+        ordered.sort(Comparator.comparing((Integer broker) -> racks.getOrDefault(broker, "")).thenComparing(broker -> broker));
+
+        List<Set<Integer>> batches = new ArrayList<>();
+        for (Integer broker : ordered) {
+            Set<Integer> target = null;
+
+            for (Set<Integer> batch : batches) {
+                if (batch.size() < maxBatchSize
+                        && Objects.equals(racks.get(batch.iterator().next()), racks.get(broker))
+                        && canRollTogether(broker, batch, partitionsByBroker.getOrDefault(broker, List.of()))) {
+                    target = batch;
+                    break;
+                }
+            }
+
+            if (target == null) {
+                target = new LinkedHashSet<>();
+                batches.add(target);
+            }
+
+            target.add(broker);
+        }
+
+        if (brokers.contains(controller)) {
+            // The controller is rolled last
+            batches.add(new LinkedHashSet<>(List.of(controller)));
+        }
+
+        return batches;
+    }
+
+    /**
+     * Checks whether the broker can be rolled together with the brokers which are already in the batch. Only the
+     * partitions with a replica on the broker need to be checked, because the other partitions are not affected by
+     * adding the broker to the batch.
+     *
+     * @param broker        ID of the broker which should be added to the batch
+     * @param batch         Brokers already in the batch
+     * @param partitions    Partitions with a replica on the broker
+     *
+     * @return  True if no partition would go below its min.insync.replicas. False otherwise.
+     */
+    private static boolean canRollTogether(int broker, Set<Integer> batch, List<PartitionReplicas> partitions) {
+        for (PartitionReplicas partition : partitions) {
+            if (partition.minIsr() < 0 || partition.replicas().size() <= partition.minIsr()) {
+                // The partition cannot stay at min.insync.replicas anyway (same as when rolling brokers one by one)
+                continue;
+            }
+
+            if (partition.isr().size() < partition.minIsr()) {
+                // Already under-replicated => the broker should be rolled on its own
+                return false;
+            }
+
+            int remainingIsr = 0;
+            for (Integer replica : partition.isr()) {
+                if (replica != broker && !batch.contains(replica)) {
+                    remainingIsr++;
+                }
+            }
+
+            if (remainingIsr < partition.minIsr()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private Future<Boolean> canRollBroker(int podId, Set<Integer> restartingBrokers) {
+        // 1. Refresh the index with the new topics and the topics on $broker
+        Future<Set<TopicDescription>> topicsOnGivenBroker = refreshIndex(podId)
+                .map(ignored -> topicsOnBroker(podId))
+                .recover(error -> {
                     LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
+        // 2. Get topic configs (for those on $broker)
         Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+                .compose(td -> cachedTopicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
 
-        // 5. join
+        // 3. join
         return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
             boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+                td -> wouldAffectAvailability(podId, restartingBrokers, topicNameToConfig, td));
             if (!canRoll) {
                 LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
@@ -92,20 +267,17 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
+    private boolean wouldAffectAvailability(int broker, Set<Integer> restartingBrokers, Map<String, Config> nameToConfig, TopicDescription td) {
+        int minIsr = minIsr(nameToConfig.get(td.name()));
+        if (minIsr >= 0) {
             LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
             LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
 
         for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
+            // The brokers which are being rolled at the same time do not count as in-sync
+            List<Node> isr = restartingBrokers.isEmpty() ? pi.isr() : pi.isr().stream().filter(node -> !restartingBrokers.contains(node.id())).toList();
             if (minIsr >= 0) {
                 if (pi.replicas().size() <= minIsr) {
                     if (LOGGER.isDebugEnabled()) {
@@ -149,6 +321,19 @@ class KafkaAvailability {
         return false;
     }
 
+    private static int minIsr(Config config) {
+        ConfigEntry minIsrConfig = config != null ? config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG) : null;
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            return parseInt(minIsrConfig.value());
+        } else {
+            return -1;
+        }
+    }
+
+    private static Set<Integer> nodeIds(List<Node> nodes) {
+        return nodes.stream().map(Node::id).collect(Collectors.toSet());
+    }
+
     private String nodeList(List<Node> isr) {
         return isr.stream().map(Node::idString).collect(Collectors.joining(","));
     }
@@ -177,21 +362,139 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
+    /**
+     * Refreshes the index of topic descriptions. The topics which were deleted are removed from the index and the new
+     * topics are described and added to it. All topics with a replica on the given broker are described again.
+     *
+     * @param podId     ID of the broker whose topics should be refreshed or {@link #ALL_BROKERS} to refresh all
+     *                  stale topics
+     *
+     * @return  Future which completes when the index is refreshed
+     */
+    private Future<Void> refreshIndex(int podId) {
+        return topicNames().compose(names -> {
+            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+            LOGGER.traceCr(reconciliation, "Topic names {}", names);
+
+            for (String topic : List.copyOf(topics.keySet())) {
+                if (!names.contains(topic)) {
+                    removeFromIndex(topic);
+                }
+            }
+
+            Set<String> toDescribe = new HashSet<>();
+            for (String topic : names) {
+                if (!topics.containsKey(topic)) {
+                    toDescribe.add(topic);
+                }
+            }
+
+            if (podId == ALL_BROKERS) {
+                toDescribe.addAll(staleTopics);
+            } else {
+                // The ISRs of the broker's partitions might have changed for other reasons than the rolling update
+                toDescribe.addAll(brokerToTopics.getOrDefault(podId, Set.of()));
+            }
+
+            if (toDescribe.isEmpty()) {
+                return Future.succeededFuture();
+            } else {
+                LOGGER.debugCr(reconciliation, "Describing {} topics", toDescribe.size());
+                return describeTopics(toDescribe)
+                        .map(tds -> {
+                            for (TopicDescription td : tds) {
+                                addToIndex(td);
+                            }
+
+                            return null;
+                        });
+            }
+        });
+    }
+
+    private void addToIndex(TopicDescription td) {
+        TopicDescription previous = topics.put(td.name(), td);
+        if (previous != null) {
+            // The replicas might have been reassigned
+            removeFromBrokers(previous);
+        }
+
+        for (TopicPartitionInfo pi : td.partitions()) {
+            for (Node broker : pi.replicas()) {
+                brokerToTopics.computeIfAbsent(broker.id(), k -> ConcurrentHashMap.newKeySet()).add(td.name());
+            }
+        }
+
+        staleTopics.remove(td.name());
+    }
+
+    private void removeFromIndex(String topic) {
+        TopicDescription previous = topics.remove(topic);
+        if (previous != null) {
+            removeFromBrokers(previous);
+        }
+
+        staleTopics.remove(topic);
+        topicConfigs.remove(topic);
+    }
+
+    private void removeFromBrokers(TopicDescription td) {
+        for (TopicPartitionInfo pi : td.partitions()) {
+            for (Node broker : pi.replicas()) {
+                Set<String> brokerTopics = brokerToTopics.get(broker.id());
+                if (brokerTopics != null) {
+                    brokerTopics.remove(td.name());
                 }
             }
         }
+    }
+
+    private Set<TopicDescription> topicsOnBroker(int podId) {
+        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
+        for (String topic : brokerToTopics.getOrDefault(podId, Set.of())) {
+            TopicDescription td = topics.get(topic);
+            if (td != null) {
+                LOGGER.traceCr(reconciliation, td);
+                topicPartitionInfos.add(td);
+            }
+        }
         return topicPartitionInfos;
     }
 
+    /**
+     * Gets the configurations of the given topics. Only the configurations which are not cached yet are described.
+     *
+     * @param topicNames    Names of the topics
+     *
+     * @return  Future with a map of topic names to their configurations
+     */
+    private Future<Map<String, Config>> cachedTopicConfigs(Set<String> topicNames) {
+        Set<String> missing = new HashSet<>();
+        for (String topic : topicNames) {
+            if (!topicConfigs.containsKey(topic)) {
+                missing.add(topic);
+            }
+        }
+
+        Future<Void> described = missing.isEmpty()
+                ? Future.succeededFuture()
+                : topicConfigs(missing).map(configs -> {
+                    topicConfigs.putAll(configs);
+                    return null;
+                });
+
+        return described.map(ignored -> {
+            Map<String, Config> configs = new HashMap<>(topicNames.size());
+            for (String topic : topicNames) {
+                Config config = topicConfigs.get(topic);
+                if (config != null) {
+                    configs.put(topic, config);
+                }
+            }
+            return configs;
+        });
+    }
+
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).allTopicNames()
@@ -219,4 +522,45 @@ class KafkaAvailability {
                 });
         return namesPromise.future();
     }
+
+    protected Future<Map<Integer, String>> racks() {
+        Promise<Map<Integer, String>> racksPromise = Promise.promise();
+        ac.describeCluster().nodes()
+                .whenComplete((nodes, error) -> {
+                    if (error != null) {
+                        racksPromise.fail(error);
+                    } else {
+                        Map<Integer, String> racks = new HashMap<>(nodes.size());
+                        for (Node node : nodes) {
+                            if (node.hasRack()) {
+                                racks.put(node.id(), node.rack());
+                            }
+                        }
+                        racksPromise.complete(racks);
+                    }
+                });
+        return racksPromise.future();
+    }
+
+    protected Future<Integer> controller() {
+        Promise<Integer> controllerPromise = Promise.promise();
+        ac.describeCluster().controller()
+                .whenComplete((controller, error) -> {
+                    if (error != null) {
+                        controllerPromise.fail(error);
+                    } else {
+                        controllerPromise.complete(controller == null || controller.isEmpty() ? -1 : controller.id());
+                    }
+                });
+        return controllerPromise.future();
+    }
+
+    /**
+     * Replicas, in-sync replicas and min.insync.replicas of a single partition
+     *
+     * @param replicas  IDs of the brokers with a replica of the partition
+     * @param isr       IDs of the brokers with an in-sync replica of the partition
+     * @param minIsr    The min.insync.replicas of the partition or -1 when not known
+     */
+    /*test*/ record PartitionReplicas(Set<Integer> replicas, Set<Integer> isr, int minIsr) { }
 }
@@ -10,6 +10,9 @@ import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
@@ -20,6 +23,7 @@ import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -46,6 +50,7 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -54,6 +59,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -94,6 +100,14 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When the maximal restart batch size is bigger than 1, the pods are not verified one by one. Instead, they are
+ * split into batches by {@link KafkaAvailability#restartBatches(List, int)}. The pods in the same batch can be rolled
+ * at the same time without any partition going below its {@code min.insync.replicas} and they are verified in
+ * parallel following the same algorithm. The batches are processed one after another. The pods which are not ready
+ * are verified first one by one and the controller is verified in the last batch on its own. When another pod
+ * becomes the controller during the rolling update, it is removed from its batch and verified on its own after all the
+ * other batches.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -125,7 +139,16 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
-    private Admin allClient;
+    private final int maxRestartBatchSize;
+    private final MetricsProvider metricsProvider;
+    private final ScheduledExecutorService executor;
+    private volatile Admin allClient;
+    private KafkaAvailability kafkaAvailability;
+    private volatile List<NodeRef> currentBatch = List.of();
+    // Batches which were not verified yet (used only when rolling in batches)
+    private final Deque<List<NodeRef>> remainingBatches = new ConcurrentLinkedDeque<>();
+    // Pods which were moved to their own batch at the end because they became the controller
+    private final Set<String> movedControllers = ConcurrentHashMap.newKeySet();
 
     /**
      * Constructor
@@ -145,12 +168,16 @@ public class KafkaRoller {
      * @param kafkaVersion          Kafka version
      * @param allowReconfiguration  Flag indicting whether reconfiguration is allowed or not
      * @param eventsPublisher       Kubernetes Events publisher for publishing events about pod restarts
+     * @param maxRestartBatchSize   Maximal number of pods which might be rolled at the same time. Use 1 to roll the
+     *                              pods one by one.
+     * @param metricsProvider       Metrics provider used for the rolling metrics
      */
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, List<NodeRef> nodes,
                        Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
-                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       int maxRestartBatchSize, MetricsProvider metricsProvider) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.nodes = nodes;
@@ -171,6 +198,10 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxRestartBatchSize = Math.max(1, maxRestartBatchSize);
+        this.metricsProvider = metricsProvider;
+        this.executor = Executors.newScheduledThreadPool(this.maxRestartBatchSize,
+            runnable -> new Thread(runnable, "kafka-roller"));
     }
 
     /**
@@ -181,9 +212,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaResources.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private final ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
@@ -191,7 +219,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(nodes, false);
@@ -214,25 +242,37 @@ public class KafkaRoller {
     public Future<Void> rollingRestart(Function<Pod, RestartReasons> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
         Promise<Void> result = Promise.promise();
-        singleExecutor.submit(() -> {
+        executor.submit(() -> {
             LOGGER.debugCr(reconciliation, "Verifying cluster pods are up-to-date.");
             List<NodeRef> pods = new ArrayList<>(nodes.size());
+            Set<NodeRef> unreadyPods = new HashSet<>();
 
             for (NodeRef node : nodes)  {
             //for (int podIndex = 0; podIndex < nodes.size(); podIndex++) {
                 // Order the podNames unready first otherwise repeated reconciliations might each restart a pod
                 // only for it not to become ready and thus drive the cluster to a worse state.
-                pods.add(podOperations.isReady(namespace, node.podName()) ? pods.size() : 0, node);
+                boolean ready = podOperations.isReady(namespace, node.podName());
+                if (!ready) {
+                    unreadyPods.add(node);
+                }
+                pods.add(ready ? pods.size() : 0, node);
             }
             LOGGER.debugCr(reconciliation, "Initial order for updating pods (rolling restart or dynamic update) is {}", pods);
 
-            @SuppressWarnings({ "rawtypes" }) // Composite future requires raw Future objects
-            List<Future> futures = new ArrayList<>(nodes.size());
-            for (NodeRef node : pods) {
-                futures.add(schedule(node, 0, TimeUnit.MILLISECONDS));
+            Future<Void> rolled;
+            if (maxRestartBatchSize > 1) {
+                rolled = rollInBatches(restartBatches(pods, unreadyPods));
+            } else {
+                @SuppressWarnings({ "rawtypes" }) // Composite future requires raw Future objects
+                List<Future> futures = new ArrayList<>(nodes.size());
+                for (NodeRef node : pods) {
+                    futures.add(schedule(node, 0, TimeUnit.MILLISECONDS));
+                }
+                rolled = CompositeFuture.join(futures).map((Void) null);
             }
-            CompositeFuture.join(futures).onComplete(ar -> {
-                singleExecutor.shutdown();
+
+            rolled.onComplete(ar -> {
+                executor.shutdown();
                 try {
                     if (allClient != null) {
                         allClient.close(Duration.ofSeconds(30));
@@ -240,12 +280,159 @@ public class KafkaRoller {
                 } catch (RuntimeException e) {
                     LOGGER.debugCr(reconciliation, "Exception closing admin client", e);
                 }
-                vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
+                vertx.runOnContext(ignored -> result.handle(ar));
             });
         });
         return result.future();
     }
 
+    /**
+     * Splits the pods into the batches which will be rolled together. The pods which are not ready are each placed
+     * in their own batch at the beginning. The ready pods are batched based on the partition replicas and racks. If
+     * the batches cannot be determined, the ready pods are rolled one by one.
+     *
+     * @param pods          Pods in the order in which they should be verified
+     * @param unreadyPods   Pods which are not ready
+     *
+     * @return  List of batches
+     */
+    private List<List<NodeRef>> restartBatches(List<NodeRef> pods, Set<NodeRef> unreadyPods) {
+        List<List<NodeRef>> batches = new ArrayList<>();
+        Map<Integer, NodeRef> readyPods = new HashMap<>();
+
+        for (NodeRef node : pods) {
+            if (unreadyPods.contains(node)) {
+                batches.add(List.of(node));
+            } else {
+                readyPods.put(node.nodeId(), node);
+            }
+        }
+
+        List<Integer> readyPodIds = pods.stream().map(NodeRef::nodeId).filter(readyPods::containsKey).toList();
+
+        try {
+            if (!readyPodIds.isEmpty() && initAdminClient()) {
+                List<Set<Integer>> idBatches = await(kafkaAvailability().restartBatches(readyPodIds, maxRestartBatchSize), operationTimeoutMs, TimeUnit.MILLISECONDS,
+                    error -> new ForceableProblem("Error while determining the batches of pods which can be rolled together", error));
+
+                for (Set<Integer> idBatch : idBatches) {
+                    batches.add(idBatch.stream().map(readyPods::get).toList());
+                }
+
+                LOGGER.debugCr(reconciliation, "Pods will be verified in batches {}", batches);
+                return batches;
+            }
+        } catch (ForceableProblem e) {
+            LOGGER.warnCr(reconciliation, "Failed to determine the batches of pods which can be rolled together. The pods will be rolled one by one.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (Integer readyPodId : readyPodIds) {
+            batches.add(List.of(readyPods.get(readyPodId)));
+        }
+
+        return batches;
+    }
+
+    /**
+     * Rolls the batches one after another. The pods within a batch are verified in parallel.
+     *
+     * @param batches   The batches of pods
+     *
+     * @return  Future which completes when all batches are rolled. It fails with the first error.
+     */
+    private Future<Void> rollInBatches(List<List<NodeRef>> batches) {
+        Promise<Void> promise = Promise.promise();
+        remainingBatches.addAll(batches);
+        rollNextBatch(1, null, promise);
+        return promise.future();
+    }
+
+    private void rollNextBatch(int batchNumber, Throwable failure, Promise<Void> promise) {
+        List<NodeRef> batch = remainingBatches.poll();
+
+        if (batch == null || executor.isShutdown()) {
+            currentBatch = List.of();
+
+            if (failure != null) {
+                promise.fail(failure);
+            } else {
+                promise.complete();
+            }
+
+            return;
+        }
+
+        currentBatch = batch;
+        LOGGER.debugCr(reconciliation, "Verifying batch {} with pods {}", batchNumber, batch);
+
+        Timer.Sample batchTimerSample = Timer.start(metricsProvider.meterRegistry());
+        @SuppressWarnings({ "rawtypes" }) // Composite future requires raw Future objects
+        List<Future> futures = new ArrayList<>(batch.size());
+        for (NodeRef node : batch) {
+            futures.add(schedule(node, 0, TimeUnit.MILLISECONDS));
+        }
+
+        CompositeFuture.join(futures).onComplete(ar -> {
+            long durationNs = batchTimerSample.stop(batchTimer(batch.size()));
+            LOGGER.infoCr(reconciliation, "Batch {} with pods {} was verified in {} ms", batchNumber, batch, TimeUnit.NANOSECONDS.toMillis(durationNs));
+
+            if (ar.failed() && ar.cause() instanceof FatalProblem) {
+                // Fatal problems abort the rolling of the remaining batches
+                currentBatch = List.of();
+                promise.fail(ar.cause());
+            } else {
+                for (NodeRef node : batch) {
+                    RestartContext ctx = podToContext.get(node.podName());
+
+                    if (ctx != null && ctx.movedToLastBatch) {
+                        // The pod is verified again from scratch in its own batch after all other batches
+                        podToContext.remove(node.podName());
+                        remainingBatches.addLast(List.of(node));
+                    }
+                }
+
+                rollNextBatch(batchNumber + 1, failure != null ? failure : ar.cause(), promise);
+            }
+        });
+    }
+
+    /**
+     * Timer which measures how long does it take to verify and roll a batch of pods
+     *
+     * @param batchSize     Number of pods in the batch
+     *
+     * @return  Metrics timer
+     */
+    private Timer batchTimer(int batchSize) {
+        Tags tags = Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", namespace), Tag.of("name", cluster),
+                Tag.of("batch_size", String.valueOf(batchSize)));
+        return metricsProvider.timer("strimzi.kafka.roller.batch.duration", "The time the verification and rolling of a batch of Kafka pods takes", tags);
+    }
+
+    /**
+     * Returns the IDs of the other brokers which are being rolled in the same batch as the given broker. The brokers
+     * which were already verified (and restarted if needed) are not restarting anymore and are not included.
+     *
+     * @param nodeRef   Reference of the broker
+     *
+     * @return  Set with the IDs of the other brokers in the current batch which are still being verified
+     */
+    private Set<Integer> restartingPeers(NodeRef nodeRef) {
+        Set<Integer> peers = new HashSet<>();
+
+        for (NodeRef peer : currentBatch) {
+            RestartContext ctx = podToContext.get(peer.podName());
+
+            if (peer.nodeId() != nodeRef.nodeId() && (ctx == null || !ctx.promise.future().isComplete())) {
+                peers.add(peer.nodeId());
+            }
+        }
+
+        return peers;
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -255,6 +442,7 @@ public class KafkaRoller {
         boolean needsRestart;
         boolean needsReconfig;
         boolean forceRestart;
+        boolean movedToLastBatch;
         KafkaBrokerConfigurationDiff diff;
         KafkaBrokerLoggingConfigurationDiff logDiff;
 
@@ -291,7 +479,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled one-at-a-time (or batch-at-a-time) so the delay may be overrun.
      *
      * @param nodeRef   The reference to pod to roll.
      * @param delay     The delay.
@@ -302,7 +490,7 @@ public class KafkaRoller {
     private Future<Void> schedule(NodeRef nodeRef, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(nodeRef.podName(),
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             LOGGER.debugCr(reconciliation, "Considering updating pod {} after a delay of {} {}", nodeRef, delay, unit);
             try {
                 restartIfNecessary(nodeRef, ctx);
@@ -314,7 +502,7 @@ public class KafkaRoller {
                 LOGGER.infoCr(reconciliation, "Could not verify pod {} is up-to-date, giving up after {} attempts. Total delay between attempts {}ms",
                         nodeRef, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -385,6 +573,13 @@ public class KafkaRoller {
             checkReconfigurability(nodeRef, pod, restartContext);
             if (restartContext.forceRestart || restartContext.needsRestart || restartContext.needsReconfig) {
                 if (!restartContext.forceRestart && deferController(nodeRef, restartContext)) {
+                    if (maxRestartBatchSize > 1 && movedControllers.add(nodeRef.podName())) {
+                        // Deferring the controller in place would block the next batches until its back-off is exhausted
+                        LOGGER.infoCr(reconciliation, "Pod {} is controller and there are other pods to verify. It will be verified in its own batch after the other pods.", nodeRef);
+                        restartContext.movedToLastBatch = true;
+                        return;
+                    }
+
                     LOGGER.debugCr(reconciliation, "Pod {} is controller and there are other pods to verify. Non-controller pods will be verified first.", nodeRef);
                     throw new ForceableProblem("Pod " + nodeRef.podName() + " is controller and there are other pods to verify. Non-controller pods will be verified first");
                 } else {
@@ -392,7 +587,7 @@ public class KafkaRoller {
                         // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
                         if (restartContext.forceRestart || !maybeDynamicUpdateBrokerConfig(nodeRef, restartContext)) {
                             LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", nodeRef);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                            restartAndAwaitReadiness(nodeRef, pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
                         } else {
                             awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
                         }
@@ -415,7 +610,7 @@ public class KafkaRoller {
                 if (canRoll(nodeRef, 60_000, TimeUnit.MILLISECONDS, true, restartContext)) {
                     LOGGER.warnCr(reconciliation, "Pod {} will be force-rolled, due to error: {}", nodeRef, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     restartContext.restartReasons.add(RestartReason.POD_FORCE_RESTART_ON_ERROR);
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                    restartAndAwaitReadiness(nodeRef, pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
                 } else {
                     LOGGER.warnCr(reconciliation, "Pod {} can't be safely force-rolled; original error: ", nodeRef, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     throw e;
@@ -666,8 +861,10 @@ public class KafkaRoller {
 
     private boolean canRoll(NodeRef nodeRef, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
             throws ForceableProblem, InterruptedException {
+        Timer.Sample availabilityCheckTimerSample = Timer.start(metricsProvider.meterRegistry());
+
         try {
-            return await(availability(allClient).canRoll(nodeRef.nodeId()), timeout, unit,
+            return await(kafkaAvailability().canRoll(nodeRef.nodeId(), restartingPeers(nodeRef)), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka pods", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -677,26 +874,58 @@ public class KafkaRoller {
             } else {
                 throw e;
             }
+        } finally {
+            availabilityCheckTimerSample.stop(availabilityCheckTimer(nodeRef));
         }
     }
 
+    /**
+     * Timer which measures how long do the availability checks of a broker take
+     *
+     * @param nodeRef   Reference of the broker
+     *
+     * @return  Metrics timer
+     */
+    private Timer availabilityCheckTimer(NodeRef nodeRef) {
+        Tags tags = Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", namespace), Tag.of("name", cluster),
+                Tag.of("node_id", String.valueOf(nodeRef.nodeId())));
+        return metricsProvider.timer("strimzi.kafka.roller.availability.check.duration", "The time the checks whether a Kafka broker can be rolled take", tags);
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
      *
+     * @param nodeRef           Reference of the node which is restarted
      * @param pod               The Pod to restart.
      * @param timeout           The timeout.
      * @param unit              The timeout unit.
      * @param restartContext    Restart context
      */
-    private void restartAndAwaitReadiness(Pod pod, long timeout, TimeUnit unit, RestartContext restartContext)
+    private void restartAndAwaitReadiness(NodeRef nodeRef, Pod pod, long timeout, TimeUnit unit, RestartContext restartContext)
             throws InterruptedException, UnforceableProblem, FatalProblem {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Rolling pod {}", podName);
-        await(restart(pod, restartContext), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
+        try {
+            await(restart(pod, restartContext), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
+        } finally {
+            brokerRestarted(nodeRef);
+        }
         awaitReadiness(pod, timeout, unit);
     }
 
+    /**
+     * Marks the partitions of the restarted broker as stale in the availability index, so that their ISRs are
+     * refreshed before the next availability check.
+     *
+     * @param nodeRef   Reference of the restarted broker
+     */
+    private synchronized void brokerRestarted(NodeRef nodeRef) {
+        if (kafkaAvailability != null) {
+            kafkaAvailability.brokerRestarted(nodeRef.nodeId());
+        }
+    }
+
     private void awaitReadiness(Pod pod, long timeout, TimeUnit unit) throws FatalProblem, InterruptedException {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Waiting for restarted pod {} to become ready", podName);
@@ -775,16 +1004,34 @@ public class KafkaRoller {
     protected KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(reconciliation, ac);
     }
+
+    /**
+     * Returns the KafkaAvailability instance shared by the whole rolling update. It keeps the index of the partitions
+     * and the topic configurations between the availability checks of the different brokers.
+     *
+     * @return  KafkaAvailability instance
+     */
+    private synchronized KafkaAvailability kafkaAvailability() {
+        if (allClient == null) {
+            // Without the admin client, there is nothing to keep between the checks
+            return availability(null);
+        } else if (kafkaAvailability == null) {
+            kafkaAvailability = availability(allClient);
+        }
+
+        return kafkaAvailability;
+    }
     
     /**
      * Return true if the given {@code nodeId} is the controller and there are other brokers we might yet have to consider.
-     * This ensures that the controller is restarted/reconfigured last.
+     * This ensures that the controller is restarted/reconfigured last. When rolling in batches, the brokers from the
+     * batches which were not started yet are considered as well.
      */
     private boolean deferController(NodeRef nodeRef, RestartContext restartContext) throws Exception {
         int controller = controller(nodeRef, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
         int stillRunning = podToContext.reduceValuesToInt(100, v -> v.promise.future().isComplete() ? 0 : 1,
                 0, Integer::sum);
-        return controller == nodeRef.nodeId() && stillRunning > 1;
+        return controller == nodeRef.nodeId() && (stillRunning > 1 || !remainingBatches.isEmpty());
     }
 
     /**
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.cluster.model.StrimziPodSetPodCache;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -54,14 +55,7 @@ public class PodRevision {
      * @return                  True if the revision changed. False otherwise.
      */
     public static boolean hasChanged(Pod currentPod, StrimziPodSet desiredPodSet)   {
-        Pod desiredPod = desiredPodSet
-                .getSpec()
-                .getPods()
-                .stream()
-                .map(pod -> PodSetUtils.mapToPod(pod))
-                .filter(pod -> currentPod.getMetadata().getName().equals(pod.getMetadata().getName()))
-                .findFirst()
-                .orElse(null);
+        Pod desiredPod = StrimziPodSetPodCache.pod(desiredPodSet, currentPod.getMetadata().getName());
 
         if (desiredPod != null) {
             return hasChanged(currentPod, desiredPod);
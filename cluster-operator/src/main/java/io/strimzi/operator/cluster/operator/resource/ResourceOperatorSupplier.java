@@ -241,7 +241,8 @@ public class ResourceOperatorSupplier {
                 client,
                 new ZookeeperLeaderFinder(vertx,
                         // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
-                        () -> new BackOff(5_000, 2, 4)),
+                        () -> new BackOff(5_000, 2, 4),
+                        metricsProvider),
                 new DefaultAdminClientProvider(),
                 new DefaultZookeeperScalerProvider(),
                 metricsProvider,
@@ -5,20 +5,25 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
@@ -27,12 +32,18 @@ import io.vertx.core.net.PemTrustOptions;
 import java.io.ByteArrayInputStream;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Helper class for finding the leader of a ZK cluster
@@ -47,8 +58,13 @@ public class ZookeeperLeaderFinder {
      */
     public static final String UNKNOWN_LEADER = "-1";
 
+    private static final String LEADER_DISCOVERY_METRIC = "strimzi.zookeeper.leader.discovery";
+
     private final Vertx vertx;
     private final Supplier<BackOff> backOffSupplier;
+    private final MetricsProvider metricsProvider;
+    // Last known leader of each ZooKeeper cluster. It is used as a hint which pod should be checked first.
+    private final Map<String, String> leaderHints = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -57,8 +73,20 @@ public class ZookeeperLeaderFinder {
      * @param backOffSupplier   Backoff supplier
      */
     public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier) {
+        this(vertx, backOffSupplier, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param backOffSupplier   Backoff supplier
+     * @param metricsProvider   Metrics provider used for the leader discovery latency metric (or null to not collect it)
+     */
+    public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier, MetricsProvider metricsProvider) {
         this.vertx = vertx;
         this.backOffSupplier = backOffSupplier;
+        this.metricsProvider = metricsProvider;
     }
 
     /*test*/ NetClientOptions clientOptions(Reconciliation reconciliation, Secret coCertKeySecret, Secret clusterCaCertificateSecret) {
@@ -145,21 +173,43 @@ public class ZookeeperLeaderFinder {
             return Future.succeededFuture(pods.stream().findFirst().get());
         }
 
+        LeaderProbes probes;
         try {
-            NetClientOptions netClientOptions = clientOptions(reconciliation, coKeySecret, clusterCaSecret);
-            return zookeeperLeaderWithBackoff(reconciliation, pods, netClientOptions);
+            probes = new LeaderProbes(vertx.createNetClient(clientOptions(reconciliation, coKeySecret, clusterCaSecret)));
         } catch (Throwable e) {
             return Future.failedFuture(e);
         }
+
+        long startTime = System.nanoTime();
+
+        return zookeeperLeaderWithBackoff(reconciliation, pods, probes)
+                .onComplete(i -> {
+                    probes.close();
+                    recordDiscoveryTime(reconciliation, startTime);
+                });
+    }
+
+    /**
+     * Records the time it took to find the ZooKeeper leader
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param startTime         Time when the leader discovery started in nanoseconds
+     */
+    private void recordDiscoveryTime(Reconciliation reconciliation, long startTime) {
+        if (metricsProvider != null) {
+            metricsProvider.timer(LEADER_DISCOVERY_METRIC, "The time it takes to find the leader of a ZooKeeper cluster",
+                            Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace())))
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
     }
 
-    private Future<String> zookeeperLeaderWithBackoff(Reconciliation reconciliation, Set<String> pods, NetClientOptions netClientOptions) {
+    private Future<String> zookeeperLeaderWithBackoff(Reconciliation reconciliation, Set<String> pods, LeaderProbes probes) {
         Promise<String> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long tid) {
-                zookeeperLeader(reconciliation, pods, netClientOptions).onComplete(leader -> {
+                zookeeperLeader(reconciliation, pods, probes).onComplete(leader -> {
                     if (leader.succeeded()) {
                         if (!UNKNOWN_LEADER.equals(leader.result())) {
                             result.complete(leader.result());
@@ -200,90 +250,146 @@ public class ZookeeperLeaderFinder {
         return result.future();
     }
 
+    private static String hintKey(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Reconciliation, String, NetClientOptions)}.
+     * Forgets the last known leader of the ZooKeeper cluster. It should be called when the cluster is deleted so that
+     * the leader hints of the deleted clusters do not accumulate.
+     *
+     * @param reconciliation    Reconciliation marker identifying the cluster
      */
-    private Future<String> zookeeperLeader(Reconciliation reconciliation, Set<String> pods, NetClientOptions netClientOptions) {
+    public void forgetLeader(Reconciliation reconciliation) {
+        leaderHints.remove(hintKey(reconciliation));
+    }
+
+    /**
+     * Finds the leader by testing the pods in the given list using
+     * {@link #isLeader(Reconciliation, String, NetClient)}. The last known leader of the cluster is tested first. If it
+     * is not the leader anymore, all other pods are tested in parallel and the first pod which answers that it is the
+     * leader is used.
+     */
+    private Future<String> zookeeperLeader(Reconciliation reconciliation, Set<String> pods, LeaderProbes probes) {
         try {
-            Future<String> f = Future.succeededFuture(UNKNOWN_LEADER);
-
-            for (String podName : pods) {
-                f = f.compose(leader -> {
-                    if (UNKNOWN_LEADER.equals(leader)) {
-                        LOGGER.debugCr(reconciliation, "Checker whether {} is leader", podName);
-                        return isLeader(reconciliation, podName, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
-                                LOGGER.infoCr(reconciliation, "Pod {} is leader", podName);
-                                return podName;
-                            } else {
-                                LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
-                            }
-                        });
-                    } else {
-                        return Future.succeededFuture(leader);
-                    }
-                });
+            String hintKey = hintKey(reconciliation);
+            String hint = leaderHints.get(hintKey);
+
+            Future<String> hintedLeader;
+            if (hint != null && pods.contains(hint)) {
+                LOGGER.debugCr(reconciliation, "Checking whether the last known leader {} is still leader", hint);
+                hintedLeader = probes.isLeader(reconciliation, hint).map(isLeader -> isLeader != null && isLeader ? hint : UNKNOWN_LEADER);
+            } else {
+                hintedLeader = Future.succeededFuture(UNKNOWN_LEADER);
             }
 
-            return f;
+            return hintedLeader
+                    .compose(leader -> {
+                        if (UNKNOWN_LEADER.equals(leader)) {
+                            return firstLeader(reconciliation, pods.stream().filter(pod -> !pod.equals(hint)).collect(Collectors.toList()), probes);
+                        } else {
+                            return Future.succeededFuture(leader);
+                        }
+                    })
+                    .onSuccess(leader -> {
+                        if (UNKNOWN_LEADER.equals(leader)) {
+                            leaderHints.remove(hintKey);
+                        } else {
+                            LOGGER.infoCr(reconciliation, "Pod {} is leader", leader);
+                            leaderHints.put(hintKey, leader);
+                        }
+                    });
         } catch (Throwable t) {
             return Future.failedFuture(t);
         }
     }
 
+    /**
+     * Tests all given pods in parallel and completes with the first pod which is the leader.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param pods              Pods which should be tested
+     * @param probes            Probes used to test the pods
+     *
+     * @return  Future which completes with the name of the leader pod or with {@link #UNKNOWN_LEADER} when none of the
+     *          pods is the leader
+     */
+    private Future<String> firstLeader(Reconciliation reconciliation, List<String> pods, LeaderProbes probes) {
+        if (pods.isEmpty()) {
+            return Future.succeededFuture(UNKNOWN_LEADER);
+        }
+
+        Promise<String> result = Promise.promise();
+        AtomicInteger remaining = new AtomicInteger(pods.size());
+
+        for (String podName : pods) {
+            LOGGER.debugCr(reconciliation, "Checking whether {} is leader", podName);
+            probes.isLeader(reconciliation, podName).onComplete(isLeader -> {
+                if (isLeader.succeeded() && isLeader.result() != null && isLeader.result()) {
+                    result.tryComplete(podName);
+                } else {
+                    LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
+                }
+
+                if (remaining.decrementAndGet() == 0) {
+                    result.tryComplete(UNKNOWN_LEADER);
+                }
+            });
+        }
+
+        return result.future();
+    }
+
     /**
      * Returns whether the given pod is the zookeeper leader.
      */
-    protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions netClientOptions) {
+    protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClient netClient) {
 
         Promise<Boolean> promise = Promise.promise();
         String host = host(reconciliation, podName);
         int port = port(podName);
         LOGGER.debugCr(reconciliation, "Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
-            .connect(port, host, ar -> {
-                if (ar.failed()) {
-                    LOGGER.warnCr(reconciliation, "ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
-                    promise.fail(ar.cause());
-                } else {
-                    LOGGER.debugCr(reconciliation, "ZK {}:{}: connected", host, port);
-                    NetSocket socket = ar.result();
-                    socket.exceptionHandler(ex -> {
-                        if (!promise.tryFail(ex)) {
-                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
-                                    host, port, podName, ex);
-                        }
-                    });
-                    StringBuilder sb = new StringBuilder();
-                    // We could use socket idle timeout, but this times out even if the server just responds
-                    // very slowly
-                    long timerId = vertx.setTimer(10_000, tid -> {
-                        LOGGER.debugCr(reconciliation, "ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
-                                host, port, socket.remoteAddress());
-                        socket.close();
-                    });
-                    socket.closeHandler(v -> {
-                        vertx.cancelTimer(timerId);
-                        Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
-                        boolean isLeader = matcher.find();
-                        LOGGER.debugCr(reconciliation, "ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
-                        if (!promise.tryComplete(isLeader)) {
-                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring leader result: Future is already complete",
-                                    host, port);
-                        }
-                    });
-                    LOGGER.debugCr(reconciliation, "ZK {}:{}: upgrading to TLS", host, port);
-                    socket.handler(buffer -> {
-                        LOGGER.traceCr(reconciliation, "buffer: {}", buffer);
-                        sb.append(buffer.toString());
-                    });
-                    LOGGER.debugCr(reconciliation, "ZK {}:{}: sending stat", host, port);
-                    socket.write("stat");
-                }
+        netClient.connect(port, host, ar -> {
+            if (ar.failed()) {
+                LOGGER.warnCr(reconciliation, "ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
+                promise.fail(ar.cause());
+            } else {
+                LOGGER.debugCr(reconciliation, "ZK {}:{}: connected", host, port);
+                NetSocket socket = ar.result();
+                socket.exceptionHandler(ex -> {
+                    if (!promise.tryFail(ex)) {
+                        LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
+                                host, port, podName, ex);
+                    }
+                });
+                StringBuilder sb = new StringBuilder();
+                // We could use socket idle timeout, but this times out even if the server just responds
+                // very slowly
+                long timerId = vertx.setTimer(10_000, tid -> {
+                    LOGGER.debugCr(reconciliation, "ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
+                            host, port, socket.remoteAddress());
+                    socket.close();
+                });
+                socket.closeHandler(v -> {
+                    vertx.cancelTimer(timerId);
+                    Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
+                    boolean isLeader = matcher.find();
+                    LOGGER.debugCr(reconciliation, "ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
+                    if (!promise.tryComplete(isLeader)) {
+                        LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring leader result: Future is already complete",
+                                host, port);
+                    }
+                });
+                LOGGER.debugCr(reconciliation, "ZK {}:{}: upgrading to TLS", host, port);
+                socket.handler(buffer -> {
+                    LOGGER.traceCr(reconciliation, "buffer: {}", buffer);
+                    sb.append(buffer.toString());
+                });
+                LOGGER.debugCr(reconciliation, "ZK {}:{}: sending stat", host, port);
+                socket.write("stat");
+            }
 
-            });
+        });
 
         return promise.future().recover(error -> {
             LOGGER.debugOp("ZK {}:{}: Error trying to determine leader ({}) => not leader", host, port, error);
@@ -313,4 +419,30 @@ public class ZookeeperLeaderFinder {
     protected int port(String podName) {
         return ZookeeperCluster.CLIENT_TLS_PORT;
     }
+
+    /**
+     * Leader probes of a single leader discovery. All probes share the same client. The probes which are still in
+     * progress when the leader is found are not needed anymore, but the client is closed only after they complete.
+     */
+    private class LeaderProbes {
+        private final NetClient netClient;
+        @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+        private final List<Future> inProgress = new ArrayList<>();
+
+        LeaderProbes(NetClient netClient) {
+            this.netClient = netClient;
+        }
+
+        synchronized Future<Boolean> isLeader(Reconciliation reconciliation, String podName) {
+            Future<Boolean> probe = ZookeeperLeaderFinder.this.isLeader(reconciliation, podName, netClient);
+            inProgress.removeIf(Future::isComplete);
+            inProgress.add(probe);
+            return probe;
+        }
+
+        synchronized void close() {
+            CompositeFuture.join(new ArrayList<>(inProgress))
+                    .onComplete(i -> netClient.close());
+        }
+    }
 }
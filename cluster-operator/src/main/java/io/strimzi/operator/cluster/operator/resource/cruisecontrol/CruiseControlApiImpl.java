@@ -18,13 +18,18 @@ import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 
 /**
  * Implementation of the Cruise Control API client
@@ -35,7 +40,9 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      */
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1;
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
+    private static final String HTTP_CLIENT_METRICS_NAME = "strimzi-cruise-control";
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
     private final Vertx vertx;
     private final long idleTimeout;
@@ -70,6 +77,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         if (apiSslEnabled) {
             return new HttpClientOptions()
                 .setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING)
+                .setMetricsName(HTTP_CLIENT_METRICS_NAME)
                 .setSsl(true)
                 .setVerifyHost(true)
                 .setPemTrustOptions(
@@ -77,7 +85,8 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 );
         } else {
             return new HttpClientOptions()
-                    .setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
+                    .setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING)
+                    .setMetricsName(HTTP_CLIENT_METRICS_NAME);
         }
     }
 
@@ -108,7 +117,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return HttpClientUtils.withPooledHttpClient(vertx, host, port, options, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -250,7 +259,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return HttpClientUtils.withPooledHttpClient(vertx, host, port, httpOptions, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -269,7 +278,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return HttpClientUtils.withPooledHttpClient(vertx, host, port, httpOptions, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -288,15 +297,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return HttpClientUtils.withPooledHttpClient(vertx, host, port, httpOptions, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
 
     @Override
-    @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskId) {
-
         PathBuilder pathBuilder = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
                         .withParameter(CruiseControlParameters.JSON, "true")
                         .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true");
@@ -305,11 +312,86 @@ public class CruiseControlApiImpl implements CruiseControlApi {
             pathBuilder.withParameter(CruiseControlParameters.USER_TASK_IDS, userTaskId);
         }
 
-        String path = pathBuilder.build();
+        return getUserTasks(host, port, pathBuilder.build(),
+            (userTaskID, userTasks) -> new CruiseControlResponse(userTaskID, parseUserTask(userTasks.getJsonObject(0))));
+    }
+
+    @Override
+    public Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, List<String> userTaskIds) {
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                .withParameter(CruiseControlParameters.JSON, "true")
+                .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                .withParameter(CruiseControlParameters.USER_TASK_IDS, userTaskIds)
+                .build();
+
+        return getUserTasks(host, port, path, (userTaskID, userTasks) -> {
+            Map<String, CruiseControlResponse> responses = new HashMap<>(userTasks.size());
+
+            for (int i = 0; i < userTasks.size(); i++) {
+                JsonObject jsonUserTask = userTasks.getJsonObject(i);
+                String taskId = jsonUserTask.getString(USER_TASK_ID_KEY);
+                responses.put(taskId, new CruiseControlResponse(taskId, parseUserTask(jsonUserTask)));
+            }
+
+            return responses;
+        });
+    }
+
+    /**
+     * Parses a single task from the response of the user tasks endpoint. Only the status, the summary and the broker
+     * load before and after the optimization are extracted from the (potentially very large) original response.
+     *
+     * @param jsonUserTask  JSON object of the user task
+     *
+     * @return  JSON object with the status of the user task
+     */
+    private static JsonObject parseUserTask(JsonObject jsonUserTask) {
+        // This should not be an error with a 200 status but we play it safe
+        if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+            throw new CruiseControlRestException("Server returned: " + jsonUserTask.getString(CC_REST_API_ERROR_KEY));
+        }
+
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
+                        CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+
+        return statusJson;
+    }
 
+    @SuppressWarnings("deprecation")
+    private <T> Future<T> getUserTasks(String host, int port, String path, BiFunction<String, JsonArray, T> responseMapper) {
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return HttpClientUtils.withPooledHttpClient(vertx, host, port, options, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -322,47 +404,15 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                             if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
                                 String userTaskID = response.result().getHeader(CC_REST_API_USER_ID_HEADER);
                                 response.result().bodyHandler(buffer -> {
-                                    JsonObject json = buffer.toJsonObject();
-                                    JsonObject jsonUserTask = json.getJsonArray("userTasks").getJsonObject(0);
-                                    // This should not be an error with a 200 status but we play it safe
-                                    if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+                                    try {
+                                        JsonObject json = buffer.toJsonObject();
+                                        result.complete(responseMapper.apply(userTaskID, json.getJsonArray("userTasks")));
+                                    } catch (CruiseControlRestException e) {
                                         result.fail(new CruiseControlRestException(
-                                                "Error for request: " + host + ":" + port + path + ". Server returned: " +
-                                                        json.getString(CC_REST_API_ERROR_KEY)));
-                                    }
-                                    JsonObject statusJson = new JsonObject();
-                                    String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                    statusJson.put(STATUS_KEY, taskStatusStr);
-                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                    switch (taskStatus) {
-                                        case ACTIVE:
-                                            // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                            break;
-                                        case IN_EXECUTION:
-                                            // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                            // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                        case COMPLETED:
-                                            // Completed tasks will have the original rebalance proposal summary in their original response
-                                            JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                    CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                            // Extract the load before/after information for the brokers
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                            break;
-                                        case COMPLETED_WITH_ERROR:
-                                            // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            break;
-                                        default:
-                                            throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+                                                "Error for request: " + host + ":" + port + path + ". " + e.getMessage()));
+                                    } catch (RuntimeException e) {
+                                        result.fail(e);
                                     }
-                                    result.complete(new CruiseControlResponse(userTaskID, statusJson));
                                 });
                             } else if (response.result().statusCode() == 500) {
                                 response.result().bodyHandler(buffer -> {
@@ -406,7 +456,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return HttpClientUtils.withPooledHttpClient(vertx, host, port, options, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -447,7 +497,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
-    private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
+    private void httpExceptionHandler(Promise<?> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
             // so we catch and raise a TimeoutException instead
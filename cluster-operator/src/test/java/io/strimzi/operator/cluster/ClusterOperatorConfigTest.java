@@ -48,6 +48,12 @@ public class ClusterOperatorConfigTest {
         ENV_VARS.put(ClusterOperatorConfig.STRIMZI_FEATURE_GATES, "+StableConnectIdentities");
         ENV_VARS.put(ClusterOperatorConfig.STRIMZI_DNS_CACHE_TTL, "10");
         ENV_VARS.put(ClusterOperatorConfig.STRIMZI_POD_SECURITY_PROVIDER_CLASS, "my.package.CustomPodSecurityProvider");
+        ENV_VARS.put(ClusterOperatorConfig.STRIMZI_POD_SET_CONTROLLER_WORKERS, "8");
+        ENV_VARS.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLER_MAX_BATCH_SIZE, "3");
+        ENV_VARS.put(ClusterOperatorConfig.STRIMZI_CONNECTOR_CONTROLLER_WORKERS, "2");
+        ENV_VARS.put(ClusterOperatorConfig.STRIMZI_CRUISE_CONTROL_CACHE_TTL_MS, "10000");
+        ENV_VARS.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED, "true");
+        ENV_VARS.put(ClusterOperatorConfig.STRIMZI_IN_JVM_CERT_MANAGER_ENABLED, "true");
     }
 
     @Test
@@ -97,6 +103,12 @@ public class ClusterOperatorConfigTest {
                 10,
                 false,
                 1024,
+                4,
+                1,
+                4,
+                ClusterOperatorConfig.DEFAULT_CRUISE_CONTROL_CACHE_TTL_MS,
+                ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_ENABLED,
+                ClusterOperatorConfig.DEFAULT_IN_JVM_CERT_MANAGER_ENABLED,
                 "operator_name",
                 null, null);
 
@@ -120,6 +132,12 @@ public class ClusterOperatorConfigTest {
         assertThat(config.featureGates().stableConnectIdentitiesEnabled(), is(true));
         assertThat(config.getDnsCacheTtlSec(), is(10));
         assertThat(config.getPodSecurityProviderClass(), is("my.package.CustomPodSecurityProvider"));
+        assertThat(config.getPodSetControllerWorkers(), is(8));
+        assertThat(config.getKafkaRollerMaxBatchSize(), is(3));
+        assertThat(config.getConnectorControllerWorkers(), is(2));
+        assertThat(config.getCruiseControlCacheTtlMs(), is(10_000L));
+        assertThat(config.isResourceCacheEnabled(), is(true));
+        assertThat(config.isInJvmCertManagerEnabled(), is(true));
     }
 
     @Test
@@ -136,6 +154,12 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
         assertThat(config.getDnsCacheTtlSec(), is(ClusterOperatorConfig.DEFAULT_DNS_CACHE_TTL));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS));
+        assertThat(config.getPodSetControllerWorkers(), is(ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS));
+        assertThat(config.getKafkaRollerMaxBatchSize(), is(ClusterOperatorConfig.DEFAULT_KAFKA_ROLLER_MAX_BATCH_SIZE));
+        assertThat(config.getConnectorControllerWorkers(), is(ClusterOperatorConfig.DEFAULT_CONNECTOR_CONTROLLER_WORKERS));
+        assertThat(config.getCruiseControlCacheTtlMs(), is(ClusterOperatorConfig.DEFAULT_CRUISE_CONTROL_CACHE_TTL_MS));
+        assertThat(config.isResourceCacheEnabled(), is(ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_ENABLED));
+        assertThat(config.isInJvmCertManagerEnabled(), is(ClusterOperatorConfig.DEFAULT_IN_JVM_CERT_MANAGER_ENABLED));
     }
 
     private Map<String, String> envWithImages() {
@@ -187,7 +187,8 @@ public class ClusterOperatorTest {
                 assertThat("Looks like there were more watchers than namespaces",
                         numWatchers.get(), lessThanOrEqualTo(maximumExpectedNumberOfWatchers));
 
-                int expectedNumberOfInformers = 5 * namespaceList.size();
+                // The KafkaConnector controller uses two more informers when it is running
+                int expectedNumberOfInformers = (podSetsOnly ? 5 : 7) * namespaceList.size();
                 assertThat("Looks like there were more informers than namespaces",
                         numInformers.get(), is(expectedNumberOfInformers));
 
@@ -277,7 +278,7 @@ public class ClusterOperatorTest {
                 int maximumExpectedNumberOfWatchers = podSetsOnly ? 0 : 7;
                 assertThat("Looks like there were more watchers than custom resources", numWatchers.get(), lessThanOrEqualTo(maximumExpectedNumberOfWatchers));
 
-                int numberOfInformers = 5;
+                int numberOfInformers = podSetsOnly ? 5 : 7;
                 assertThat("Looks like there were more informers than we should", numInformers.get(), is(numberOfInformers));
 
                 latch.countDown();
@@ -83,7 +83,7 @@ import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.strimzi.test.TestUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import org.apache.kafka.clients.admin.Admin;
@@ -453,7 +453,7 @@ public class ResourceUtils {
     public static ZookeeperLeaderFinder zookeeperLeaderFinder(Vertx vertx, KubernetesClient client) {
         return new ZookeeperLeaderFinder(vertx, () -> new BackOff(5_000, 2, 4)) {
                 @Override
-                protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions options) {
+                protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClient netClient) {
                     return Future.succeededFuture(true);
                 }
 
@@ -634,6 +634,12 @@ public class ResourceUtils {
                 30,
                 false,
                 1024,
+                4,
+                1,
+                4,
+                ClusterOperatorConfig.DEFAULT_CRUISE_CONTROL_CACHE_TTL_MS,
+                ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_ENABLED,
+                ClusterOperatorConfig.DEFAULT_IN_JVM_CERT_MANAGER_ENABLED,
                 "cluster-operator-name",
                 ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null);
     }
@@ -4,17 +4,21 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 import org.junit.jupiter.api.Assertions;
 
+import java.util.Map;
+
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.sameInstance;
 
 @ParallelSuite
 public class KafkaConfigurationTests {
@@ -105,4 +109,12 @@ public class KafkaConfigurationTests {
 
         assertThat(exc.getMessage(), containsString("Configuration model /kafka-2.6.0-config-model.json was not found"));
     }
+
+    @ParallelTest
+    public void configModelIsCached() {
+        Map<String, ConfigModel> model = KafkaConfiguration.readConfigModel(kafkaVersion);
+
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(model)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.remove(KafkaConfiguration.MIN_INSYNC_REPLICAS));
+    }
 }
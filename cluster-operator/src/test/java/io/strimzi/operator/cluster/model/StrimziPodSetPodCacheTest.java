@@ -0,0 +1,105 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class StrimziPodSetPodCacheTest {
+    private static Pod pod(String name, String image) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .withNewSpec()
+                    .addNewContainer()
+                        .withName("kafka")
+                        .withImage(image)
+                    .endContainer()
+                .endSpec()
+                .build();
+    }
+
+    private static StrimziPodSet podSet(String uid, String resourceVersion, String image) {
+        List<Pod> pods = IntStream.range(0, 3).mapToObj(i -> pod("my-cluster-kafka-" + i, image)).collect(Collectors.toList());
+
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-kafka")
+                    .withNamespace("my-namespace")
+                    .withUid(uid)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withNewSpec()
+                    .withPods(PodSetUtils.podsToMaps(pods))
+                .endSpec()
+                .build();
+    }
+
+    @ParallelTest
+    public void testPodsAreDecodedOncePerRevision() {
+        String uid = UUID.randomUUID().toString();
+        StrimziPodSet podSet = podSet(uid, "1", "kafka:1");
+
+        Pod pod = StrimziPodSetPodCache.pod(podSet, "my-cluster-kafka-1");
+        assertThat(pod, is(pod("my-cluster-kafka-1", "kafka:1")));
+
+        // The same revision (even as a different object) returns the already decoded pods
+        assertThat(StrimziPodSetPodCache.pod(podSet(uid, "1", "kafka:1"), "my-cluster-kafka-1"), is(sameInstance(pod)));
+        List<Pod> pods = StrimziPodSetPodCache.pods(podSet);
+        assertThat(pods.size(), is(3));
+        assertThat(pods.get(1), is(sameInstance(pod)));
+        assertThat(pods.get(0).getMetadata().getName(), is("my-cluster-kafka-0"));
+        assertThat(pods.get(2).getMetadata().getName(), is("my-cluster-kafka-2"));
+
+        // A new revision is decoded again
+        StrimziPodSet updatedPodSet = podSet(uid, "2", "kafka:2");
+        Pod updatedPod = StrimziPodSetPodCache.pod(updatedPodSet, "my-cluster-kafka-1");
+        assertThat(updatedPod, is(not(sameInstance(pod))));
+        assertThat(updatedPod.getSpec().getContainers().get(0).getImage(), is("kafka:2"));
+
+        // Unknown pods
+        assertThat(StrimziPodSetPodCache.pod(updatedPodSet, "my-cluster-kafka-3"), is(nullValue()));
+    }
+
+    @ParallelTest
+    public void testPodSetsWithoutRevisionAreNotCached() {
+        StrimziPodSet podSet = podSet(null, null, "kafka:1");
+
+        Pod pod = StrimziPodSetPodCache.pod(podSet, "my-cluster-kafka-0");
+        assertThat(pod, is(pod("my-cluster-kafka-0", "kafka:1")));
+        assertThat(StrimziPodSetPodCache.pod(podSet, "my-cluster-kafka-0"), is(not(sameInstance(pod))));
+        assertThat(StrimziPodSetPodCache.pods(podSet).size(), is(3));
+        assertThat(StrimziPodSetPodCache.pod(podSet, "my-cluster-kafka-3"), is(nullValue()));
+    }
+
+    @ParallelTest
+    public void testInvalidate() {
+        String uid = UUID.randomUUID().toString();
+        StrimziPodSet podSet = podSet(uid, "1", "kafka:1");
+
+        Pod pod = StrimziPodSetPodCache.pod(podSet, "my-cluster-kafka-0");
+        StrimziPodSetPodCache.invalidate(podSet);
+
+        assertThat(StrimziPodSetPodCache.pod(podSet, "my-cluster-kafka-0"), is(not(sameInstance(pod))));
+    }
+}
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -50,6 +51,7 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.Lock;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -60,17 +62,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static io.strimzi.test.TestUtils.map;
 import static io.strimzi.test.TestUtils.waitFor;
@@ -85,10 +89,14 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -119,7 +127,7 @@ public class ConnectorMockTest {
     private KubernetesClient client;
     private MockKube2 mockKube;
     private Watch connectWatch;
-    private Watch connectorWatch;
+    private KafkaConnectorController connectorController;
     private KafkaConnectApi api;
     private HashMap<String, ConnectorState> runningConnectors;
     private KafkaConnectAssemblyOperator kafkaConnectOperator;
@@ -129,6 +137,18 @@ public class ConnectorMockTest {
         return host + "##" + connectorName;
     }
 
+    private Map<String, String> connectorConfigMock(String host, String connectorName)   {
+        ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
+        Map<String, String> map = new HashMap<>();
+        map.put("name", connectorName);
+        for (Map.Entry<String, Object> entry : connectorState.config) {
+            if (entry.getValue() != null) {
+                map.put(entry.getKey(), entry.getValue().toString());
+            }
+        }
+        return map;
+    }
+
     private Future<Map<String, Object>> kafkaConnectApiStatusMock(String host, String connectorName)   {
         ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
         Map<String, Object> statusNode = new HashMap<>();
@@ -191,11 +211,12 @@ public class ConnectorMockTest {
             .onComplete(testContext.succeedingThenComplete())
             .compose(watch -> {
                 connectWatch = watch;
-                return AbstractConnectOperator.createConnectorWatch(kafkaConnectOperator, NAMESPACE, null);
-            }).compose(watch -> {
-                connectorWatch = watch;
-                //async.flag();
-                return Future.succeededFuture();
+                return vertx.executeBlocking(promise -> {
+                    connectorController = new KafkaConnectorController(NAMESPACE, null, kafkaConnectOperator, ros.connectOperator,
+                            metricsProvider, 2, Long.MAX_VALUE, 10_000);
+                    connectorController.start();
+                    promise.complete();
+                });
             }).onComplete(testContext.succeeding(v -> async.flag()));
     }
 
@@ -203,13 +224,19 @@ public class ConnectorMockTest {
         api = mock(KafkaConnectApi.class);
         runningConnectors = new HashMap<>();
 
-        when(api.list(any(), any(), anyInt())).thenAnswer(i -> {
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenAnswer(i -> {
             String host = i.getArgument(1);
             String matchingKeyPrefix = host + "##";
-            return Future.succeededFuture(runningConnectors.keySet().stream()
-                    .filter(s -> s.startsWith(matchingKeyPrefix))
-                    .map(s -> s.substring(matchingKeyPrefix.length()))
-                    .collect(Collectors.toList()));
+            Map<String, Map<String, Object>> connectors = new HashMap<>();
+            for (String key : runningConnectors.keySet()) {
+                if (key.startsWith(matchingKeyPrefix)) {
+                    String connectorName = key.substring(matchingKeyPrefix.length());
+                    connectors.put(connectorName, Map.of(
+                            "info", Map.of("name", connectorName, "config", connectorConfigMock(host, connectorName)),
+                            "status", kafkaConnectApiStatusMock(host, connectorName).result()));
+                }
+            }
+            return Future.succeededFuture(connectors);
         });
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenAnswer(i -> {
             ConnectorPlugin connectorPlugin = new ConnectorPluginBuilder()
@@ -223,16 +250,8 @@ public class ConnectorMockTest {
         when(api.getConnectorConfig(any(), any(), any(), anyInt(), any())).thenAnswer(invocation -> {
             String host = invocation.getArgument(2);
             String connectorName = invocation.getArgument(4);
-            ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
-            if (connectorState != null) {
-                Map<String, String> map = new HashMap<>();
-                map.put("name", connectorName);
-                for (Map.Entry<String, Object> entry : connectorState.config) {
-                    if (entry.getValue() != null) {
-                        map.put(entry.getKey(), entry.getValue().toString());
-                    }
-                }
-                return Future.succeededFuture(map);
+            if (runningConnectors.containsKey(key(host, connectorName))) {
+                return Future.succeededFuture(connectorConfigMock(host, connectorName));
             } else {
                 return Future.failedFuture(new ConnectRestException("GET", String.format("/connectors/%s/config", connectorName), 404, "Not Found", ""));
             }
@@ -255,7 +274,8 @@ public class ConnectorMockTest {
             LOGGER.info("###### create " + host);
             String connectorName = invocation.getArgument(3);
             JsonObject connectorConfig = invocation.getArgument(4);
-            runningConnectors.putIfAbsent(key(host, connectorName), new ConnectorState(false, connectorConfig));
+            ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
+            runningConnectors.put(key(host, connectorName), new ConnectorState(connectorState != null && connectorState.paused, connectorConfig));
             return Future.succeededFuture();
         });
         when(api.delete(any(), any(), anyInt(), anyString())).thenAnswer(invocation -> {
@@ -334,7 +354,7 @@ public class ConnectorMockTest {
     public void teardown() {
         mockKube.stop();
         connectWatch.close();
-        connectorWatch.close();
+        connectorController.stop();
         sharedWorkerExecutor.close();
         vertx.close();
     }
@@ -417,6 +437,18 @@ public class ConnectorMockTest {
         waitForStatus(resource, connectName, Objects::isNull);
     }
 
+    /**
+     * Verifies that the Connect cluster was reconciled twice: once when it was created and once after its status was
+     * updated. The connectors are reconciled by the KafkaConnector controller, so they do not wait for the second
+     * reconciliation of the Connect cluster and it might happen only after the connector is ready.
+     *
+     * @param connectName   Name of the Connect cluster
+     */
+    private void verifyConnectReconciledTwice(String connectName) {
+        verify(api, timeout(10_000).times(2)).listWithStatusAndInfo(any(),
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+    }
+
     public void waitForConnectorReady(String connectorName) {
         Resource<KafkaConnector> resource = Crds.kafkaConnectorOperation(client)
                 .inNamespace(NAMESPACE)
@@ -639,7 +671,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -661,8 +693,7 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(any(),
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -681,6 +712,228 @@ public class ConnectorMockTest {
         assertThat(connectDeleted.size(), is(1));
     }
 
+    /** Create connect, create connector, reconcile connect without per-connector config and status requests */
+    @Test
+    public void testConnectReconciliationUsesBulkConnectorState(VertxTestContext context) {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        KafkaConnect connect = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+            .build();
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).resource(connect).create();
+        waitForConnectReady(connectName);
+
+        KafkaConnector connector = new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(connectorName)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withTasksMax(1)
+                    .withClassName("Dummy")
+                .endSpec()
+            .build();
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
+        waitForConnectorReady(connectorName);
+
+        clearInvocations(api);
+
+        // The KafkaConnector controller might reconcile the connector concurrently => only the calls from this reconciliation are verified
+        Reconciliation reconciliation = new Reconciliation("test", "KafkaConnect", NAMESPACE, connectName);
+        Checkpoint async = context.checkpoint();
+        kafkaConnectOperator.reconcile(reconciliation)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(api, times(1)).listWithStatusAndInfo(same(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT));
+                verify(api, never()).getConnectorConfig(same(reconciliation), any(), eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).status(same(reconciliation), eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).statusWithBackOff(same(reconciliation), any(), eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).createOrUpdatePutRequest(same(reconciliation), eq(host), anyInt(), eq(connectorName), any());
+                // The topics were fetched when the connector was created and are still cached
+                verify(api, never()).getConnectorTopics(same(reconciliation), eq(host), anyInt(), eq(connectorName));
+                async.flag();
+            })));
+    }
+
+    /** Create connect, create connector, update connector while the Connect cluster reconciliation holds its lock */
+    @Test
+    public void testConnectorUpdatedWhileConnectReconciliationIsInProgress() throws InterruptedException, ExecutionException, TimeoutException {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        KafkaConnect connect = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+            .build();
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).resource(connect).create();
+        waitForConnectReady(connectName);
+
+        KafkaConnector connector = new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(connectorName)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withTasksMax(1)
+                    .withClassName("Dummy")
+                .endSpec()
+            .build();
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
+        waitForConnectorReady(connectorName);
+
+        verify(api, timeout(10_000).times(1)).createOrUpdatePutRequest(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+
+        // Hold the lock of the Connect cluster as a long-running Connect reconciliation would
+        Lock connectLock = vertx.sharedData().getLockWithTimeout("lock::" + NAMESPACE + "::" + KafkaConnect.RESOURCE_KIND + "::" + connectName, 10_000)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        try {
+            Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).withName(connectorName).edit(c -> new KafkaConnectorBuilder(c)
+                    .editSpec()
+                        .withTasksMax(2)
+                    .endSpec()
+                    .build());
+
+            // The connector is updated without waiting for the lock of the Connect cluster
+            verify(api, timeout(10_000).times(2)).createOrUpdatePutRequest(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+        } finally {
+            connectLock.release();
+        }
+    }
+
+    private void createReadyConnect(String connectName) {
+        KafkaConnect connect = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+            .build();
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).resource(connect).create();
+        waitForConnectReady(connectName);
+    }
+
+    private KafkaConnector createReadyConnector(String connectName, String connectorName) {
+        KafkaConnector connector = new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(connectorName)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withTasksMax(1)
+                    .withClassName("Dummy")
+                .endSpec()
+            .build();
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
+        waitForConnectorReady(connectorName);
+
+        return Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).withName(connectorName).get();
+    }
+
+    /**
+     * Runs the connector step of the Connect cluster reconciliation with the connector and its state as they were
+     * listed by the Connect cluster reconciliation before the controller changed them.
+     */
+    private boolean reconcileConnectorFromConnectSnapshot(String connectName, String connectorName, KafkaConnector listedConnector,
+                                                          AbstractConnectOperator.ConnectorSnapshot listedState) throws InterruptedException, ExecutionException, TimeoutException {
+        return kafkaConnectOperator.reconcileConnectorAndUpdateStatus(new Reconciliation("test", KafkaConnect.RESOURCE_KIND, NAMESPACE, connectName),
+                        KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE), api, true, connectorName, listedConnector, listedState, true)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private AbstractConnectOperator.ConnectorSnapshot listedConnectorState(String connectName, String connectorName) {
+        return AbstractConnectOperator.ConnectorSnapshot.fromExpandedList(api.listWithStatusAndInfo(null,
+                KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE), KafkaConnectCluster.REST_API_PORT).result().get(connectorName));
+    }
+
+    /** The Connect reconciliation listed the connector, then the controller deleted it => the connector is not re-created */
+    @Test
+    public void testConnectReconciliationDoesNotRecreateConnectorDeletedByController() throws InterruptedException, ExecutionException, TimeoutException {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        createReadyConnect(connectName);
+        KafkaConnector listedConnector = createReadyConnector(connectName, connectorName);
+        AbstractConnectOperator.ConnectorSnapshot listedState = listedConnectorState(connectName, connectorName);
+
+        // The controller deletes the connector after the Connect reconciliation listed it
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).withName(connectorName).delete();
+        waitFor("delete call on connect REST api", 100, 10_000, () -> runningConnectors.isEmpty());
+
+        assertThat(reconcileConnectorFromConnectSnapshot(connectName, connectorName, listedConnector, listedState), is(true));
+
+        assertThat(runningConnectors.keySet(), is(empty()));
+        verify(api, times(1)).createOrUpdatePutRequest(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+    }
+
+    /** The Connect reconciliation listed no connector, then the controller created it => the connector is not deleted */
+    @Test
+    public void testConnectReconciliationDoesNotDeleteConnectorCreatedByController() throws InterruptedException, ExecutionException, TimeoutException {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        createReadyConnect(connectName);
+        // The controller creates the connector after the Connect reconciliation listed the (still empty) connectors
+        createReadyConnector(connectName, connectorName);
+
+        assertThat(reconcileConnectorFromConnectSnapshot(connectName, connectorName, null, null), is(true));
+
+        assertThat(runningConnectors.keySet(), is(Collections.singleton(key(host, connectorName))));
+        verify(api, never()).delete(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+    }
+
+    /** The Connect reconciliation listed the connector, then the controller updated it => the stale spec is not applied */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConnectReconciliationDoesNotApplyStaleConnectorSpec() throws InterruptedException, ExecutionException, TimeoutException {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        createReadyConnect(connectName);
+        KafkaConnector listedConnector = createReadyConnector(connectName, connectorName);
+
+        // The controller applies the new spec after the Connect reconciliation listed the KafkaConnector resources
+        // but before it listed the running connectors
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).withName(connectorName).edit(c -> new KafkaConnectorBuilder(c)
+                .editSpec()
+                    .withTasksMax(2)
+                .endSpec()
+                .build());
+        verify(api, timeout(10_000).times(2)).createOrUpdatePutRequest(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+        AbstractConnectOperator.ConnectorSnapshot listedState = listedConnectorState(connectName, connectorName);
+        clearInvocations(api);
+
+        assertThat(reconcileConnectorFromConnectSnapshot(connectName, connectorName, listedConnector, listedState), is(true));
+
+        ArgumentCaptor<JsonObject> configs = ArgumentCaptor.forClass(JsonObject.class);
+        verify(api, atLeast(0)).createOrUpdatePutRequest(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), configs.capture());
+        assertThat(configs.getAllValues().stream().allMatch(config -> "2".equals(String.valueOf(config.getValue("tasks.max")))), is(true));
+    }
+
     /** Create connector, create connect, delete connector, delete connect */
     @Test
     public void testConnectorConnectConnectorConnect() {
@@ -701,7 +954,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
             "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(any(),
+        verify(api, never()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -724,7 +977,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // Might be triggered multiple times (Connect creation, Connector Status update, Connect Status update), depending on the timing
         verify(api, atLeastOnce()).createOrUpdatePutRequest(any(),
@@ -765,7 +1018,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -787,7 +1040,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered twice (Connect creation, Connector Status update)
         verify(api, times(1)).createOrUpdatePutRequest(any(),
@@ -828,7 +1081,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
                 "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(any(),
+        verify(api, never()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -851,7 +1104,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // Triggered once or twice (Connect creation, Connector Status update), depending on the timing
         verify(api, atLeastOnce()).createOrUpdatePutRequest(any(),
@@ -993,7 +1246,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered at least once (Connect creation)
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1013,8 +1266,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName,
                 "ConnectRestException", "GET /foo returned 500 (Internal server error): Bad stuff happened");
 
-        verify(api, times(2)).list(any(),
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         // Might be triggered multiple times depending on the timing
         verify(api, atLeastOnce()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1043,7 +1295,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1065,8 +1317,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(any(),
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -1131,7 +1382,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1153,8 +1404,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(any(),
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1214,7 +1464,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1236,8 +1486,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(any(),
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1295,7 +1544,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1317,8 +1566,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(any(),
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1377,7 +1625,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1399,8 +1647,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(any(),
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1458,7 +1705,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -1480,14 +1727,13 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(any(),
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1524,7 +1770,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(any(),
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -1546,14 +1792,13 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(any(),
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verifyConnectReconciledTwice(connectName);
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1666,7 +1911,7 @@ public class ConnectorMockTest {
         String connectName = "cluster";
 
         // this connector should be deleted on connect reconciliation
-        when(api.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(List.of("connector")));
+        when(api.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(Map.of("connector", Map.of())));
         when(api.delete(any(), anyString(), anyInt(), anyString())).thenReturn(Future.failedFuture(new RuntimeException("deletion error")));
 
         KafkaConnect kafkaConnect = new KafkaConnectBuilder()
@@ -1683,6 +1928,106 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
     }
 
+    @Test
+    void testConnectorReconciliationMetricsAreSharedByControllerAndConnect(VertxTestContext context) {
+        String connectName = "cluster";
+        String connectorName = "connector";
+
+        KafkaConnect kafkaConnect = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).resource(kafkaConnect).create();
+        waitForConnectReady(connectName);
+
+        KafkaConnector connector = defaultKafkaConnectorBuilder()
+                .editMetadata()
+                    .withName(connectorName)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .build();
+
+        // The connector is reconciled by the KafkaConnector controller
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
+        waitForConnectorReady(connectorName);
+
+        MeterRegistry meterRegistry = metricsProvider.meterRegistry();
+
+        Promise<Void> reconciled = Promise.promise();
+        // The connector is reconciled by the reconciliation of the Connect cluster
+        kafkaConnectOperator.reconcileAll("test", NAMESPACE, ignored -> reconciled.complete());
+
+        Checkpoint async = context.checkpoint();
+        reconciled.future().onComplete(context.succeeding(v -> context.verify(() -> {
+            // Both paths record the connector reconciliations into a single time series
+            Collection<Counter> reconciliations = meterRegistry.find("strimzi.reconciliations").tag("kind", KafkaConnector.RESOURCE_KIND).counters();
+            assertThat(reconciliations.size(), is(1));
+            assertThat(reconciliations.iterator().next().count() >= 2, is(true));
+
+            Collection<Counter> successful = meterRegistry.find("strimzi.reconciliations.successful").tag("kind", KafkaConnector.RESOURCE_KIND).counters();
+            assertThat(successful.size(), is(1));
+            assertThat(successful.iterator().next().count() >= 2, is(true));
+            async.flag();
+        })));
+    }
+
+    @Test
+    void testConnectorControllerPeriodicRefresh() {
+        String connectName = "cluster";
+        String connectorName1 = "connector1";
+        String connectorName2 = "connector2";
+
+        KafkaConnect kafkaConnect = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).resource(kafkaConnect).create();
+        waitForConnectReady(connectName);
+
+        for (String connectorName : List.of(connectorName1, connectorName2)) {
+            KafkaConnector connector = defaultKafkaConnectorBuilder()
+                    .editMetadata()
+                        .withName(connectorName)
+                        .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                    .endMetadata()
+                    .build();
+
+            Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
+            waitForConnectorReady(connectorName);
+        }
+
+        Counter successful = metricsProvider.meterRegistry().find("strimzi.reconciliations.successful").tag("kind", KafkaConnector.RESOURCE_KIND).counter();
+        double successfulBefore = successful.count();
+
+        clearInvocations(api);
+        connectorController.refreshAll();
+
+        // The periodic refresh lists the connectors of the Connect cluster once and reconciles all known connectors
+        // with the listed configuration and status instead of fetching them one by one
+        waitFor("periodic refresh of the connectors", 100, 10_000, () -> successful.count() >= successfulBefore + 2);
+        verify(api, times(1)).listWithStatusAndInfo(any(), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), anyInt());
+        verify(api, never()).getConnectorConfig(any(), any(), any(), anyInt(), any());
+        verify(api, never()).status(any(), any(), anyInt(), any());
+
+        Collection<Counter> periodical = metricsProvider.meterRegistry().find("strimzi.reconciliations.periodical").tag("kind", KafkaConnector.RESOURCE_KIND).counters();
+        assertThat(periodical.size(), is(1));
+        assertThat(periodical.iterator().next().count(), is(1.0));
+    }
+
     @Test
     void testConnectorResourceMetrics(VertxTestContext context) {
         String connectName1 = "cluster1";
@@ -0,0 +1,171 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CruiseControlUserTaskCacheTest {
+    private static final String HOST = "my-cluster-cruise-control.my-namespace.svc";
+    private static final int PORT = 9090;
+
+    private static CruiseControlResponse response(String userTaskId, CruiseControlUserTaskStatus status) {
+        CruiseControlResponse response = mock(CruiseControlResponse.class);
+        when(response.getUserTaskId()).thenReturn(userTaskId);
+        when(response.getJson()).thenReturn(new JsonObject().put("Status", status.toString()));
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<List<String>> polledTaskIds(CruiseControlApi api, int polls) {
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(api, times(polls)).getUserTasksStatus(eq(HOST), eq(PORT), captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    public void testStatusIsReusedWithinTtl() {
+        AtomicLong clock = new AtomicLong(0);
+        CruiseControlResponse active = response("task-1", CruiseControlUserTaskStatus.ACTIVE);
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(anyString(), anyInt(), any())).thenReturn(Future.succeededFuture(Map.of("task-1", active)));
+
+        CruiseControlUserTaskCache cache = new CruiseControlUserTaskCache(1_000, clock::get);
+
+        Future<CruiseControlUserTaskCache.UserTask> userTask = cache.getUserTask(api, HOST, PORT, "task-1");
+        assertThat(userTask.result().status(), is(CruiseControlUserTaskStatus.ACTIVE));
+        assertThat(userTask.result().proposal(), is(nullValue()));
+
+        // Still valid => not fetched again
+        clock.set(999);
+        assertThat(cache.getUserTask(api, HOST, PORT, "task-1").result().status(), is(CruiseControlUserTaskStatus.ACTIVE));
+        polledTaskIds(api, 1);
+
+        // Expired => fetched again
+        clock.set(1_000);
+        assertThat(cache.getUserTask(api, HOST, PORT, "task-1").result().status(), is(CruiseControlUserTaskStatus.ACTIVE));
+        polledTaskIds(api, 2);
+    }
+
+    @Test
+    public void testTasksOfTheSameHostArePolledTogether() {
+        AtomicLong clock = new AtomicLong(0);
+        CruiseControlResponse active1 = response("task-1", CruiseControlUserTaskStatus.ACTIVE);
+        CruiseControlResponse active2 = response("task-2", CruiseControlUserTaskStatus.ACTIVE);
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", active1)))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", active1, "task-2", active2)));
+
+        CruiseControlUserTaskCache cache = new CruiseControlUserTaskCache(1_000, clock::get);
+
+        cache.getUserTask(api, HOST, PORT, "task-1");
+        // task-2 is not known yet => both tasks are fetched at once
+        cache.getUserTask(api, HOST, PORT, "task-2");
+
+        // Both tasks are valid now and served from the cache
+        clock.set(500);
+        assertThat(cache.getUserTask(api, HOST, PORT, "task-1").result().status(), is(CruiseControlUserTaskStatus.ACTIVE));
+        assertThat(cache.getUserTask(api, HOST, PORT, "task-2").result().status(), is(CruiseControlUserTaskStatus.ACTIVE));
+
+        List<List<String>> polls = polledTaskIds(api, 2);
+        assertThat(polls.get(0), is(List.of("task-1")));
+        assertThat(polls.get(1), is(List.of("task-1", "task-2")));
+    }
+
+    @Test
+    public void testInFlightPollIsShared() {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        Promise<Map<String, CruiseControlResponse>> poll = Promise.promise();
+        when(api.getUserTasksStatus(anyString(), anyInt(), any())).thenReturn(poll.future());
+
+        CruiseControlUserTaskCache cache = new CruiseControlUserTaskCache(1_000, () -> 0);
+
+        Future<CruiseControlUserTaskCache.UserTask> first = cache.getUserTask(api, HOST, PORT, "task-1");
+        Future<CruiseControlUserTaskCache.UserTask> second = cache.getUserTask(api, HOST, PORT, "task-1");
+        assertThat(first.isComplete(), is(false));
+        assertThat(second.isComplete(), is(false));
+
+        poll.complete(Map.of("task-1", response("task-1", CruiseControlUserTaskStatus.IN_EXECUTION)));
+
+        assertThat(first.result().status(), is(CruiseControlUserTaskStatus.IN_EXECUTION));
+        assertThat(second.result(), sameInstance(first.result()));
+        polledTaskIds(api, 1);
+    }
+
+    @Test
+    public void testCompletedTasksAreNotPolledAgain() {
+        AtomicLong clock = new AtomicLong(0);
+        CruiseControlResponse completedWithError = response("task-1", CruiseControlUserTaskStatus.COMPLETED_WITH_ERROR);
+        CruiseControlResponse active = response("task-2", CruiseControlUserTaskStatus.ACTIVE);
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", completedWithError)))
+                .thenReturn(Future.succeededFuture(Map.of("task-2", active)));
+
+        CruiseControlUserTaskCache cache = new CruiseControlUserTaskCache(1_000, clock::get);
+
+        assertThat(cache.getUserTask(api, HOST, PORT, "task-1").result().isFinal(), is(true));
+
+        // Final status does not expire and is not included in the next poll
+        clock.set(10_000);
+        assertThat(cache.getUserTask(api, HOST, PORT, "task-1").result().status(), is(CruiseControlUserTaskStatus.COMPLETED_WITH_ERROR));
+        cache.getUserTask(api, HOST, PORT, "task-2");
+
+        List<List<String>> polls = polledTaskIds(api, 2);
+        assertThat(polls.get(1), is(List.of("task-2")));
+    }
+
+    @Test
+    public void testStatusIsNotReparsedWhenUnchanged() {
+        JsonObject previousJson = new JsonObject().put("Status", CruiseControlUserTaskStatus.IN_EXECUTION.toString());
+        CruiseControlUserTaskCache.UserTask previous = CruiseControlUserTaskCache.UserTask.fromJson(previousJson, null);
+
+        assertThat(CruiseControlUserTaskCache.UserTask.fromJson(new JsonObject().put("Status", CruiseControlUserTaskStatus.IN_EXECUTION.toString()), previous), sameInstance(previous));
+        assertThat(CruiseControlUserTaskCache.UserTask.fromJson(new JsonObject().put("Status", CruiseControlUserTaskStatus.COMPLETED.toString()), previous), not(sameInstance(previous)));
+    }
+
+    @Test
+    public void testMissingTaskAndRemoval() {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(anyString(), anyInt(), any())).thenReturn(Future.succeededFuture(Map.of()));
+
+        CruiseControlUserTaskCache cache = new CruiseControlUserTaskCache(1_000, () -> 0);
+
+        Future<CruiseControlUserTaskCache.UserTask> userTask = cache.getUserTask(api, HOST, PORT, "task-1");
+        assertThat(userTask.failed(), is(true));
+        assertThat(userTask.cause(), instanceOf(CruiseControlRestException.class));
+        assertThat(cache.size(), is(1));
+
+        cache.remove(HOST, "task-1");
+        assertThat(cache.size(), is(0));
+    }
+}
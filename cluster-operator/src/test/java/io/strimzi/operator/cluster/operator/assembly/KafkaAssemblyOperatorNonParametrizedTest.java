@@ -404,6 +404,12 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 30,
                 false,
                 1024,
+                4,
+                1,
+                4,
+                ClusterOperatorConfig.DEFAULT_CRUISE_CONTROL_CACHE_TTL_MS,
+                ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_ENABLED,
+                ClusterOperatorConfig.DEFAULT_IN_JVM_CERT_MANAGER_ENABLED,
                 "cluster-operator-name",
                 ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null);
 
@@ -15,11 +15,15 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 @ExtendWith(VertxExtension.class)
 public class KafkaConnectApiImplTest {
@@ -62,6 +66,36 @@ public class KafkaConnectApiImplTest {
                 })));
     }
 
+    @Test
+    public void testListWithStatusAndInfo(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        String response = "{\"my-connector\": {" +
+                "\"status\": {\"name\": \"my-connector\", \"connector\": {\"state\": \"RUNNING\", \"worker_id\": \"worker:8083\"}, \"tasks\": [], \"type\": \"source\"}, " +
+                "\"info\": {\"name\": \"my-connector\", \"config\": {\"name\": \"my-connector\", \"tasks.max\": \"1\"}, \"tasks\": [], \"type\": \"source\"}}}";
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            if ("/connectors".equals(request.path()) && request.params().getAll("expand").containsAll(List.of("status", "info"))) {
+                request.response().setStatusCode(200).end(response);
+            } else {
+                request.response().setStatusCode(404).end();
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+
+        Checkpoint async = context.checkpoint();
+        api.listWithStatusAndInfo(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                    assertThat(connectors.keySet(), is(Set.of("my-connector")));
+
+                    AbstractConnectOperator.ConnectorSnapshot snapshot = AbstractConnectOperator.ConnectorSnapshot.fromExpandedList(connectors.get("my-connector"));
+                    assertThat(snapshot.config(), is(Map.of("name", "my-connector", "tasks.max", "1")));
+                    assertThat(snapshot.status().get("connector"), is(Map.of("state", "RUNNING", "worker_id", "worker:8083")));
+                    assertThat(AbstractConnectOperator.ConnectorSnapshot.fromExpandedList(connectors.get("other-connector")).config(), is(nullValue()));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
     HttpServer mockApi(Vertx vertx, String error) throws InterruptedException, ExecutionException {
         HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(500).end(error));
 
@@ -20,6 +20,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.IngressOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.common.operator.resource.ResourceFingerprints;
 import io.strimzi.operator.common.operator.resource.RouteOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
@@ -285,7 +286,7 @@ public class KafkaListenerReconcilerSkipBootstrapLoadBalancerTest {
         ServiceOperator mockServiceOperator = supplier.serviceOperations;
 
         // Delegate the batchReconcile call to the real method which calls the other mocked methods. This allows us to better test the exact behavior.
-        when(mockServiceOperator.batchReconcile(any(), eq(NAMESPACE), any(), any())).thenCallRealMethod();
+        when(mockServiceOperator.batchReconcile(any(), eq(NAMESPACE), any(), any(), any())).thenCallRealMethod();
 
         // Mock getting of services and their readiness
         when(mockServiceOperator.getAsync(eq(NAMESPACE), eq(CLUSTER_NAME + "-kafka-external-bootstrap"))).thenReturn(Future.succeededFuture(mockServiceBootstrap));
@@ -319,7 +320,7 @@ public class KafkaListenerReconcilerSkipBootstrapLoadBalancerTest {
                 ServiceOperator serviceOperator,
                 RouteOperator routeOperator,
                 IngressOperator ingressOperator) {
-            super(reconciliation, kafka, null, pfa, 300_000L, secretOperator, serviceOperator, routeOperator, ingressOperator);
+            super(reconciliation, kafka, null, pfa, 300_000L, secretOperator, serviceOperator, routeOperator, ingressOperator, new ResourceFingerprints());
         }
 
         @Override
@@ -71,6 +71,7 @@ public class StrimziPodSetControllerIT {
     private static final String OTHER_KAFKA_NAME = "bar";
     private static final Map<String, String> OTHER_LABELS = Map.of("selector", "not-matching");
     private static final int POD_SET_CONTROLLER_WORK_QUEUE_SIZE = 1024;
+    private static final int POD_SET_CONTROLLER_WORKERS = 4;
 
     private static KubernetesClient client;
     private static KubeClusterResource cluster;
@@ -236,7 +237,7 @@ public class StrimziPodSetControllerIT {
     }
 
     private static void startController()  {
-        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, ResourceUtils.metricsProvider(), POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
+        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, ResourceUtils.metricsProvider(), POD_SET_CONTROLLER_WORK_QUEUE_SIZE, POD_SET_CONTROLLER_WORKERS);
         controller.start();
     }
 
@@ -36,6 +36,7 @@ import io.strimzi.operator.cluster.operator.resource.PodRevision;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
@@ -54,7 +55,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -238,7 +243,7 @@ public class StrimziPodSetControllerMockTest {
     }
 
     private void startController()  {
-        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
+        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS);
         controller.start();
     }
 
@@ -779,4 +784,85 @@ public class StrimziPodSetControllerMockTest {
             podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
         }
     }
+
+    /**
+     * Tests that the informers and the pod creation executor are stopped only after the workers finish their
+     * reconciliations.
+     *
+     * @throws InterruptedException When interrupted while waiting
+     */
+    @Test
+    public void testStopWaitsForTheWorkers() throws InterruptedException {
+        // The controller from the setup is replaced with a controller which blocks the reconciliations
+        stopController();
+
+        CountDownLatch reconciling = new CountDownLatch(2);
+        CountDownLatch releaseControllerThread = new CountDownLatch(1);
+        CountDownLatch releaseWorkerThread = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        Set<String> blockedThreads = ConcurrentHashMap.newKeySet();
+        AtomicBoolean workerReleasedBeforeStop = new AtomicBoolean(false);
+
+        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE, 2) {
+            @Override
+            protected ControllerMetricsHolder metrics() {
+                // The metrics are used first when a reconciliation starts => the first reconciliation of each thread
+                // is blocked there and ignores the interrupts like a blocking Kubernetes API call
+                if (blockedThreads.add(Thread.currentThread().getName())) {
+                    reconciling.countDown();
+                    awaitUninterruptibly("StrimziPodSetController".equals(Thread.currentThread().getName()) ? releaseControllerThread : releaseWorkerThread);
+                }
+
+                return super.metrics();
+            }
+
+            @Override
+            protected void stopController() {
+                workerReleasedBeforeStop.set(releaseWorkerThread.getCount() == 0);
+                super.stopController();
+                stopped.countDown();
+            }
+        };
+        controller.start();
+
+        podSetOp().inNamespace(NAMESPACE).resource(podSet("stop-test-1", KAFKA_NAME, "Kafka", pod("stop-test-1-0", KAFKA_NAME, "stop-test-1", "Kafka"))).create();
+        podSetOp().inNamespace(NAMESPACE).resource(podSet("stop-test-2", KAFKA_NAME, "Kafka", pod("stop-test-2-0", KAFKA_NAME, "stop-test-2", "Kafka"))).create();
+
+        try {
+            // Both the controller thread and the worker thread are reconciling
+            assertThat(reconciling.await(10, TimeUnit.SECONDS), is(true));
+
+            controller.stop();
+            releaseControllerThread.countDown();
+
+            // The controller thread finished its reconciliation, but it waits for the worker
+            assertThat(stopped.await(500, TimeUnit.MILLISECONDS), is(false));
+
+            releaseWorkerThread.countDown();
+            assertThat(stopped.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(workerReleasedBeforeStop.get(), is(true));
+        } finally {
+            releaseControllerThread.countDown();
+            releaseWorkerThread.countDown();
+            podSetOp().inNamespace(NAMESPACE).withName("stop-test-1").delete();
+            podSetOp().inNamespace(NAMESPACE).withName("stop-test-2").delete();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.net.PemTrustOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class HttpClientPoolTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @AfterEach
+    public void clear() {
+        HttpClientPool.clear();
+    }
+
+    private static HttpClientOptions tlsOptions(String cert) {
+        return new HttpClientOptions()
+                .setSsl(true)
+                .setPemTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer(cert)));
+    }
+
+    @Test
+    public void testClientsAreReused() {
+        HttpClientPool.PooledHttpClient client = HttpClientPool.acquire(vertx, "my-host", 8080, new HttpClientOptions());
+        client.release();
+        HttpClientPool.PooledHttpClient client2 = HttpClientPool.acquire(vertx, "my-host", 8080, new HttpClientOptions());
+        client2.release();
+
+        assertThat(client2, is(sameInstance(client)));
+        assertThat(HttpClientPool.size(), is(1));
+    }
+
+    @Test
+    public void testClientsAreKeyedByHostPortAndOptions() {
+        HttpClientPool.PooledHttpClient client = HttpClientPool.acquire(vertx, "my-host", 8080, tlsOptions("cert-1"));
+
+        assertThat(HttpClientPool.acquire(vertx, "my-host", 8080, tlsOptions("cert-1")), is(sameInstance(client)));
+        assertThat(HttpClientPool.acquire(vertx, "my-other-host", 8080, tlsOptions("cert-1")), is(not(sameInstance(client))));
+        assertThat(HttpClientPool.acquire(vertx, "my-host", 8443, tlsOptions("cert-1")), is(not(sameInstance(client))));
+        // Changed certificates => new client
+        assertThat(HttpClientPool.acquire(vertx, "my-host", 8080, tlsOptions("cert-2")), is(not(sameInstance(client))));
+        assertThat(HttpClientPool.size(), is(4));
+    }
+
+    @Test
+    public void testIdleClientsAreEvicted() {
+        HttpClientPool.PooledHttpClient idle = HttpClientPool.acquire(vertx, "my-host", 8080, new HttpClientOptions());
+        idle.release();
+        HttpClientPool.acquire(vertx, "my-other-host", 8080, new HttpClientOptions());
+
+        HttpClientPool.evictIdleClients(System.nanoTime() + HttpClientPool.IDLE_EVICTION_MS * 1_000_000L + 1);
+
+        // Only the client without in-flight requests is evicted
+        assertThat(HttpClientPool.size(), is(1));
+        assertThat(HttpClientPool.acquire(vertx, "my-host", 8080, new HttpClientOptions()), is(not(sameInstance(idle))));
+    }
+
+    @Test
+    public void testEvictionTimerRunsOnlyWithClients() {
+        HttpClientPool.acquire(vertx, "my-host", 8080, new HttpClientOptions()).release();
+        assertThat(HttpClientPool.hasEvictionTimer(vertx), is(true));
+
+        HttpClientPool.evictIdleClients(System.nanoTime() + HttpClientPool.IDLE_EVICTION_MS * 1_000_000L + 1);
+
+        // The timer is cancelled with the last client
+        assertThat(HttpClientPool.size(), is(0));
+        assertThat(HttpClientPool.hasEvictionTimer(vertx), is(false));
+    }
+
+    @Test
+    public void testMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool.setMetricsProvider(new MicrometerMetricsProvider(registry));
+
+        HttpClientPool.PooledHttpClient client = HttpClientPool.acquire(vertx, "my-host", 8080, new HttpClientOptions().setMetricsName("my-client"));
+        HttpClientPool.acquire(vertx, "my-other-host", 8080, new HttpClientOptions().setMetricsName("my-client"));
+        HttpClientPool.acquire(vertx, "my-host", 8080, new HttpClientOptions().setMetricsName("my-other-client"));
+        client.release();
+
+        Gauge clients = registry.find("strimzi.http.client.pool.clients").tag("client", "my-client").gauge();
+        Gauge inFlight = registry.find("strimzi.http.client.pool.requests.in.flight").tag("client", "my-client").gauge();
+        assertThat(clients.value(), is(2.0));
+        assertThat(inFlight.value(), is(1.0));
+        assertThat(registry.find("strimzi.http.client.pool.clients").tag("client", "my-other-client").gauge().value(), is(1.0));
+
+        HttpClientPool.evictIdleClients(System.nanoTime() + HttpClientPool.IDLE_EVICTION_MS * 1_000_000L + 1);
+        assertThat(clients.value(), is(1.0));
+    }
+
+    @Test
+    public void testPooledOptions() {
+        HttpClientOptions options = HttpClientPool.pooledOptions(new HttpClientOptions().setLogActivity(true).setMetricsName("my-client"));
+
+        assertThat(options.isKeepAlive(), is(true));
+        assertThat(options.isPipelining(), is(false));
+        assertThat(options.getKeepAliveTimeout(), is(HttpClientPool.KEEP_ALIVE_TIMEOUT_SECONDS));
+        assertThat(options.getMaxPoolSize(), is(HttpClientPool.MAX_POOL_SIZE));
+        assertThat(options.getLogActivity(), is(true));
+        assertThat(options.getMetricsName(), is("my-client"));
+    }
+}
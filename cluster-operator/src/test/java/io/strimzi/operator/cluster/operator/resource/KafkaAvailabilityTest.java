@@ -26,6 +26,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,15 +35,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -632,4 +637,177 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testCanRollWithRestartingBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addBroker(3);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(3);
+        kafkaAvailability.canRoll(0, Set.of()).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "broker 0 should be rollable on its own");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(0, Set.of(1)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "broker 0 should not be rollable together with broker 1");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(0, Set.of(3)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "broker 0 should be rollable together with broker 3 which has no replicas");
+            a.flag();
+        })));
+    }
+
+    @Test
+    public void testBatchesRespectMinIsr() {
+        List<KafkaAvailability.PartitionReplicas> partitions = List.of(
+                new KafkaAvailability.PartitionReplicas(Set.of(0, 1, 2), Set.of(0, 1, 2), 2),
+                new KafkaAvailability.PartitionReplicas(Set.of(3, 4, 5), Set.of(3, 4, 5), 2));
+
+        List<Set<Integer>> batches = KafkaAvailability.batches(List.of(0, 1, 2, 3, 4, 5), Map.of(), -1, partitions, 3);
+
+        // Brokers sharing a partition cannot be rolled together
+        assertThat(batches, is(List.of(Set.of(0, 3), Set.of(1, 4), Set.of(2, 5))));
+    }
+
+    @Test
+    public void testBatchesWithOutOfSyncReplica() {
+        List<KafkaAvailability.PartitionReplicas> partitions = List.of(
+                new KafkaAvailability.PartitionReplicas(Set.of(0, 1, 2, 3), Set.of(0, 1, 2), 2));
+
+        List<Set<Integer>> batches = KafkaAvailability.batches(List.of(0, 1, 2, 3), Map.of(), -1, partitions, 4);
+
+        // Broker 3 is not in the ISR => it can be rolled together with another replica
+        assertThat(batches, is(List.of(Set.of(0, 3), Set.of(1), Set.of(2))));
+    }
+
+    @Test
+    public void testBatchesAreRackAware() {
+        Map<Integer, String> racks = Map.of(0, "zone-a", 1, "zone-b", 2, "zone-c", 3, "zone-a", 4, "zone-b", 5, "zone-c");
+
+        List<Set<Integer>> batches = KafkaAvailability.batches(List.of(0, 1, 2, 3, 4, 5), racks, -1, List.of(), 5);
+
+        assertThat(batches, is(List.of(Set.of(0, 3), Set.of(1, 4), Set.of(2, 5))));
+    }
+
+    @Test
+    public void testBatchesWithControllerAndMaxBatchSize() {
+        List<Set<Integer>> batches = KafkaAvailability.batches(List.of(0, 1, 2, 3, 4), Map.of(), 2, List.of(), 2);
+
+        // The controller is rolled last on its own
+        assertThat(batches, is(List.of(Set.of(0, 1), Set.of(3, 4), Set.of(2))));
+    }
+
+    @Test
+    public void testTopicConfigsAreCached(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(1)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(ignored -> kafkaAvailability.canRoll(1))
+                .compose(ignored -> kafkaAvailability.canRoll(2))
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+                    // The topics are described for each broker to get the latest ISRs, but their configs only once
+                    verify(ac, times(3)).describeTopics(any(Collection.class));
+                    verify(ac, times(1)).describeConfigs(any());
+                    a.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOnlyTopicsOfCheckedBrokerAreRefreshed(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(ignored -> kafkaAvailability.canRoll(3))
+                .compose(ignored -> kafkaAvailability.canRoll(1))
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(3)).describeTopics(captor.capture());
+                    assertThat(Set.copyOf(captor.getAllValues().get(0)), is(Set.of("A", "B")));
+                    assertThat(Set.copyOf(captor.getAllValues().get(1)), is(Set.of("B")));
+                    assertThat(Set.copyOf(captor.getAllValues().get(2)), is(Set.of("A")));
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testIsrShrinkDuringRollIsDetected(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(1)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+                    // Broker 0 drops out of the ISR for reasons unrelated to the rolling update
+                    ksb.addNewTopic("A", false).addNewPartition(0).isr(1, 2);
+                    return kafkaAvailability.canRoll(1);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll);
+                    a.flag();
+                })));
+    }
 }
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
@@ -45,11 +46,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -60,6 +64,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -77,6 +82,7 @@ public class KafkaRollerTest {
 
     private static Vertx vertx;
     private List<String> restarted;
+    private int maxRestartBatchSize = 1;
 
     @BeforeAll
     public static void before() {
@@ -161,6 +167,80 @@ public class KafkaRollerTest {
                 asList(0, 1, 3, 4, 2));
     }
 
+    @Test
+    public void testRollInBatchesWithPod2AsController(VertxTestContext testContext) {
+        maxRestartBatchSize = 2;
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(podOps, 2);
+        Checkpoint async = testContext.checkpoint();
+
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // Pods from the same batch are rolled in parallel => only the batches have a fixed order
+                    List<Integer> restarted = restarted();
+                    assertThat(restarted.size(), is(5));
+                    assertThat(restarted.subList(0, 2), containsInAnyOrder(0, 1));
+                    assertThat(restarted.subList(2, 4), containsInAnyOrder(3, 4));
+                    assertThat(restarted.get(4), is(2));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRollInBatchesWithControllerChangeAfterComputingBatches(VertxTestContext testContext) {
+        maxRestartBatchSize = 2;
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        // The batches are computed with pod 2 as the controller, but the controller moves to pod 0 before the rolling starts
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true), false, new DefaultAdminClientProvider(), false, 2) {
+            @Override
+            int controller(NodeRef nodeRef, long timeout, TimeUnit unit, RestartContext restartContext) {
+                return 0;
+            }
+        };
+        Checkpoint async = testContext.checkpoint();
+
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // Pod 0 is moved from the first batch to its own batch at the end
+                    List<Integer> restarted = restarted();
+                    assertThat(restarted.size(), is(5));
+                    assertThat(restarted.get(0), is(1));
+                    assertThat(restarted.subList(1, 3), containsInAnyOrder(3, 4));
+                    assertThat(restarted.get(3), is(2));
+                    assertThat(restarted.get(4), is(0));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRollInBatchesIgnoresVerifiedPeers(VertxTestContext testContext) {
+        maxRestartBatchSize = 2;
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        AtomicReference<TestingKafkaRoller> roller = new AtomicReference<>();
+        // Pod 1 can be rolled only when pod 0 from the same batch is not reported as restarting anymore
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(brokerId != 1 || !roller.get().restartingPeers.get(1).contains(0)),
+                false, new DefaultAdminClientProvider(), false, -1);
+        roller.set(kafkaRoller);
+        Checkpoint async = testContext.checkpoint();
+
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // Pod 0 finished its restart while pod 1 from the same batch was still being verified
+                    List<Integer> restarted = restarted();
+                    assertThat(restarted.size(), is(5));
+                    assertThat(restarted.subList(0, 2), is(List.of(0, 1)));
+                    assertThat(kafkaRoller.restartingPeers.get(1), is(Set.of()));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
     @Test
     public void tesRollWithtAControllerChange(VertxTestContext testContext) {
         PodOperator podOps = mockPodOps(podId -> succeededFuture());
@@ -587,7 +667,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -635,6 +715,7 @@ public class KafkaRollerTest {
         private final boolean delegateAdminClientCall;
         private final int[] controllers;
         private final List<String> tcpProbes = new ArrayList<>();
+        private final Map<Integer, Set<Integer>> restartingPeers = new ConcurrentHashMap<>();
 
         @SuppressWarnings("checkstyle:ParameterNumber")
         private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, List<NodeRef> nodes,
@@ -663,7 +744,9 @@ public class KafkaRollerTest {
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class)
+                    mock(KubernetesRestartEventPublisher.class),
+                    maxRestartBatchSize,
+                    ResourceUtils.metricsProvider()
             );
             this.delegateControllerCall = delegateControllerCall;
             this.delegateAdminClientCall = delegateAdminClientCall;
@@ -705,7 +788,7 @@ public class KafkaRollerTest {
 
         @Override
         protected KafkaAvailability availability(Admin ac) {
-            return new KafkaAvailability(null, null) {
+            return new KafkaAvailability(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), null) {
                 @Override
                 protected Future<Set<String>> topicNames() {
                     return succeededFuture(Collections.emptySet());
@@ -717,7 +800,18 @@ public class KafkaRollerTest {
                 }
 
                 @Override
-                Future<Boolean> canRoll(int podId) {
+                protected Future<Map<Integer, String>> racks() {
+                    return succeededFuture(Map.of());
+                }
+
+                @Override
+                protected Future<Integer> controller() {
+                    return succeededFuture(controllers[controllers.length - 1]);
+                }
+
+                @Override
+                Future<Boolean> canRoll(int podId, Set<Integer> restartingBrokers) {
+                    restartingPeers.put(podId, restartingBrokers);
                     return canRollFn.apply(podId);
                 }
             };
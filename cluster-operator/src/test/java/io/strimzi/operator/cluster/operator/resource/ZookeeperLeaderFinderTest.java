@@ -8,10 +8,15 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.ClusterOperator;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
@@ -84,7 +89,11 @@ public class ZookeeperLeaderFinderTest {
         private final int[] ports;
 
         public TestingZookeeperLeaderFinder(Supplier<BackOff> backOffSupplier, int[] ports) {
-            super(vertx, backOffSupplier);
+            this(backOffSupplier, ports, null);
+        }
+
+        public TestingZookeeperLeaderFinder(Supplier<BackOff> backOffSupplier, int[] ports, MetricsProvider metricsProvider) {
+            super(vertx, backOffSupplier, metricsProvider);
             this.ports = ports;
         }
 
@@ -388,6 +397,89 @@ public class ZookeeperLeaderFinderTest {
             })));
     }
 
+    @Test
+    public void testLastKnownLeaderIsCheckedFirst(VertxTestContext context) throws InterruptedException {
+        String leaderPod = "my-cluster-kafka-1";
+
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == 1);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports, new MicrometerMetricsProvider(registry));
+        Set<String> pods = new TreeSet<>(Set.of(createPodWithId(0), createPodWithId(1), createPodWithId(2)));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret())
+            .compose(leader -> {
+                context.verify(() -> {
+                    assertThat(leader, is(leaderPod));
+                    // No leader is known yet => all pods are checked
+                    for (FakeZk zk : zks) {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
+                    }
+                });
+
+                return finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret());
+            })
+            .onComplete(context.succeeding(leader -> context.verify(() -> {
+                assertThat(leader, is(leaderPod));
+                // The last known leader is still the leader => other pods are not checked
+                assertThat(zks.get(0).attempts.get(), is(1));
+                assertThat(zks.get(1).attempts.get(), is(2));
+                assertThat(zks.get(2).attempts.get(), is(1));
+
+                Timer timer = registry.find("strimzi.zookeeper.leader.discovery").timer();
+                assertThat(timer.count(), is(2L));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testLeaderChangeIsDetected(VertxTestContext context) throws InterruptedException {
+        // ZK 1 is the leader on the first attempt and ZK 0 on all further attempts
+        int[] ports = startMockZks(context, 2, (id, attempt) -> attempt == 0 ? id == 1 : id == 0);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), dummySecret(), dummySecret())
+            .compose(leader -> {
+                context.verify(() -> assertThat(leader, is("my-cluster-kafka-1")));
+
+                return finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), dummySecret(), dummySecret());
+            })
+            .onComplete(context.succeeding(leader -> context.verify(() -> {
+                assertThat(leader, is("my-cluster-kafka-0"));
+                for (FakeZk zk : zks) {
+                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(2));
+                }
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testForgottenLeaderIsNotUsedAsHint(VertxTestContext context) throws InterruptedException {
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == 1);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), dummySecret(), dummySecret())
+            .compose(leader -> {
+                context.verify(() -> assertThat(leader, is("my-cluster-kafka-1")));
+                finder.forgetLeader(Reconciliation.DUMMY_RECONCILIATION);
+
+                return finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), dummySecret(), dummySecret());
+            })
+            .onComplete(context.succeeding(leader -> context.verify(() -> {
+                assertThat(leader, is("my-cluster-kafka-1"));
+                // Without the hint, all pods are tested again
+                for (FakeZk zk : zks) {
+                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(2));
+                }
+                a.flag();
+            })));
+    }
+
     String createPodWithId(int id) {
         return "my-cluster-kafka-" + id;
     }
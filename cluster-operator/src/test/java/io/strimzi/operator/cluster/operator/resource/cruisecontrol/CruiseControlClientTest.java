@@ -126,6 +126,24 @@ public class CruiseControlClientTest {
         }));
     }
 
+    @Test
+    public void testCCGetRebalanceUserTasks(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        CruiseControlApi client = cruiseControlClientProvider(vertx);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, List.of(userTaskID)).onComplete(context.succeeding(result -> {
+            context.verify(() -> assertThat(result.size(), is(1)));
+            context.verify(() -> assertThat(result.get(userTaskID).getUserTaskId(), is(userTaskID)));
+            context.verify(() -> assertThat(result.get(userTaskID).getJson().getString("Status"), is(CruiseControlUserTaskStatus.COMPLETED.toString())));
+            context.verify(() -> assertThat(result.get(userTaskID).getJson().getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()), is(notNullValue())));
+            checkpoint.flag();
+        }));
+    }
+
     @Test
     public void testCCAddBroker(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
         AddBrokerOptions options = new AddBrokerOptions.AddBrokerOptionsBuilder()
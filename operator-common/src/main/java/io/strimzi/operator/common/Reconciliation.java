@@ -30,6 +30,7 @@ public class Reconciliation {
     private final String name;
     private final int id;
     private final Marker marker;
+    private final String description;
 
     /**
      * Constructs the reconciliation marker
@@ -46,6 +47,8 @@ public class Reconciliation {
         this.name = name;
         this.id = IDS.getAndIncrement();
         this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
+        // Used as the prefix of all log messages of this reconciliation => built only once
+        this.description = "Reconciliation #" + id + "(" + trigger + ") " + kind + "(" + namespace + "/" + name + ")";
     }
 
     /**
@@ -78,6 +81,6 @@ public class Reconciliation {
 
     @Override
     public String toString() {
-        return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
+        return description;
     }
 }
@@ -24,7 +24,6 @@ public abstract class AbstractControllerLoop {
     private final String name;
     private final Thread controllerThread;
     private final ControllerQueue workQueue;
-    private final ReconciliationLockManager lockManager;
     private final ScheduledExecutorService scheduledExecutor;
 
     private volatile boolean stop = false;
@@ -36,24 +35,27 @@ public abstract class AbstractControllerLoop {
      *
      * @param name                  The name of this controller loop. The name should help to identify what kind
      *                              of look this is and what does it control / reconciler.
-     * @param workQueue             Queue from which events should be consumed
-     * @param lockManager           Lock manager for making sure no parallel reconciliations for a given resource can happen
+     * @param workQueue             Queue from which events should be consumed. The queue should not be shared with
+     *                              other controller loops reconciling the same resources in parallel (use the
+     *                              ShardedControllerQueue to split the work between multiple loops).
      * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
      */
-    public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor) {
+    public AbstractControllerLoop(String name, ControllerQueue workQueue, ScheduledExecutorService scheduledExecutor) {
         this.name = name;
         this.workQueue = workQueue;
-        this.lockManager = lockManager;
         this.scheduledExecutor = scheduledExecutor;
         this.controllerThread = new Thread(new Runner(), name);
     }
 
     /**
-     * The main reconciliation logic which handles the reconciliations.
+     * The main reconciliation logic which handles the reconciliations. When the reconciliation is not successful, the
+     * resource is re-queued with an exponential backoff.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  True if the reconciliation was successful. False otherwise.
      */
-    protected abstract void reconcile(Reconciliation reconciliation);
+    protected abstract boolean reconcile(Reconciliation reconciliation);
 
     /**
      * Returns the Controller Metrics Holder instance, which is used to hold the various controller metrics
@@ -101,41 +103,29 @@ public abstract class AbstractControllerLoop {
     }
 
     /**
-     * Wrapper method to handle obtaining the lock for the resource or re-queueing the reconciliation if the lock is in
-     * use. When it gets the lock, it calls the reconcileWrapper method.
+     * Wrapper method to handle the reconciliation result. When the reconciliation fails, the resource is re-queued with
+     * a backoff calculated by the queue's rate limiter. No lock is needed here: the work queue never hands out the same
+     * resource to multiple controller loops in parallel.
      *
      * @param reconciliation    Reconciliation marker
      */
-    private void reconcileWithLock(SimplifiedReconciliation reconciliation) {
-        String lockName = reconciliation.lockName();
-        boolean requeue = false;
+    private void reconcileWithBackoff(SimplifiedReconciliation reconciliation) {
+        boolean successful = false;
 
         try {
-            boolean locked = lockManager.tryLock(lockName, 1_000, TimeUnit.MILLISECONDS);
-
-            if (locked) {
-                try {
-                    reconcileWrapper(reconciliation.toReconciliation());
-                } finally {
-                    // We have to unlock the resource in any situation
-                    lockManager.unlock(lockName);
-                }
-            } else {
-                // Failed to get the lock => other reconciliation is in progress
-                LOGGER.warnOp("{}: Failed to acquire lock {}. The resource will be re-queued for later.", name, lockName);
-                metrics().lockedReconciliationsCounter(reconciliation.namespace).increment();
-                requeue = true;
-            }
-
-        } catch (InterruptedException e) {
-            LOGGER.warnOp("{}: Interrupted while trying to acquire lock {}. The resource will be re-queued for later.", name, lockName);
-            metrics().lockedReconciliationsCounter(reconciliation.namespace).increment();
-            requeue = true;
+            successful = reconcileWrapper(reconciliation.toReconciliation());
+        } catch (Exception e) {
+            LOGGER.warnOp("{}: reconciliation of {} failed", name, reconciliation.lockName(), e);
         }
 
-        // Failed to get the lock. We will requeue the resource for next time
-        if (requeue) {
-            workQueue.enqueue(reconciliation);
+        if (successful) {
+            // Reset the backoff for this resource
+            workQueue.forget(reconciliation);
+        } else {
+            // The reconciliation failed. We will requeue the resource with a backoff. The queue will add it back once
+            // the delay expires and this reconciliation is marked as done.
+            LOGGER.debugOp("{}: Reconciliation of {} was not successful. The resource will be re-queued with backoff.", name, reconciliation.lockName());
+            workQueue.enqueueRateLimited(reconciliation);
         }
     }
 
@@ -145,8 +135,10 @@ public abstract class AbstractControllerLoop {
      *     - Reconciliation metrics
      *
      * @param reconciliation    Reconciliation marker
+     *
+     * @return  True if the reconciliation was successful. False otherwise.
      */
-    private void reconcileWrapper(Reconciliation reconciliation) {
+    private boolean reconcileWrapper(Reconciliation reconciliation) {
         // Tasks before reconciliation
         ScheduledFuture<?> progressWarning = scheduledExecutor
                 .scheduleAtFixedRate(() -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
@@ -155,7 +147,7 @@ public abstract class AbstractControllerLoop {
 
         // Reconciliation
         try {
-            reconcile(reconciliation);
+            return reconcile(reconciliation);
         } finally   {
             // Tasks after reconciliation
             reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
@@ -180,7 +172,13 @@ public abstract class AbstractControllerLoop {
                 try {
                     LOGGER.debugOp("{}: Waiting for next event from work queue", name);
                     SimplifiedReconciliation reconciliation = workQueue.take();
-                    reconcileWithLock(reconciliation);
+
+                    try {
+                        reconcileWithBackoff(reconciliation);
+                    } finally {
+                        // Events received during the reconciliation will be re-enqueued now
+                        workQueue.done(reconciliation);
+                    }
                 } catch (InterruptedException e) {
                     LOGGER.debugOp("{}: was interrupted", name, e);
                 } catch (Exception e) {
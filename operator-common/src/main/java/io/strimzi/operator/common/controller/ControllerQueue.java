@@ -8,18 +8,49 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
- * events from the queue and enqueueing events into the queue.
+ * Controller queue class implements a de-duplicating work queue and exposes the methods used by controllers. This
+ * includes taking events from the queue, enqueueing events into the queue and marking the events as done.
+ *
+ * The queue is inspired by the work queue used in the Kubernetes client-go library. Apart from the FIFO queue itself,
+ * it keeps two indexes:
+ *     - The dirty index contains all resources which need to be reconciled. It is used to de-duplicate the events in
+ *       constant time instead of scanning the whole queue.
+ *     - The processing index contains the resources which were taken from the queue and are being reconciled right
+ *       now. Events for these resources are kept only in the dirty index and are added back to the queue once the
+ *       current reconciliation is done. That way, an event received during a reconciliation is replayed exactly once
+ *       and the same resource is never handed out to two controller loops in parallel.
+ *
+ * On top of that, the queue supports delayed re-queueing of resources. Resources can be re-queued either after a fixed
+ * delay or with a delay calculated by the rate limiter (per-resource exponential backoff combined with a global token
+ * bucket). Delayed resources are moved to the work queue by the take() method once their delay expires.
  */
 public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
 
-    /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
+    /*test*/ final Deque<SimplifiedReconciliation> queue;
+    /*test*/ final Map<SimplifiedReconciliation, SimplifiedReconciliation> dirty;
+    /*test*/ final Set<SimplifiedReconciliation> processing;
+    /*test*/ final PriorityQueue<DelayedReconciliation> waiting;
+    /*test*/ final Map<SimplifiedReconciliation, DelayedReconciliation> waitingIndex;
+    private final Map<SimplifiedReconciliation, Long> enqueuedAt;
+
+    private final int queueSize;
     private final ControllerMetricsHolder metrics;
+    private final ReconciliationRateLimiter rateLimiter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
 
     /**
      * Creates the controller queue. The controller should normally exist once per operator for cluster-wide mode or once per
@@ -29,35 +60,266 @@ public class ControllerQueue {
      * @param metrics       Holder for the controller metrics
      */
     public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
-        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this(queueSize, metrics, new ReconciliationRateLimiter());
+    }
+
+    /**
+     * Creates the controller queue with custom rate limiter.
+     *
+     * @param queueSize     The capacity of the work queue
+     * @param metrics       Holder for the controller metrics
+     * @param rateLimiter   Rate limiter used to calculate the delay for the rate-limited re-queueing
+     */
+    public ControllerQueue(int queueSize, ControllerMetricsHolder metrics, ReconciliationRateLimiter rateLimiter) {
+        this.queueSize = queueSize;
+        this.queue = new ArrayDeque<>(Math.min(queueSize, 1_024));
+        this.dirty = new HashMap<>();
+        this.processing = new HashSet<>();
+        this.waiting = new PriorityQueue<>();
+        this.waitingIndex = new HashMap<>();
+        this.enqueuedAt = new HashMap<>();
         this.metrics = metrics;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
+     * Takes the next item from the queue and marks it as being processed. Every reconciliation returned by this method
+     * has to be marked as done using the done(...) method once it is processed.
+     *
      * @return  Takes the next item from the queue. Blocks if the queue is empty.
      *
      * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
      */
     public SimplifiedReconciliation take() throws InterruptedException {
-        return queue.take();
+        lock.lockInterruptibly();
+
+        try {
+            while (true) {
+                long nanosToWait = moveReadyReconciliations();
+
+                if (!queue.isEmpty()) {
+                    break;
+                } else if (nanosToWait < 0) {
+                    // Nothing is waiting => we wait until something is enqueued
+                    notEmpty.await();
+                } else {
+                    // We wait until something is enqueued or until the next delayed reconciliation is ready
+                    notEmpty.awaitNanos(nanosToWait);
+                }
+            }
+
+            SimplifiedReconciliation reconciliation = queue.poll();
+            dirty.remove(reconciliation);
+            processing.add(reconciliation);
+            recordTaken(reconciliation);
+
+            return reconciliation;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * the queue and enqueues the new event only if it is not there yet. If the same resource is currently being
+     * processed, the event is remembered and the resource is enqueued again once the current reconciliation is done.
      *
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
-            LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
-            if (!queue.offer(reconciliation))    {
+        lock.lock();
+
+        try {
+            if (dirty.containsKey(reconciliation)) {
+                metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+            } else if (processing.contains(reconciliation)) {
+                LOGGER.debug("{} {} in namespace {} is being reconciled => it will be enqueued when the reconciliation is done", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                dirty.put(reconciliation, reconciliation);
+            } else if (queue.size() >= queueSize) {
                 LOGGER.warn("Failed to enqueue an event because the controller queue is full");
+            } else {
+                LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                dirty.put(reconciliation, reconciliation);
+                addToQueue(reconciliation);
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the reconciliation as done. If another event for the same resource arrived while it was being processed,
+     * the resource is enqueued again.
+     *
+     * @param reconciliation    Reconciliation identifier which was previously returned by the take() method
+     */
+    public void done(SimplifiedReconciliation reconciliation)   {
+        lock.lock();
+
+        try {
+            processing.remove(reconciliation);
+
+            SimplifiedReconciliation pending = dirty.get(reconciliation);
+            if (pending != null) {
+                if (queue.size() >= queueSize) {
+                    LOGGER.warn("Failed to re-enqueue an event because the controller queue is full");
+                    dirty.remove(reconciliation);
+                } else {
+                    LOGGER.debug("Re-enqueueing {} {} in namespace {} after it was updated during reconciliation", pending.kind, pending.name, pending.namespace);
+                    addToQueue(pending);
+                    notEmpty.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  The number of reconciliations waiting in the queue
+     */
+    public int size()   {
+        lock.lock();
+
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Enqueues the reconciliation after the given delay. If the same resource is already waiting for a delayed
+     * re-queue, only the earlier of the two delays is kept.
+     *
+     * @param reconciliation    Reconciliation identifier
+     * @param delayMs           Delay in milliseconds after which the reconciliation should be enqueued
+     */
+    public void requeueAfter(SimplifiedReconciliation reconciliation, long delayMs) {
+        if (delayMs <= 0) {
+            enqueue(reconciliation);
+            return;
+        }
+
+        lock.lock();
+
+        try {
+            long readyAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+            DelayedReconciliation existing = waitingIndex.get(reconciliation);
+
+            if (existing == null) {
+                LOGGER.debug("Re-queueing {} {} in namespace {} in {} ms", reconciliation.kind, reconciliation.name, reconciliation.namespace, delayMs);
+                DelayedReconciliation delayed = new DelayedReconciliation(reconciliation, readyAt);
+                waiting.add(delayed);
+                waitingIndex.put(reconciliation, delayed);
+            } else if (readyAt - existing.readyAt < 0) {
+                LOGGER.debug("Re-queueing {} {} in namespace {} earlier in {} ms", reconciliation.kind, reconciliation.name, reconciliation.namespace, delayMs);
+                waiting.remove(existing);
+                DelayedReconciliation delayed = new DelayedReconciliation(reconciliation, readyAt);
+                waiting.add(delayed);
+                waitingIndex.put(reconciliation, delayed);
+            } else {
+                LOGGER.debug("{} {} in namespace {} is already waiting to be re-queued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+            }
+
+            // Wake up the waiting controllers so that they recalculate how long they should wait
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Enqueues the reconciliation after a delay calculated by the rate limiter. Every call increases the backoff for
+     * given resource until it is reset using the forget(...) method.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void enqueueRateLimited(SimplifiedReconciliation reconciliation)    {
+        requeueAfter(reconciliation, rateLimiter.when(reconciliation));
+    }
+
+    /**
+     * Resets the rate limiter backoff for given resource. This should be called after a successful reconciliation.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void forget(SimplifiedReconciliation reconciliation)    {
+        rateLimiter.forget(reconciliation);
+    }
+
+    /**
+     * Adds the reconciliation to the end of the work queue and updates the queue metrics. This method has to be called
+     * with the lock held.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    private void addToQueue(SimplifiedReconciliation reconciliation)    {
+        queue.add(reconciliation);
+        enqueuedAt.put(reconciliation, System.nanoTime());
+        metrics.queueDepthGauge().incrementAndGet();
+    }
+
+    /**
+     * Updates the queue metrics when the reconciliation is taken from the work queue. This method has to be called
+     * with the lock held.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    private void recordTaken(SimplifiedReconciliation reconciliation)    {
+        metrics.queueDepthGauge().decrementAndGet();
+        Long enqueued = enqueuedAt.remove(reconciliation);
+
+        if (enqueued != null) {
+            metrics.queueLatencyTimer(reconciliation.namespace).record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Moves the delayed reconciliations which are ready to the work queue. This method has to be called with the lock
+     * held.
+     *
+     * @return  Number of nanoseconds until the next delayed reconciliation is ready or -1 if no reconciliations are
+     *          waiting.
+     */
+    private long moveReadyReconciliations()   {
+        long now = System.nanoTime();
+
+        while (!waiting.isEmpty()) {
+            DelayedReconciliation next = waiting.peek();
+
+            if (next.readyAt - now > 0) {
+                return next.readyAt - now;
+            }
+
+            waiting.poll();
+            waitingIndex.remove(next.reconciliation);
+
+            if (!dirty.containsKey(next.reconciliation)) {
+                enqueue(next.reconciliation);
             }
-        } else {
-            metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
         }
+
+        return -1;
     }
 
+    /**
+     * Reconciliation waiting for a delayed re-queue
+     */
+    /*test*/ static class DelayedReconciliation implements Comparable<DelayedReconciliation> {
+        /*test*/ final SimplifiedReconciliation reconciliation;
+        /*test*/ final long readyAt;
+
+        private DelayedReconciliation(SimplifiedReconciliation reconciliation, long readyAt) {
+            this.reconciliation = reconciliation;
+            this.readyAt = readyAt;
+        }
+
+        @Override
+        public int compareTo(DelayedReconciliation o) {
+            return Long.compare(readyAt - o.readyAt, 0);
+        }
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate limiter used to decide how long a reconciliation should wait before it is re-queued. It combines two limiters
+ * in the same way as the default controller rate limiter from the Kubernetes client-go library:
+ *     - A per-resource exponential backoff which grows with every failure of the same resource and is reset when the
+ *       resource is forgotten (e.g. after a successful reconciliation)
+ *     - A global token bucket which limits the overall rate of re-queued reconciliations
+ *
+ * The resulting delay is the longer of the two.
+ */
+public class ReconciliationRateLimiter {
+    /**
+     * Default initial backoff delay for a failed resource
+     */
+    public static final long DEFAULT_BASE_DELAY_MS = 250L;
+
+    /**
+     * Default maximal backoff delay for a failed resource
+     */
+    public static final long DEFAULT_MAX_DELAY_MS = 60_000L;
+
+    /**
+     * Default number of re-queued reconciliations per second allowed by the token bucket
+     */
+    public static final double DEFAULT_QPS = 10.0;
+
+    /**
+     * Default burst allowed by the token bucket
+     */
+    public static final int DEFAULT_BURST = 100;
+
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final double qps;
+    private final int burst;
+
+    /*test*/ final ConcurrentHashMap<SimplifiedReconciliation, Integer> failures = new ConcurrentHashMap<>();
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates the rate limiter with the default settings
+     */
+    public ReconciliationRateLimiter() {
+        this(DEFAULT_BASE_DELAY_MS, DEFAULT_MAX_DELAY_MS, DEFAULT_QPS, DEFAULT_BURST);
+    }
+
+    /**
+     * Creates the rate limiter
+     *
+     * @param baseDelayMs   Backoff delay used after the first failure of a resource
+     * @param maxDelayMs    Maximal backoff delay for a single resource
+     * @param qps           Number of re-queued reconciliations per second allowed by the token bucket
+     * @param burst         Number of re-queued reconciliations which can be done without any delay
+     */
+    public ReconciliationRateLimiter(long baseDelayMs, long maxDelayMs, double qps, int burst) {
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.qps = qps;
+        this.burst = burst;
+
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Calculates the delay after which the reconciliation should be re-queued and records another failure for it.
+     *
+     * @param reconciliation    Reconciliation which should be re-queued
+     *
+     * @return  Delay in milliseconds
+     */
+    public long when(SimplifiedReconciliation reconciliation)  {
+        int attempt = failures.merge(reconciliation, 1, Integer::sum) - 1;
+
+        // We cap the exponent to avoid overflows. The result is capped by the maximal delay anyway.
+        long backoff = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt, 30));
+
+        return Math.max(backoff, reserveToken());
+    }
+
+    /**
+     * Removes the resource from the backoff tracking. This should be called when the reconciliation succeeded.
+     *
+     * @param reconciliation    Reconciliation which should be forgotten
+     */
+    public void forget(SimplifiedReconciliation reconciliation)    {
+        failures.remove(reconciliation);
+    }
+
+    /**
+     * Returns how many times in a row was the resource re-queued by the rate limiter
+     *
+     * @param reconciliation    Reconciliation which should be checked
+     *
+     * @return  Number of failures of the resource since it was last forgotten
+     */
+    public int numRequeues(SimplifiedReconciliation reconciliation)    {
+        return failures.getOrDefault(reconciliation, 0);
+    }
+
+    /**
+     * Takes a token from the global token bucket. If no token is available, the token is reserved in the future and
+     * the time until it becomes available is returned.
+     *
+     * @return  Delay in milliseconds until the reserved token is available
+     */
+    private synchronized long reserveToken()  {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * qps / 1_000_000_000.0);
+        lastRefillNanos = now;
+        tokens -= 1;
+
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens * 1_000 / qps);
+    }
+}
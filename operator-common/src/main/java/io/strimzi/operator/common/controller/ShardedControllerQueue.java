@@ -0,0 +1,82 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharded controller queue splits the work between multiple controller queues - one per controller loop. Every
+ * resource is always routed to the same shard based on its hash. Because each shard is consumed by a single
+ * controller loop and the queue itself never hands out the same resource twice in parallel, a given resource is never
+ * reconciled multiple times in parallel without the need for any locks.
+ */
+public class ShardedControllerQueue {
+    /*test*/ final List<ControllerQueue> shards;
+
+    /**
+     * Creates the sharded controller queue.
+     *
+     * @param shardCount    Number of shards. This should be the same as the number of controller loops.
+     * @param queueSize     The capacity of the work queue of each shard. The queue is not split between the shards,
+     *                      because a burst of events for resources hashed to the same shard would otherwise overflow it.
+     * @param metrics       Holder for the controller metrics
+     */
+    public ShardedControllerQueue(int shardCount, int queueSize, ControllerMetricsHolder metrics) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("The number of shards has to be at least 1");
+        }
+
+        // The rate limiter is shared to keep the token bucket global
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter();
+
+        this.shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ControllerQueue(queueSize, metrics, rateLimiter));
+        }
+    }
+
+    /**
+     * @return  The number of shards
+     */
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Returns the shard with given index. This is used to pass the shard to the controller loop which consumes it.
+     *
+     * @param index     Index of the shard
+     *
+     * @return  Controller queue of the shard
+     */
+    public ControllerQueue shard(int index) {
+        return shards.get(index);
+    }
+
+    /**
+     * Enqueues the reconciliation into the shard to which the resource belongs.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void enqueue(SimplifiedReconciliation reconciliation) {
+        shards.get(shardIndex(reconciliation)).enqueue(reconciliation);
+    }
+
+    /**
+     * Calculates the index of the shard for given reconciliation. The hash is spread to make sure the higher bits are
+     * taken into account as well.
+     *
+     * @param reconciliation    Reconciliation identifier
+     *
+     * @return  Index of the shard
+     */
+    /*test*/ int shardIndex(SimplifiedReconciliation reconciliation) {
+        int hash = reconciliation.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shards.size());
+    }
+}
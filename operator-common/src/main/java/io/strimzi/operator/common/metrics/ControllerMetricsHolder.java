@@ -5,17 +5,21 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> queueDepthGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> queueLatencyTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +45,27 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the work queue of the controller. The gauge is shared
+     * by all queues of the controller and is not split per namespace.
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger queueDepthGauge() {
+        return getGauge("*", kind, METRICS_PREFIX + "controller.queue.depth", metricsProvider, selectorLabels, queueDepthGaugeMap,
+                "Number of reconciliations waiting in the controller work queue");
+    }
+
+    /**
+     * Timer metric for the time the reconciliations spend in the work queue before a controller loop picks them up.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer queueLatencyTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "controller.queue.latency", metricsProvider, selectorLabels, queueLatencyTimerMap,
+                "The time the reconciliations wait in the controller work queue");
+    }
 }
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -16,15 +17,16 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +56,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      */
     public final static String ANY_NAMESPACE = "*";
 
+    private volatile ResourceCache<T> cache;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -97,10 +101,93 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
-        Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null && cache.isUpToDate(namespace, name)) {
+            T cached = cache.get(namespace, name);
+
+            if (cached != null) {
+                return reconcileWithCached(reconciliation, namespace, name, cached, desired)
+                        .onSuccess(result -> recordWrite(namespace, name, result));
+            } else if (desired != null && ResourceCache.isCacheable(desired)) {
+                // The resource is not in the cache => we create it without getting it first. If it exists after all
+                // (e.g. the cache is lagging behind), the creation fails with a conflict and we retry with the resource
+                // from the API server.
+                return resourceSupport.<ReconcileResult<T>>executeBlocking(
+                        future -> internalCreate(reconciliation, namespace, name, desired).onComplete(future),
+                        false)
+                    .recover(error -> {
+                        if (isCacheConflict(error)) {
+                            LOGGER.debugCr(reconciliation, "{} {}/{} missing in the cache already exists, retrying with the current resource", resourceKind, namespace, name);
+                            return reconcileWithCurrent(reconciliation, namespace, name, desired);
+                        } else {
+                            return Future.failedFuture(error);
+                        }
+                    })
+                    .onSuccess(result -> recordWrite(namespace, name, result));
+            }
+        }
+
+        return reconcileWithCurrent(reconciliation, namespace, name, desired)
+                .onSuccess(result -> recordWrite(namespace, name, result));
+    }
+
+    /**
+     * Reconciles the resource against the resource from the cache. The update is sent with the resource version of
+     * the cached resource, so it fails with a conflict when the cache is outdated. In such case, or when the resource
+     * does not exist anymore, the reconciliation is retried with the current resource from the API server.
+     *
+     * @param reconciliation Reconciliation object
+     * @param namespace The namespace of the resource to reconcile
+     * @param name The name of the resource to reconcile
+     * @param cached Copy of the cached resource
+     * @param desired The desired state of the resource.
+     *
+     * @return A future which completes when the resource has been updated.
+     */
+    private Future<ReconcileResult<T>> reconcileWithCached(Reconciliation reconciliation, String namespace, String name, T cached, T desired) {
+        if (desired != null) {
+            // The desired resource is copied, so that the retry is not affected by the resource version or by the
+            // changes done by the internalUpdate method based on the cached resource
+            T preconditioned = Serialization.clone(desired);
+            preconditioned.getMetadata().setResourceVersion(cached.getMetadata().getResourceVersion());
+
+            LOGGER.debugCr(reconciliation, "{} {}/{} exists in the cache, updating it", resourceKind, namespace, name);
+            return resourceSupport.<ReconcileResult<T>>executeBlocking(
+                    future -> internalUpdate(reconciliation, namespace, name, cached, preconditioned).onComplete(future),
+                    false)
+                .recover(error -> {
+                    if (isCacheConflict(error) || isNotFound(error)) {
+                        LOGGER.debugCr(reconciliation, "{} {}/{} in the cache is outdated, retrying with the current resource", resourceKind, namespace, name);
+                        return reconcileWithCurrent(reconciliation, namespace, name, desired);
+                    } else {
+                        return Future.failedFuture(error);
+                    }
+                });
+        } else {
+            LOGGER.debugCr(reconciliation, "{} {}/{} exists in the cache, deleting it", resourceKind, namespace, name);
+            return resourceSupport.executeBlocking(
+                    future -> internalDelete(reconciliation, namespace, name).onComplete(future),
+                    false);
+        }
+    }
+
+    /**
+     * Reconciles the resource against the current resource retrieved from the Kubernetes API server.
+     *
+     * @param reconciliation Reconciliation object
+     * @param namespace The namespace of the resource to reconcile
+     * @param name The name of the resource to reconcile
+     * @param desired The desired state of the resource.
+     *
+     * @return A future which completes when the resource has been updated.
+     */
+    private Future<ReconcileResult<T>> reconcileWithCurrent(Reconciliation reconciliation, String namespace, String name, T desired) {
+        return resourceSupport.executeBlocking(
             future -> {
                 T current = operation().inNamespace(namespace).withName(name).get();
+                recordRead(namespace, name, current);
+
                 if (desired != null) {
                     if (current == null) {
                         LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
@@ -121,10 +208,70 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                 }
 
             },
-            false,
-            promise
+            false
         );
-        return promise.future();
+    }
+
+    /**
+     * Checks whether the creation of a resource missing in the cache or the update of a resource from the cache
+     * failed because the cache was outdated. That happens when the resource already exists or has a different
+     * resource version (409 Conflict).
+     *
+     * @param error     The error from the reconciliation
+     *
+     * @return  True if the reconciliation should be retried with the resource from the Kubernetes API server
+     */
+    private static boolean isCacheConflict(Throwable error) {
+        return error instanceof KubernetesClientException
+                && ((KubernetesClientException) error).getCode() == HttpURLConnection.HTTP_CONFLICT;
+    }
+
+    /**
+     * Checks whether the update of a resource from the cache failed because the resource does not exist anymore.
+     *
+     * @param error     The error from the reconciliation
+     *
+     * @return  True if the reconciliation should be retried with the resource from the Kubernetes API server
+     */
+    private static boolean isNotFound(Throwable error) {
+        return error instanceof KubernetesClientException
+                && ((KubernetesClientException) error).getCode() == HttpURLConnection.HTTP_NOT_FOUND;
+    }
+
+    /**
+     * Records the write done by the reconciliation in the cache, so that the resource is not read from the cache until
+     * the cache catches up with this write.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param result        Result of the reconciliation
+     */
+    private void recordWrite(String namespace, String name, ReconcileResult<T> result) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null && cache.isSynced(namespace)) {
+            if (result instanceof ReconcileResult.Created || result instanceof ReconcileResult.Patched) {
+                cache.recordWrite(namespace, name, result.resource());
+            } else if (result == ReconcileResult.<T>deleted()) {
+                cache.recordWrite(namespace, name, null);
+            }
+        }
+    }
+
+    /**
+     * Records the resource read from the API server in the cache. This lets the cache find out that it caught up with
+     * the writes of this resource.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param current       The resource from the API server
+     */
+    private void recordRead(String namespace, String name, T current) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            cache.recordRead(namespace, name, current);
+        }
     }
 
     /**
@@ -142,10 +289,30 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return  Future which completes when the lists are reconciled
      */
     public Future<Void> batchReconcile(Reconciliation reconciliation, String namespace, List<T> desired, Labels selector)  {
+        return batchReconcile(reconciliation, namespace, desired, selector, null);
+    }
+
+    /**
+     * Does a batch reconciliation of resources in the same way as
+     * {@link #batchReconcile(Reconciliation, String, List, Labels)}. In addition, it uses the fingerprints of the
+     * resources to skip the reconciliation of the resources which did not change since their last reconciliation.
+     * The resource versions of the current resources are taken from the list used to find the resources to delete,
+     * so the unchanged resources do not cost any additional API calls.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace where the resources should be reconciled
+     * @param desired           List of desired resources
+     * @param selector          Selector for getting a list of current resource
+     * @param fingerprints      Fingerprints of the previously reconciled resources or null to reconcile all resources
+     *
+     * @return  Future which completes when the lists are reconciled
+     */
+    public Future<Void> batchReconcile(Reconciliation reconciliation, String namespace, List<T> desired, Labels selector, ResourceFingerprints fingerprints)  {
         return listAsync(namespace, selector)
                 .compose(current -> {
                     @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
                     List<Future> futures = new ArrayList<>(desired.size());
+                    Map<String, T> currentResources = current.stream().collect(Collectors.toMap(resource -> resource.getMetadata().getName(), resource -> resource));
                     List<String> currentNames = current.stream().map(ingress -> ingress.getMetadata().getName()).collect(Collectors.toList());
 
                     LOGGER.debugCr(reconciliation, "Reconciling existing {} resources {} against the desired {} resources", resourceKind, currentNames, resourceKind);
@@ -154,13 +321,30 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                     for (T desiredResource : desired) {
                         String name = desiredResource.getMetadata().getName();
                         currentNames.remove(name);
-                        futures.add(reconcile(reconciliation, namespace, name, desiredResource));
+
+                        if (fingerprints != null) {
+                            String desiredHash = ResourceFingerprints.hash(desiredResource);
+
+                            if (fingerprints.isUnchanged(resourceKind, namespace, name, desiredHash, currentResources.get(name))) {
+                                LOGGER.debugCr(reconciliation, "{} {}/{} did not change since the last reconciliation", resourceKind, namespace, name);
+                            } else {
+                                futures.add(reconcile(reconciliation, namespace, name, desiredResource)
+                                        .onSuccess(result -> fingerprints.record(resourceKind, namespace, name, desiredHash, result != null ? result.resource() : null))
+                                        .onFailure(error -> fingerprints.remove(resourceKind, namespace, name)));
+                            }
+                        } else {
+                            futures.add(reconcile(reconciliation, namespace, name, desiredResource));
+                        }
                     }
 
                     LOGGER.debugCr(reconciliation, "{} {}/{} should be deleted", resourceKind, namespace, currentNames);
 
                     // Delete resources which match our selector but are not desired anymore
                     for (String name : currentNames) {
+                        if (fingerprints != null) {
+                            fingerprints.remove(resourceKind, namespace, name);
+                        }
+
                         futures.add(reconcile(reconciliation, namespace, name, null));
                     }
 
@@ -301,7 +485,17 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+
+        ResourceCache<T> cache = this.cache;
+        T cached = cache != null && cache.isUpToDate(namespace, name) ? cache.get(namespace, name) : null;
+
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        } else {
+            // The resources missing in the cache might exist without the cached label => they are read from the API server
+            return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name))
+                    .onSuccess(current -> recordRead(namespace, name, current));
+        }
     }
 
     /**
@@ -338,7 +532,14 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
-        return listAsync(applySelector(applyNamespace(namespace), selector));
+        ResourceCache<T> cache = this.cache;
+        List<T> cached = cache != null ? cache.list(namespace, selector) : null;
+
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        } else {
+            return listAsync(applySelector(applyNamespace(namespace), selector));
+        }
     }
 
     /**
@@ -404,7 +605,9 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
-        return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
+        return internalDelete(reconciliation, namespace, name, cascading)
+                .onSuccess(result -> recordWrite(namespace, name, result))
+                .map((Void) null);
     }
 
     /**
@@ -456,6 +659,46 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         }
     }
 
+    /**
+     * Starts the informer-backed cache of the resources managed by Strimzi in given namespace (or cluster-wide). Once
+     * the informer is synced, the {@code reconcile}, {@code getAsync} and {@code listAsync} methods read the resources
+     * from the cache instead of the Kubernetes API server whenever the cache can answer the request. This method does
+     * not wait for the informer to sync. The resources belonging to KafkaUsers are not cached.
+     *
+     * The cache lags behind the writes. The {@code reconcile} method tolerates that, because the update of a cached
+     * resource is sent with its resource version and fails with a conflict when the cache is outdated. The creation of
+     * a resource missing in the cache fails with a conflict as well when the resource exists after all. In both cases,
+     * the reconciliation is retried with the resource from the Kubernetes API server. The writes done through this
+     * operator are recorded, and the written resources are read from the Kubernetes API server until the cache catches
+     * up with them. So the callers read their own writes (e.g. the CA Secrets listed right after they were renewed).
+     *
+     * @param namespace     Namespace which should be cached or * for all namespaces
+     */
+    public synchronized void startCache(String namespace) {
+        if (cache == null) {
+            cache = new ResourceCache<>();
+        }
+
+        SharedIndexInformer<T> informer = applyNamespace(namespace)
+                .withLabel(ResourceCache.CACHED_LABEL)
+                .withoutLabel(ResourceCache.CACHED_LABEL, ResourceCache.EXCLUDED_KIND)
+                .runnableInformer(0);
+        cache.addInformer(namespace, informer);
+        informer.start();
+    }
+
+    /**
+     * Stops the informer-backed cache of given namespace. The caches of the other namespaces (e.g. started by the
+     * operators of the other watched namespaces sharing this resource operator) keep running.
+     *
+     * @param namespace     Namespace which should not be cached anymore or * for all namespaces
+     */
+    public synchronized void stopCache(String namespace) {
+        if (cache != null) {
+            cache.stop(namespace);
+        }
+    }
+
     /**
      * Returns the Kubernetes client for given resource type
      *
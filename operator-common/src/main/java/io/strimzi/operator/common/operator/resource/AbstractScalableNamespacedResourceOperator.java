@@ -12,7 +12,6 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 /**
@@ -67,8 +66,7 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
      * The value will be null if the resource didn't exist (hence no scaling occurred).
      */
     public Future<Integer> scaleUp(Reconciliation reconciliation, String namespace, String name, int scaleTo) {
-        Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return resourceSupport.executeBlocking(
             future -> {
                 try {
                     Integer currentScale = currentScale(namespace, name);
@@ -83,10 +81,8 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
                     future.fail(e);
                 }
             },
-            false,
-            promise
+            false
         );
-        return promise.future();
     }
 
     protected abstract Integer currentScale(String namespace, String name);
@@ -104,8 +100,7 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
      * The value will be null if the resource didn't exist (hence no scaling occurred).
      */
     public Future<Integer> scaleDown(Reconciliation reconciliation, String namespace, String name, int scaleTo) {
-        Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return resourceSupport.executeBlocking(
             future -> {
                 try {
                     Integer nextReplicas = currentScale(namespace, name);
@@ -122,9 +117,7 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
                     future.fail(e);
                 }
             },
-            false,
-            promise
+            false
         );
-        return promise.future();
     }
 }
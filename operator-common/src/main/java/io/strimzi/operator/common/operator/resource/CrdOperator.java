@@ -18,7 +18,6 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 /**
@@ -95,9 +94,7 @@ public class CrdOperator<C extends KubernetesClient,
      * @return  Future which completes when the resource is patched
      */
     public Future<T> patchAsync(Reconciliation reconciliation, T resource) {
-        Promise<T> blockingPromise = Promise.promise();
-
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        return resourceSupport.executeBlocking(future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
             try {
@@ -108,9 +105,7 @@ public class CrdOperator<C extends KubernetesClient,
                 LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
                 future.fail(e);
             }
-        }, true, blockingPromise);
-
-        return blockingPromise.future();
+        });
     }
 
     /**
@@ -122,9 +117,7 @@ public class CrdOperator<C extends KubernetesClient,
      * @return  Future which completes when the status is patched
      */
     public Future<T> updateStatusAsync(Reconciliation reconciliation, T resource) {
-        Promise<T> blockingPromise = Promise.promise();
-
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        return resourceSupport.executeBlocking(future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
 
@@ -136,8 +129,6 @@ public class CrdOperator<C extends KubernetesClient,
                 LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
                 future.fail(e);
             }
-        }, true, blockingPromise);
-
-        return blockingPromise.future();
+        });
     }
 }
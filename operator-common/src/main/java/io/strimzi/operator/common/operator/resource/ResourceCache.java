@@ -0,0 +1,311 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of the Kubernetes resources of a single kind backed by shared informers. Only the resources with the
+ * {@code strimzi.io/kind} label (i.e. the resources managed by Strimzi) are cached. The resources belonging to the
+ * KafkaUsers are never cached: they are managed by the User Operator and their Secrets contain the user credentials.
+ * A resource which is not found in the cache might still exist without this label, so the cache can be used to decide
+ * that a resource does not exist only for resources which should have this label (see {@link #isCacheable(HasMetadata)}).
+ *
+ * The cache is eventually consistent and lags behind the Kubernetes API server. To let the operator read its own
+ * writes, the writes done through the resource operator are recorded. Until the informer catches up with the recorded
+ * write, the resource is reported as not up-to-date and has to be read from the Kubernetes API server.
+ *
+ * The cache returns copies of the cached resources, so the callers can modify them without corrupting the cache.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    /**
+     * Label which needs to be present on the resource for it to be cached
+     */
+    public static final String CACHED_LABEL = Labels.STRIMZI_KIND_LABEL;
+
+    /**
+     * Value of the {@link #CACHED_LABEL} label of the resources which are never cached
+     */
+    public static final String EXCLUDED_KIND = KafkaUser.RESOURCE_KIND;
+
+    // Resource version of the deleted resources in the pending writes
+    private static final String DELETED = "";
+
+    private final Map<String, SharedIndexInformer<T>> informers = new ConcurrentHashMap<>();
+    private final Map<String, String> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an informer with the resources of given namespace or of all namespaces
+     *
+     * @param namespace     Namespace on which the informer informs or * for all namespaces
+     * @param informer      Informer for the resources with the {@link #CACHED_LABEL} label
+     */
+    /*test*/ void addInformer(String namespace, SharedIndexInformer<T> informer) {
+        informers.put(namespace, informer);
+    }
+
+    /**
+     * Checks whether the resource would be cached if it existed, i.e. whether it has the {@link #CACHED_LABEL} label
+     * and does not belong to a KafkaUser.
+     *
+     * @param resource  Resource which should be checked
+     *
+     * @return  True if the resource is cacheable. False otherwise.
+     */
+    public static boolean isCacheable(HasMetadata resource) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+
+        return labels != null
+                && labels.containsKey(CACHED_LABEL)
+                && !EXCLUDED_KIND.equals(labels.get(CACHED_LABEL));
+    }
+
+    /**
+     * Returns the synced informer with the resources from given namespace
+     *
+     * @param namespace     Namespace of the resources
+     *
+     * @return  The informer or null if there is no synced informer for this namespace
+     */
+    private SharedIndexInformer<T> informer(String namespace) {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+
+        if (informer == null && !AbstractNamespacedResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            informer = informers.get(AbstractNamespacedResourceOperator.ANY_NAMESPACE);
+        }
+
+        return informer != null && informer.hasSynced() ? informer : null;
+    }
+
+    /**
+     * Checks whether there is a synced informer for given namespace
+     *
+     * @param namespace     Namespace of the resources
+     *
+     * @return  True if the resources from this namespace are cached and the cache is synced. False otherwise.
+     */
+    public boolean isSynced(String namespace) {
+        return informer(namespace) != null;
+    }
+
+    /**
+     * Returns the cached resource without copying it. The returned resource must not be modified.
+     *
+     * @param informer      Synced informer
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  The cached resource or null if it is not in the cache
+     */
+    private static <T extends HasMetadata> T cached(SharedIndexInformer<T> informer, String namespace, String name) {
+        return new Lister<>(informer.getIndexer(), namespace).get(name);
+    }
+
+    /**
+     * Checks whether the resource is in the cache. Unlike {@link #get(String, String)}, this does not copy the cached
+     * resource.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the resource is in the cache. False otherwise.
+     */
+    public boolean contains(String namespace, String name) {
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        return informer != null && cached(informer, namespace, name) != null;
+    }
+
+    /**
+     * Gets the resource from the cache
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if it is not in the cache
+     */
+    public T get(String namespace, String name) {
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        if (informer != null) {
+            T resource = cached(informer, namespace, name);
+
+            return resource != null ? Serialization.clone(resource) : null;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Lists the resources from the cache. The resources can be listed from the cache only when all resources matching
+     * the selector are guaranteed to be cached, i.e. when the selector requires the {@link #CACHED_LABEL} label with
+     * a value other than {@link #EXCLUDED_KIND}, and when the cache caught up with all recorded writes in the namespace.
+     *
+     * @param namespace     Namespace of the resources
+     * @param selector      Selector which the resources should match
+     *
+     * @return  Copies of the cached resources matching the selector or null if the list cannot be served from the cache
+     */
+    public List<T> list(String namespace, Labels selector) {
+        if (selector == null
+                || !selector.toMap().containsKey(CACHED_LABEL)
+                || EXCLUDED_KIND.equals(selector.toMap().get(CACHED_LABEL))
+                || AbstractNamespacedResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            return null;
+        }
+
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        if (informer != null && isUpToDate(informer, namespace)) {
+            return new Lister<>(informer.getIndexer(), namespace).list().stream()
+                    .filter(resource -> matches(resource, selector.toMap()))
+                    .map(Serialization::clone)
+                    .collect(Collectors.toList());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the resource matches the selector
+     *
+     * @param resource  Resource which should be checked
+     * @param selector  Map with the selector labels
+     *
+     * @return  True if the resource matches the selector. False otherwise.
+     */
+    private static boolean matches(HasMetadata resource, Map<String, String> selector) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+
+        return labels != null && labels.entrySet().containsAll(selector.entrySet());
+    }
+
+    /**
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Key of the resource in the pending writes
+     */
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Records a write done by the operator. The cache does not serve the resource until the informer catches up with
+     * this write.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param written       The resource returned by the Kubernetes API server or null if the resource was deleted
+     */
+    public void recordWrite(String namespace, String name, T written) {
+        String resourceVersion = written != null ? written.getMetadata().getResourceVersion() : DELETED;
+        pendingWrites.put(key(namespace, name), resourceVersion != null ? resourceVersion : DELETED);
+    }
+
+    /**
+     * Records the resource read from the Kubernetes API server. When the cache already has the same version of the
+     * resource, the cache caught up with the writes of this resource, even if the informer skipped the version
+     * recorded by {@link #recordWrite(String, String, HasMetadata)} (e.g. because the resource was changed again by
+     * someone else before the informer caught up).
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param current       The resource from the Kubernetes API server or null if it does not exist
+     */
+    public void recordRead(String namespace, String name, T current) {
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        if (informer != null && pendingWrites.containsKey(key(namespace, name))) {
+            T cached = cached(informer, namespace, name);
+
+            if (Objects.equals(resourceVersion(cached), resourceVersion(current))) {
+                pendingWrites.remove(key(namespace, name));
+            }
+        }
+    }
+
+    /**
+     * Checks whether the cache caught up with the writes of the resource recorded by
+     * {@link #recordWrite(String, String, HasMetadata)}.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the cache is synced and caught up with the writes of this resource. False otherwise.
+     */
+    public boolean isUpToDate(String namespace, String name) {
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        return informer != null && isUpToDate(informer, namespace, name);
+    }
+
+    private boolean isUpToDate(SharedIndexInformer<T> informer, String namespace, String name) {
+        String key = key(namespace, name);
+        String expected = pendingWrites.get(key);
+
+        if (expected == null) {
+            return true;
+        } else if (expected.equals(Objects.requireNonNullElse(resourceVersion(cached(informer, namespace, name)), DELETED))) {
+            pendingWrites.remove(key, expected);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private boolean isUpToDate(SharedIndexInformer<T> informer, String namespace) {
+        String prefix = key(namespace, "");
+
+        return pendingWrites.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .allMatch(key -> isUpToDate(informer, namespace, key.substring(prefix.length())));
+    }
+
+    private static String resourceVersion(HasMetadata resource) {
+        return resource != null ? resource.getMetadata().getResourceVersion() : null;
+    }
+
+    /**
+     * Stops the informer of given namespace
+     *
+     * @param namespace     Namespace of the informer which should be stopped or * for the informer of all namespaces
+     */
+    public void stop(String namespace) {
+        SharedIndexInformer<T> informer = informers.remove(namespace);
+
+        if (informer != null) {
+            informer.stop();
+        }
+
+        if (AbstractNamespacedResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            pendingWrites.clear();
+        } else {
+            pendingWrites.keySet().removeIf(key -> key.startsWith(key(namespace, "")));
+        }
+    }
+
+    /**
+     * Stops all informers of this cache
+     */
+    public void stop() {
+        informers.values().forEach(SharedIndexInformer::stop);
+        informers.clear();
+        pendingWrites.clear();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.operator.common.Util;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fingerprints of the resources reconciled by the operator. The fingerprint of a resource consists of the hash of the
+ * desired resource and of the resource version of the resource after it was last reconciled. When neither the desired
+ * resource nor the resource in the Kubernetes API server changed since the last successful reconciliation, the
+ * reconciliation of the resource (i.e. getting it, diffing it and possibly patching it) can be skipped.
+ *
+ * The fingerprints are kept only in memory. After the operator restarts, all resources are fully reconciled again.
+ */
+public class ResourceFingerprints {
+    private final Map<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Calculates the hash of the desired resource
+     *
+     * @param desired   The desired resource
+     *
+     * @return  Hash of the desired resource
+     */
+    public static String hash(HasMetadata desired) {
+        byte[] digest = Util.sha1Digest(Serialization.asJson(desired).getBytes(StandardCharsets.UTF_8));
+        return String.format("%040x", new BigInteger(1, digest));
+    }
+
+    private static String key(String kind, String namespace, String name) {
+        return kind + "/" + namespace + "/" + name;
+    }
+
+    /**
+     * Checks whether the resource changed since it was last reconciled
+     *
+     * @param kind          Kind of the resource
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param desiredHash   Hash of the desired resource
+     * @param current       The current resource as observed in the Kubernetes API server
+     *
+     * @return  True if neither the desired resource nor the current resource changed since the last reconciliation.
+     *          False otherwise.
+     */
+    public boolean isUnchanged(String kind, String namespace, String name, String desiredHash, HasMetadata current) {
+        Fingerprint fingerprint = fingerprints.get(key(kind, namespace, name));
+
+        return fingerprint != null
+                && current != null
+                && current.getMetadata() != null
+                && current.getMetadata().getResourceVersion() != null
+                && fingerprint.desiredHash.equals(desiredHash)
+                && fingerprint.resourceVersion.equals(current.getMetadata().getResourceVersion());
+    }
+
+    /**
+     * Records the fingerprint of a successfully reconciled resource
+     *
+     * @param kind          Kind of the resource
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param desiredHash   Hash of the desired resource
+     * @param reconciled    The resource as returned by the reconciliation
+     */
+    public void record(String kind, String namespace, String name, String desiredHash, HasMetadata reconciled) {
+        if (reconciled != null
+                && reconciled.getMetadata() != null
+                && reconciled.getMetadata().getResourceVersion() != null) {
+            fingerprints.put(key(kind, namespace, name), new Fingerprint(Objects.requireNonNull(desiredHash), reconciled.getMetadata().getResourceVersion()));
+        } else {
+            remove(kind, namespace, name);
+        }
+    }
+
+    /**
+     * Removes the fingerprint of a resource. The next reconciliation of the resource will not be skipped.
+     *
+     * @param kind          Kind of the resource
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void remove(String kind, String namespace, String name) {
+        fingerprints.remove(key(kind, namespace, name));
+    }
+
+    /**
+     * @return  Number of recorded fingerprints
+     */
+    public int size() {
+        return fingerprints.size();
+    }
+
+    private record Fingerprint(String desiredHash, String resourceVersion) { }
+}
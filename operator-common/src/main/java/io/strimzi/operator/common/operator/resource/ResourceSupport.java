@@ -22,6 +22,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 
 import java.io.Closeable;
 import java.util.List;
@@ -35,6 +36,7 @@ public class ResourceSupport {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceSupport.class);
 
     private final Vertx vertx;
+    private volatile WorkerExecutor workerExecutor;
 
     /**
      * Constructor
@@ -66,12 +68,49 @@ public class ResourceSupport {
     }
 
     <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler) {
+        return executeBlocking(blockingCodeHandler, true);
+    }
+
+    /**
+     * Executes the blocking code in the shared worker pool used for the Kubernetes operations
+     *
+     * @param blockingCodeHandler   Blocking code which should be executed
+     * @param ordered               Indicates whether the blocking code executions should be executed in order
+     *
+     * @return  Future which completes with the result of the blocking code
+     *
+     * @param <T>   Type of the result
+     */
+    <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool")
-                .executeBlocking(blockingCodeHandler, true, result);
+        workerExecutor().executeBlocking(blockingCodeHandler, ordered, result);
         return result.future();
     }
 
+    /**
+     * Returns the worker executor of the shared worker pool used for the Kubernetes operations. The executor is
+     * created only on the first use so that the pool is configured by the Cluster Operator verticle which creates it
+     * with the configured size. It is then reused instead of being created for every operation.
+     *
+     * @return  Worker executor
+     */
+    private WorkerExecutor workerExecutor() {
+        WorkerExecutor executor = workerExecutor;
+
+        if (executor == null) {
+            synchronized (this) {
+                executor = workerExecutor;
+
+                if (executor == null) {
+                    executor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+                    workerExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
     /**
      * Combines two completed AsyncResults, at least one of which has failed, returning
      * a single cause, possibly with suppressed exception.
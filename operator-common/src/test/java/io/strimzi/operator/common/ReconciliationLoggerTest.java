@@ -0,0 +1,88 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.apache.logging.log4j.simple.SimpleLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ReconciliationLoggerTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test-trigger", "Kafka", "my-namespace", "my-cluster");
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private ReconciliationLogger logger() {
+        return new ReconciliationLogger(new SimpleLogger("test", Level.INFO, false, false, false, false, null,
+                ParameterizedMessageFactory.INSTANCE, new PropertiesUtil(new Properties()), new PrintStream(output, true, StandardCharsets.UTF_8)));
+    }
+
+    private String logged() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testEnabledMessageIsPrefixedWithReconciliation() {
+        ReconciliationLogger logger = logger();
+
+        logger.infoCr(RECONCILIATION, "Message with {} and {}", "first", "second");
+        logger.warnCr(RECONCILIATION, "Plain message");
+
+        assertThat(logged(), is("INFO " + RECONCILIATION + ": Message with first and second" + System.lineSeparator()
+                + "WARN " + RECONCILIATION + ": Plain message" + System.lineSeparator()));
+    }
+
+    @Test
+    public void testDisabledLevelIsNotLogged() {
+        ReconciliationLogger logger = logger();
+
+        logger.debugCr(RECONCILIATION, "Message with {}", "param");
+        logger.traceCr(RECONCILIATION, "Plain message");
+
+        assertThat(logged(), is(""));
+    }
+
+    @Test
+    public void testDisabledLevelDoesNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        ReconciliationLogger logger = logger();
+        Object param = "param";
+
+        // Warm-up
+        logDisabled(logger, param, 10_000);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        logDisabled(logger, param, 100_000);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        // Building the prefixed messages would allocate tens of megabytes. The tolerance covers only the measurement itself.
+        assertThat(allocated, is(lessThan(10_000L)));
+    }
+
+    private static void logDisabled(ReconciliationLogger logger, Object param, int count) {
+        for (int i = 0; i < count; i++) {
+            logger.debugCr(RECONCILIATION, "Plain message");
+            logger.debugCr(RECONCILIATION, "Message with {}", param);
+            logger.traceCr(RECONCILIATION, "Message with {} and {}", param, param);
+        }
+    }
+}
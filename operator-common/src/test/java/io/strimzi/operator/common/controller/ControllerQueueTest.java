@@ -12,6 +12,8 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -37,4 +39,123 @@ public class ControllerQueueTest {
         // Test metric
         assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
     }
+
+    @Test
+    public void testEnqueueingInProgress() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+        SimplifiedReconciliation r3 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+
+        q.enqueue(r1);
+        assertThat(q.take(), is(r1));
+        assertThat(q.processing.contains(r1), is(true));
+        assertThat(q.queue.size(), is(0));
+
+        // Events received while the resource is being reconciled are not handed out in parallel
+        q.enqueue(r2);
+        q.enqueue(r3);
+        assertThat(q.queue.size(), is(0));
+        assertThat(q.dirty.size(), is(1));
+
+        // Once the reconciliation is done, the event is replayed exactly once
+        q.done(r1);
+        assertThat(q.processing.isEmpty(), is(true));
+        assertThat(q.queue.size(), is(1));
+        assertThat(q.queue.peek().trigger, is("timer"));
+
+        SimplifiedReconciliation next = q.take();
+        q.done(next);
+        assertThat(q.queue.size(), is(0));
+        assertThat(q.dirty.size(), is(0));
+
+        // Test metric
+        assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+    }
+
+    @Test
+    public void testFullQueue() {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(2, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name"));
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name2"));
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name3"));
+
+        assertThat(q.size(), is(2));
+        assertThat(q.dirty.size(), is(2));
+    }
+
+    @Test
+    public void testRequeueAfter() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name", "watch");
+
+        q.requeueAfter(r1, 60_000);
+        q.requeueAfter(r1, 200);
+        q.requeueAfter(r1, 120_000);
+        assertThat(q.waiting.size(), is(1));
+        assertThat(q.queue.size(), is(0));
+
+        // Regular events are handed out before the delayed ones
+        q.enqueue(r2);
+        assertThat(q.take(), is(r2));
+        q.done(r2);
+
+        // The delayed event is handed out once its delay expires
+        long start = System.nanoTime();
+        assertThat(q.take(), is(r1));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100, is(true));
+        assertThat(q.waiting.isEmpty(), is(true));
+        assertThat(q.waitingIndex.isEmpty(), is(true));
+        q.done(r1);
+    }
+
+    @Test
+    public void testEnqueueRateLimited() {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(1_000, 10_000, 100, 100);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics), rateLimiter);
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+
+        q.enqueueRateLimited(r1);
+        q.enqueueRateLimited(r1);
+        assertThat(q.waiting.size(), is(1));
+        assertThat(rateLimiter.numRequeues(r1), is(2));
+
+        q.forget(r1);
+        assertThat(rateLimiter.numRequeues(r1), is(0));
+    }
+
+    @Test
+    public void testQueueMetrics() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name", "watch");
+
+        q.enqueue(r1);
+        q.enqueue(r2);
+        assertThat(metricsRegistry.get("strimzi.controller.queue.depth").tag("kind", "kind").gauge().value(), is(2.0));
+
+        q.done(q.take());
+        assertThat(metricsRegistry.get("strimzi.controller.queue.depth").tag("kind", "kind").gauge().value(), is(1.0));
+        assertThat(metricsRegistry.get("strimzi.controller.queue.latency").tag("kind", "kind").tag("namespace", "my-namespace").timer().count(), is(1L));
+
+        q.done(q.take());
+        assertThat(metricsRegistry.get("strimzi.controller.queue.depth").tag("kind", "kind").gauge().value(), is(0.0));
+        assertThat(metricsRegistry.get("strimzi.controller.queue.latency").tag("kind", "kind").tag("namespace", "my-namespace").timer().count(), is(2L));
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class ReconciliationRateLimiterTest {
+    @Test
+    public void testExponentialBackoff() {
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(100, 1_000, 1_000, 1_000);
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name");
+
+        assertThat(rateLimiter.when(r1), is(100L));
+        assertThat(rateLimiter.when(r1), is(200L));
+        assertThat(rateLimiter.when(r1), is(400L));
+        assertThat(rateLimiter.when(r1), is(800L));
+        assertThat(rateLimiter.when(r1), is(1_000L));
+        assertThat(rateLimiter.when(r1), is(1_000L));
+        assertThat(rateLimiter.numRequeues(r1), is(6));
+
+        // Other resources are not affected
+        assertThat(rateLimiter.when(r2), is(100L));
+
+        // Forgetting resets the backoff
+        rateLimiter.forget(r1);
+        assertThat(rateLimiter.numRequeues(r1), is(0));
+        assertThat(rateLimiter.when(r1), is(100L));
+    }
+
+    @Test
+    public void testMaxBackoffDoesNotOverflow() {
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(100, 60_000, 1_000, 1_000);
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name");
+
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.when(r1);
+        }
+
+        assertThat(rateLimiter.when(r1), is(60_000L));
+    }
+
+    @Test
+    public void testTokenBucket() {
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(0, 0, 1, 2);
+
+        // The burst is available immediately
+        assertThat(rateLimiter.when(new SimplifiedReconciliation("kind", "my-namespace", "my-name")), is(0L));
+        assertThat(rateLimiter.when(new SimplifiedReconciliation("kind", "my-namespace", "my-name2")), is(0L));
+
+        // Afterwards, the reconciliations are delayed by the bucket
+        assertThat(rateLimiter.when(new SimplifiedReconciliation("kind", "my-namespace", "my-name3")), is(greaterThan(0L)));
+    }
+}
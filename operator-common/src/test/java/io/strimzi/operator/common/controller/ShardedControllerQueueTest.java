@@ -0,0 +1,91 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ShardedControllerQueueTest {
+    @Test
+    public void testSameResourceSameShard() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ShardedControllerQueue q = new ShardedControllerQueue(4, 100, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+
+        assertThat(q.shardIndex(r1), is(q.shardIndex(r2)));
+
+        q.enqueue(r1);
+        ControllerQueue shard = q.shard(q.shardIndex(r1));
+        assertThat(shard.size(), is(1));
+        assertThat(shard.take(), is(r1));
+
+        // The same resource goes to the same shard while it is being processed => it is not handed out again
+        q.enqueue(r2);
+        assertThat(shard.size(), is(0));
+        shard.done(r1);
+        assertThat(shard.size(), is(1));
+    }
+
+    @Test
+    public void testDistribution() {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ShardedControllerQueue q = new ShardedControllerQueue(4, 1_000, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        for (int i = 0; i < 400; i++) {
+            q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name-" + i));
+        }
+
+        int total = 0;
+        for (int i = 0; i < q.shardCount(); i++) {
+            assertThat(q.shard(i).size() > 0, is(true));
+            total += q.shard(i).size();
+        }
+
+        assertThat(total, is(400));
+    }
+
+    @Test
+    public void testBurstOnSingleShard() {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ShardedControllerQueue q = new ShardedControllerQueue(4, 100, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        // Find 100 different resources which belong to the same shard
+        int shardIndex = q.shardIndex(new SimplifiedReconciliation("kind", "my-namespace", "my-name-0"));
+        int enqueued = 0;
+        for (int i = 0; enqueued < 100; i++) {
+            SimplifiedReconciliation reconciliation = new SimplifiedReconciliation("kind", "my-namespace", "my-name-" + i);
+
+            if (q.shardIndex(reconciliation) == shardIndex) {
+                q.enqueue(reconciliation);
+                enqueued++;
+            }
+        }
+
+        // None of them is dropped even though they are all in the same shard
+        assertThat(q.shard(shardIndex).size(), is(100));
+    }
+
+    @Test
+    public void testInvalidShardCount() {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+
+        assertThrows(IllegalArgumentException.class, () -> new ShardedControllerQueue(0, 100, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics)));
+    }
+}
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.GracePeriodConfigurable;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.Deletable;
@@ -16,6 +17,8 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
@@ -27,12 +30,15 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -186,6 +192,364 @@ public abstract class AbstractNamespacedResourceOperatorTest<C extends Kubernete
         })));
     }
 
+    /**
+     * Mocks the informer used by the resource cache
+     *
+     * @param mockNameable  Namespaced operation on which the informer is created
+     * @param cached        Resources in the cache (the test can modify it to simulate the informer catching up)
+     */
+    private void mockCache(NonNamespaceOperation mockNameable, Map<String, T> cached) {
+        Indexer<T> mockIndexer = mock(Indexer.class);
+        when(mockIndexer.getByKey(anyString())).thenAnswer(i -> cached.get(i.getArgument(0).toString().substring(NAMESPACE.length() + 1)));
+        when(mockIndexer.byIndex(anyString(), eq(NAMESPACE))).thenAnswer(i -> List.copyOf(cached.values()));
+
+        SharedIndexInformer<T> mockInformer = mock(SharedIndexInformer.class);
+        when(mockInformer.hasSynced()).thenReturn(true);
+        when(mockInformer.getIndexer()).thenReturn(mockIndexer);
+
+        FilterWatchListDeletable mockInformable = mock(FilterWatchListDeletable.class);
+        when(mockInformable.withoutLabel(eq(ResourceCache.CACHED_LABEL), eq(ResourceCache.EXCLUDED_KIND))).thenReturn(mockInformable);
+        when(mockInformable.runnableInformer(anyLong())).thenReturn(mockInformer);
+        when(mockNameable.withLabel(eq(ResourceCache.CACHED_LABEL))).thenReturn(mockInformable);
+    }
+
+    private void mockCache(NonNamespaceOperation mockNameable, T cached) {
+        Map<String, T> resources = new HashMap<>();
+        resources.put(cached.getMetadata().getName(), cached);
+        mockCache(mockNameable, resources);
+    }
+
+    /**
+     * @param resource  Resource which should be labeled
+     * @param kind      Value of the label used by the resource cache
+     * @param version   Resource version
+     *
+     * @return  The resource with the label used by the resource cache
+     */
+    private T cacheable(T resource, String kind, String version)  {
+        Map<String, String> labels = new HashMap<>();
+        if (resource.getMetadata().getLabels() != null) {
+            labels.putAll(resource.getMetadata().getLabels());
+        }
+        labels.put(ResourceCache.CACHED_LABEL, kind);
+        resource.getMetadata().setLabels(labels);
+        resource.getMetadata().setResourceVersion(version);
+
+        return resource;
+    }
+
+    /**
+     * @return  The default resource with the label used by the resource cache
+     */
+    private T cacheableResource()  {
+        return cacheable(resource(), "Kafka", null);
+    }
+
+    @Test
+    public void testGetIsServedFromCache(VertxTestContext context) {
+        T resource = cacheable(resource(), "Kafka", "1");
+        Resource mockResource = mock(resourceType());
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        mockCache(mockNameable, resource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        Checkpoint async = context.checkpoint();
+        op.getAsync(NAMESPACE, RESOURCE_NAME).onComplete(context.succeeding(current -> context.verify(() -> {
+            assertThat(current, is(resource));
+            verify(mockResource, never()).get();
+
+            op.stopCache(NAMESPACE);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testListIsServedFromCache(VertxTestContext context) {
+        T resource = cacheable(resource(), "Kafka", "1");
+        T otherResource = cacheable(resource("other-resource"), "KafkaConnect", "2");
+        Map<String, T> cached = new HashMap<>();
+        cached.put(resource.getMetadata().getName(), resource);
+        cached.put(otherResource.getMetadata().getName(), otherResource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        mockCache(mockNameable, cached);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        Checkpoint async = context.checkpoint();
+        op.listAsync(NAMESPACE, Labels.fromMap(Map.of(ResourceCache.CACHED_LABEL, "Kafka"))).onComplete(context.succeeding(current -> context.verify(() -> {
+            assertThat(current, is(List.of(resource)));
+            verify(mockNameable, never()).withLabels(any());
+            verify(mockNameable, never()).list();
+
+            op.stopCache(NAMESPACE);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testUpdateWhenInCacheIsBasedOnCachedResource(VertxTestContext context) {
+        T resource = cacheable(resource(), "Kafka", "1");
+        Resource mockResource = mock(resourceType());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<T> patchCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(HasMetadata.class);
+        when(mockResource.patch(any(), patchCaptor.capture())).thenAnswer(i -> cacheable(modifiedResource(), "Kafka", "2"));
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        mockCache(mockNameable, resource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        T desired = cacheable(modifiedResource(), "Kafka", null);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            // The resource is not read from the API server and the patch uses the cached resource version as a precondition
+            verify(mockResource, never()).get();
+            verify(mockResource, times(1)).patch(any(), (T) any());
+            verify(mockResource, never()).create();
+            assertThat(patchCaptor.getValue().getMetadata().getResourceVersion(), is("1"));
+            // The desired resource passed by the caller is not modified
+            assertThat(desired.getMetadata().getResourceVersion(), is(nullValue()));
+
+            op.stopCache(NAMESPACE);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testUpdateWhenInOutdatedCacheIsRetried(VertxTestContext context) {
+        T resource = cacheable(resource(), "Kafka", "1");
+        Resource mockResource = mock(resourceType());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<T> patchCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(HasMetadata.class);
+        when(mockResource.get()).thenReturn(cacheable(resource(), "Kafka", "2"));
+        when(mockResource.patch(any(), patchCaptor.capture()))
+                .thenThrow(new KubernetesClientException("Conflict", 409, null))
+                .thenAnswer(i -> cacheable(modifiedResource(), "Kafka", "3"));
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        mockCache(mockNameable, resource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, cacheable(modifiedResource(), "Kafka", null)).onComplete(context.succeeding(rr -> context.verify(() -> {
+            // The first attempt trusts the cache, the retry gets the resource from the API server
+            verify(mockResource, times(1)).get();
+            verify(mockResource, times(2)).patch(any(), (T) any());
+            assertThat(patchCaptor.getAllValues().get(0).getMetadata().getResourceVersion(), is("1"));
+            assertThat(patchCaptor.getAllValues().get(1).getMetadata().getResourceVersion(), is(nullValue()));
+
+            op.stopCache(NAMESPACE);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testUnchangedResourceInCacheIsNotRead(VertxTestContext context) {
+        T resource = cacheable(resource(), "Kafka", "1");
+        Resource mockResource = mock(resourceType());
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        mockCache(mockNameable, resource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, cacheable(resource(), "Kafka", null)).onComplete(context.succeeding(rr -> context.verify(() -> {
+            verify(mockResource, never()).get();
+            verify(mockResource, never()).patch(any(), (T) any());
+            verify(mockResource, never()).create();
+
+            op.stopCache(NAMESPACE);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testWrittenResourceIsReadFromApiServerUntilCacheCatchesUp(VertxTestContext context) {
+        T resource = cacheable(resource(), "Kafka", "1");
+        T patched = cacheable(modifiedResource(), "Kafka", "2");
+        Map<String, T> cached = new HashMap<>();
+        cached.put(RESOURCE_NAME, resource);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(patched);
+        when(mockResource.patch(any(), (T) any())).thenReturn(patched);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        mockCache(mockNameable, cached);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, cacheable(modifiedResource(), "Kafka", null))
+                .compose(i -> op.getAsync(NAMESPACE, RESOURCE_NAME))
+                .compose(current -> {
+                    // The cache still has the old version => the written resource is read from the API server
+                    context.verify(() -> {
+                        assertThat(current.getMetadata().getResourceVersion(), is("2"));
+                        verify(mockResource, times(1)).get();
+                    });
+
+                    // The cache catches up with the write
+                    cached.put(RESOURCE_NAME, patched);
+                    return op.getAsync(NAMESPACE, RESOURCE_NAME);
+                })
+                .onComplete(context.succeeding(current -> context.verify(() -> {
+                    assertThat(current.getMetadata().getResourceVersion(), is("2"));
+                    verify(mockResource, times(1)).get();
+
+                    op.stopCache(NAMESPACE);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testKafkaUserResourcesAreNotCached(VertxTestContext context) {
+        T resource = cacheable(resource(), ResourceCache.EXCLUDED_KIND, "1");
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+        mockCache(mockNameable, new HashMap<>());
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, cacheable(resource(), ResourceCache.EXCLUDED_KIND, null)).onComplete(context.succeeding(rr -> context.verify(() -> {
+            // The missing resource of a KafkaUser is not trusted => it is read from the API server
+            verify(mockResource, times(1)).get();
+            verify(mockResource, never()).create();
+
+            op.stopCache(NAMESPACE);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testCreateWhenMissingInCacheDoesNotGetTheResource(VertxTestContext context) {
+        T resource = cacheableResource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.create()).thenReturn(resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+        mockCache(mockNameable, modifiedResource("other-resource"));
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource).onComplete(context.succeeding(rr -> context.verify(() -> {
+            verify(mockResource, never()).get();
+            verify(mockResource, times(1)).create();
+
+            op.stopCache(NAMESPACE);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testCreateWhenMissingInOutdatedCacheIsRetried(VertxTestContext context) {
+        T resource = cacheableResource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.create()).thenThrow(new KubernetesClientException("Conflict", 409, null));
+        when(mockResource.get()).thenReturn(modifiedResource());
+        when(mockResource.patch(any(), (T) any())).thenReturn(resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(any())).thenReturn(mockResource);
+        mockCache(mockNameable, modifiedResource("other-resource"));
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+        op.startCache(NAMESPACE);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource).onComplete(context.succeeding(rr -> context.verify(() -> {
+            // The first attempt trusts the cache, the retry gets the resource from the API server
+            verify(mockResource, times(1)).create();
+            verify(mockResource, times(1)).get();
+            verify(mockResource, times(1)).patch(any(), (T) any());
+
+            op.stopCache(NAMESPACE);
+            async.flag();
+        })));
+    }
+
     @Test
     public void testExistenceCheckThrows(VertxTestContext context) {
         T resource = resource();
@@ -590,4 +954,60 @@ public abstract class AbstractNamespacedResourceOperatorTest<C extends Kubernete
             async.flag();
         })));
     }
+
+    @Test
+    public void testBatchReconciliationSkipsUnchangedResources(VertxTestContext context) {
+        Map<String, String> selector = Map.of("labelA", "a", "labelB", "b");
+
+        T resource1 = resource("resource-1");
+        resource1.getMetadata().setResourceVersion("1");
+        T resource2 = resource("resource-2");
+        resource2.getMetadata().setResourceVersion("1");
+        T resource2Mod = modifiedResource("resource-2");
+
+        Resource mockResource1 = mock(resourceType());
+
+        Resource mockResource2 = mock(resourceType());
+        when(mockResource2.get()).thenReturn(resource2);
+        when(mockResource2.patch(any(), eq(resource2Mod))).thenReturn(resource2Mod);
+
+        KubernetesResourceList mockResourceList = mock(KubernetesResourceList.class);
+        when(mockResourceList.getItems()).thenReturn(List.of(resource1, resource2));
+
+        FilterWatchListDeletable mockListable = mock(FilterWatchListDeletable.class);
+        when(mockListable.list(any())).thenReturn((L) mockResourceList);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withLabels(eq(selector))).thenReturn(mockListable);
+        when(mockNameable.withName(eq("resource-1"))).thenReturn(mockResource1);
+        when(mockNameable.withName(eq("resource-2"))).thenReturn(mockResource2);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(anyString())).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        // Both resources were reconciled before, but only resource1 is still the same
+        ResourceFingerprints fingerprints = new ResourceFingerprints();
+        fingerprints.record(op.resourceKind, NAMESPACE, "resource-1", ResourceFingerprints.hash(resource("resource-1")), resource1);
+        fingerprints.record(op.resourceKind, NAMESPACE, "resource-2", ResourceFingerprints.hash(resource("resource-2")), resource2);
+
+        Checkpoint async = context.checkpoint();
+        op.batchReconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, List.of(resource("resource-1"), resource2Mod), Labels.fromMap(selector), fingerprints).onComplete(context.succeeding(i -> context.verify(() -> {
+            // Unchanged resource is not touched at all
+            verify(mockResource1, never()).get();
+            verify(mockResource1, never()).patch(any(), any());
+            verify(mockResource1, never()).create();
+
+            verify(mockResource2, times(1)).get();
+            verify(mockResource2, times(1)).patch(any(), eq(resource2Mod));
+
+            assertThat(fingerprints.isUnchanged(op.resourceKind, NAMESPACE, "resource-1", ResourceFingerprints.hash(resource("resource-1")), resource1), is(true));
+
+            async.flag();
+        })));
+    }
 }
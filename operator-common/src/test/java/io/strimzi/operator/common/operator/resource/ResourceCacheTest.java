@@ -0,0 +1,231 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static Secret secret(String namespace, String name, String cluster) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .withLabels(Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka", Labels.STRIMZI_CLUSTER_LABEL, cluster))
+                .endMetadata()
+                .withData(Map.of("key", "value"))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SharedIndexInformer<Secret> informer(boolean synced, List<Secret> secrets) {
+        Indexer<Secret> indexer = mock(Indexer.class);
+        when(indexer.list()).thenReturn(secrets);
+        when(indexer.byIndex(anyString(), anyString())).thenAnswer(i -> secrets.stream()
+                .filter(s -> s.getMetadata().getNamespace().equals(i.getArgument(1)))
+                .collect(Collectors.toList()));
+        when(indexer.getByKey(anyString())).thenAnswer(i -> secrets.stream()
+                .filter(s -> (s.getMetadata().getNamespace() + "/" + s.getMetadata().getName()).equals(i.getArgument(0)))
+                .findFirst()
+                .orElse(null));
+
+        SharedIndexInformer<Secret> informer = mock(SharedIndexInformer.class);
+        when(informer.hasSynced()).thenReturn(synced);
+        when(informer.getIndexer()).thenReturn(indexer);
+
+        return informer;
+    }
+
+    @Test
+    public void testGet() {
+        Secret secret = secret(NAMESPACE, "my-secret", "my-cluster");
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer(true, List.of(secret)));
+
+        Secret cached = cache.get(NAMESPACE, "my-secret");
+        assertThat(cached, is(secret));
+        // The cached resource is never returned directly
+        assertThat(cached, is(not(sameInstance(secret))));
+
+        assertThat(cache.get(NAMESPACE, "other-secret"), is(nullValue()));
+        assertThat(cache.get("other-namespace", "my-secret"), is(nullValue()));
+    }
+
+    @Test
+    public void testGetWithAnyNamespaceInformer() {
+        Secret secret = secret(NAMESPACE, "my-secret", "my-cluster");
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(AbstractNamespacedResourceOperator.ANY_NAMESPACE, informer(true, List.of(secret)));
+
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(secret));
+    }
+
+    @Test
+    public void testNotSyncedInformerIsNotUsed() {
+        Secret secret = secret(NAMESPACE, "my-secret", "my-cluster");
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer(false, List.of(secret)));
+
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+    }
+
+    @Test
+    public void testStop() {
+        SharedIndexInformer<Secret> informer = informer(true, List.of(secret(NAMESPACE, "my-secret", "my-cluster")));
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer);
+        cache.stop();
+
+        verify(informer).stop();
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+    }
+
+    @Test
+    public void testContains() {
+        Secret secret = secret(NAMESPACE, "my-secret", "my-cluster");
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer(true, List.of(secret)));
+
+        assertThat(cache.isSynced(NAMESPACE), is(true));
+        assertThat(cache.isSynced("other-namespace"), is(false));
+        assertThat(cache.contains(NAMESPACE, "my-secret"), is(true));
+        assertThat(cache.contains(NAMESPACE, "other-secret"), is(false));
+        assertThat(cache.contains("other-namespace", "my-secret"), is(false));
+    }
+
+    @Test
+    public void testContainsWhenNotSynced() {
+        Secret secret = secret(NAMESPACE, "my-secret", "my-cluster");
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer(false, List.of(secret)));
+
+        assertThat(cache.isSynced(NAMESPACE), is(false));
+        assertThat(cache.contains(NAMESPACE, "my-secret"), is(false));
+    }
+
+    @Test
+    public void testStopNamespace() {
+        SharedIndexInformer<Secret> informer = informer(true, List.of(secret(NAMESPACE, "my-secret", "my-cluster")));
+        SharedIndexInformer<Secret> otherInformer = informer(true, List.of(secret("other-namespace", "my-secret", "my-cluster")));
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer);
+        cache.addInformer("other-namespace", otherInformer);
+        cache.stop(NAMESPACE);
+
+        // Only the informer of the stopped namespace is stopped
+        verify(informer).stop();
+        verify(otherInformer, never()).stop();
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+        assertThat(cache.get("other-namespace", "my-secret"), is(notNullValue()));
+    }
+
+    @Test
+    public void testIsCacheable() {
+        assertThat(ResourceCache.isCacheable(secret(NAMESPACE, "my-secret", "my-cluster")), is(true));
+
+        Secret userSecret = secret(NAMESPACE, "my-user", "my-cluster");
+        userSecret.getMetadata().setLabels(Map.of(Labels.STRIMZI_KIND_LABEL, ResourceCache.EXCLUDED_KIND));
+        assertThat(ResourceCache.isCacheable(userSecret), is(false));
+
+        Secret unlabeledSecret = secret(NAMESPACE, "other-secret", "my-cluster");
+        unlabeledSecret.getMetadata().setLabels(Map.of());
+        assertThat(ResourceCache.isCacheable(unlabeledSecret), is(false));
+    }
+
+    @Test
+    public void testList() {
+        Secret secret = secret(NAMESPACE, "my-secret", "my-cluster");
+        Secret otherSecret = secret(NAMESPACE, "other-secret", "other-cluster");
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer(true, List.of(secret, otherSecret)));
+
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka", Labels.STRIMZI_CLUSTER_LABEL, "my-cluster"))), is(List.of(secret)));
+        // Selectors which do not require the cached label or which select the KafkaUser resources are not served from the cache
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(Map.of(Labels.STRIMZI_CLUSTER_LABEL, "my-cluster"))), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(Map.of(Labels.STRIMZI_KIND_LABEL, ResourceCache.EXCLUDED_KIND))), is(nullValue()));
+        assertThat(cache.list("other-namespace", Labels.fromMap(Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka"))), is(nullValue()));
+    }
+
+    @Test
+    public void testPendingWrites() {
+        Secret secret = secret(NAMESPACE, "my-secret", "my-cluster");
+        secret.getMetadata().setResourceVersion("1");
+        Secret written = secret(NAMESPACE, "my-secret", "my-cluster");
+        written.getMetadata().setResourceVersion("2");
+        List<Secret> secrets = new ArrayList<>(List.of(secret));
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer(true, secrets));
+        Labels selector = Labels.fromMap(Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka"));
+
+        assertThat(cache.isUpToDate(NAMESPACE, "my-secret"), is(true));
+
+        // The cache is outdated until the informer sees the written version
+        cache.recordWrite(NAMESPACE, "my-secret", written);
+        assertThat(cache.isUpToDate(NAMESPACE, "my-secret"), is(false));
+        assertThat(cache.isUpToDate(NAMESPACE, "other-secret"), is(true));
+        assertThat(cache.list(NAMESPACE, selector), is(nullValue()));
+
+        secrets.set(0, written);
+        assertThat(cache.isUpToDate(NAMESPACE, "my-secret"), is(true));
+        assertThat(cache.list(NAMESPACE, selector), is(List.of(written)));
+
+        // Deletion
+        cache.recordWrite(NAMESPACE, "my-secret", null);
+        assertThat(cache.isUpToDate(NAMESPACE, "my-secret"), is(false));
+
+        secrets.clear();
+        assertThat(cache.isUpToDate(NAMESPACE, "my-secret"), is(true));
+    }
+
+    @Test
+    public void testPendingWriteSkippedByTheInformer() {
+        Secret written = secret(NAMESPACE, "my-secret", "my-cluster");
+        written.getMetadata().setResourceVersion("2");
+        Secret changedAgain = secret(NAMESPACE, "my-secret", "my-cluster");
+        changedAgain.getMetadata().setResourceVersion("3");
+
+        ResourceCache<Secret> cache = new ResourceCache<>();
+        cache.addInformer(NAMESPACE, informer(true, List.of(changedAgain)));
+
+        // The informer never saw the written version, but it has the same version as the API server
+        cache.recordWrite(NAMESPACE, "my-secret", written);
+        assertThat(cache.isUpToDate(NAMESPACE, "my-secret"), is(false));
+
+        cache.recordRead(NAMESPACE, "my-secret", changedAgain);
+        assertThat(cache.isUpToDate(NAMESPACE, "my-secret"), is(true));
+    }
+}
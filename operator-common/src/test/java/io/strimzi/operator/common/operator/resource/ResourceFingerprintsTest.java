@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+public class ResourceFingerprintsTest {
+    private static final String KIND = "ConfigMap";
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-config-map";
+
+    private static ConfigMap configMap(String value, String resourceVersion) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withData(Map.of("key", value))
+                .build();
+    }
+
+    @Test
+    public void testHash() {
+        assertThat(ResourceFingerprints.hash(configMap("a", null)), is(ResourceFingerprints.hash(configMap("a", null))));
+        assertThat(ResourceFingerprints.hash(configMap("a", null)), is(not(ResourceFingerprints.hash(configMap("b", null)))));
+    }
+
+    @Test
+    public void testUnchangedResource() {
+        ResourceFingerprints fingerprints = new ResourceFingerprints();
+        String hash = ResourceFingerprints.hash(configMap("a", null));
+
+        assertThat(fingerprints.isUnchanged(KIND, NAMESPACE, NAME, hash, configMap("a", "1")), is(false));
+
+        fingerprints.record(KIND, NAMESPACE, NAME, hash, configMap("a", "1"));
+        assertThat(fingerprints.isUnchanged(KIND, NAMESPACE, NAME, hash, configMap("a", "1")), is(true));
+
+        // Desired resource changed
+        assertThat(fingerprints.isUnchanged(KIND, NAMESPACE, NAME, ResourceFingerprints.hash(configMap("b", null)), configMap("a", "1")), is(false));
+
+        // Current resource changed
+        assertThat(fingerprints.isUnchanged(KIND, NAMESPACE, NAME, hash, configMap("a", "2")), is(false));
+
+        // Current resource does not exist or has no resource version
+        assertThat(fingerprints.isUnchanged(KIND, NAMESPACE, NAME, hash, null), is(false));
+        assertThat(fingerprints.isUnchanged(KIND, NAMESPACE, NAME, hash, configMap("a", null)), is(false));
+
+        // Other resource
+        assertThat(fingerprints.isUnchanged("Secret", NAMESPACE, NAME, hash, configMap("a", "1")), is(false));
+    }
+
+    @Test
+    public void testRemoval() {
+        ResourceFingerprints fingerprints = new ResourceFingerprints();
+        String hash = ResourceFingerprints.hash(configMap("a", null));
+
+        fingerprints.record(KIND, NAMESPACE, NAME, hash, configMap("a", "1"));
+        assertThat(fingerprints.size(), is(1));
+
+        // Reconciliation without resulting resource removes the fingerprint
+        fingerprints.record(KIND, NAMESPACE, NAME, hash, null);
+        assertThat(fingerprints.size(), is(0));
+
+        fingerprints.record(KIND, NAMESPACE, NAME, hash, configMap("a", "1"));
+        fingerprints.remove(KIND, NAMESPACE, NAME);
+        assertThat(fingerprints.size(), is(0));
+        assertThat(fingerprints.isUnchanged(KIND, NAMESPACE, NAME, hash, configMap("a", "1")), is(false));
+    }
+}
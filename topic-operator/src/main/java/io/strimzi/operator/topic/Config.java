@@ -106,10 +106,13 @@ public class Config {
     protected static final String TC_ZK_CONNECT = "STRIMZI_ZOOKEEPER_CONNECT";
     protected static final String TC_ZK_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     protected static final String TC_ZK_CONNECTION_TIMEOUT_MS = "TC_ZK_CONNECTION_TIMEOUT_MS";
+    protected static final String TC_ZK_PERSISTENT_WATCHES = "STRIMZI_ZOOKEEPER_PERSISTENT_WATCHES";
     protected static final String TC_PERIODIC_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
+    protected static final String TC_PERIODIC_PARALLELISM = "STRIMZI_FULL_RECONCILIATION_PARALLELISM";
     protected static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     protected static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     protected static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    protected static final String TC_TOPIC_METADATA_BATCH_SIZE = "STRIMZI_TOPIC_METADATA_BATCH_SIZE";
     protected static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
     protected static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
@@ -130,6 +133,8 @@ public class Config {
     protected static final String TC_STORE_NAME = "STRIMZI_STORE_NAME";
     protected static final String TC_APPLICATION_ID = "STRIMZI_APPLICATION_ID";
     protected static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
+    protected static final String TC_STORE_STATE_DIR = "STRIMZI_STORE_STATE_DIR";
+    protected static final String TC_STORE_BINARY_FORMAT = "STRIMZI_STORE_BINARY_FORMAT";
 
     protected static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
 
@@ -156,9 +161,21 @@ public class Config {
     /** The zookeeper connection timeout. */
     public static final Value<Long> ZOOKEEPER_CONNECTION_TIMEOUT_MS = new Value<>(TC_ZK_CONNECTION_TIMEOUT_MS, DURATION, "18000");
 
+    /**
+     * Whether to use a single persistent recursive watch (requires ZooKeeper 3.6 or newer) per watched subtree instead
+     * of a data watch per topic. The recursive watch cannot be limited to the topic znodes. The watch on
+     * /brokers/topics also delivers the changes of the partition state znodes, so every ISR or leader change of any
+     * partition is sent to the Topic Operator and ignored there. This saves the watch per topic, but it might increase
+     * the ZooKeeper traffic in clusters with frequent ISR changes.
+     */
+    public static final Value<Boolean> ZOOKEEPER_PERSISTENT_WATCHES = new Value<>(TC_ZK_PERSISTENT_WATCHES, BOOLEAN, "false");
+
     /** The period between full reconciliations. */
     public static final Value<Long> FULL_RECONCILIATION_INTERVAL_MS = new Value<>(TC_PERIODIC_INTERVAL_MS, DURATION, "120000");
 
+    /** The maximum number of topics reconciled at the same time during the full reconciliation. */
+    public static final Value<Integer> FULL_RECONCILIATION_PARALLELISM = new Value<>(TC_PERIODIC_PARALLELISM, POSITIVE_INTEGER, "20");
+
     /** The interbroker throttled rate to use when a topic change requires partition reassignment. */
     public static final Value<Long> REASSIGN_THROTTLE = new Value<>(TC_REASSIGN_THROTTLE, LONG, Long.toString(Long.MAX_VALUE));
 
@@ -171,6 +188,9 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The maximum number of topics described in a single Admin API request during the full reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_SIZE = new Value<>(TC_TOPIC_METADATA_BATCH_SIZE, POSITIVE_INTEGER, String.valueOf(KafkaImpl.DEFAULT_METADATA_BATCH_SIZE));
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -207,6 +227,17 @@ public class Config {
     public static final Value<String> APPLICATION_ID = new Value<>(TC_APPLICATION_ID, STRING, "__strimzi-topic-operator-kstreams");
     /** The stale timeout for the Kafka Streams based TopicStore */
     public static final Value<Long> STALE_RESULT_TIMEOUT_MS = new Value<>(TC_STALE_RESULT_TIMEOUT_MS, DURATION, "5000");
+    /**
+     * The directory where the Kafka Streams based TopicStore keeps its persistent state and checkpoints. When empty,
+     * the store is kept only in memory and fully restored from the store topic on every start.
+     */
+    public static final Value<String> STORE_STATE_DIR = new Value<>(TC_STORE_STATE_DIR, STRING, "");
+    /**
+     * Write the records of the Kafka Streams based TopicStore in the compact binary format instead of JSON. The records
+     * in both formats are always read. The previous Topic Operator versions read only JSON, so this should stay
+     * disabled as long as a downgrade might be needed.
+     */
+    public static final Value<Boolean> STORE_BINARY_FORMAT = new Value<>(TC_STORE_BINARY_FORMAT, BOOLEAN, "false");
 
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
@@ -220,10 +251,13 @@ public class Config {
         addConfigValue(configValues, ZOOKEEPER_CONNECT);
         addConfigValue(configValues, ZOOKEEPER_SESSION_TIMEOUT_MS);
         addConfigValue(configValues, ZOOKEEPER_CONNECTION_TIMEOUT_MS);
+        addConfigValue(configValues, ZOOKEEPER_PERSISTENT_WATCHES);
         addConfigValue(configValues, FULL_RECONCILIATION_INTERVAL_MS);
+        addConfigValue(configValues, FULL_RECONCILIATION_PARALLELISM);
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_SIZE);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, SECURITY_PROTOCOL);
@@ -240,6 +274,8 @@ public class Config {
         addConfigValue(configValues, STORE_NAME);
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
+        addConfigValue(configValues, STORE_STATE_DIR);
+        addConfigValue(configValues, STORE_BINARY_FORMAT);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
     }
 
@@ -65,6 +65,18 @@ public interface K8s {
      */
     Future<KafkaTopic> getFromName(ResourceName resourceName);
 
+    /**
+     * Get the resource with the given name from a local cache if one is available.
+     * The result might be slightly behind the Kubernetes API, so this should be used only for periodic reconciliations.
+     * If a resource with the given name does not exist, the future will be completed with a null result.
+     *
+     * @param resourceName The name of the resource to get.
+     * @return A future which completes with the topic
+     */
+    default Future<KafkaTopic> getFromCache(ResourceName resourceName) {
+        return getFromName(resourceName);
+    }
+
     /**
      * Create an event.
      *
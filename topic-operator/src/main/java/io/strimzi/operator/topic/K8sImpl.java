@@ -12,6 +12,9 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.Reconciliation;
@@ -23,12 +26,24 @@ import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-/** Partial Implementation of Kubernetes */
+/**
+ * Partial Implementation of Kubernetes
+ *
+ * The KafkaTopic resources can be cached locally using an informer (see {@link #startInformer()}). The cache is used
+ * for the reads done by the periodic reconciliation so that it does not need to LIST and GET the resources from the
+ * Kubernetes API server. To make sure the periodic reconciliation never acts on data older than the writes done by
+ * this operator, every write is remembered until the informer observes it. Resources with such pending writes are
+ * read directly from the Kubernetes API.
+ */
 public class K8sImpl implements K8s {
 
     private final static Logger LOGGER = LogManager.getLogger(K8sImpl.class);
+    private final static String DELETED = "<deleted>";
 
     private final Labels labels;
     private final String namespace;
@@ -38,6 +53,10 @@ public class K8sImpl implements K8s {
 
     private final Vertx vertx;
 
+    /*test*/ final Map<String, String> pendingWrites = new ConcurrentHashMap<>();
+    private volatile SharedIndexInformer<KafkaTopic> informer;
+    private volatile Lister<KafkaTopic> lister;
+
     /**
      * Constructor
      *
@@ -70,6 +89,7 @@ public class K8sImpl implements K8s {
                         kafkaTopic.getMetadata().getName(),
                         topicResource.getMetadata() != null ? topicResource.getMetadata().getResourceVersion() : null,
                         kafkaTopic.getMetadata().getResourceVersion());
+                recordWrite(kafkaTopic);
                 future.complete(kafkaTopic);
             } catch (Exception e) {
                 future.fail(e);
@@ -94,6 +114,7 @@ public class K8sImpl implements K8s {
                         kafkaTopic != null && kafkaTopic.getMetadata() != null ? kafkaTopic.getMetadata().getName() : null,
                         topicResource.getMetadata() != null ? topicResource.getMetadata().getResourceVersion() : null,
                         kafkaTopic != null && kafkaTopic.getMetadata() != null ? kafkaTopic.getMetadata().getResourceVersion() : null);
+                recordWrite(kafkaTopic);
                 future.complete(kafkaTopic);
             } catch (Exception e) {
                 future.fail(e);
@@ -111,7 +132,8 @@ public class K8sImpl implements K8s {
      */
     @Override
     public Future<KafkaTopic> updateResourceStatus(Reconciliation ctx, KafkaTopic topicResource) {
-        return crdOperator.updateStatusAsync(ctx, topicResource);
+        return crdOperator.updateStatusAsync(ctx, topicResource)
+                .onSuccess(this::recordWrite);
     }
 
     /**
@@ -127,6 +149,7 @@ public class K8sImpl implements K8s {
         vertx.executeBlocking(future -> {
             try {
                 // Delete the resource by the topic name, because neither ZK nor Kafka know the resource name
+                pendingWrites.put(resourceName.toString(), DELETED);
                 operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete();
 
                 Util.waitFor(reconciliation, vertx, "sync resource deletion " + resourceName, "deleted", 1000, Long.MAX_VALUE, () -> {
@@ -134,8 +157,15 @@ public class K8sImpl implements K8s {
                     boolean notExists = kafkaTopic == null;
                     LOGGER.debug("KafkaTopic {} deleted {}", resourceName.toString(), notExists);
                     return notExists;
-                }).onComplete(future);
+                }).onComplete(res -> {
+                    if (res.failed() || !isCached(resourceName.toString())) {
+                        // The informer will not deliver any deletion event (or it already did)
+                        pendingWrites.remove(resourceName.toString(), DELETED);
+                    }
+                    future.handle(res);
+                });
             } catch (Exception e) {
+                pendingWrites.remove(resourceName.toString(), DELETED);
                 future.fail(e);
             }
         }, handler);
@@ -147,13 +177,17 @@ public class K8sImpl implements K8s {
     }
 
     /**
-     * Lists the Kafka topics
+     * Lists the Kafka topics. The topics are served from the informer cache when it is in sync and has no pending writes.
      *
      * @return  Future which completes with result of the request. If the request was successful, this returns a list of Kafka topics
      */
     @Override
     public Future<List<KafkaTopic>> listResources() {
-        return crdOperator.listAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()));
+        if (isCacheUsable() && pendingWrites.isEmpty()) {
+            return Future.succeededFuture(new ArrayList<>(lister.list()));
+        } else {
+            return crdOperator.listAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()));
+        }
     }
 
     /**
@@ -167,6 +201,138 @@ public class K8sImpl implements K8s {
         return crdOperator.getAsync(namespace, resourceName.toString());
     }
 
+    /**
+     * Gets the Kafka topic based on the resource name from the informer cache. The Kubernetes API is used instead when
+     * the cache is not in sync yet, when the resource is not in the cache or when this operator modified the resource
+     * and the informer did not observe the change yet.
+     *
+     * @param resourceName Name of the resource
+     * @return  Future which completes with the Kafka topic
+     */
+    @Override
+    public Future<KafkaTopic> getFromCache(ResourceName resourceName) {
+        if (isCacheUsable() && !pendingWrites.containsKey(resourceName.toString())) {
+            KafkaTopic kafkaTopic = lister.get(resourceName.toString());
+
+            if (kafkaTopic != null) {
+                return Future.succeededFuture(kafkaTopic);
+            }
+        }
+
+        return getFromName(resourceName);
+    }
+
+    /**
+     * Starts the informer which caches the KafkaTopic resources. Until the informer is in sync, all reads go directly
+     * to the Kubernetes API.
+     */
+    public void startInformer() {
+        LOGGER.debug("Starting KafkaTopic informer in namespace {}", namespace);
+
+        try {
+            SharedIndexInformer<KafkaTopic> informer = crdOperator.informer(namespace, labels.labels());
+            informer.addEventHandler(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(KafkaTopic kafkaTopic) {
+                    observed(kafkaTopic);
+                }
+
+                @Override
+                public void onUpdate(KafkaTopic oldKafkaTopic, KafkaTopic newKafkaTopic) {
+                    observed(newKafkaTopic);
+                }
+
+                @Override
+                public void onDelete(KafkaTopic kafkaTopic, boolean deletedFinalStateUnknown) {
+                    // Any pending write is superseded by the deletion
+                    pendingWrites.remove(kafkaTopic.getMetadata().getName());
+                }
+            });
+
+            this.lister = new Lister<>(informer.getIndexer(), namespace);
+            this.informer = informer;
+        } catch (Exception e) {
+            LOGGER.warn("Failed to start the KafkaTopic informer. The KafkaTopic resources will be read from the Kubernetes API.", e);
+        }
+    }
+
+    /**
+     * Stops the informer
+     */
+    public void stopInformer() {
+        SharedIndexInformer<KafkaTopic> informer = this.informer;
+
+        if (informer != null) {
+            LOGGER.debug("Stopping KafkaTopic informer in namespace {}", namespace);
+            informer.stop();
+        }
+    }
+
+    private boolean isCacheUsable() {
+        SharedIndexInformer<KafkaTopic> informer = this.informer;
+        return informer != null && informer.hasSynced();
+    }
+
+    /**
+     * Remembers the resource version written by this operator until the informer observes it. The informer might have
+     * observed it already before the write returned. In that case, nothing is remembered, because the informer will
+     * not deliver the event again.
+     */
+    private void recordWrite(KafkaTopic kafkaTopic) {
+        if (informer != null
+                && kafkaTopic != null
+                && kafkaTopic.getMetadata() != null
+                && kafkaTopic.getMetadata().getResourceVersion() != null) {
+            String name = kafkaTopic.getMetadata().getName();
+            String resourceVersion = kafkaTopic.getMetadata().getResourceVersion();
+
+            if (!isObserved(name, resourceVersion)) {
+                pendingWrites.put(name, resourceVersion);
+
+                // The informer might have observed the write between the check and the put
+                if (isObserved(name, resourceVersion)) {
+                    pendingWrites.remove(name, resourceVersion);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the informer cache already contains the given resource version of the resource or a newer one.
+     */
+    private boolean isObserved(String name, String resourceVersion) {
+        Lister<KafkaTopic> lister = this.lister;
+        KafkaTopic cached = lister != null ? lister.get(name) : null;
+
+        if (cached == null || cached.getMetadata() == null || cached.getMetadata().getResourceVersion() == null) {
+            return false;
+        }
+
+        String cachedResourceVersion = cached.getMetadata().getResourceVersion();
+
+        try {
+            return Long.parseLong(cachedResourceVersion) >= Long.parseLong(resourceVersion);
+        } catch (NumberFormatException e) {
+            // The resource versions should be treated as opaque. Only when they are numbers we can tell which one is newer.
+            return cachedResourceVersion.equals(resourceVersion);
+        }
+    }
+
+    /**
+     * Checks whether the informer cache contains the resource
+     */
+    private boolean isCached(String name) {
+        Lister<KafkaTopic> lister = this.lister;
+        return lister != null && lister.get(name) != null;
+    }
+
+    /**
+     * Clears the pending write once the informer observes the resource version written by this operator
+     */
+    private void observed(KafkaTopic kafkaTopic) {
+        pendingWrites.remove(kafkaTopic.getMetadata().getName(), kafkaTopic.getMetadata().getResourceVersion());
+    }
+
     /**
      * Create the given k8s event
      */
@@ -5,8 +5,14 @@
 package io.strimzi.operator.topic;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -88,6 +94,36 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of multiple topics in Kafka,
+     * completing the returned Future with a map of the requested metadata.
+     * Topics which do not exist or whose metadata could not be fetched are not included in the map.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * The default implementation fetches the metadata for each topic separately.
+     * Implementations should override it to describe the topics in bulk.
+     *
+     * @param reconciliation The reconciliation.
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the requested metadata.
+     */
+    default Future<Map<TopicName, TopicMetadata>> topicsMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        Map<TopicName, TopicMetadata> result = new HashMap<>(topicNames.size());
+        List<Future> futures = new ArrayList<>(topicNames.size());
+
+        for (TopicName topicName : topicNames) {
+            futures.add(topicMetadata(reconciliation, topicName).map(metadata -> {
+                if (metadata != null) {
+                    result.put(topicName, metadata);
+                }
+                return null;
+            }));
+        }
+
+        return CompositeFuture.all(futures).map(result);
+    }
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
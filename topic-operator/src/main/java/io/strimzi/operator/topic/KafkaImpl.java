@@ -4,7 +4,11 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -38,10 +42,17 @@ public class KafkaImpl implements Kafka {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaImpl.class);
 
+    /**
+     * Default maximum number of topics described in a single request by {@link #topicsMetadata}
+     */
+    public static final int DEFAULT_METADATA_BATCH_SIZE = 500;
+
     protected final Admin adminClient;
 
     protected final Vertx vertx;
 
+    private final int metadataBatchSize;
+
     /**
      * Constructor
      *
@@ -49,8 +60,20 @@ public class KafkaImpl implements Kafka {
      * @param vertx        The Vertx instance
      */
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, DEFAULT_METADATA_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param adminClient        Instance of the Kafka AdminClient API
+     * @param vertx              The Vertx instance
+     * @param metadataBatchSize  Maximum number of topics described in a single request by {@link #topicsMetadata}
+     */
+    public KafkaImpl(Admin adminClient, Vertx vertx, int metadataBatchSize) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+        this.metadataBatchSize = metadataBatchSize;
     }
 
     /**
@@ -145,6 +168,69 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop with the metadata of the given topics
+     * obtained from the Kafka AdminClient API. The topics are described in chunks of at most
+     * {@code metadataBatchSize} topics, one chunk at a time, so that a full reconciliation of a large
+     * cluster does not need three requests for every single topic.
+     * Topics which do not exist or whose description failed are not included in the result.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        LOGGER.debugCr(reconciliation, "Getting metadata for {} topics in batches of {}", topicNames.size(), metadataBatchSize);
+        Map<TopicName, TopicMetadata> result = new HashMap<>(topicNames.size());
+        List<TopicName> names = new ArrayList<>(topicNames);
+
+        Future<Void> chain = Future.succeededFuture();
+        for (int start = 0; start < names.size(); start += metadataBatchSize) {
+            List<TopicName> chunk = names.subList(start, Math.min(names.size(), start + metadataBatchSize));
+            chain = chain.compose(ignored -> topicsMetadataChunk(reconciliation, chunk, result));
+        }
+
+        return chain.map(result);
+    }
+
+    /**
+     * Describes a single chunk of topics and their configurations and adds the results to the {@code result} map.
+     */
+    private Future<Void> topicsMetadataChunk(Reconciliation reconciliation, List<TopicName> chunk, Map<TopicName, TopicMetadata> result) {
+        Map<String, TopicName> topics = new HashMap<>(chunk.size());
+        Map<ConfigResource, TopicName> resources = new HashMap<>(chunk.size());
+        for (TopicName topicName : chunk) {
+            topics.put(topicName.toString(), topicName);
+            resources.put(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()), topicName);
+        }
+
+        Map<String, KafkaFuture<TopicDescription>> descriptions;
+        Map<ConfigResource, KafkaFuture<Config>> configs;
+        try {
+            descriptions = adminClient.describeTopics(topics.keySet()).topicNameValues();
+            configs = adminClient.describeConfigs(resources.keySet()).values();
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+
+        // Each topic is handled on its own so that a single failing topic does not fail the whole chunk
+        List<Future> futures = new ArrayList<>(chunk.size());
+        for (Map.Entry<ConfigResource, TopicName> resource : resources.entrySet()) {
+            TopicName topicName = resource.getValue();
+            Future<TopicMetadata> metadataFuture = CompositeFuture.all(mapFuture(descriptions.get(topicName.toString())), mapFuture(configs.get(resource.getKey())))
+                    .map(compositeFuture -> new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
+
+            futures.add(metadataFuture
+                    .map(metadata -> {
+                        result.put(topicName, metadata);
+                        return null;
+                    })
+                    .otherwise(error -> {
+                        LOGGER.debugCr(reconciliation, "Failed to describe topic {} in bulk", topicName, error);
+                        return null;
+                    }));
+        }
+
+        return CompositeFuture.join(futures).mapEmpty();
+    }
+
     /**
      * Check the existence of a topic via the Kafka AdminClient API
      *
@@ -9,6 +9,7 @@ import io.apicurio.registry.utils.kafka.ProducerActions;
 import io.apicurio.registry.utils.streams.diservice.AsyncBiFunctionService;
 import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
 import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.KafkaFuture;
@@ -39,10 +40,27 @@ public class KafkaStreamsTopicStoreService {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaStreamsTopicStoreService.class);
 
     private final List<AutoCloseable> closeables = new ArrayList<>();
+    private final MetricsProvider metrics;
 
     /* test */ KafkaStreams streams;
     /* test */ TopicStore store;
 
+    /**
+     * Constructs the service without metrics
+     */
+    public KafkaStreamsTopicStoreService() {
+        this(null);
+    }
+
+    /**
+     * Constructs the service
+     *
+     * @param metrics   Metrics provider used for the topic store restoration metrics (or null to not collect them)
+     */
+    public KafkaStreamsTopicStoreService(MetricsProvider metrics) {
+        this.metrics = metrics;
+    }
+
     protected CompletionStage<TopicStore> start(Config config, Properties kafkaProperties) {
         String storeTopic = config.get(Config.STORE_TOPIC);
         String storeName = config.get(Config.STORE_NAME);
@@ -82,7 +100,7 @@ public class KafkaStreamsTopicStoreService {
         ProducerActions<String, TopicCommand> producer = new AsyncProducer<>(
                 kafkaProperties,
             Serdes.String().serializer(),
-            new TopicCommandSerde()
+            new TopicCommandSerde(config.get(Config.STORE_BINARY_FORMAT))
         );
         closeables.add(producer);
 
@@ -120,11 +138,24 @@ public class KafkaStreamsTopicStoreService {
             streamsProperties.put(StreamsConfig.REPLICATION_FACTOR_CONFIG, "-1");
         }
 
-        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher).get();
+        String stateDir = config.get(Config.STORE_STATE_DIR);
+        boolean persistentStore = !stateDir.isEmpty();
+        if (persistentStore) {
+            // The state and its checkpoint survive restarts => only the tail of the store topic is restored
+            LOGGER.info("Using persistent topic store in {}", stateDir);
+            streamsProperties.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+        }
+
+        boolean binaryFormat = config.get(Config.STORE_BINARY_FORMAT);
+        if (binaryFormat) {
+            LOGGER.info("Writing topic store records in the binary format");
+        }
+
+        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher, persistentStore, binaryFormat).get();
 
         streams = new KafkaStreams(topology, streamsProperties);
         streams.setStateListener(listener);
-        streams.setGlobalStateRestoreListener(new LoggingStateRestoreListener());
+        streams.setGlobalStateRestoreListener(metrics != null ? new TopicStoreRestoreListener(metrics) : new LoggingStateRestoreListener());
         closeables.add(streams);
         streams.start();
 
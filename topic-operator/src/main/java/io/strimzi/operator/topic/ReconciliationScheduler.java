@@ -0,0 +1,171 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the per-topic work of the periodic reconciliation with bounded concurrency. Instead of starting the
+ * reconciliation of all topics at once, at most {@code parallelism} topics are reconciled at the same time and the
+ * starts are paced with a jittered delay so that the work is spread over time. This keeps the Vert.x event loop, the
+ * Admin client and the topic store free for the event-driven reconciliations.
+ */
+class ReconciliationScheduler {
+    private final Vertx vertx;
+    private final int parallelism;
+    private final long maxPacingDelayMs;
+    private final AtomicInteger reconciled;
+    private final AtomicInteger remaining;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance used for the pacing timers
+     * @param parallelism       Maximum number of tasks running at the same time
+     * @param maxPacingDelayMs  Maximum delay between the start of two tasks
+     * @param reconciled        Gauge counting the completed tasks
+     * @param remaining         Gauge counting the tasks which were scheduled but did not complete yet
+     */
+    ReconciliationScheduler(Vertx vertx, int parallelism, long maxPacingDelayMs, AtomicInteger reconciled, AtomicInteger remaining) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism has to be at least 1");
+        }
+
+        this.vertx = vertx;
+        this.parallelism = parallelism;
+        this.maxPacingDelayMs = maxPacingDelayMs;
+        this.reconciled = reconciled;
+        this.remaining = remaining;
+    }
+
+    /**
+     * Resets the progress gauges. This should be called when a new periodic reconciliation starts.
+     */
+    void resetProgress() {
+        reconciled.set(0);
+        remaining.set(0);
+    }
+
+    /**
+     * Runs the tasks. The returned future completes when all the tasks complete. When some of them fail, it fails with
+     * the cause of the first failure (the same way as {@code CompositeFuture.join}).
+     *
+     * @param tasks     Tasks to run
+     * @param spreadMs  Time over which the starts of the tasks should be spread. The delay between two starts is capped
+     *                  by the maximum pacing delay.
+     *
+     * @return  Future which completes when all tasks complete
+     */
+    Future<Void> run(List<Supplier<Future<?>>> tasks, long spreadMs) {
+        if (tasks.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        remaining.addAndGet(tasks.size());
+        long pacingDelayMs = Math.min(maxPacingDelayMs, spreadMs / tasks.size());
+
+        Run run = new Run(tasks, pacingDelayMs);
+        run.startNext();
+        return run.promise.future();
+    }
+
+    /**
+     * Calculates the jittered delay before the next task is started
+     *
+     * @param pacingDelayMs Average delay
+     *
+     * @return  Delay between 50% and 150% of the average delay
+     */
+    /*test*/ static long jitter(long pacingDelayMs) {
+        return pacingDelayMs <= 0 ? 0 : pacingDelayMs / 2 + ThreadLocalRandom.current().nextLong(pacingDelayMs + 1);
+    }
+
+    /**
+     * State of a single run of tasks
+     */
+    private class Run {
+        private final List<Supplier<Future<?>>> tasks;
+        private final long pacingDelayMs;
+        private final Promise<Void> promise = Promise.promise();
+
+        private int next = 0;
+        private int running = 0;
+        private int completed = 0;
+        private boolean paced = false;
+        private Throwable failure;
+
+        Run(List<Supplier<Future<?>>> tasks, long pacingDelayMs) {
+            this.tasks = tasks;
+            this.pacingDelayMs = pacingDelayMs;
+        }
+
+        /**
+         * Starts the next task if the parallelism and the pacing allow it
+         */
+        synchronized void startNext() {
+            if (paced || running >= parallelism || next >= tasks.size()) {
+                return;
+            }
+
+            Supplier<Future<?>> task = tasks.get(next++);
+            running++;
+
+            if (next < tasks.size()) {
+                // The next task will be started once the pacing delay passes. We run it through the context even
+                // without any delay to avoid deep recursion when the tasks complete synchronously.
+                paced = true;
+                long delay = jitter(pacingDelayMs);
+
+                if (delay > 0) {
+                    vertx.setTimer(delay, id -> resume());
+                } else {
+                    vertx.runOnContext(v -> resume());
+                }
+            }
+
+            Future<?> result;
+            try {
+                result = task.get();
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            result.onComplete(ar -> completed(ar.failed() ? ar.cause() : null));
+        }
+
+        private synchronized void resume() {
+            paced = false;
+            startNext();
+        }
+
+        private synchronized void completed(Throwable cause) {
+            running--;
+            completed++;
+            reconciled.incrementAndGet();
+            remaining.decrementAndGet();
+
+            if (cause != null && failure == null) {
+                failure = cause;
+            }
+
+            if (completed == tasks.size()) {
+                if (failure != null) {
+                    promise.fail(failure);
+                } else {
+                    promise.complete();
+                }
+            } else {
+                startNext();
+            }
+        }
+    }
+}
@@ -145,6 +145,7 @@ public class Session extends AbstractVerticle {
             LOGGER.info("Stopping");
             LOGGER.debug("Stopping kube watch");
             topicWatch.close();
+            k8s.stopInformer();
             LOGGER.debug("Stopping zk watches");
             topicsWatcher.stop();
 
@@ -213,7 +214,7 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(adminClientProperties());
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.TOPIC_METADATA_BATCH_SIZE));
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
@@ -251,6 +252,7 @@ public class Session extends AbstractVerticle {
         return executor.executeBlocking(blockingPromise -> {
             Promise<Void> initReconcilePromise = Promise.promise();
             watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future(), this::startWatcher);
+            k8s.startInformer();
             LOGGER.debug("Starting watcher");
             startWatcher().onSuccess(v -> blockingPromise.complete(initReconcilePromise));
         });
@@ -283,9 +285,10 @@ public class Session extends AbstractVerticle {
         topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
         LOGGER.debug("Using Operator {}", topicOperator);
 
-        topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+        boolean persistentWatches = config.get(Config.ZOOKEEPER_PERSISTENT_WATCHES);
+        topicConfigsWatcher = new TopicConfigsWatcher(topicOperator, persistentWatches);
         LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-        topicWatcher = new ZkTopicWatcher(topicOperator);
+        topicWatcher = new ZkTopicWatcher(topicOperator, persistentWatches);
         LOGGER.debug("Using TopicWatcher {}", topicWatcher);
         topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
         LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
@@ -302,7 +305,7 @@ public class Session extends AbstractVerticle {
                     timerId = null;
                     boolean isInitialReconcile = oldTimerId == null;
                     topicOperator.getPeriodicReconciliationsCounter().increment();
-                    topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
+                    topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ", !isInitialReconcile).onComplete(result -> {
                         if (isInitialReconcile) {
                             initReconcilePromise.complete();
                         }
@@ -326,7 +329,7 @@ public class Session extends AbstractVerticle {
             if (exists) {
                 cs = Zk2KafkaStreams.upgrade(zk, config, adminClientProperties(), false);
             } else {
-                KafkaStreamsTopicStoreService ksc = new KafkaStreamsTopicStoreService();
+                KafkaStreamsTopicStoreService ksc = new KafkaStreamsTopicStoreService(new MicrometerMetricsProvider());
                 cs = ksc.start(config, adminClientProperties()).thenCompose(s -> CompletableFuture.completedFuture(ksc));
             }
             try {
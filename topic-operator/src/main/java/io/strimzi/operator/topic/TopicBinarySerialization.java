@@ -0,0 +1,310 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary serialization of {@link Topic} and {@link TopicCommand} used by the Kafka Streams based topic store.
+ *
+ * Every record starts with the format version byte. The JSON records written by the previous versions of the
+ * operator always start with {@code '{'}, which is never used as format version, so they can be still read and are
+ * migrated to the binary format when the topic is next written. The integers are written as zig-zag encoded varints
+ * and the strings as the varint length (plus one, with zero meaning null) followed by their UTF-8 bytes. The well-known
+ * topic configuration keys are written as their index in the dictionary of the format version.
+ *
+ * The dictionary is part of the format. Any change to it (including adding new keys) requires a new format version.
+ */
+class TopicBinarySerialization {
+    /**
+     * The first version of the binary format
+     */
+    static final byte VERSION_1 = 1;
+
+    private static final byte JSON_START = '{';
+
+    // Dictionary of the topic configuration keys of the format version 1. Must not be changed.
+    private static final List<String> CONFIG_KEYS_V1 = List.of(
+            "cleanup.policy",
+            "compression.type",
+            "delete.retention.ms",
+            "file.delete.delay.ms",
+            "flush.messages",
+            "flush.ms",
+            "follower.replication.throttled.replicas",
+            "index.interval.bytes",
+            "leader.replication.throttled.replicas",
+            "max.compaction.lag.ms",
+            "max.message.bytes",
+            "message.downconversion.enable",
+            "message.format.version",
+            "message.timestamp.difference.max.ms",
+            "message.timestamp.type",
+            "min.cleanable.dirty.ratio",
+            "min.compaction.lag.ms",
+            "min.insync.replicas",
+            "preallocate",
+            "retention.bytes",
+            "retention.ms",
+            "segment.bytes",
+            "segment.index.bytes",
+            "segment.jitter.ms",
+            "segment.ms",
+            "unclean.leader.election.enable",
+            "local.retention.bytes",
+            "local.retention.ms",
+            "remote.storage.enable"
+    );
+
+    private static final Map<String, Integer> CONFIG_KEY_INDEXES_V1 = new HashMap<>(CONFIG_KEYS_V1.size());
+
+    static {
+        for (int i = 0; i < CONFIG_KEYS_V1.size(); i++) {
+            CONFIG_KEY_INDEXES_V1.put(CONFIG_KEYS_V1.get(i), i);
+        }
+    }
+
+    private TopicBinarySerialization() { }
+
+    /**
+     * Checks whether the record was written in the JSON format used by the previous versions of the operator
+     *
+     * @param data  The serialized record
+     *
+     * @return  True if the record is JSON. False otherwise.
+     */
+    static boolean isJson(byte[] data) {
+        return data.length > 0 && data[0] == JSON_START;
+    }
+
+    /**
+     * Serializes the topic
+     *
+     * @param topic     The topic
+     *
+     * @return  The serialized topic
+     */
+    static byte[] toBytes(Topic topic) {
+        Writer writer = new Writer();
+        writer.writeByte(VERSION_1);
+        writeTopic(writer, topic);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Deserializes the topic
+     *
+     * @param data  The serialized topic
+     *
+     * @return  The topic
+     */
+    static Topic topicFromBytes(byte[] data) {
+        Reader reader = new Reader(data);
+        readVersion(reader);
+        return readTopic(reader);
+    }
+
+    /**
+     * Serializes the topic command
+     *
+     * @param command   The topic command
+     *
+     * @return  The serialized topic command
+     */
+    static byte[] toBytes(TopicCommand command) {
+        Writer writer = new Writer();
+        writer.writeByte(VERSION_1);
+        writer.writeString(command.getUuid());
+        writer.writeInt(command.getType().getId());
+        writer.writeInt(command.getVersion());
+
+        if (hasTopic(command.getType())) {
+            writeTopic(writer, command.getTopic());
+        } else {
+            writer.writeString(command.getKey());
+        }
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Deserializes the topic command
+     *
+     * @param data  The serialized topic command
+     *
+     * @return  The topic command
+     */
+    static TopicCommand commandFromBytes(byte[] data) {
+        Reader reader = new Reader(data);
+        readVersion(reader);
+        String uuid = reader.readString();
+        TopicCommand.Type type = TopicCommand.Type.fromId(reader.readInt());
+        int version = reader.readInt();
+
+        if (hasTopic(type)) {
+            return new TopicCommand(uuid, type, readTopic(reader), null, version);
+        } else {
+            return new TopicCommand(uuid, type, null, new TopicName(reader.readString()), version);
+        }
+    }
+
+    private static boolean hasTopic(TopicCommand.Type type) {
+        return type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE;
+    }
+
+    private static void readVersion(Reader reader) {
+        byte version = reader.readByte();
+
+        if (version != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported topic store record format version " + version);
+        }
+    }
+
+    private static void writeTopic(Writer writer, Topic topic) {
+        String topicName = topic.getTopicName().toString();
+        String mapName = topic.getOrAsKubeName().toString();
+
+        writer.writeString(topicName);
+        // The resource name is mostly the same as the topic name => written only when it differs
+        writer.writeString(topicName.equals(mapName) ? null : mapName);
+        writer.writeInt(topic.getNumPartitions());
+        writer.writeInt(topic.getNumReplicas());
+
+        Map<String, String> config = topic.getConfig();
+        writer.writeInt(config.size());
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            Integer keyIndex = CONFIG_KEY_INDEXES_V1.get(entry.getKey());
+            if (keyIndex != null) {
+                writer.writeInt(keyIndex + 1);
+            } else {
+                writer.writeInt(0);
+                writer.writeString(entry.getKey());
+            }
+            writer.writeString(entry.getValue());
+        }
+    }
+
+    private static Topic readTopic(Reader reader) {
+        String topicName = reader.readString();
+        String mapName = reader.readString();
+
+        Topic.Builder builder = new Topic.Builder()
+                .withTopicName(topicName)
+                .withMapName(mapName != null ? mapName : topicName)
+                .withNumPartitions(reader.readInt())
+                .withNumReplicas((short) reader.readInt());
+
+        int configSize = reader.readInt();
+        for (int i = 0; i < configSize; i++) {
+            int keyIndex = reader.readInt();
+            String key = keyIndex == 0 ? reader.readString() : CONFIG_KEYS_V1.get(keyIndex - 1);
+            builder.withConfigEntry(key, reader.readString());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Growable buffer for writing the records
+     */
+    private static class Writer {
+        private byte[] buffer = new byte[128];
+        private int position = 0;
+
+        private void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        void writeInt(int value) {
+            // Zig-zag encoding keeps small negative values (such as -1 for unspecified partitions) short
+            int zigZag = (value << 1) ^ (value >> 31);
+
+            ensureCapacity(5);
+            while ((zigZag & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+                zigZag >>>= 7;
+            }
+            buffer[position++] = (byte) zigZag;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeInt(0);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeInt(bytes.length + 1);
+                ensureCapacity(bytes.length);
+                System.arraycopy(bytes, 0, buffer, position, bytes.length);
+                position += bytes.length;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * Reader of the records
+     */
+    private static class Reader {
+        private final byte[] buffer;
+        private int position = 0;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private void checkRemaining(int length) {
+            if (position + length > buffer.length) {
+                throw new IllegalArgumentException("Truncated topic store record");
+            }
+        }
+
+        byte readByte() {
+            checkRemaining(1);
+            return buffer[position++];
+        }
+
+        int readInt() {
+            int zigZag = 0;
+
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                zigZag |= (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    return (zigZag >>> 1) ^ -(zigZag & 1);
+                }
+            }
+
+            throw new IllegalArgumentException("Malformed varint in topic store record");
+        }
+
+        String readString() {
+            int length = readInt() - 1;
+
+            if (length < 0) {
+                return null;
+            }
+
+            checkRemaining(length);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
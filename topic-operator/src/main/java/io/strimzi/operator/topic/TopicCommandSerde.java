@@ -11,7 +11,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde. The commands are written as JSON or, when enabled, in the compact binary format of
+ * {@link TopicBinarySerialization}. Both formats are always read.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -21,6 +22,25 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
     private static final String KEY = "key";
     private static final String VERSION = "version";
 
+    private final boolean binary;
+
+    /**
+     * Constructs the serde which writes the topic commands as JSON
+     */
+    public TopicCommandSerde() {
+        this(false);
+    }
+
+    /**
+     * Constructs the serde
+     *
+     * @param binary    Write the topic commands in the binary format instead of JSON. The previous Topic Operator
+     *                  versions cannot read the binary format.
+     */
+    public TopicCommandSerde(boolean binary) {
+        this.binary = binary;
+    }
+
     /**
      * Method to serialize the topic command data into byte stream
      *
@@ -30,6 +50,22 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
      */
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        if (data == null) {
+            return null;
+        } else if (binary) {
+            return TopicBinarySerialization.toBytes(data);
+        } else {
+            return toJson(data);
+        }
+    }
+
+    /**
+     * Serializes the topic command into JSON
+     *
+     * @param data   Topic command
+     * @return JSON serialized topic command
+     */
+    static byte[] toJson(TopicCommand data) {
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
@@ -52,6 +88,16 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
      */
     @Override
     public TopicCommand deserialize(String t, byte[] data) {
+        if (data == null) {
+            return null;
+        } else if (TopicBinarySerialization.isJson(data)) {
+            return fromJson(data);
+        } else {
+            return TopicBinarySerialization.commandFromBytes(data);
+        }
+    }
+
+    private static TopicCommand fromJson(byte[] data) {
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
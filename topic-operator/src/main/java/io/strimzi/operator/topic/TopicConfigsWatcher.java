@@ -12,7 +12,11 @@ package io.strimzi.operator.topic;
 class TopicConfigsWatcher extends ZkWatcher {
 
     TopicConfigsWatcher(TopicOperator topicOperator) {
-        super(topicOperator, CONFIGS_ZNODE);
+        this(topicOperator, false);
+    }
+
+    TopicConfigsWatcher(TopicOperator topicOperator, boolean persistentWatches) {
+        super(topicOperator, CONFIGS_ZNODE, persistentWatches);
     }
 
     @Override
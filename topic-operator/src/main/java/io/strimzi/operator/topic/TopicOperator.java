@@ -46,6 +46,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
@@ -59,6 +61,10 @@ class TopicOperator {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperator.class);
 
     public static final String METRICS_PREFIX = "strimzi.";
+    /** The maximum delay between starting the reconciliations of two topics during the periodic reconciliation */
+    private static final long PERIODIC_RECONCILIATION_MAX_PACING_MS = 100L;
+    /** Deadline of the reconciliation passes which are not paced */
+    /*test*/ static final long UNPACED = -1L;
     private final Kafka kafka;
     private final K8s k8s;
     private final Vertx vertx;
@@ -67,6 +73,11 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    /**
+     * Every running full reconciliation registers a set here. The topics of all actions completed in the meantime are
+     * added to these sets, so the full reconciliation knows which of the topics it described in bulk might have changed.
+     */
+    private final Set<Set<TopicName>> bulkMetadataTrackers = ConcurrentHashMap.newKeySet();
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -76,6 +87,10 @@ class TopicOperator {
     private Counter lockedReconciliationsCounter;
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
+    private AtomicInteger periodicReconciledCounter = new AtomicInteger(0);
+    private AtomicInteger periodicRemainingCounter = new AtomicInteger(0);
+    private final ReconciliationScheduler periodicScheduler;
+    private final LongSupplier clock;
     protected Timer reconciliationsTimer;
 
     enum EventType {
@@ -505,6 +520,18 @@ class TopicOperator {
                          String namespace,
                          Config config,
                          MetricsProvider metrics) {
+        this(vertx, kafka, k8s, topicStore, labels, namespace, config, metrics, System::currentTimeMillis);
+    }
+
+    /** Topic Operator constructor with a custom clock used for the deadlines of the periodic reconciliation */
+    /*test*/ TopicOperator(Vertx vertx, Kafka kafka,
+                         K8s k8s,
+                         TopicStore topicStore,
+                         Labels labels,
+                         String namespace,
+                         Config config,
+                         MetricsProvider metrics,
+                         LongSupplier clock) {
         this.kafka = kafka;
         this.k8s = k8s;
         this.vertx = vertx;
@@ -513,8 +540,13 @@ class TopicOperator {
         this.namespace = namespace;
         this.config = config;
         this.metrics = metrics;
+        this.clock = clock;
 
         initMetrics();
+
+        this.periodicScheduler = config != null
+                ? new ReconciliationScheduler(vertx, config.get(Config.FULL_RECONCILIATION_PARALLELISM), PERIODIC_RECONCILIATION_MAX_PACING_MS, periodicReconciledCounter, periodicRemainingCounter)
+                : null;
     }
 
     protected void initMetrics() {
@@ -552,6 +584,14 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            periodicReconciledCounter = metrics.gauge(METRICS_PREFIX + "reconciliations.periodical.reconciled",
+                    "Number of topic reconciliations completed by the current periodical reconciliation",
+                    metricTags);
+
+            periodicRemainingCounter = metrics.gauge(METRICS_PREFIX + "reconciliations.periodical.remaining",
+                    "Number of topic reconciliations scheduled by the current periodical reconciliation which did not complete yet",
+                    metricTags);
         }
     }
 
@@ -601,6 +641,7 @@ class TopicOperator {
                 LOGGER.debugCr(logContext.toReconciliation(), "Executing action {} on topic {}", action, lockName);
                 action.execute().onComplete(actionResult -> {
                     LOGGER.debugCr(logContext.toReconciliation(), "Executing handler for action {} on topic {}", action, lockName);
+                    bulkMetadataTrackers.forEach(modifiedTopics -> modifiedTopics.add(key));
                     action.result = actionResult;
                     String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
                     Optional<Meter> metric = metrics.meterRegistry().getMeters()
@@ -1426,12 +1467,35 @@ class TopicOperator {
     }
 
     Future<?> reconcileAllTopics(String reconciliationType) {
+        return reconcileAllTopics(reconciliationType, true);
+    }
+
+    /**
+     * Reconciles all topics
+     *
+     * @param reconciliationType    Type of the reconciliation used in the logs
+     * @param paced                 Whether the reconciliation of the topics should be paced with bounded concurrency.
+     *                              The initial reconciliation should not be paced, because the KafkaTopic events are
+     *                              ignored until it completes.
+     *
+     * @return  Future which completes when all topics are reconciled
+     */
+    Future<?> reconcileAllTopics(String reconciliationType, boolean paced) {
         LOGGER.infoOp("Starting {} reconciliation", reconciliationType);
+        if (periodicScheduler != null) {
+            periodicScheduler.resetProgress();
+        }
+
+        // A single deadline is used for all phases of the paced reconciliation, so that the whole pass is spread
+        // over the pacing budget instead of each phase getting its own budget. Without the configuration, there is
+        // no periodic scheduler and the topics are reconciled without pacing.
+        long deadlineMs = paced && periodicScheduler != null ? clock.getAsLong() + periodicSpreadMs() : UNPACED;
+
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
         )).compose(topicNamesFromKafka ->
                 // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
+                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()), deadlineMs)
         ).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
@@ -1441,7 +1505,7 @@ class TopicOperator {
                 return reconcileState;
             });
         }).compose(reconcileState -> {
-            List<Future> futs = new ArrayList<>();
+            List<Supplier<Future<?>>> tasks = new ArrayList<>();
             pausedTopicCounter.set(0);
             topicCounter.set(reconcileState.ktList.size());
             for (KafkaTopic kt : reconcileState.ktList) {
@@ -1464,7 +1528,7 @@ class TopicOperator {
                     successfulReconciliationsCounter.increment();
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    tasks.add(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
@@ -1473,30 +1537,30 @@ class TopicOperator {
                 } else {
                     // Topic exists in kube, but not in Kafka
                     LOGGER.debugCr(logContext.toReconciliation(), "Topic {} exists in Kubernetes, but not Kafka", topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    tasks.add(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
                     }));
                 }
             }
-            return CompositeFuture.join(futs).compose(joined -> {
-                List<Future> futs2 = new ArrayList<>();
+            return runTopicReconciliations(tasks, deadlineMs).compose(joined -> {
+                List<Supplier<Future<?>>> tasks2 = new ArrayList<>();
                 for (Throwable exception : reconcileState.failed.values()) {
-                    futs2.add(Future.failedFuture(exception));
+                    tasks2.add(() -> Future.failedFuture(exception));
                 }
                 // anything left in undetermined doesn't exist in topic store nor kube
                 for (TopicName tn : reconcileState.undetermined) {
                     LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn, namespace, tn.asKubeName().toString());
-                    futs2.add(executeWithTopicLockHeld(logContext, tn, new Reconciliation(logContext, "delete-remaining", true) {
+                    tasks2.add(() -> executeWithTopicLockHeld(logContext, tn, new Reconciliation(logContext, "delete-remaining", true) {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
+                            return getKafkaAndReconcile(this, logContext, tn, null, null, null);
                         }
                     }));
                 }
-                return CompositeFuture.join(futs2);
+                return runTopicReconciliations(tasks2, deadlineMs);
             });
         });
     }
@@ -1505,7 +1569,7 @@ class TopicOperator {
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka, long deadlineMs) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
@@ -1514,51 +1578,103 @@ class TopicOperator {
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
         if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
-                    @Override
-                    public Future<Void> execute() {
-                        return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
-                                    new OperatorException("Error getting topic " + topicName + " from topic store during "
-                                            + reconciliationType + " reconciliation", error));
-                            return Future.succeededFuture();
-                        }).compose(topic -> {
-                            if (topic == null) {
-                                LOGGER.debugCr(logContext.toReconciliation(), "No private topic for topic {} in Kafka -> undetermined", topicName);
-                                undetermined.add(topicName);
-                                return Future.succeededFuture();
-                            } else {
-                                LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
-                                        .<Void>map(ignored -> {
-                                            LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
-                                            return null;
-                                        }).recover(error -> {
-                                            LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
-                                            return Future.failedFuture(error);
-                                        });
-                            }
-                        });
-
-                    }
-                }));
-            }
-            return join(futures).map(state);
+            // Describe the topics in bulk instead of doing three Admin API requests for every topic. Topics modified by
+            // other actions after the bulk describe started are tracked and fetched again when we reconcile them.
+            Set<TopicName> modifiedTopics = ConcurrentHashMap.newKeySet();
+            bulkMetadataTrackers.add(modifiedTopics);
+
+            return kafka.topicsMetadata(LogContext.periodic(reconciliationType, namespace, "*").toReconciliation(), topicsFromKafka)
+                    .otherwise(error -> {
+                        LOGGER.warnOp("Failed to describe the topics in bulk during {} reconciliation. The topics will be described one by one.", reconciliationType, error);
+                        return Map.of();
+                    })
+                    .compose(bulkMetadata -> reconcileFromKafka(reconciliationType, topicsFromKafka, state, bulkMetadata, modifiedTopics, deadlineMs))
+                    .onComplete(ignored -> bulkMetadataTrackers.remove(modifiedTopics));
         } else {
             return Future.succeededFuture(state);
         }
+    }
+
+    /**
+     * Reconcile all the topics in {@code foundFromKafka} using the metadata which were described in bulk.
+     */
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka, ReconcileState state,
+                                                      Map<TopicName, TopicMetadata> bulkMetadata, Set<TopicName> modifiedTopics,
+                                                      long deadlineMs) {
+        Set<TopicName> succeeded = state.succeeded;
+        Set<TopicName> undetermined = state.undetermined;
+        Map<TopicName, Throwable> failed = state.failed;
+
+        List<Supplier<Future<?>>> tasks = new ArrayList<>();
+        for (TopicName topicName : topicsFromKafka) {
+            LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
+            tasks.add(() -> executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
+                @Override
+                public Future<Void> execute() {
+                    return getFromTopicStore(topicName).recover(error -> {
+                        failed.put(topicName,
+                                new OperatorException("Error getting topic " + topicName + " from topic store during "
+                                        + reconciliationType + " reconciliation", error));
+                        return Future.succeededFuture();
+                    }).compose(topic -> {
+                        if (topic == null) {
+                            LOGGER.debugCr(logContext.toReconciliation(), "No private topic for topic {} in Kafka -> undetermined", topicName);
+                            undetermined.add(topicName);
+                            return Future.succeededFuture();
+                        } else {
+                            LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
+                            // The bulk metadata are used only if the topic was not modified since they were described
+                            TopicMetadata prefetchedMetadata = modifiedTopics.contains(topicName) ? null : bulkMetadata.get(topicName);
+                            return reconcileWithPrivateTopic(logContext, topicName, topic, prefetchedMetadata, this)
+                                    .<Void>map(ignored -> {
+                                        LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
+                                        succeeded.add(topicName);
+                                        return null;
+                                    }).recover(error -> {
+                                        LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile error -> failed", topicName);
+                                        failed.put(topicName, error);
+                                        return Future.failedFuture(error);
+                                    });
+                        }
+                    });
 
+                }
+            }));
+        }
+        return runTopicReconciliations(tasks, deadlineMs).map(state);
+    }
 
+    /**
+     * Runs the reconciliations of the topics. The paced reconciliations run through the periodic scheduler and are
+     * spread over the time left until the deadline of the whole pass. The unpaced reconciliations are all started at
+     * once.
+     *
+     * @param tasks         Reconciliations of the topics
+     * @param deadlineMs    Deadline of the pass or {@link #UNPACED}
+     *
+     * @return  Future which completes when all reconciliations complete and fails with the first failure
+     */
+    @SuppressWarnings({"rawtypes"})
+    /*test*/ Future<Void> runTopicReconciliations(List<Supplier<Future<?>>> tasks, long deadlineMs) {
+        if (deadlineMs == UNPACED) {
+            List<Future> futures = new ArrayList<>(tasks.size());
+            for (Supplier<Future<?>> task : tasks) {
+                futures.add(task.get());
+            }
+            return CompositeFuture.join(futures).mapEmpty();
+        } else {
+            return periodicScheduler.run(tasks, Math.max(0L, deadlineMs - clock.getAsLong()));
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> CompositeFuture join(List<T> futures) {
-        return CompositeFuture.join((List) futures);
+    /**
+     * The periodic reconciliation spreads the work over half of the reconciliation interval. The other half is left
+     * as a headroom for the slower topics.
+     *
+     * @return  Time in milliseconds over which the reconciliation of the topics should be spread
+     */
+    private long periodicSpreadMs() {
+        return config.get(Config.FULL_RECONCILIATION_INTERVAL_MS) / 2;
     }
 
 
@@ -1566,9 +1682,9 @@ class TopicOperator {
      * Reconcile the given topic which has the given {@code privateTopic} in the topic store.
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
-                                                   Topic privateTopic,
+                                                   Topic privateTopic, TopicMetadata prefetchedMetadata,
                                                    Reconciliation reconciliation) {
-        return k8s.getFromName(privateTopic.getResourceName())
+        return k8s.getFromCache(privateTopic.getResourceName())
             .recover(error -> {
                 LOGGER.errorCr(logContext.toReconciliation(), "Error getting KafkaTopic {} for topic {}",
                         topicName.asKubeName(), topicName, error);
@@ -1576,12 +1692,12 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, prefetchedMetadata);
             });
     }
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, TopicMetadata prefetchedMetadata) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
@@ -1594,7 +1710,7 @@ class TopicOperator {
                                 EventType.WARNING, eventResult -> { }));
                     }
                 })
-                .compose(i -> kafka.topicMetadata(logContext.toReconciliation(), topicName))
+                .compose(i -> prefetchedMetadata != null ? Future.succeededFuture(prefetchedMetadata) : kafka.topicMetadata(logContext.toReconciliation(), topicName))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -1636,7 +1752,7 @@ class TopicOperator {
             public Future<Void> execute() {
                 Reconciliation self = this;
                 return CompositeFuture.all(
-                        k8s.getFromName(kubeName).map(kt -> {
+                        k8s.getFromCache(kubeName).map(kt -> {
                             observedTopicFuture(kt);
                             return kt;
                         }),
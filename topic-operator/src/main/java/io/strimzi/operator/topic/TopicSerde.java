@@ -7,9 +7,29 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde. The topics are written as JSON or, when enabled, in the compact binary format of
+ * {@link TopicBinarySerialization}. Both formats are always read, so the binary format can be enabled and disabled
+ * again without losing the topics already written.
  */
 public class TopicSerde extends SelfSerde<Topic> {
+    private final boolean binary;
+
+    /**
+     * Constructs the serde which writes the topics as JSON
+     */
+    public TopicSerde() {
+        this(false);
+    }
+
+    /**
+     * Constructs the serde
+     *
+     * @param binary    Write the topics in the binary format instead of JSON. The previous Topic Operator versions
+     *                  cannot read the binary format.
+     */
+    public TopicSerde(boolean binary) {
+        this.binary = binary;
+    }
 
     /**
      * Method to serialize the topic into byte stream
@@ -20,7 +40,13 @@ public class TopicSerde extends SelfSerde<Topic> {
      */
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        if (data == null) {
+            return null;
+        } else if (binary) {
+            return TopicBinarySerialization.toBytes(data);
+        } else {
+            return TopicSerialization.toJson(data);
+        }
     }
 
     /**
@@ -31,6 +57,12 @@ public class TopicSerde extends SelfSerde<Topic> {
      */
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        if (data == null) {
+            return null;
+        } else if (TopicBinarySerialization.isJson(data)) {
+            return TopicSerialization.fromJson(data);
+        } else {
+            return TopicBinarySerialization.topicFromBytes(data);
+        }
     }
 }
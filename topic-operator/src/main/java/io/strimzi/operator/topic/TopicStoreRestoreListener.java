@@ -0,0 +1,61 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restore listener of the topic store which records the time it takes to restore the store from the store topic and
+ * the number of restored records. With the persistent topic store, only the tail of the store topic after the local
+ * checkpoint is restored.
+ */
+class TopicStoreRestoreListener extends LoggingStateRestoreListener {
+    private final Map<TopicPartition, Long> restoreStarts = new ConcurrentHashMap<>();
+    private final Timer restorationTimer;
+    private final Counter restoredRecordsCounter;
+
+    /**
+     * Constructor
+     *
+     * @param metrics   Metrics provider
+     */
+    TopicStoreRestoreListener(MetricsProvider metrics) {
+        Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
+
+        this.restorationTimer = metrics.timer(TopicOperator.METRICS_PREFIX + "store.restoration.duration",
+                "The time it takes to restore the topic store from the store topic",
+                metricTags);
+        this.restoredRecordsCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "store.restoration.records",
+                "Number of records restored into the topic store from the store topic",
+                metricTags);
+    }
+
+    @Override
+    public void onRestoreStart(TopicPartition topicPartition, String storeName, long startingOffset, long endingOffset) {
+        super.onRestoreStart(topicPartition, storeName, startingOffset, endingOffset);
+        restoreStarts.put(topicPartition, System.nanoTime());
+    }
+
+    @Override
+    public void onRestoreEnd(TopicPartition topicPartition, String storeName, long totalRestored) {
+        super.onRestoreEnd(topicPartition, storeName, totalRestored);
+
+        Long start = restoreStarts.remove(topicPartition);
+        if (start != null) {
+            restorationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        restoredRecordsCounter.increment(totalRestored);
+    }
+}
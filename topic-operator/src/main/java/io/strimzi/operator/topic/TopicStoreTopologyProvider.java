@@ -31,17 +31,42 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
     private final String topicStoreName;
     private final Properties kafkaProperties;
     private final ForeachAction<? super String, ? super Integer> dispatcher;
+    private final boolean persistentStore;
+    private final boolean binaryFormat;
 
     protected TopicStoreTopologyProvider(
             String storeTopic,
             String topicStoreName,
             Properties kafkaProperties,
             ForeachAction<? super String, ? super Integer> dispatcher
+    ) {
+        this(storeTopic, topicStoreName, kafkaProperties, dispatcher, false, false);
+    }
+
+    /**
+     * @param storeTopic        Name of the store topic
+     * @param topicStoreName    Name of the topic store
+     * @param kafkaProperties   Kafka Streams properties
+     * @param dispatcher        Dispatcher of the store modification results
+     * @param persistentStore   Use a persistent store in the Kafka Streams state directory instead of an in-memory
+     *                          store. The persistent store is checkpointed, so after a restart only the records added
+     *                          to the store topic since the last checkpoint need to be restored.
+     * @param binaryFormat      Write the topics to the store changelog in the binary format instead of JSON
+     */
+    protected TopicStoreTopologyProvider(
+            String storeTopic,
+            String topicStoreName,
+            Properties kafkaProperties,
+            ForeachAction<? super String, ? super Integer> dispatcher,
+            boolean persistentStore,
+            boolean binaryFormat
     ) {
         this.storeTopic = storeTopic;
         this.topicStoreName = topicStoreName;
         this.kafkaProperties = kafkaProperties;
         this.dispatcher = dispatcher;
+        this.persistentStore = persistentStore;
+        this.binaryFormat = binaryFormat;
     }
 
     /**
@@ -68,8 +93,8 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
         StoreBuilder<KeyValueStore<String /* topic */, Topic>> topicStoreBuilder =
                 Stores
                         .keyValueStoreBuilder(
-                                Stores.inMemoryKeyValueStore(topicStoreName),
-                                Serdes.String(), new TopicSerde()
+                                persistentStore ? Stores.persistentKeyValueStore(topicStoreName) : Stores.inMemoryKeyValueStore(topicStoreName),
+                                Serdes.String(), new TopicSerde(binaryFormat)
                         )
                         .withCachingEnabled()
                         .withLoggingEnabled(configuration);
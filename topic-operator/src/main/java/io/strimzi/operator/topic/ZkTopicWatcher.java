@@ -14,7 +14,11 @@ public class ZkTopicWatcher extends ZkWatcher {
     private static final String TOPICS_ZNODE = "/brokers/topics";
 
     ZkTopicWatcher(TopicOperator topicOperator) {
-        super(topicOperator, TOPICS_ZNODE);
+        this(topicOperator, false);
+    }
+
+    ZkTopicWatcher(TopicOperator topicOperator, boolean persistentWatches) {
+        super(topicOperator, TOPICS_ZNODE, persistentWatches);
     }
 
     @Override
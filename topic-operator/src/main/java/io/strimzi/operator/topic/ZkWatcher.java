@@ -14,6 +14,9 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base abstract class for a ZooKeeper watcher for child znodes.
+ * The watcher either sets one data watch per child znode, or a single persistent recursive watch on the root znode
+ * which dispatches the changes to the children by their path. The persistent recursive watch requires ZooKeeper 3.6
+ * or newer, but it avoids keeping (and setting again after every change or session expiry) a watch per child.
  */
 public abstract class ZkWatcher {
 
@@ -25,6 +28,7 @@ public abstract class ZkWatcher {
 
     private final ConcurrentHashMap<String, Boolean> children = new ConcurrentHashMap<>();
     private final String rootZNode;
+    private final boolean persistentWatches;
 
     protected static final String CONFIGS_ZNODE = "/config/topics";
 
@@ -35,8 +39,20 @@ public abstract class ZkWatcher {
      * @param rootZNode     root znode to watch children
      */
     ZkWatcher(TopicOperator topicOperator, String rootZNode) {
+        this(topicOperator, rootZNode, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator         Operator instance to notify
+     * @param rootZNode             root znode to watch children
+     * @param persistentWatches     use a single persistent recursive watch on the root znode instead of a watch per child
+     */
+    ZkWatcher(TopicOperator topicOperator, String rootZNode, boolean persistentWatches) {
         this.topicOperator = topicOperator;
         this.rootZNode = rootZNode;
+        this.persistentWatches = persistentWatches;
     }
 
     /**
@@ -47,6 +63,12 @@ public abstract class ZkWatcher {
     protected void start(Zk zk) {
         this.zk = zk;
         this.state = ZkWatcherState.STARTED;
+
+        if (persistentWatches) {
+            logger.debugOp("Watching znode {} and its children for changes", rootZNode);
+            zk.watchRecursive(rootZNode, this::handleRecursiveWatch)
+                    .onFailure(cause -> logger.errorOp("While watching znode {}", rootZNode, cause));
+        }
     }
 
     /**
@@ -54,6 +76,10 @@ public abstract class ZkWatcher {
      */
     protected void stop() {
         this.state = ZkWatcherState.STOPPED;
+
+        if (persistentWatches && zk != null) {
+            zk.unwatchRecursive(rootZNode);
+        }
     }
 
     /**
@@ -69,6 +95,12 @@ public abstract class ZkWatcher {
      * @param child child to watch
      */
     protected void addChild(String child) {
+        if (persistentWatches) {
+            // The child is already covered by the persistent recursive watch on the root znode
+            this.children.put(child, true);
+            return;
+        }
+
         this.children.put(child, false);
         LogContext logContext = LogContext.zkWatch(CONFIGS_ZNODE, "=" + child, topicOperator.getNamespace(), child);
         String path = getPath(child);
@@ -100,7 +132,41 @@ public abstract class ZkWatcher {
         LogContext logContext = LogContext.zkWatch(CONFIGS_ZNODE, "=" + child, topicOperator.getNamespace(), child);
         logger.debugCr(logContext.toReconciliation(), "Unwatching znode {} for changes", child);
         this.children.remove(child);
-        zk.unwatchData(getPath(child));
+
+        if (!persistentWatches) {
+            zk.unwatchData(getPath(child));
+        }
+    }
+
+    /**
+     * Handles the events of the persistent recursive watch on the root znode. The changes of the watched children
+     * are dispatched to {@link #notifyOperator(String)}. The changes of the deeper znodes are ignored.
+     *
+     * @param pathResult    path of the changed znode
+     */
+    private void handleRecursiveWatch(AsyncResult<String> pathResult) {
+        if (!started()) {
+            return;
+        }
+
+        if (pathResult.failed()) {
+            logger.errorOp("While watching znode {}", rootZNode, pathResult.cause());
+            return;
+        }
+
+        String path = pathResult.result();
+        if (rootZNode.equals(path)) {
+            // The watch was set again in a new session => changes might have been missed
+            logger.debugOp("Watch on znode {} was renewed, notifying about all {} children", rootZNode, children.size());
+            for (String child : children.keySet()) {
+                notifyOperator(child);
+            }
+        } else if (path != null && path.startsWith(rootZNode + "/")) {
+            String child = path.substring(rootZNode.length() + 1);
+            if (child.indexOf('/') == -1 && watching(child)) {
+                notifyOperator(child);
+            }
+        }
     }
 
     /**
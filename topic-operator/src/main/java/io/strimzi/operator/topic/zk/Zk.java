@@ -9,6 +9,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
@@ -50,9 +51,11 @@ public interface Zk {
      * @return Zookeeper instace
      */
     static Zk createSync(Vertx vertx, String zkConnectionString, int sessionTimeout, int connectionTimeout) {
+        ZkConnection connection = new ZkConnection(zkConnectionString, sessionTimeout);
         return new ZkImpl(vertx,
-                new ZkClient(zkConnectionString, sessionTimeout, connectionTimeout,
-                        new BytesPushThroughSerializer()));
+                new ZkClient(connection, connectionTimeout,
+                        new BytesPushThroughSerializer()),
+                connection);
     }
 
     /**
@@ -162,6 +165,30 @@ public interface Zk {
      */
     Zk unwatchData(String path);
 
+    /**
+     * Asynchronously set the given persistent recursive {@code watcher} on the given {@code path},
+     * returning a future which completes when the watcher is registered with zookeeper.
+     * Unlike the data watches, a single persistent recursive watch covers the whole subtree of the {@code path}
+     * and it does not need to be set again after it fired. The {@code watcher} is called with the path of the znode
+     * (the given {@code path} or any of its descendants) whose data changed.
+     * When a new zookeeper session is established, the watch is registered again and the {@code watcher} is called
+     * with the given {@code path}, because changes made while there was no session might have been missed.
+     * This requires ZooKeeper 3.6 or newer.
+     *
+     * @param path    The path.
+     * @param watcher The watcher.
+     * @return Future which completes when the watch is registered.
+     */
+    Future<Zk> watchRecursive(String path, Handler<AsyncResult<String>> watcher);
+
+    /**
+     * Remove the persistent recursive watcher, if any, for the given {@code path}.
+     *
+     * @param path The path.
+     * @return This instance.
+     */
+    Zk unwatchRecursive(String path);
+
     /**
      * Does the path exist.
      *
@@ -5,6 +5,7 @@
 package io.strimzi.operator.topic.zk;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -12,11 +13,17 @@ import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import org.I0Itec.zkclient.IZkChildListener;
 import org.I0Itec.zkclient.IZkDataListener;
+import org.I0Itec.zkclient.IZkStateListener;
 import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
 import org.I0Itec.zkclient.exception.ZkNoNodeException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.AddWatchMode;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.data.ACL;
 
 import java.util.List;
@@ -37,16 +44,36 @@ public class ZkImpl implements Zk {
     }
     private final Vertx vertx;
     private final ZkClient zookeeper;
+    private final ZkConnection connection;
 
     // Only accessed on the vertx context.
 
     private final ConcurrentHashMap<String, IZkDataListener> dataWatches = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, IZkChildListener> childWatches = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, RecursiveWatchAdapter> recursiveWatches = new ConcurrentHashMap<>();
 
     protected ZkImpl(Vertx vertx, ZkClient zkClient) {
+        this(vertx, zkClient, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance
+     * @param zkClient      ZooKeeper client
+     * @param connection    Connection used by the ZooKeeper client. It is needed for the persistent recursive watches
+     *                      which are not supported by the ZooKeeper client itself. When null, the persistent recursive
+     *                      watches cannot be used.
+     */
+    protected ZkImpl(Vertx vertx, ZkClient zkClient, ZkConnection connection) {
         this.vertx = vertx;
         this.workerExecutor = vertx.createSharedWorkerExecutor(getClass().getName(), 4);
         this.zookeeper = zkClient;
+        this.connection = connection;
+
+        if (connection != null) {
+            zkClient.subscribeStateChanges(new RecursiveWatchesRenewer());
+        }
     }
 
 
@@ -172,6 +199,129 @@ public class ZkImpl implements Zk {
         return this;
     }
 
+    /**
+     * Adapts the ZooKeeper watcher of the persistent recursive watch to the Vert.x handler. The events are delivered
+     * on the ZooKeeper event thread, so the handler is called on the Vert.x context from which the watch was set to
+     * not block the ZooKeeper client.
+     */
+    static class RecursiveWatchAdapter implements Watcher {
+
+        private final String path;
+        private final Context context;
+        private final Handler<AsyncResult<String>> watcher;
+
+        public RecursiveWatchAdapter(String path, Context context, Handler<AsyncResult<String>> watcher) {
+            this.path = path;
+            this.context = context;
+            this.watcher = watcher;
+        }
+
+        @Override
+        public void process(WatchedEvent event) {
+            // The persistent watches get also the connection state events (without path) and
+            // the creation and deletion events of the znodes
+            if (event.getType() == Watcher.Event.EventType.NodeDataChanged) {
+                String changedPath = event.getPath();
+                context.runOnContext(v -> watcher.handle(Future.succeededFuture(changedPath)));
+            }
+        }
+
+        /**
+         * Called after the watch was registered again in a new session
+         */
+        void renewed() {
+            context.runOnContext(v -> watcher.handle(Future.succeededFuture(path)));
+        }
+    }
+
+    /**
+     * The persistent recursive watches are registered by this class and not by the ZkClient. So they are not
+     * registered again by the ZkClient when the session expires and a new session is created. This listener registers
+     * them in the new session instead.
+     */
+    class RecursiveWatchesRenewer implements IZkStateListener {
+        @Override
+        public void handleStateChanged(Watcher.Event.KeeperState state) {
+            // Nothing to do
+        }
+
+        @Override
+        public void handleNewSession() {
+            for (RecursiveWatchAdapter watch : recursiveWatches.values()) {
+                try {
+                    addRecursiveWatch(watch);
+                    watch.renewed();
+                } catch (Throwable t) {
+                    LOGGER.error("Failed to renew the persistent recursive watch on {}", watch.path, t);
+                }
+            }
+        }
+
+        @Override
+        public void handleSessionEstablishmentError(Throwable error) {
+            // Nothing to do
+        }
+    }
+
+    private void addRecursiveWatch(RecursiveWatchAdapter watch) {
+        zookeeper.retryUntilConnected(() -> {
+            connection.getZookeeper().addWatch(watch.path, watch, AddWatchMode.PERSISTENT_RECURSIVE);
+            return null;
+        });
+    }
+
+    @Override
+    public Future<Zk> watchRecursive(String path, Handler<AsyncResult<String>> watcher) {
+        if (connection == null) {
+            return Future.failedFuture(new UnsupportedOperationException("Persistent recursive watches are not supported by this client"));
+        }
+
+        Context context = vertx.getOrCreateContext();
+        Promise<Zk> result = Promise.promise();
+        workerExecutor.executeBlocking(
+            future -> {
+                try {
+                    RecursiveWatchAdapter watch = new RecursiveWatchAdapter(path, context, watcher);
+                    recursiveWatches.put(path, watch);
+                    addRecursiveWatch(watch);
+                    future.complete();
+                } catch (Throwable t) {
+                    recursiveWatches.remove(path);
+                    future.fail(t);
+                }
+            },
+            ar -> {
+                log("watchRecursive").handle(ar);
+                if (ar.succeeded()) {
+                    result.complete(this);
+                } else {
+                    result.fail(ar.cause());
+                }
+            });
+        return result.future();
+    }
+
+    @Override
+    public Zk unwatchRecursive(String path) {
+        workerExecutor.executeBlocking(
+            future -> {
+                try {
+                    RecursiveWatchAdapter watch = recursiveWatches.remove(path);
+                    if (watch != null) {
+                        // Remove it locally as well in case there is no connection at the moment
+                        connection.getZookeeper().removeWatches(path, watch, Watcher.WatcherType.Any, true);
+                    }
+                    future.complete();
+                } catch (KeeperException.NoWatcherException e) {
+                    future.complete();
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            log("unwatchRecursive"));
+        return this;
+    }
+
     @Override
     public Zk delete(String path, int version, Handler<AsyncResult<Void>> handler) {
         workerExecutor.executeBlocking(
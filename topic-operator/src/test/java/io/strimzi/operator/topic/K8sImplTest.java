@@ -6,11 +6,17 @@ package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.junit5.Checkpoint;
@@ -20,6 +26,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Collections;
 import java.util.List;
@@ -27,7 +34,11 @@ import java.util.List;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -77,4 +88,184 @@ public class K8sImplTest {
             async.flag();
         })));
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReadsFromInformerCache(VertxTestContext context) {
+        KafkaTopic cachedTopic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("my-topic")
+                    .withNamespace("default")
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+        KafkaTopic updatedTopic = new KafkaTopicBuilder(cachedTopic)
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .build();
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        Resource<KafkaTopic> mockResource = mock(Resource.class);
+        when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.withLabels(any())).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+        when(mockResources.withName("my-topic")).thenReturn(mockResource);
+        when(mockResource.get()).thenReturn(updatedTopic);
+        when(mockResource.patch(any(PatchContext.class), any(KafkaTopic.class))).thenReturn(updatedTopic);
+
+        Indexer<KafkaTopic> mockIndexer = mock(Indexer.class);
+        when(mockIndexer.byIndex(any(), eq("default"))).thenReturn(List.of(cachedTopic));
+        when(mockIndexer.getByKey("default/my-topic")).thenReturn(cachedTopic);
+        SharedIndexInformer<KafkaTopic> mockInformer = mock(SharedIndexInformer.class);
+        when(mockInformer.hasSynced()).thenReturn(true);
+        when(mockInformer.getIndexer()).thenReturn(mockIndexer);
+        when(mockResources.inform()).thenReturn(mockInformer);
+        ArgumentCaptor<ResourceEventHandler<KafkaTopic>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+        k8s.startInformer();
+        verify(mockInformer).addEventHandler(handlerCaptor.capture());
+
+        Checkpoint async = context.checkpoint();
+
+        k8s.listResources()
+                .compose(kafkaTopics -> {
+                    // Served from the cache without LISTing the resources
+                    context.verify(() -> assertThat(kafkaTopics, is(List.of(cachedTopic))));
+                    verify(mockResources, never()).list(any());
+                    return k8s.getFromCache(new ResourceName("my-topic"));
+                })
+                .compose(kafkaTopic -> {
+                    context.verify(() -> assertThat(kafkaTopic, is(cachedTopic)));
+                    verify(mockResource, never()).get();
+                    return k8s.updateResource(updatedTopic);
+                })
+                .compose(ignored -> {
+                    // The informer did not observe the update yet => the resource is read from the API
+                    context.verify(() -> assertThat(k8s.pendingWrites.get("my-topic"), is("2")));
+                    return k8s.getFromCache(new ResourceName("my-topic"));
+                })
+                .compose(kafkaTopic -> {
+                    context.verify(() -> assertThat(kafkaTopic, is(updatedTopic)));
+                    verify(mockResource).get();
+
+                    // The informer observes the update => the cache is used again
+                    handlerCaptor.getValue().onUpdate(cachedTopic, updatedTopic);
+                    context.verify(() -> assertThat(k8s.pendingWrites.isEmpty(), is(true)));
+                    return k8s.getFromCache(new ResourceName("my-topic"));
+                })
+                .onComplete(context.succeeding(kafkaTopic -> context.verify(() -> {
+                    assertThat(kafkaTopic, is(cachedTopic));
+                    verify(mockResource, times(1)).get();
+                    async.flag();
+                })));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWriteObservedByInformerBeforeItCompletes(VertxTestContext context) {
+        KafkaTopic cachedTopic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("my-topic")
+                    .withNamespace("default")
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+        KafkaTopic updatedTopic = new KafkaTopicBuilder(cachedTopic)
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .build();
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        Resource<KafkaTopic> mockResource = mock(Resource.class);
+        when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.withLabels(any())).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+        when(mockResources.withName("my-topic")).thenReturn(mockResource);
+
+        Indexer<KafkaTopic> mockIndexer = mock(Indexer.class);
+        when(mockIndexer.getByKey("default/my-topic")).thenReturn(cachedTopic);
+        SharedIndexInformer<KafkaTopic> mockInformer = mock(SharedIndexInformer.class);
+        when(mockInformer.hasSynced()).thenReturn(true);
+        when(mockInformer.getIndexer()).thenReturn(mockIndexer);
+        when(mockResources.inform()).thenReturn(mockInformer);
+        ArgumentCaptor<ResourceEventHandler<KafkaTopic>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+        k8s.startInformer();
+        verify(mockInformer).addEventHandler(handlerCaptor.capture());
+
+        // The informer delivers the update before the PATCH request returns
+        when(mockResource.patch(any(PatchContext.class), any(KafkaTopic.class))).thenAnswer(invocation -> {
+            when(mockIndexer.getByKey("default/my-topic")).thenReturn(updatedTopic);
+            handlerCaptor.getValue().onUpdate(cachedTopic, updatedTopic);
+            return updatedTopic;
+        });
+
+        Checkpoint async = context.checkpoint();
+
+        k8s.updateResource(updatedTopic)
+                .compose(ignored -> {
+                    context.verify(() -> assertThat(k8s.pendingWrites.isEmpty(), is(true)));
+                    return k8s.getFromCache(new ResourceName("my-topic"));
+                })
+                .onComplete(context.succeeding(kafkaTopic -> context.verify(() -> {
+                    assertThat(kafkaTopic, is(updatedTopic));
+                    verify(mockResource, never()).get();
+                    async.flag();
+                })));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testFailedDeletionIsNotPending(VertxTestContext context) {
+        KafkaTopic cachedTopic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("my-topic")
+                    .withNamespace("default")
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        Resource<KafkaTopic> mockResource = mock(Resource.class);
+        when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.withLabels(any())).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+        when(mockResources.withName("my-topic")).thenReturn(mockResource);
+        when(mockResource.withPropagationPolicy(any())).thenThrow(new KubernetesClientException("Forbidden"));
+
+        Indexer<KafkaTopic> mockIndexer = mock(Indexer.class);
+        when(mockIndexer.byIndex(any(), eq("default"))).thenReturn(List.of(cachedTopic));
+        when(mockIndexer.getByKey("default/my-topic")).thenReturn(cachedTopic);
+        SharedIndexInformer<KafkaTopic> mockInformer = mock(SharedIndexInformer.class);
+        when(mockInformer.hasSynced()).thenReturn(true);
+        when(mockInformer.getIndexer()).thenReturn(mockIndexer);
+        when(mockResources.inform()).thenReturn(mockInformer);
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+        k8s.startInformer();
+
+        Checkpoint async = context.checkpoint();
+
+        k8s.deleteResource(new Reconciliation("test", "KafkaTopic", "default", "my-topic"), new ResourceName("my-topic"))
+                .transform(result -> {
+                    // The failed deletion does not keep the cache disabled
+                    context.verify(() -> {
+                        assertThat(result.failed(), is(true));
+                        assertThat(k8s.pendingWrites.isEmpty(), is(true));
+                    });
+                    return k8s.listResources();
+                })
+                .onComplete(context.succeeding(kafkaTopics -> context.verify(() -> {
+                    assertThat(kafkaTopics, is(List.of(cachedTopic)));
+                    verify(mockResources, never()).list(any());
+                    async.flag();
+                })));
+    }
 }
@@ -4,11 +4,19 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
@@ -33,12 +41,17 @@ import org.mockito.ArgumentMatcher;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -270,5 +283,155 @@ public class KafkaImplTest {
             testContext.completeNow();
         })));
     }
-}
 
+    /**
+     * Mocks the Admin API calls used to get the topic metadata for any set of topics. Only the topics from
+     * {@code existingTopics} exist.
+     */
+    @SuppressWarnings("unchecked")
+    private void mockTopicMetadataCalls(Admin admin, Set<String> existingTopics) {
+        when(admin.createTopics(any(), argThat(isValidateOnly()))).then(invocation -> {
+            String name = ((Collection<NewTopic>) invocation.getArgument(0)).iterator().next().name();
+            CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
+            KafkaFutureImpl<Void> kafkaFuture = new KafkaFutureImpl<>();
+            if (existingTopics.contains(name)) {
+                kafkaFuture.completeExceptionally(new TopicExistsException(""));
+            } else {
+                kafkaFuture.complete(null);
+            }
+            when(createTopicsResult.all()).thenReturn(kafkaFuture);
+            return createTopicsResult;
+        });
+        when(admin.describeTopics(any(Collection.class))).then(invocation -> {
+            Map<String, KafkaFuture<TopicDescription>> values = new HashMap<>();
+            for (String name : (Collection<String>) invocation.getArgument(0)) {
+                KafkaFutureImpl<TopicDescription> kafkaFuture = new KafkaFutureImpl<>();
+                if (existingTopics.contains(name)) {
+                    kafkaFuture.complete(mock(TopicDescription.class));
+                } else {
+                    kafkaFuture.completeExceptionally(new UnknownTopicOrPartitionException());
+                }
+                values.put(name, kafkaFuture);
+            }
+            DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+            when(describeTopicsResult.topicNameValues()).thenReturn(values);
+            return describeTopicsResult;
+        });
+        when(admin.describeConfigs(any(Collection.class))).then(invocation -> {
+            Map<ConfigResource, KafkaFuture<Config>> values = new HashMap<>();
+            for (ConfigResource resource : (Collection<ConfigResource>) invocation.getArgument(0)) {
+                KafkaFutureImpl<Config> kafkaFuture = new KafkaFutureImpl<>();
+                if (existingTopics.contains(resource.name())) {
+                    kafkaFuture.complete(mock(Config.class));
+                } else {
+                    kafkaFuture.completeExceptionally(new UnknownTopicOrPartitionException());
+                }
+                values.put(resource, kafkaFuture);
+            }
+            DescribeConfigsResult describeConfigsResult = mock(DescribeConfigsResult.class);
+            when(describeConfigsResult.values()).thenReturn(values);
+            return describeConfigsResult;
+        });
+    }
+
+    @Test
+    public void testTopicsMetadata(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        mockTopicMetadataCalls(admin, Set.of("a", "b", "c", "d"));
+
+        List<TopicName> topicNames = List.of(new TopicName("a"), new TopicName("b"), new TopicName("c"), new TopicName("d"), new TopicName("missing"));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 2);
+        impl.topicsMetadata(Reconciliation.DUMMY_RECONCILIATION, topicNames).onComplete(testContext.succeeding(metadata -> testContext.verify(() -> {
+            assertEquals(Set.of(new TopicName("a"), new TopicName("b"), new TopicName("c"), new TopicName("d")), metadata.keySet());
+            metadata.values().forEach(topicMetadata -> {
+                assertNotNull(topicMetadata.getDescription());
+                assertNotNull(topicMetadata.getConfig());
+            });
+
+            // 5 topics in chunks of 2 => 3 requests of each kind
+            verify(admin, times(3)).describeTopics(any(Collection.class));
+            verify(admin, times(3)).describeConfigs(any(Collection.class));
+            verify(admin, never()).createTopics(any(), any());
+            testContext.completeNow();
+        })));
+    }
+
+    /**
+     * Compares the number of Admin API requests needed to describe a large number of topics using the bulk path with
+     * the per-topic path.
+     */
+    @Test
+    public void testTopicsMetadataRequestsComparedToPerTopicPath(VertxTestContext testContext) {
+        int numberOfTopics = 1_000;
+        Set<String> existingTopics = new HashSet<>();
+        List<TopicName> topicNames = new ArrayList<>();
+        for (int i = 0; i < numberOfTopics; i++) {
+            existingTopics.add("topic-" + i);
+            topicNames.add(new TopicName("topic-" + i));
+        }
+
+        Admin bulkAdmin = mock(Admin.class);
+        mockTopicMetadataCalls(bulkAdmin, existingTopics);
+        KafkaImpl bulk = new KafkaImpl(bulkAdmin, vertx, 100);
+
+        Admin perTopicAdmin = mock(Admin.class);
+        mockTopicMetadataCalls(perTopicAdmin, existingTopics);
+        KafkaImpl perTopicImpl = new KafkaImpl(perTopicAdmin, vertx, 100);
+        // Uses the default interface implementation which describes the topics one by one
+        Kafka perTopic = new Kafka() {
+            @Override
+            public Future<Void> createTopic(Reconciliation reconciliation, Topic newTopic) {
+                return perTopicImpl.createTopic(reconciliation, newTopic);
+            }
+
+            @Override
+            public Future<Void> deleteTopic(Reconciliation reconciliation, TopicName topicName) {
+                return perTopicImpl.deleteTopic(reconciliation, topicName);
+            }
+
+            @Override
+            public Future<Boolean> topicExists(Reconciliation reconciliation, TopicName topicName) {
+                return perTopicImpl.topicExists(reconciliation, topicName);
+            }
+
+            @Override
+            public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
+                return perTopicImpl.updateTopicConfig(reconciliation, topic);
+            }
+
+            @Override
+            public Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic) {
+                return perTopicImpl.increasePartitions(reconciliation, topic);
+            }
+
+            @Override
+            public Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName) {
+                return perTopicImpl.topicMetadata(reconciliation, topicName);
+            }
+
+            @Override
+            public Future<Set<String>> listTopics() {
+                return perTopicImpl.listTopics();
+            }
+        };
+
+        Checkpoint checkpoint = testContext.checkpoint(2);
+
+        bulk.topicsMetadata(Reconciliation.DUMMY_RECONCILIATION, topicNames).onComplete(testContext.succeeding(metadata -> testContext.verify(() -> {
+            assertEquals(numberOfTopics, metadata.size());
+            verify(bulkAdmin, times(10)).describeTopics(any(Collection.class));
+            verify(bulkAdmin, times(10)).describeConfigs(any(Collection.class));
+            verify(bulkAdmin, never()).createTopics(any(), any());
+            checkpoint.flag();
+        })));
+
+        perTopic.topicsMetadata(Reconciliation.DUMMY_RECONCILIATION, topicNames).onComplete(testContext.succeeding(metadata -> testContext.verify(() -> {
+            assertEquals(numberOfTopics, metadata.size());
+            verify(perTopicAdmin, times(numberOfTopics)).describeTopics(any(Collection.class));
+            verify(perTopicAdmin, times(numberOfTopics)).describeConfigs(any(Collection.class));
+            verify(perTopicAdmin, times(numberOfTopics)).createTopics(any(), any());
+            checkpoint.flag();
+        })));
+    }
+}
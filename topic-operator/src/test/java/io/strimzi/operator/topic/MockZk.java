@@ -24,6 +24,7 @@ class MockZk implements Zk {
     public AsyncResult<byte[]> dataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".dataResult");
     private Handler<AsyncResult<List<String>>> childrenHandler;
     private Map<String, Handler<AsyncResult<byte[]>>> dataHandlers = new HashMap<>();
+    private Map<String, Handler<AsyncResult<String>>> recursiveHandlers = new HashMap<>();
 
     public void triggerChildren(AsyncResult<List<String>> childrenResult) {
         if (childrenHandler != null) {
@@ -36,6 +37,12 @@ class MockZk implements Zk {
         if (asyncResultHandler != null) {
             asyncResultHandler .handle(dataResult);
         }
+
+        for (Map.Entry<String, Handler<AsyncResult<String>>> recursiveHandler : recursiveHandlers.entrySet()) {
+            if (path.startsWith(recursiveHandler.getKey() + "/")) {
+                recursiveHandler.getValue().handle(Future.succeededFuture(path));
+            }
+        }
     }
 
     @Override
@@ -92,6 +99,22 @@ class MockZk implements Zk {
         return this;
     }
 
+    @Override
+    public Future<Zk> watchRecursive(String path, Handler<AsyncResult<String>> watcher) {
+        recursiveHandlers.put(path, watcher);
+        return Future.succeededFuture(this);
+    }
+
+    @Override
+    public Zk unwatchRecursive(String path) {
+        recursiveHandlers.remove(path);
+        return this;
+    }
+
+    public boolean watchingData(String path) {
+        return dataHandlers.containsKey(path);
+    }
+
     @Override
     public Zk delete(String path, int version, Handler<AsyncResult<Void>> handler) {
         return null;
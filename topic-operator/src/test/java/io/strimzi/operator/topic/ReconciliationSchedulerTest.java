@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationSchedulerTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testBoundedConcurrency(VertxTestContext context) {
+        int numberOfTasks = 50;
+        int parallelism = 5;
+        AtomicInteger reconciled = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Supplier<Future<?>>> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Promise<Void> promise = Promise.promise();
+                vertx.setTimer(10, id -> {
+                    running.decrementAndGet();
+                    promise.complete();
+                });
+                return promise.future();
+            });
+        }
+
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, parallelism, 0, reconciled, remaining);
+        Checkpoint async = context.checkpoint();
+
+        vertx.runOnContext(v -> scheduler.run(tasks, 0).onComplete(context.succeeding(ignored -> context.verify(() -> {
+            assertThat(maxRunning.get(), is(parallelism));
+            assertThat(reconciled.get(), is(numberOfTasks));
+            assertThat(remaining.get(), is(0));
+            async.flag();
+        }))));
+    }
+
+    @Test
+    public void testPacing(VertxTestContext context) {
+        int numberOfTasks = 10;
+        AtomicInteger reconciled = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger();
+
+        List<Supplier<Future<?>>> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            tasks.add(Future::succeededFuture);
+        }
+
+        // The starts are spread over 200ms => at least 9 pacing delays of 10ms +/- 50%
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, 100, 1_000, reconciled, remaining);
+        Checkpoint async = context.checkpoint();
+        long start = System.nanoTime();
+
+        vertx.runOnContext(v -> scheduler.run(tasks, 200).onComplete(context.succeeding(ignored -> context.verify(() -> {
+            assertThat((System.nanoTime() - start) / 1_000_000L, greaterThanOrEqualTo(45L));
+            assertThat(reconciled.get(), is(numberOfTasks));
+            async.flag();
+        }))));
+    }
+
+    @Test
+    public void testFailuresAreJoined(VertxTestContext context) {
+        AtomicInteger reconciled = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger();
+        RuntimeException failure = new RuntimeException("failed");
+
+        List<Supplier<Future<?>>> tasks = new ArrayList<>();
+        tasks.add(Future::succeededFuture);
+        tasks.add(() -> Future.failedFuture(failure));
+        tasks.add(() -> {
+            throw new IllegalStateException("thrown");
+        });
+        tasks.add(Future::succeededFuture);
+
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, 2, 0, reconciled, remaining);
+        Checkpoint async = context.checkpoint();
+
+        vertx.runOnContext(v -> scheduler.run(tasks, 0).onComplete(context.failing(error -> context.verify(() -> {
+            // All tasks run even when some of them fail
+            assertThat(error, is(failure));
+            assertThat(reconciled.get(), is(4));
+            assertThat(remaining.get(), is(0));
+            async.flag();
+        }))));
+    }
+
+    @Test
+    public void testJitter() {
+        assertThat(ReconciliationScheduler.jitter(0), is(0L));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(ReconciliationScheduler.jitter(100), allOf(greaterThanOrEqualTo(50L), lessThanOrEqualTo(150L)));
+        }
+    }
+}
@@ -39,14 +39,18 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
@@ -58,7 +62,13 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(VertxExtension.class)
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
@@ -1222,6 +1232,88 @@ public class TopicOperatorTest {
             }));
     }
 
+    /**
+     * Prepares the mocks for topics which exist only in Kafka. Each of them is reconciled in the first phase (from
+     * Kafka) and in the last phase (creating the KafkaTopic) of the full reconciliation.
+     *
+     * @param count Number of topics
+     */
+    private void kafkaOnlyTopics(int count) {
+        Set<String> topicNames = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            TopicName name = new TopicName("topic-" + i);
+            topicNames.add(name.toString());
+            mockK8s.setCreateResponse(name.asKubeName(), null);
+            mockTopicStore.setCreateTopicResponse(name, null);
+        }
+
+        mockKafka.setTopicsList(topicNames);
+        mockKafka.setTopicMetadataResponse(name -> Future.succeededFuture(Utils.getTopicMetadata(name.toString(),
+                new org.apache.kafka.clients.admin.Config(Collections.emptyList()))));
+    }
+
+    @Test
+    public void testPeriodicReconciliationIsSpreadOverSingleBudget(VertxTestContext context) {
+        // Spread of 1000ms for the whole pass
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.FULL_RECONCILIATION_INTERVAL_MS.key, "2000");
+        config = new Config(configMap);
+        AtomicLong time = new AtomicLong(10_000L);
+        topicOperator = spy(new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", config, metrics, time::get));
+        kafkaOnlyTopics(20);
+
+        // The clock moves while the topics are reconciled, so a budget per phase would move the deadline of the
+        // later phases
+        mockKafka.setTopicMetadataResponse(name -> {
+            time.addAndGet(100L);
+            return Future.succeededFuture(Utils.getTopicMetadata(name.toString(),
+                    new org.apache.kafka.clients.admin.Config(Collections.emptyList())));
+        });
+
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(v -> context.verify(() -> {
+            ArgumentCaptor<Long> deadlines = ArgumentCaptor.forClass(Long.class);
+            verify(topicOperator, times(3)).runTopicReconciliations(any(), deadlines.capture());
+            assertThat(deadlines.getAllValues(), everyItem(is(11_000L)));
+
+            for (int i = 0; i < 20; i++) {
+                mockK8s.assertExists(context, new ResourceName("topic-" + i));
+            }
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testInitialReconciliationIsNotPaced(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.FULL_RECONCILIATION_INTERVAL_MS.key, "2000");
+        config = new Config(configMap);
+        topicOperator = spy(new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", config, metrics));
+        kafkaOnlyTopics(20);
+
+        topicOperator.reconcileAllTopics("initial ", false).onComplete(context.succeeding(v -> context.verify(() -> {
+            // All phases start their topics at once instead of going through the periodic scheduler
+            verify(topicOperator, times(3)).runTopicReconciliations(any(), eq(TopicOperator.UNPACED));
+
+            for (int i = 0; i < 20; i++) {
+                mockK8s.assertExists(context, new ResourceName("topic-" + i));
+            }
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testPeriodicReconciliationWithoutConfig(VertxTestContext context) {
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", null, metrics);
+        kafkaOnlyTopics(5);
+
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(v -> context.verify(() -> {
+            for (int i = 0; i < 5; i++) {
+                mockK8s.assertExists(context, new ResourceName("topic-" + i));
+            }
+            context.completeNow();
+        })));
+    }
+
     /**
      * Created new MetricsProvider and makes sure it doesn't contain any metrics from previous tests.
      *
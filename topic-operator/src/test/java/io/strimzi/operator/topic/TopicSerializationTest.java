@@ -36,7 +36,15 @@ public class TopicSerializationTest {
 
     @Test
     public void testTopicCommandSerde() {
-        TopicCommandSerde serde = new TopicCommandSerde();
+        testTopicCommandSerde(new TopicCommandSerde());
+    }
+
+    @Test
+    public void testBinaryTopicCommandSerde() {
+        testTopicCommandSerde(new TopicCommandSerde(true));
+    }
+
+    private void testTopicCommandSerde(TopicCommandSerde serde) {
 
         Topic.Builder builder = new Topic.Builder();
         builder.withTopicName("foobar");
@@ -63,6 +71,63 @@ public class TopicSerializationTest {
         Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
     }
 
+    @Test
+    public void testTopicSerdeBinaryRoundTrip() {
+        TopicSerde serde = new TopicSerde(true);
+
+        Topic.Builder builder = new Topic.Builder();
+        builder.withTopicName("my_topic");
+        builder.withMapName("my-topic-resource");
+        builder.withNumReplicas((short) 3);
+        builder.withNumPartitions(-1);
+        builder.withConfigEntry("cleanup.policy", "compact");
+        builder.withConfigEntry("retention.ms", "604800000");
+        builder.withConfigEntry("not.in.dictionary", "value");
+        Topic topic = builder.build();
+
+        byte[] bytes = serde.serialize("dummy", topic);
+        assertThat(bytes[0], is(TopicBinarySerialization.VERSION_1));
+        assertThat(bytes.length < TopicSerialization.toJson(topic).length, is(true));
+        assertThat(serde.deserialize("dummy", bytes), is(topic));
+
+        // The resource name is the same as the topic name
+        topic = new Topic.Builder("my-topic", 12, (short) 3, singletonMap("min.insync.replicas", "2")).withMetadata(new ObjectMeta()).build();
+        assertThat(serde.deserialize("dummy", serde.serialize("dummy", topic)), is(topic));
+    }
+
+    @Test
+    public void testSerdesReadJson() {
+        Topic topic = new Topic.Builder("my-topic", 12, (short) 3, singletonMap("min.insync.replicas", "2")).withMetadata(new ObjectMeta()).build();
+        assertThat(new TopicSerde().deserialize("dummy", TopicSerialization.toJson(topic)), is(topic));
+
+        TopicCommandSerde commandSerde = new TopicCommandSerde();
+        TopicCommand command = commandSerde.deserialize("dummy", TopicCommandSerde.toJson(TopicCommand.update(topic)));
+        assertThat(command.getType(), is(TopicCommand.Type.UPDATE));
+        assertThat(command.getTopic(), is(topic));
+
+        command = commandSerde.deserialize("dummy", TopicCommandSerde.toJson(TopicCommand.delete(new TopicName("my-topic"))));
+        assertThat(command.getType(), is(TopicCommand.Type.DELETE));
+        assertThat(command.getName(), is(new TopicName("my-topic")));
+    }
+
+    @Test
+    public void testSerdesWriteJsonByDefault() {
+        Topic topic = new Topic.Builder("my-topic", 12, (short) 3, singletonMap("min.insync.replicas", "2")).withMetadata(new ObjectMeta()).build();
+        assertThat(new TopicSerde().serialize("dummy", topic), is(TopicSerialization.toJson(topic)));
+
+        TopicCommand command = TopicCommand.update(topic);
+        assertThat(new TopicCommandSerde().serialize("dummy", command), is(TopicCommandSerde.toJson(command)));
+    }
+
+    @Test
+    public void testUnsupportedBinaryVersion() {
+        byte[] bytes = new TopicSerde(true).serialize("dummy", new Topic.Builder("my-topic", 1).build());
+        bytes[0] = 2;
+
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicSerde().deserialize("dummy", bytes));
+        assertThat(e.getMessage(), is("Unsupported topic store record format version 2"));
+    }
+
     @Test
     public void testResourceSerializationRoundTrip() {
 
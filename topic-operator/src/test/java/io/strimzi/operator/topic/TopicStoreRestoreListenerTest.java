@@ -0,0 +1,31 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TopicStoreRestoreListenerTest {
+    @Test
+    public void testRestorationIsRecorded() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        TopicStoreRestoreListener listener = new TopicStoreRestoreListener(new MicrometerMetricsProvider(registry));
+        TopicPartition partition = new TopicPartition("__strimzi_store_topic", 0);
+
+        // Only the tail after the checkpoint at offset 900 is restored
+        listener.onRestoreStart(partition, "topic-store", 900, 1000);
+        listener.onBatchRestored(partition, "topic-store", 999, 100);
+        listener.onRestoreEnd(partition, "topic-store", 100);
+
+        assertThat(registry.get("strimzi.store.restoration.duration").timer().count(), is(1L));
+        assertThat(registry.get("strimzi.store.restoration.records").counter().count(), is(100.0));
+    }
+}
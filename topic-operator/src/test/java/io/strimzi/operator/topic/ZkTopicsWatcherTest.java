@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -66,6 +67,45 @@ public class ZkTopicsWatcherTest {
                 is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("baz")))));
     }
 
+    @Test
+    public void testTopicChangesWithPersistentWatches() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+
+        TopicConfigsWatcher topicConfigsWatcher = new TopicConfigsWatcher(operator, true);
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator, true);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher);
+        topicsWatcher.start(mockZk);
+        mockZk.triggerChildren(Future.succeededFuture(asList("foo", "bar", "baz")));
+
+        assertThat(topicConfigsWatcher.watching("baz"), is(true));
+        assertThat(topicWatcher.watching("baz"), is(true));
+        // No watch per topic
+        assertThat(mockZk.watchingData("/config/topics/baz"), is(false));
+        assertThat(mockZk.watchingData("/brokers/topics/baz"), is(false));
+
+        operator.clearEvents();
+        mockZk.triggerData("/config/topics/baz", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("baz")))));
+
+        operator.clearEvents();
+        mockZk.triggerData("/brokers/topics/baz", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("baz")))));
+
+        // Changes of the deeper znodes and of the unknown topics are ignored
+        operator.clearEvents();
+        mockZk.triggerData("/brokers/topics/baz/partitions/0/state", Future.succeededFuture(new byte[0]));
+        mockZk.triggerData("/config/topics/unknown", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        // Stopped watcher does not notify the operator
+        topicsWatcher.stop();
+        mockZk.triggerData("/config/topics/baz", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+    }
+
     @Test
     public void testTopicDelete() {
         operator.topicDeletedResult = Future.succeededFuture();
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -151,6 +153,44 @@ public class ZkImplTest {
         });
     }
 
+    @Test
+    public void testWatchThenUnwatchRecursive(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        List<String> changedPaths = new CopyOnWriteArrayList<>();
+
+        Promise<Void> created = Promise.promise();
+        zk.create("/foo", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(v ->
+            zk.create("/foo/bar", new byte[]{1}, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(vv -> created.complete()))));
+
+        created.future()
+            .compose(v -> zk.watchRecursive("/foo", context.succeeding(path -> {
+                // The events are dispatched from the ZooKeeper event thread to the Vert.x context
+                context.verify(() -> assertThat(Vertx.currentContext() != null, is(true)));
+                changedPaths.add(path);
+            })))
+            .compose(zk -> {
+                Promise<Void> changed = Promise.promise();
+                // The watch stays registered after it fired => both changes are seen
+                zk.setData("/foo/bar", new byte[]{2}, -1, context.succeeding(v ->
+                    zk.setData("/foo/bar", new byte[]{3}, -1, changed)));
+                return changed.future();
+            })
+            .onComplete(context.succeeding(v -> vertx.setPeriodic(100, timerId -> {
+                if (changedPaths.size() == 2) {
+                    vertx.cancelTimer(timerId);
+                    context.verify(() -> assertThat(changedPaths, is(List.of("/foo/bar", "/foo/bar"))));
+
+                    zk.unwatchRecursive("/foo");
+                    // Unwatching is asynchronous => wait before changing the data
+                    vertx.setTimer(500, t -> zk.setData("/foo/bar", new byte[]{4}, -1, context.succeeding(vv ->
+                        vertx.setTimer(500, tt -> {
+                            context.verify(() -> assertThat(changedPaths.size(), is(2)));
+                            async.flag();
+                        }))));
+                }
+            })));
+    }
+
     @Test
     public void testPathExists(VertxTestContext context) {
         Checkpoint async = context.checkpoint();
@@ -15,6 +15,7 @@ import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.Crds;
+import io.strimzi.certs.BouncyCastleCertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
@@ -40,6 +41,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * The main class of the Strimzi User Operator
  */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling"})
 public class Main {
     private final static Logger LOGGER = LogManager.getLogger(Main.class);
 
@@ -76,20 +78,19 @@ public class Main {
         // Create KubernetesClient, AdminClient and KafkaUserOperator classes
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-user-operator", Main.class.getPackage().getImplementationVersion()).build();
         Admin adminClient = createAdminClient(config, client, new DefaultAdminClientProvider());
+        MetricsProvider metricsProvider = createMetricsProvider();
         AtomicInteger kafkaUserOperatorExecutorThreadCounter = new AtomicInteger(0);
         ExecutorService kafkaUserOperatorExecutor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), r -> new Thread(r, "operator-thread-pool-" + kafkaUserOperatorExecutorThreadCounter.getAndIncrement()));
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
                 client,
-                new OpenSslCertManager(),
-                config.isKraftEnabled() ? new DisabledScramCredentialsOperator() : new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
-                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
-                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator(),
+                config.isInJvmCertManagerEnabled() ? new BouncyCastleCertManager() : new OpenSslCertManager(),
+                config.isKraftEnabled() ? new DisabledScramCredentialsOperator() : new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider),
+                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider),
+                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider) : new DisabledSimpleAclOperator(),
                 kafkaUserOperatorExecutor
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
@@ -15,8 +15,7 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.controller.AbstractControllerLoop;
-import io.strimzi.operator.common.controller.ControllerQueue;
-import io.strimzi.operator.common.controller.ReconciliationLockManager;
+import io.strimzi.operator.common.controller.ShardedControllerQueue;
 import io.strimzi.operator.common.controller.SimplifiedReconciliation;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
@@ -47,7 +46,7 @@ public class UserController {
 
     private final KafkaUserOperator userOperator;
     private final ControllerMetricsHolder metrics;
-    private final ControllerQueue workQueue;
+    private final ShardedControllerQueue workQueue;
     private final List<UserControllerLoop> threadPool;
 
     private final String watchedNamespace;
@@ -88,8 +87,9 @@ public class UserController {
         // Set up the metrics holder
         this.metrics = new ControllerMetricsHolder(RESOURCE_KIND, Labels.fromMap(userSelector), metricsProvider);
 
-        // Set up the work queue
-        this.workQueue = new ControllerQueue(config.getWorkQueueSize(), this.metrics);
+        // Set up the work queue. It is sharded with one shard per controller loop. That makes sure the same user is
+        // never reconciled in parallel.
+        this.workQueue = new ShardedControllerQueue(config.getControllerThreadPoolSize(), config.getWorkQueueSize(), this.metrics);
 
         // Secret informer and lister is used to get events about Secrets and get Secrets quickly
         this.secretInformer = client.secrets().inNamespace(watchedNamespace).withLabels(secretSelector).inform();
@@ -102,13 +102,10 @@ public class UserController {
         // Creates the scheduled executor service used for periodical reconciliations and progress warnings
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "UserControllerScheduledExecutor"));
 
-        // Create the reconciliation lock manager
-        ReconciliationLockManager lockManager = new ReconciliationLockManager();
-
         // Create a thread pool for the reconciliation loops and add the reconciliation loops
         this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
         for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, client, userLister, secretLister, userOperator, metrics, config));
+            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue.shard(i), scheduledExecutor, client, userLister, secretLister, userOperator, metrics, config));
         }
     }
 
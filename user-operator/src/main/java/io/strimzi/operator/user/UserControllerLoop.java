@@ -19,7 +19,6 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.controller.AbstractControllerLoop;
 import io.strimzi.operator.common.controller.ControllerQueue;
-import io.strimzi.operator.common.controller.ReconciliationLockManager;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
@@ -54,8 +53,8 @@ public class UserControllerLoop extends AbstractControllerLoop {
      * @param name                  Name of the reconciliation loop. It should identify the resource it reconciles, and
      *                              possible the namespace in which it reconciles it or the number of the loop if more
      *                              than one is running in parallel.
-     * @param workQueue             ControllerQueue from which the reconciliation events should be taken
-     * @param lockManager           LockManager which is used to avoid the same resource being reconciled in multiple loops in parallel
+     * @param workQueue             ControllerQueue from which the reconciliation events should be taken. This is
+     *                              the shard of the work queue which belongs to this loop.
      * @param scheduledExecutor     Scheduled executor service which will be passed to the AbstractControllerLoop and
      *                              used to run the progress warnings
      * @param client                The Kubernetes client
@@ -68,7 +67,6 @@ public class UserControllerLoop extends AbstractControllerLoop {
     public UserControllerLoop(
             String name,
             ControllerQueue workQueue,
-            ReconciliationLockManager lockManager,
             ScheduledExecutorService scheduledExecutor,
             KubernetesClient client,
             Lister<KafkaUser> userLister,
@@ -77,7 +75,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ControllerMetricsHolder metrics,
             UserOperatorConfig config
     ) {
-        super(name, workQueue, lockManager, scheduledExecutor);
+        super(name, workQueue, scheduledExecutor);
 
         this.client = client;
         this.userLister = userLister;
@@ -93,9 +91,11 @@ public class UserControllerLoop extends AbstractControllerLoop {
      * The main reconciliation logic which handles the reconciliations.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  True if the reconciliation was successful. False otherwise.
      */
     @Override
-    protected void reconcile(Reconciliation reconciliation) {
+    protected boolean reconcile(Reconciliation reconciliation) {
         LOGGER.infoCr(reconciliation, "{} will be reconciled", reconciliation.kind());
 
         KafkaUser user = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
@@ -106,11 +106,15 @@ public class UserControllerLoop extends AbstractControllerLoop {
             KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
             metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
             maybeUpdateStatus(reconciliation, user, status);
+
+            return true;
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
             CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
                     .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
 
+            boolean successful = false;
+
             try {
                 KafkaUserStatus status = new KafkaUserStatus();
                 Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
@@ -119,6 +123,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
                     status = reconciliationResult.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
                     LOGGER.infoCr(reconciliation, "reconciled");
                     metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+                    successful = true;
                 } catch (ExecutionException | InterruptedException | TimeoutException | CancellationException e) {
                     // The reconciliation failed (these are returned from the get(...) call)
                     LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
@@ -137,7 +142,10 @@ public class UserControllerLoop extends AbstractControllerLoop {
             } catch (Throwable t) {
                 // Updating status failed
                 LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
+                successful = false;
             }
+
+            return successful;
         }
     }
 
@@ -91,6 +91,10 @@ public class UserOperatorConfig {
      * Indicates whether KRaft is used in the Kafka cluster
      */
     public static final ConfigParameter<Boolean> KRAFT_ENABLED = new ConfigParameter<>("STRIMZI_KRAFT_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Indicates whether the keys, certificates and PKCS12 stores should be generated in-JVM instead of using OpenSSL
+     */
+    public static final ConfigParameter<Boolean> IN_JVM_CERT_MANAGER_ENABLED = new ConfigParameter<>("STRIMZI_IN_JVM_CERT_MANAGER_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
     /**
      * Timeout for internal operations specified in milliseconds
      */
@@ -119,6 +123,10 @@ public class UserOperatorConfig {
      * Maximal batch time for micro-batching the Kafka Admin API requests
      */
     public static final ConfigParameter<Integer> BATCH_MAXIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    /**
+     * Maximal number of batches which can be in flight at the same time when micro-batching the Kafka Admin API requests
+     */
+    public static final ConfigParameter<Integer> BATCH_MAXIMUM_IN_FLIGHT_BATCHES = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_IN_FLIGHT_BATCHES", strictlyPositive(INTEGER), "5", CONFIG_VALUES);
     /**
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -294,6 +302,14 @@ public class UserOperatorConfig {
         return get(KRAFT_ENABLED);
     }
 
+    /**
+     * @return Indicates whether the keys, certificates and PKCS12 stores should be generated in-JVM instead of using
+     * OpenSSL
+     */
+    public boolean isInJvmCertManagerEnabled() {
+        return get(IN_JVM_CERT_MANAGER_ENABLED);
+    }
+
     /**
      * @return List of maintenance windows. Null if no maintenance windows were specified.
      */
@@ -357,6 +373,13 @@ public class UserOperatorConfig {
         return get(BATCH_MAXIMUM_BLOCK_TIME_MS);
     }
 
+    /**
+     * @return  Maximal number of batches which can be in flight at the same time when micro-batching the Kafka Admin API requests
+     */
+    public int getBatchMaxInFlightBatches() {
+        return get(BATCH_MAXIMUM_IN_FLIGHT_BATCHES);
+    }
+
     /**
      * @return Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -396,6 +419,7 @@ public class UserOperatorConfig {
                 ", clientsCaRenewalDays=" + getClientsCaRenewalDays() +
                 ", aclsAdminApiSupported=" + isAclsAdminApiSupported() +
                 ", kraftEnabled=" + isKraftEnabled() +
+                ", inJvmCertManagerEnabled=" + isInJvmCertManagerEnabled() +
                 ", scramPasswordLength=" + getScramPasswordLength() +
                 ", maintenanceWindows=" + getMaintenanceWindows() +
                 ", kafkaAdminClientConfiguration=" + getKafkaAdminClientConfiguration() +
@@ -406,6 +430,7 @@ public class UserOperatorConfig {
                 ", batchQueueSize=" + getBatchQueueSize() +
                 ", batchMaxBlockSize=" + getBatchMaxBlockSize() +
                 ", batchMaxBlockTime=" + getBatchMaxBlockTime() +
+                ", batchMaxInFlightBatches=" + getBatchMaxInFlightBatches() +
                 ", userOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
                 '}';
     }
@@ -4,58 +4,104 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract class for collecting Kafka Admin API requests and sending them to Kafka in batches. The batches are sent
- * when we collect some (configurable) amount of requests or after some (configurable) time interval
+ * when we collect enough requests or after some (configurable) time interval. Multiple batches can be in flight at the
+ * same time.
+ *
+ * The batching is adaptive:
+ *     - The number of requests which triggers the batch adapts to the queue depth. When the requests are piling up in
+ *       the queue, it grows towards the maximal batch size. When the load is light, it shrinks so that the requests
+ *       are sent without waiting for the batch to fill up.
+ *     - The time for which the requests are collected adapts to the observed latency of the Kafka Admin API requests.
+ *       It never exceeds the maximal batch time, but it is shortened when Kafka responds faster than that.
  */
 public abstract class AbstractBatchReconciler<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractBatchReconciler.class);
+    private final static String METRICS_PREFIX = "strimzi.batch.";
+    private final static double LATENCY_SMOOTHING_FACTOR = 0.2;
+    // Kafka Admin API requests usually take milliseconds, so the batch latency buckets start at 1ms
+    private final static Duration[] LATENCY_BUCKETS = {
+        Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+        Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofMillis(1000),
+        Duration.ofMillis(2500), Duration.ofMillis(5000), Duration.ofMillis(10000)
+    };
 
     private final BlockingQueue<T> queue;
     private final int maxBatchSize;
     private final int maxBatchTime;
+    private final Semaphore inFlightBatches;
     private final Thread batchHandlerThread;
 
+    private final DistributionSummary queueDepthSummary;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchLatencyTimer;
+
     private volatile CountDownLatch batchSize;
     private volatile boolean stop = false;
 
+    /*test*/ volatile int triggerBatchSize;
+    /*test*/ volatile double averageLatencyMs = -1;
+
     /**
      * Creates the BatchReconciler
      *
-     * @param name          Name of the reconciler
-     * @param queueSize     Size of the queue for queueing the reconciliation requests
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time to wait before batch is executed
+     * @param name                  Name of the reconciler
+     * @param queueSize             Size of the queue for queueing the reconciliation requests
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time to wait before batch is executed
+     * @param maxInFlightBatches    Maximal number of batches which can be in flight at the same time
+     * @param metricsProvider       Metrics provider used for the batching metrics
      */
-    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime) {
+    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, MetricsProvider metricsProvider) {
         if (maxBatchSize > queueSize)   {
             throw new IllegalArgumentException("Maximum batch size cannot be bigger than queue size");
         }
 
+        if (maxInFlightBatches < 1)   {
+            throw new IllegalArgumentException("Maximum number of in-flight batches has to be at least 1");
+        }
+
         this.queue = new ArrayBlockingQueue<>(queueSize);
         this.batchSize = new CountDownLatch(0);
         this.maxBatchSize = maxBatchSize;
         this.maxBatchTime = maxBatchTime;
+        this.triggerBatchSize = maxBatchSize;
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
         this.batchHandlerThread = new Thread(new Runner(), name);
+
+        Tags tags = Tags.of("reconciler", name);
+        this.queueDepthSummary = metricsProvider.summary(METRICS_PREFIX + "queue.depth", "Number of requests waiting in the queue when a batch is started", tags);
+        this.batchSizeSummary = metricsProvider.summary(METRICS_PREFIX + "size", "Number of requests in a batch", tags);
+        this.batchLatencyTimer = metricsProvider.timer(METRICS_PREFIX + "duration", "The time it takes Kafka to process a batch", tags, LATENCY_BUCKETS);
     }
 
     /**
      * Method responsible for sending the batch of requests to Apache Kafka and handling the result
      *
      * @param items Items which should be reconciled
+     *
+     * @return  CompletionStage which completes when the batch is processed by Kafka and its results are handled
      */
-    protected abstract void reconcile(Collection<T> items);
+    protected abstract CompletionStage<Void> reconcile(Collection<T> items);
 
     /**
      * Enqueues a reconciliation request
@@ -67,30 +113,85 @@ public abstract class AbstractBatchReconciler<T> {
     public void enqueue(T item) throws InterruptedException {
         queue.put(item);
 
-        if (queue.size() >= maxBatchSize)   {
+        if (queue.size() >= triggerBatchSize)   {
             batchSize.countDown();
         }
     }
 
     /**
      * Starts a new batch of requests. It drains the queue and passes the batch of requests to the reconcile method.
+     * The caller has to acquire the in-flight permit before calling this method. It is released once the batch is
+     * completed.
      *
-     * @param batchSizeReached  Indicates whether the batch is triggered because we reached the maximal batch size
-     *                          (true) or the time limit (false)
+     * @param batchSizeReached  Indicates whether the batch is triggered because we reached the batch size (true) or
+     *                          the time limit (false)
      */
     private void handleBatch(boolean batchSizeReached)  {
         if (batchSizeReached) {
-            LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch size was reached", batchHandlerThread.getName());
+            LOGGER.trace("{}: Running the next batch of the BatchReconciler because the batch size was reached", batchHandlerThread.getName());
         } else {
-            LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch time was reached", batchHandlerThread.getName());
+            LOGGER.trace("{}: Running the next batch of the BatchReconciler because the batch time was reached", batchHandlerThread.getName());
         }
 
-        List<T> batch = new ArrayList<>();
+        int queueDepth = queue.size();
+        List<T> batch = new ArrayList<>(Math.min(queueDepth, maxBatchSize));
         int batchSize = queue.drainTo(batch, maxBatchSize);
 
         if (batchSize > 0)  {
             LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", batchHandlerThread.getName(), batchSize);
-            reconcile(batch);
+            queueDepthSummary.record(queueDepth);
+            batchSizeSummary.record(batchSize);
+
+            long start = System.nanoTime();
+
+            try {
+                reconcile(batch)
+                        .whenComplete((r, e) -> {
+                            inFlightBatches.release();
+                            batchCompleted(System.nanoTime() - start);
+                        });
+            } catch (Exception e) {
+                LOGGER.warn("{}: Failed to process the batch", batchHandlerThread.getName(), e);
+                inFlightBatches.release();
+            }
+        } else {
+            inFlightBatches.release();
+        }
+    }
+
+    /**
+     * Records the batch latency and adapts the batching parameters.
+     *
+     * @param latencyNanos  Time it took to process the batch
+     */
+    /*test*/ void batchCompleted(long latencyNanos) {
+        batchLatencyTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+
+        double latencyMs = latencyNanos / 1_000_000.0;
+        averageLatencyMs = averageLatencyMs < 0 ? latencyMs : LATENCY_SMOOTHING_FACTOR * latencyMs + (1 - LATENCY_SMOOTHING_FACTOR) * averageLatencyMs;
+
+        int queueDepth = queue.size();
+        if (queueDepth >= triggerBatchSize) {
+            // Requests are piling up => bigger batches to get better throughput
+            triggerBatchSize = Math.min(maxBatchSize, triggerBatchSize * 2);
+        } else if (queueDepth < triggerBatchSize / 2) {
+            // Light load => smaller batches to get better latency
+            triggerBatchSize = Math.max(1, triggerBatchSize / 2);
+        }
+    }
+
+    /**
+     * Calculates how long should the reconciler wait for the next batch. Waiting for more requests longer than it
+     * takes Kafka to process a batch does not help the throughput. So it uses the average latency of the batches but
+     * never more than the maximal batch time.
+     *
+     * @return  Time in milliseconds for which the requests should be collected
+     */
+    /*test*/ long batchTime() {
+        if (averageLatencyMs < 0) {
+            return maxBatchTime;
+        } else {
+            return Math.max(1L, Math.min(maxBatchTime, (long) Math.ceil(averageLatencyMs)));
         }
     }
 
@@ -130,12 +231,15 @@ public abstract class AbstractBatchReconciler<T> {
             while (!stop)    {
                 try {
                     LOGGER.trace("{}: Waiting for the next batch of the BatchReconciler", batchHandlerThread.getName());
-                    boolean batchSizeReached = batchSize.await(maxBatchTime, TimeUnit.MILLISECONDS);
+                    boolean batchSizeReached = batchSize.await(batchTime(), TimeUnit.MILLISECONDS);
 
                     if (batchSizeReached) {
                         batchSize = new CountDownLatch(1);
                     }
 
+                    // Waits until there is a free slot for the next batch. The requests keep collecting in the queue
+                    // in the meantime and will be sent in the next batch.
+                    inFlightBatches.acquire();
                     handleBatch(batchSizeReached);
                 } catch (InterruptedException e) {
                     LOGGER.debug("{}: BatchReconciler was interrupted", batchHandlerThread.getName(), e);
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -29,13 +31,15 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
     /**
      * Creates the micro-batching reconciler for creating new ACL rules
      *
-     * @param adminClient   Kafka Admin API client
-     * @param queueSize     Maximal size of the batching queue
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param adminClient         Kafka Admin API client
+     * @param queueSize           Maximal size of the batching queue
+     * @param maxBatchSize        Maximal size of the batch
+     * @param maxBatchTime        Maximal time for which the requests should be collected before a batch is sent
+     * @param maxInFlightBatches  Maximal number of batches which can be in flight at the same time
+     * @param metricsProvider     Metrics provider used for the batching metrics
      */
-    public AddAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("AddAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public AddAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, MetricsProvider metricsProvider) {
+        super("AddAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -43,15 +47,17 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
      * Reconciles batch of requests to create new ACL rules in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes when the batch is processed
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBinding>, ReconcileResult<Collection<AclBinding>>>> items) {
+    protected CompletionStage<Void> reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBinding>, ReconcileResult<Collection<AclBinding>>>> items) {
         List<AclBinding> aclBindings = new ArrayList<>();
         items.forEach(req -> aclBindings.addAll(req.desired()));
 
         CreateAclsResult result = adminClient.createAcls(aclBindings);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
@@ -4,36 +4,62 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
  * periodical timer which regularly updates the cache. It also provides method to access the cache and its data.
+ *
+ * After the initial load, the refreshes are incremental: the newly loaded data are compared with the current content
+ * of the cache and only the changed entries are updated or removed. When a refresh fails, the cache keeps the data
+ * from the last successful refresh.
  */
 public abstract class AbstractCache<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractCache.class);
 
+    private static final String METRICS_PREFIX = "strimzi.cache.";
+
     private final long refreshIntervalMs;
     private final ScheduledExecutorService scheduledExecutor;
 
+    private final Timer refreshTimer;
+    private final Counter failedRefreshCounter;
+    private final Counter changedEntriesCounter;
+    private final AtomicInteger entriesGauge;
+
     private volatile ConcurrentHashMap<String, T> cache = null;
+    private boolean stopped = false;
 
     /**
      * Constructs the abstract cache
      *
      * @param name                  Name of the cache
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
      */
-    public AbstractCache(String name, long refreshIntervalMs) {
+    public AbstractCache(String name, long refreshIntervalMs, MetricsProvider metricsProvider) {
         this.refreshIntervalMs = refreshIntervalMs;
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, name + "-cache"));
+
+        Tags tags = Tags.of("cache", name);
+        this.refreshTimer = metricsProvider.timer(METRICS_PREFIX + "refresh.duration", "The time the cache refresh takes to complete", tags);
+        this.failedRefreshCounter = metricsProvider.counter(METRICS_PREFIX + "refresh.failed", "Number of cache refreshes which failed", tags);
+        this.changedEntriesCounter = metricsProvider.counter(METRICS_PREFIX + "refresh.changed.entries", "Number of cache entries which were added, updated or removed by the cache refreshes", tags);
+        this.entriesGauge = metricsProvider.gauge(METRICS_PREFIX + "entries", "Number of entries in the cache", tags);
     }
 
     /**
@@ -129,25 +155,84 @@ public abstract class AbstractCache<T> {
     }
 
     /**
-     * Stops the cache: this method sets the stop flag and interrupt the run loop
+     * Stops the cache: this method sets the stop flag and interrupt the run loop. A refresh which is still running when
+     * the cache is stopped does not update the cache anymore.
      */
     public void stop()  {
         LOGGER.info("Stopping {}", this.getClass().getSimpleName());
         scheduledExecutor.shutdownNow();
-        cache = null;
+
+        synchronized (this) {
+            stopped = true;
+            cache = null;
+        }
     }
 
     /**
-     * Called periodically to update the cache
+     * Called periodically to update the cache. The first load sets the cache directly. The following loads are diffed
+     * against the current content of the cache and only the differences are applied.
      */
-    private void updateCache()  {
+    /*test*/ void updateCache()  {
+        Timer.Sample refreshTimerSample = Timer.start();
+
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
+            ConcurrentHashMap<String, T> latest = loadCache();
+
+            synchronized (this) {
+                if (stopped) {
+                    LOGGER.debug("{} was stopped and will not be updated", this.getClass().getSimpleName());
+                    return;
+                }
+
+                ConcurrentHashMap<String, T> current = cache;
+
+                if (current == null) {
+                    cache = latest;
+                } else {
+                    int changes = applyChanges(current, latest);
+                    changedEntriesCounter.increment(changes);
+                    LOGGER.debug("{} updated with {} changes", this.getClass().getSimpleName(), changes);
+                }
+
+                entriesGauge.set(cache.size());
+            }
+
             LOGGER.debug("{} updated", this.getClass().getSimpleName());
         } catch (Exception e)   {
-            LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
-            cache = null; // Reset the cache
+            // We keep the last known data in the cache. The next refresh will try again.
+            LOGGER.error("{} failed to update and will keep the data from the last successful update", this.getClass().getSimpleName(), e);
+            failedRefreshCounter.increment();
+        } finally {
+            refreshTimerSample.stop(refreshTimer);
         }
     }
+
+    /**
+     * Applies the differences between the current and latest data to the current cache map.
+     *
+     * @param current   The current cache map which will be updated
+     * @param latest    The latest data loaded from Kafka
+     *
+     * @return  Number of entries which were added, updated or removed
+     */
+    private static <T> int applyChanges(ConcurrentHashMap<String, T> current, Map<String, T> latest)   {
+        int changes = 0;
+
+        for (Map.Entry<String, T> entry : latest.entrySet()) {
+            if (!Objects.equals(current.get(entry.getKey()), entry.getValue())) {
+                current.put(entry.getKey(), entry.getValue());
+                changes++;
+            }
+        }
+
+        for (String key : current.keySet()) {
+            if (!latest.containsKey(key)) {
+                current.remove(key);
+                changes++;
+            }
+        }
+
+        return changes;
+    }
 }
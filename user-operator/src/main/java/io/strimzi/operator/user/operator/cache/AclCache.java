@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
@@ -35,9 +36,10 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
      */
-    public AclCache(Admin adminClient, long refreshIntervalMs) {
-        super("ACL", refreshIntervalMs);
+    public AclCache(Admin adminClient, long refreshIntervalMs, MetricsProvider metricsProvider) {
+        super("ACL", refreshIntervalMs, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator.cache;
 
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.user.model.QuotaUtils;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
@@ -32,9 +33,10 @@ public class QuotasCache extends AbstractCache<KafkaUserQuotas> {
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
      */
-    public QuotasCache(Admin adminClient, long refreshIntervalMs) {
-        super("Quotas", refreshIntervalMs);
+    public QuotasCache(Admin adminClient, long refreshIntervalMs, MetricsProvider metricsProvider) {
+        super("Quotas", refreshIntervalMs, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.logging.log4j.LogManager;
@@ -30,9 +31,10 @@ public class ScramShaCredentialsCache extends AbstractCache<Boolean> {
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
      */
-    public ScramShaCredentialsCache(Admin adminClient, long refreshIntervalMs) {
-        super("ScramShaCredentials", refreshIntervalMs);
+    public ScramShaCredentialsCache(Admin adminClient, long refreshIntervalMs, MetricsProvider metricsProvider) {
+        super("ScramShaCredentials", refreshIntervalMs, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -32,6 +32,7 @@ public class UserOperatorConfigTest {
         ENV_VARS.put(UserOperatorConfig.CERTS_RENEWAL_DAYS.key(), "10");
         ENV_VARS.put(UserOperatorConfig.ACLS_ADMIN_API_SUPPORTED.key(), "false");
         ENV_VARS.put(UserOperatorConfig.KRAFT_ENABLED.key(), "true");
+        ENV_VARS.put(UserOperatorConfig.IN_JVM_CERT_MANAGER_ENABLED.key(), "true");
         ENV_VARS.put(UserOperatorConfig.SCRAM_SHA_PASSWORD_LENGTH.key(), "20");
 
 
@@ -55,6 +56,7 @@ public class UserOperatorConfigTest {
         assertThat(config.getClientsCaRenewalDays(), is(10));
         assertThat(config.isAclsAdminApiSupported(), is(false));
         assertThat(config.isKraftEnabled(), is(true));
+        assertThat(config.isInJvmCertManagerEnabled(), is(true));
         assertThat(config.getScramPasswordLength(), is(20));
         assertThat(config.getMaintenanceWindows(), is(nullValue()));
         assertThat(config.getOperationTimeoutMs(), is(300_000L));
@@ -172,6 +174,15 @@ public class UserOperatorConfigTest {
         assertThat(config.get(UserOperatorConfig.KRAFT_ENABLED), is(Boolean.parseBoolean(UserOperatorConfig.KRAFT_ENABLED.defaultValue())));
     }
 
+    @Test
+    public void testFromMapInJvmCertManagerEnabledDefaults()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.remove(UserOperatorConfig.IN_JVM_CERT_MANAGER_ENABLED.key());
+
+        UserOperatorConfig config =  UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.isInJvmCertManagerEnabled(), is(false));
+    }
+
     @Test
     public void testMaintenanceTimeWindows()    {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
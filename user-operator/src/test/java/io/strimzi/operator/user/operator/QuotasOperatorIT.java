@@ -4,7 +4,9 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.ResourceUtils;
 import io.strimzi.operator.user.model.QuotaUtils;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
@@ -23,7 +25,7 @@ import static org.hamcrest.Matchers.is;
 public class QuotasOperatorIT extends AdminApiOperatorIT<KafkaUserQuotas, Set<String>> {
     @Override
     AdminApiOperator<KafkaUserQuotas, Set<String>> operator() {
-        return new QuotasOperator(adminClient, ResourceUtils.createUserOperatorConfig(), Executors.newSingleThreadExecutor());
+        return new QuotasOperator(adminClient, ResourceUtils.createUserOperatorConfig(), Executors.newSingleThreadExecutor(), new MicrometerMetricsProvider(new SimpleMeterRegistry()));
     }
 
     @Override
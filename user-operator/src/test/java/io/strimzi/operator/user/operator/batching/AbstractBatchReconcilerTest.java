@@ -4,16 +4,30 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public class AbstractBatchReconcilerTest {
     Set<Integer> reconciled;
     CountDownLatch reconciliationFinished;
@@ -22,10 +36,10 @@ public class AbstractBatchReconcilerTest {
     public void testBatching() throws InterruptedException {
         int numberOfItems = 15;
 
-        reconciled = new HashSet<>(numberOfItems);
+        reconciled = ConcurrentHashMap.newKeySet(numberOfItems);
         reconciliationFinished = new CountDownLatch(numberOfItems);
 
-        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100);
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100, 5, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         batcher.start();
 
         Thread producer = new Thread(() -> {
@@ -50,15 +64,130 @@ public class AbstractBatchReconcilerTest {
         batcher.stop();
     }
 
+    @Test
+    public void testInvalidConfiguration() {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        assertThrows(IllegalArgumentException.class, () -> new TestBatchReconciler(5, 10, 100, 5, metrics));
+        assertThrows(IllegalArgumentException.class, () -> new TestBatchReconciler(20, 5, 100, 0, metrics));
+    }
+
+    @Test
+    public void testInFlightBatchesLimit() throws InterruptedException {
+        List<CompletableFuture<Void>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch secondBatchStarted = new CountDownLatch(1);
+
+        AbstractBatchReconciler<Integer> batcher = new AbstractBatchReconciler<>("TestBatchReconciler", 20, 5, 10, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry())) {
+            @Override
+            protected CompletionStage<Void> reconcile(Collection<Integer> items) {
+                CompletableFuture<Void> batch = new CompletableFuture<>();
+                batches.add(batch);
+                firstBatchStarted.countDown();
+
+                if (batches.size() > 1) {
+                    secondBatchStarted.countDown();
+                }
+
+                return batch;
+            }
+        };
+        batcher.start();
+
+        try {
+            batcher.enqueue(1);
+            assertThat(firstBatchStarted.await(1_000, TimeUnit.MILLISECONDS), is(true));
+
+            // The first batch is still in flight => the second batch should not start
+            batcher.enqueue(2);
+            assertThat(secondBatchStarted.await(200, TimeUnit.MILLISECONDS), is(false));
+            assertThat(batches.size(), is(1));
+
+            // Once the first batch completes, the second one should be sent
+            batches.get(0).complete(null);
+            assertThat(secondBatchStarted.await(1_000, TimeUnit.MILLISECONDS), is(true));
+            assertThat(batches.size(), is(2));
+            batches.get(1).complete(null);
+        } finally {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    public void testAdaptiveBatching() throws InterruptedException {
+        reconciled = ConcurrentHashMap.newKeySet();
+        reconciliationFinished = new CountDownLatch(0);
+
+        TestBatchReconciler batcher = new TestBatchReconciler(100, 16, 100, 5, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        // Before any batch completes, the maximal values are used
+        assertThat(batcher.triggerBatchSize, is(16));
+        assertThat(batcher.batchTime(), is(100L));
+
+        // Empty queue => the batch size shrinks down to 1
+        for (int i = 0; i < 10; i++) {
+            batcher.batchCompleted(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        assertThat(batcher.triggerBatchSize, is(1));
+        assertThat(batcher.batchTime(), is(20L));
+
+        // Requests piling up in the queue => the batch size grows up to the maximum
+        for (int i = 0; i < 20; i++) {
+            batcher.enqueue(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            batcher.batchCompleted(TimeUnit.MILLISECONDS.toNanos(500));
+        }
+        assertThat(batcher.triggerBatchSize, is(16));
+
+        // The batch time never exceeds the configured maximum
+        assertThat(batcher.batchTime(), is(100L));
+    }
+
+    @Test
+    public void testMetrics() throws InterruptedException {
+        int numberOfItems = 10;
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        reconciled = ConcurrentHashMap.newKeySet(numberOfItems);
+        reconciliationFinished = new CountDownLatch(numberOfItems);
+
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 10, 5, new MicrometerMetricsProvider(registry));
+        batcher.start();
+
+        try {
+            for (int i = 0; i < numberOfItems; i++) {
+                batcher.enqueue(i);
+            }
+
+            assertThat(reconciliationFinished.await(1_000, TimeUnit.MILLISECONDS), is(true));
+        } finally {
+            batcher.stop();
+        }
+
+        DistributionSummary batchSize = registry.get("strimzi.batch.size").tag("reconciler", "TestBatchReconciler").summary();
+        assertThat(batchSize.totalAmount(), is((double) numberOfItems));
+
+        DistributionSummary queueDepth = registry.get("strimzi.batch.queue.depth").tag("reconciler", "TestBatchReconciler").summary();
+        assertThat(queueDepth.count(), is(batchSize.count()));
+
+        Timer duration = registry.get("strimzi.batch.duration").tag("reconciler", "TestBatchReconciler").timer();
+        assertThat(duration.count(), greaterThanOrEqualTo(1L));
+
+        // The batches take milliseconds, so the latency histogram has to use millisecond buckets
+        assertThat(duration.takeSnapshot().histogramCounts()[0].bucket(TimeUnit.MILLISECONDS), is(1.0));
+    }
+
     class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
-        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime) {
-            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, MetricsProvider metricsProvider) {
+            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches, metricsProvider);
         }
 
         @Override
-        protected void reconcile(Collection<Integer> items) {
+        protected CompletionStage<Void> reconcile(Collection<Integer> items) {
             reconciled.addAll(items);
-            reconciliationFinished.countDown();
+            items.forEach(i -> reconciliationFinished.countDown());
+            return CompletableFuture.completedFuture(null);
         }
     }
 }
@@ -4,11 +4,14 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -19,7 +22,9 @@ public class AbstractCacheTest {
 
     @Test
     public void testCache() throws InterruptedException {
-        reload = new CountDownLatch(2);
+        // The latch is counted down when the data are loaded, before the cache is updated with them. Waiting for the
+        // load after the first periodic refresh makes sure the first periodic refresh was applied.
+        reload = new CountDownLatch(3);
 
         AbstractCache<Boolean> cache = new TestCache();
 
@@ -71,9 +76,59 @@ public class AbstractCacheTest {
         assertThat(e.getMessage(), is("TestCache is not ready!"));
     }
 
+    @Test
+    public void testIncrementalRefreshAndFailure() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AtomicInteger loads = new AtomicInteger(0);
+
+        AbstractCache<Boolean> cache = new AbstractCache<>("Incremental", 60_000L, new MicrometerMetricsProvider(registry)) {
+            @Override
+            protected ConcurrentHashMap<String, Boolean> loadCache() {
+                ConcurrentHashMap<String, Boolean> map = new ConcurrentHashMap<>();
+
+                switch (loads.getAndIncrement()) {
+                    case 0 -> {
+                        map.put("one", Boolean.TRUE);
+                        map.put("two", Boolean.TRUE);
+                    }
+                    case 1 -> {
+                        map.put("one", Boolean.FALSE);
+                        map.put("three", Boolean.TRUE);
+                    }
+                    default -> throw new RuntimeException("Failed to load");
+                }
+
+                return map;
+            }
+        };
+
+        // Initial load
+        cache.updateCache();
+        assertThat(cache.get("one"), is(true));
+        assertThat(cache.get("two"), is(true));
+        assertThat(registry.get("strimzi.cache.entries").tag("cache", "Incremental").gauge().value(), is(2.0));
+
+        // Incremental update => one updated, one removed and one added
+        cache.updateCache();
+        assertThat(cache.get("one"), is(false));
+        assertThat(cache.get("two"), is(nullValue()));
+        assertThat(cache.get("three"), is(true));
+        assertThat(registry.get("strimzi.cache.refresh.changed.entries").tag("cache", "Incremental").counter().count(), is(3.0));
+        assertThat(registry.get("strimzi.cache.entries").tag("cache", "Incremental").gauge().value(), is(2.0));
+
+        // Failed update => the last data are kept
+        cache.updateCache();
+        assertThat(cache.get("one"), is(false));
+        assertThat(cache.get("three"), is(true));
+        assertThat(registry.get("strimzi.cache.refresh.failed").tag("cache", "Incremental").counter().count(), is(1.0));
+        assertThat(registry.get("strimzi.cache.refresh.duration").tag("cache", "Incremental").timer().count(), is(3L));
+
+        cache.stop();
+    }
+
     class TestCache extends AbstractCache<Boolean>  {
         public TestCache() {
-            super("Test", 100L);
+            super("Test", 100L, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         }
 
         @Override
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
@@ -91,7 +93,7 @@ public class AclCacheTest {
             return mockResult;
         });
 
-        AclCache cache = new AclCache(mockClient, 10);
+        AclCache cache = new AclCache(mockClient, 10, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
 
         try {
             cache.start();
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
 import org.apache.kafka.common.KafkaFuture;
@@ -66,7 +68,7 @@ public class ScramShaCredentialsCacheTest {
             return mockResult;
         });
 
-        ScramShaCredentialsCache cache = new ScramShaCredentialsCache(mockClient, 10);
+        ScramShaCredentialsCache cache = new ScramShaCredentialsCache(mockClient, 10, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
 
         try {
             cache.start();